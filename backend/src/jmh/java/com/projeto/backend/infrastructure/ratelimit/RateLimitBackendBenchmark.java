@@ -0,0 +1,156 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Benchmarks dos backends de rate limit.
+ *
+ * - consumir: vazão de tryConsume com 8 threads e identificadores
+ *   aleatórios entre 10 mil. No JDBC, o banco é um H2 em memória; contra o
+ *   Postgres soma-se a latência de rede de cada requisição.
+ * - varreduraDeIps: heap retido após 1 milhão de IPs distintos (a varredura
+ *   com X-Forwarded-For aleatório), no mapa sem remoção usado antes e no
+ *   backend local, limitado a ratelimit.local.maximum-size.
+ */
+public class RateLimitBackendBenchmark {
+
+    private static final BucketConfiguration CONFIGURATION = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder()
+                    .capacity(10)
+                    .refillGreedy(10, Duration.ofMinutes(1))
+                    .build())
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class Vazao {
+
+        @Param({"LOCAL", "JDBC"})
+        String backend;
+
+        RateLimitService rateLimitService;
+
+        private Connection manterBanco;
+
+        @Setup
+        public void setup() throws SQLException {
+            if ("LOCAL".equals(backend)) {
+                rateLimitService = new RateLimitService();
+                return;
+            }
+
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:ratelimit-benchmark;MODE=PostgreSQL");
+            dataSource.setUser("sa");
+            manterBanco = dataSource.getConnection();
+            try (Statement statement = manterBanco.createStatement()) {
+                statement.execute("CREATE TABLE rate_limit_bucket (id VARCHAR(255) PRIMARY KEY, state BYTEA, expires_at BIGINT)");
+            }
+            rateLimitService = new RateLimitService(new JdbcRateLimitBackend(dataSource, Duration.ofSeconds(2), Duration.ofMinutes(5)));
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            if (manterBanco != null) {
+                manterBanco.close();
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    @Threads(8)
+    public boolean consumir(Vazao vazao) {
+        return vazao.rateLimitService.tryConsume("ip:10.0.0." + ThreadLocalRandom.current().nextInt(10_000));
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memoria {
+
+        @Param({"MAPA_SEM_REMOCAO", "LOCAL"})
+        String backend;
+
+        /**
+         * Heap retido pelos buckets ao fim da varredura, em MB (contadores
+         * auxiliares são somados entre as iterações; por isso há apenas uma).
+         */
+        public long heapRetidoMb;
+
+        @Setup(Level.Iteration)
+        public void limpar() {
+            heapRetidoMb = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+    public Object varreduraDeIps(Memoria memoria) {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long antes = memoryBean.getHeapMemoryUsage().getUsed();
+
+        Object buckets;
+        if ("LOCAL".equals(memoria.backend)) {
+            LocalRateLimitBackend local = new LocalRateLimitBackend(100_000, Duration.ofMinutes(1));
+            for (int i = 0; i < 1_000_000; i++) {
+                local.resolve(ip(i), () -> CONFIGURATION).tryConsume(1);
+            }
+            local.tamanho();
+            buckets = local;
+        } else {
+            Map<String, Bucket> mapa = new ConcurrentHashMap<>();
+            for (int i = 0; i < 1_000_000; i++) {
+                mapa.computeIfAbsent(ip(i), k -> Bucket.builder()
+                        .addLimit(CONFIGURATION.getBandwidths()[0])
+                        .build()).tryConsume(1);
+            }
+            buckets = mapa;
+        }
+
+        System.gc();
+        memoria.heapRetidoMb = (memoryBean.getHeapMemoryUsage().getUsed() - antes) / (1024 * 1024);
+        return buckets;
+    }
+
+    private static String ip(int i) {
+        return "ip:" + (i >>> 24) + "." + ((i >>> 16) & 0xFF) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+    }
+}
@@ -0,0 +1,134 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ch.qos.logback.classic.Level;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Custo do {@link RateLimitFilter} por requisição, com requisições e
+ * respostas de teste (MockHttpServletRequest) e uma cadeia vazia, sem
+ * subir o contexto do MockMvc.
+ *
+ * - semFiltro: apenas a cadeia, como referência.
+ * - permitida: consumo com os headers X-RateLimit-*; capacidade alta para
+ *   que nenhuma requisição seja rejeitada.
+ * - rejeitada: bucket esgotado, com a resposta 429 serializada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RateLimitFilterBenchmark {
+
+    private RateLimitFilter filtroPermitido;
+    private RateLimitFilter filtroRejeitado;
+
+    @Setup
+    public void setup() throws Exception {
+        // Mesmo nível de log da aplicação (logging.level.root: INFO)
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        filtroPermitido = filtro(1_000_000_000_000L, jsonMapper);
+        filtroRejeitado = filtro(1, jsonMapper);
+        rejeitada();
+    }
+
+    private static RateLimitFilter filtro(long capacidade, JsonMapper jsonMapper) {
+        RateLimitProperties properties = new RateLimitProperties(
+                new RateLimitProperties.Limite(capacidade, Duration.ofDays(365)), List.of());
+
+        RateLimitFilter filtro = new RateLimitFilter();
+        ReflectionTestUtils.setField(filtro, "rateLimitService",
+                new RateLimitService(new LocalRateLimitBackend(1000, Duration.ofMinutes(1)), properties));
+        ReflectionTestUtils.setField(filtro, "jsonMapper", jsonMapper);
+        return filtro;
+    }
+
+    /**
+     * Resposta com corpo gravado em blocos, como no Tomcat: o stream da
+     * MockHttpServletResponse grava byte a byte, o que dominaria a medida.
+     */
+    private static final class Resposta extends MockHttpServletResponse {
+
+        private long bytes;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+
+    private static MockHttpServletRequest requisicao() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/albuns");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse semFiltro() throws Exception {
+        MockHttpServletResponse response = new Resposta();
+        new MockFilterChain().doFilter(requisicao(), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse permitida() throws Exception {
+        MockHttpServletResponse response = new Resposta();
+        filtroPermitido.doFilter(requisicao(), response, new MockFilterChain());
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejeitada() throws Exception {
+        MockHttpServletResponse response = new Resposta();
+        filtroRejeitado.doFilter(requisicao(), response, new MockFilterChain());
+        return response;
+    }
+}
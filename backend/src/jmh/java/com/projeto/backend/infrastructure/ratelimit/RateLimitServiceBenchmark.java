@@ -0,0 +1,69 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link RateLimitService#tryConsume} sob concorrência.
+ *
+ * Compara threads disputando o mesmo bucket (mesmo usuário) com threads
+ * usando buckets distintos, que disputam apenas o mapa de buckets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitServiceBenchmark {
+
+    private final AtomicInteger sequencia = new AtomicInteger();
+
+    private RateLimitService rateLimitService;
+
+    @State(Scope.Thread)
+    public static class Identificador {
+
+        String valor;
+
+        @Setup
+        public void setup(RateLimitServiceBenchmark benchmark) {
+            valor = "usuario-" + benchmark.sequencia.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        rateLimitService = new RateLimitService();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean umaThread() {
+        return rateLimitService.tryConsume("usuario");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean mesmoIdentificador() {
+        return rateLimitService.tryConsume("usuario");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean identificadoresDistintos(Identificador identificador) {
+        return rateLimitService.tryConsume(identificador.valor);
+    }
+}
@@ -0,0 +1,80 @@
+package com.projeto.backend.infrastructure.storage;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+
+/**
+ * Benchmark do envio de capa: cálculo da chave endereçada pelo conteúdo
+ * (SHA-256 e MD5) e envio do arquivo, o mesmo caminho de AlbumCapaService.
+ *
+ * O MinioClient é substituído por um dublê que apenas consome o stream,
+ * isolando o custo de leitura e hash do custo de rede.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StorageServiceBenchmark {
+
+    @Param({"65536", "1048576", "10485760"})
+    private int tamanho;
+
+    private StorageService storageService;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setup() throws Exception {
+        MinioClient minioClient = mock(MinioClient.class);
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(inv -> {
+            InputStream stream = inv.<PutObjectArgs>getArgument(0).stream();
+            stream.transferTo(OutputStream.nullOutputStream());
+            return null;
+        });
+
+        storageService = new StorageService();
+        ReflectionTestUtils.setField(storageService, "minioClient", minioClient);
+        ReflectionTestUtils.setField(storageService, "bucketName", "benchmark");
+        ReflectionTestUtils.setField(storageService, "partSize", 5L * 1024 * 1024);
+
+        byte[] conteudo = new byte[tamanho];
+        new Random(42).nextBytes(conteudo);
+        file = new MockMultipartFile("file", "capa.jpg", "image/jpeg", conteudo);
+    }
+
+    @Benchmark
+    public StorageService.StorageResult preparar() {
+        return storageService.prepararConteudo(file);
+    }
+
+    @Benchmark
+    public StorageService.StorageResult enviar() {
+        StorageService.StorageResult conteudo = storageService.prepararConteudo(file);
+        storageService.uploadConteudo(file, conteudo);
+        return conteudo;
+    }
+}
@@ -0,0 +1,108 @@
+package com.projeto.backend.infrastructure.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Teste de carga do broker em memória: um frame de notificações publicado
+ * em /topic/albuns com milhares de assinantes simulados.
+ *
+ * Mede o tempo até o frame chegar a todas as sessões pelo canal de saída,
+ * com o mesmo pool configurado em websocket.outbound.threads. O envio pelo
+ * socket não entra na medida: em produção, ele é limitado por sessão pelo
+ * send-time-limit e pelo send-buffer-size-limit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrokerFanoutBenchmark {
+
+    private static final String TOPICO = "/topic/albuns";
+
+    @Param({"1000", "5000", "10000"})
+    private int assinantes;
+
+    private ThreadPoolTaskExecutor outboundExecutor;
+    private SimpleBrokerMessageHandler broker;
+    private volatile CountDownLatch entregas;
+    private byte[] frame;
+
+    @Setup
+    public void setup() {
+        outboundExecutor = new ThreadPoolTaskExecutor();
+        outboundExecutor.setCorePoolSize(8);
+        outboundExecutor.setMaxPoolSize(8);
+        outboundExecutor.initialize();
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(outboundExecutor);
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        // Sessão simulada: apenas contabiliza a entrega (CONNECT_ACK é ignorado)
+        clientOutbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                entregas.countDown();
+            }
+        });
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+        broker.start();
+
+        for (int i = 0; i < assinantes; i++) {
+            broker.handleMessage(mensagem(SimpMessageType.CONNECT, "sessao-" + i, null, new byte[0]));
+            broker.handleMessage(mensagem(SimpMessageType.SUBSCRIBE, "sessao-" + i, TOPICO, new byte[0]));
+        }
+
+        frame = ("[{\"type\":\"ALBUM_UPDATED\",\"message\":\"Álbum atualizado: Nome do Álbum\","
+                + "\"payload\":{\"id\":1,\"nome\":\"Nome do Álbum\",\"artistaNome\":\"Artista\"},"
+                + "\"timestamp\":\"2026-01-01T12:00:00\"}]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+        outboundExecutor.shutdown();
+    }
+
+    private static Message<byte[]> mensagem(SimpMessageType tipo, String sessionId, String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(tipo);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    @Benchmark
+    public void publicarFrame() throws InterruptedException {
+        entregas = new CountDownLatch(assinantes);
+        broker.handleMessage(mensagem(SimpMessageType.MESSAGE, null, TOPICO, frame));
+        if (!entregas.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Frame não entregue a todos os assinantes");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.projeto.backend.security.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.domain.usuario.Usuario;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Benchmark de geração, leitura e validação de tokens JWT.
+ *
+ * Mede o caminho executado pelo filtro de autenticação em toda requisição
+ * ({@link JwtService#parseToken}) com chave e parser memoizados.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "benchmark-secret-key-for-jmh-runs");
+        ReflectionTestUtils.setField(jwtService, "activeKid", "k1");
+        ReflectionTestUtils.setField(jwtService, "previousKeys", "k0=benchmark-previous-secret-key");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 300000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86400000L);
+        jwtService.init();
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setUsername("benchmark");
+        usuario.setAtivo(true);
+
+        token = jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public Claims lerToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Claims lerTokenConcorrente() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public Boolean validarToken() {
+        return jwtService.validateToken(token, usuario);
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.backend.shared;
+
+import java.text.Normalizer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link StringUtils#normalizar}, executado no
+ * {@code @PrePersist}/{@code @PreUpdate} de álbuns e artistas e em todo
+ * termo de busca, comparado à implementação anterior (NFD + regex).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringUtilsBenchmark {
+
+    @Param({
+        "legiao urbana",
+        "Legiao Urbana",
+        "Legião Urbana",
+        "Os Paralamas do Sucesso - Acústico MTV (Ao Vivo, Edição Especial de Aniversário)"
+    })
+    private String entrada;
+
+    @Benchmark
+    public String normalizar() {
+        return StringUtils.normalizar(entrada);
+    }
+
+    @Benchmark
+    public String normalizarReferencia() {
+        return Normalizer.normalize(entrada, Normalizer.Form.NFD)
+                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "")
+                .toLowerCase();
+    }
+}
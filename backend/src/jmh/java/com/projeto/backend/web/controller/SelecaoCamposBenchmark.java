@@ -0,0 +1,85 @@
+package com.projeto.backend.web.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.projeto.backend.config.JacksonConfig;
+import com.projeto.backend.domain.album.AlbumListagem;
+import com.projeto.backend.shared.Campos;
+import com.projeto.backend.web.dto.album.AlbumResponse;
+
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Benchmark do mapeamento e da serialização de uma página de 20 álbuns,
+ * com todos os campos e com a seleção usada pelas grades
+ * ({@code fields=nome,anoLancamento,artistaNome}).
+ *
+ * As linhas simulam o que cada consulta devolve: a completa traz a descrição
+ * (TEXT, ~2 KB por álbum); a esparsa traz NULL nas colunas não selecionadas.
+ * O tamanho dos payloads é impresso no setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SelecaoCamposBenchmark {
+
+    private static final String DESCRICAO = "Segundo álbum de estúdio da banda, gravado no Rio de Janeiro. ".repeat(32);
+
+    private List<AlbumListagem> completas;
+    private List<AlbumListagem> esparsas;
+    private ObjectWriter writerCompleto;
+    private ObjectWriter writerEsparso;
+
+    @Setup
+    public void setup() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        new JacksonConfig().filtroCamposCustomizer().customize(builder);
+        JsonMapper mapper = builder.build();
+
+        writerCompleto = mapper.writer();
+        writerEsparso = mapper.writer(SelecaoCamposAdvice.filtro(
+                Campos.separar("nome,anoLancamento,artistaNome")));
+
+        LocalDateTime agora = LocalDateTime.now();
+        completas = new ArrayList<>();
+        esparsas = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            completas.add(new AlbumListagem((long) i, 1L, "Legião Urbana", "Álbum " + i, 1985 + i, "EMI",
+                    "Rock", 12, 2700, DESCRICAO, 2L, true, agora, agora));
+            esparsas.add(new AlbumListagem((long) i, null, "Legião Urbana", "Álbum " + i, 1985 + i, null,
+                    null, null, null, null, null, null, null, null));
+        }
+
+        System.out.printf("%nPayload de 20 álbuns: completo %d bytes, esparso %d bytes%n",
+                completo().length, esparso().length);
+    }
+
+    @Benchmark
+    public byte[] completo() {
+        return writerCompleto.writeValueAsBytes(completas.stream().map(AlbumResponse::fromListagem).toList());
+    }
+
+    @Benchmark
+    public byte[] esparso() {
+        return writerEsparso.writeValueAsBytes(esparsas.stream().map(AlbumResponse::fromListagem).toList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.projeto.backend.web.dto.album;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.artista.Artista;
+
+/**
+ * Benchmark do mapeamento {@link AlbumResponse#fromEntity} de uma página
+ * de 20 álbuns com artista e capas já carregados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AlbumResponseBenchmark {
+
+    private List<Album> pagina;
+
+    @Setup
+    public void setup() {
+        Artista artista = new Artista();
+        artista.setId(1L);
+        artista.setNome("Legião Urbana");
+
+        pagina = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Album album = new Album();
+            album.setId((long) i);
+            album.setArtista(artista);
+            album.setNome("Álbum " + i);
+            album.setAnoLancamento(1985 + i);
+            album.setGravadora("EMI");
+            album.setGenero("Rock");
+            album.setTotalFaixas(12);
+            album.setDuracaoTotal(2700);
+            album.setDescricao("Descrição do álbum " + i);
+            album.setAtivo(true);
+
+            List<AlbumCapa> capas = new ArrayList<>();
+            capas.add(new AlbumCapa());
+            capas.add(new AlbumCapa());
+            album.setCapas(capas);
+
+            pagina.add(album);
+        }
+    }
+
+    @Benchmark
+    public List<AlbumResponse> fromEntity() {
+        return pagina.stream()
+                .map(AlbumResponse::fromEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+-- Benchmark da busca por trecho de nome (V8__indices_trigram_busca).
+--
+-- Cria uma cópia da tabela album com 1.000.000 de linhas em um schema isolado,
+-- mede a consulta antiga (LOWER(nome) LIKE) e a nova (nome_busca LIKE com GIN
+-- pg_trgm) e remove tudo ao final. Não altera os dados da aplicação.
+--
+-- Execução (banco com as migrations aplicadas):
+--   psql -h localhost -U postgres -d artistas_albuns -f src/jmh/sql/busca-trigram.sql
+--
+-- Compare o "Execution Time" e o tipo de plano (Seq Scan x Bitmap Index Scan)
+-- das duas consultas.
+
+\timing on
+
+DROP SCHEMA IF EXISTS benchmark CASCADE;
+CREATE SCHEMA benchmark;
+
+CREATE TABLE benchmark.album (LIKE public.album INCLUDING DEFAULTS);
+
+-- Nomes com acentos variados para exercitar a normalização
+INSERT INTO benchmark.album (artista_id, nome, nome_busca, ano_lancamento, genero, ativo)
+SELECT (i % 5000) + 1,
+       nome,
+       translate(lower(nome), 'áàâãäéèêëíìîïóòôõöúùûüç', 'aaaaaeeeeiiiiooooouuuuc'),
+       1950 + (i % 75),
+       (ARRAY['Rock', 'MPB', 'Samba', 'Jazz', 'Pop'])[(i % 5) + 1],
+       (i % 20) <> 0
+FROM (
+    SELECT i,
+           (ARRAY['Canção', 'Música', 'Coração', 'Estação', 'Memória', 'Ilusão', 'Sertão', 'Paixão'])[(i % 8) + 1]
+           || ' ' || md5(i::text) AS nome
+    FROM generate_series(1, 1000000) AS i
+) AS dados;
+
+CREATE INDEX bench_album_nome_lower ON benchmark.album (LOWER(nome));
+CREATE INDEX bench_album_nome_busca_trgm ON benchmark.album USING gin (nome_busca gin_trgm_ops);
+ANALYZE benchmark.album;
+
+-- Antes: LIKE com curinga à esquerda sobre LOWER(nome) (índice B-tree não é utilizável)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, nome FROM benchmark.album
+WHERE ativo = true AND LOWER(nome) LIKE '%coração 3fa%'
+ORDER BY nome LIMIT 10;
+
+-- Depois: nome_busca normalizado com índice GIN de trigramas
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, nome FROM benchmark.album
+WHERE ativo = true AND nome_busca LIKE '%coracao 3fa%'
+ORDER BY nome LIMIT 10;
+
+-- Termos curtos (menos de 3 caracteres) não geram trigramas e continuam varrendo a tabela
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, nome FROM benchmark.album
+WHERE ativo = true AND nome_busca LIKE '%ca%'
+ORDER BY nome LIMIT 10;
+
+DROP SCHEMA benchmark CASCADE;
@@ -1,8 +1,15 @@
 package com.projeto.backend.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Configuração para habilitar execução assíncrona e agendamento de tarefas.
@@ -11,5 +18,55 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig {
-	
-}
\ No newline at end of file
+
+    public static final String UPLOAD_EXECUTOR = "uploadExecutor";
+
+    public static final String MINIATURA_EXECUTOR = "miniaturaExecutor";
+
+    public static final String SYNC_SCHEDULER = "syncScheduler";
+
+    /**
+     * Executor dos envios ao MinIO: uma virtual thread por arquivo, sem limite
+     * global. O limite de envios simultâneos (storage.upload.max-concurrency)
+     * é aplicado por upload em AlbumCapaService, para que uma requisição não
+     * ocupe as vagas das demais nem bloqueie a thread que submete as tarefas.
+     */
+    @Bean(name = UPLOAD_EXECUTOR)
+    SimpleAsyncTaskExecutor uploadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upload-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * Executor da geração de miniaturas (CPU): pool e fila limitados. Com a
+     * fila cheia, a tarefa é recusada (AbortPolicy) em vez de rodar na thread
+     * que a submeteu (requisição HTTP ou callback de commit); a capa continua
+     * pendente e a varredura periódica a agenda novamente.
+     */
+    @Bean(name = MINIATURA_EXECUTOR)
+    ThreadPoolTaskExecutor miniaturaExecutor(
+            @Value("${storage.miniaturas.threads:2}") int threads,
+            @Value("${storage.miniaturas.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("miniatura-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Agendador das sincronizações (@Scheduled), separado do agendador do
+     * broker WebSocket para que uma sincronização longa não atrase os
+     * heartbeats STOMP.
+     */
+    @Bean(name = SYNC_SCHEDULER)
+    ThreadPoolTaskScheduler syncScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("sync-");
+        scheduler.setPoolSize(1);
+        return scheduler;
+    }
+}
@@ -0,0 +1,62 @@
+package com.projeto.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Configuração do cache de leitura do catálogo.
+ *
+ * Cada cache é limitado por tamanho e TTL e registra estatísticas, expostas
+ * pelo Actuator como métricas cache.gets (hit/miss). As invalidações feitas
+ * dentro de uma transação só são aplicadas após o commit (e descartadas no
+ * rollback), de modo que uma leitura iniciada depois do commit não encontra
+ * a entrada antiga.
+ *
+ * Isso não impede entradas desatualizadas: uma leitura que carregou a linha
+ * antes do commit pode armazená-la depois da invalidação. A entrada fica
+ * desatualizada até a próxima invalidação da mesma chave ou até expirar
+ * pelo TTL, que é o limite efetivo de desatualização do cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ALBUNS = "albuns";
+    public static final String ARTISTAS = "artistas";
+    public static final String REGIONAIS = "regionais";
+
+    @Bean
+    CacheManager cacheManager(
+            @Value("${cache.albuns.maximum-size:10000}") long albunsMaximumSize,
+            @Value("${cache.albuns.ttl:10m}") Duration albunsTtl,
+            @Value("${cache.artistas.maximum-size:5000}") long artistasMaximumSize,
+            @Value("${cache.artistas.ttl:10m}") Duration artistasTtl,
+            @Value("${cache.regionais.ttl:30m}") Duration regionaisTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(ALBUNS, criarCache(albunsMaximumSize, albunsTtl));
+        cacheManager.registerCustomCache(ARTISTAS, criarCache(artistasMaximumSize, artistasTtl));
+        cacheManager.registerCustomCache(REGIONAIS, criarCache(1, regionaisTtl));
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> criarCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
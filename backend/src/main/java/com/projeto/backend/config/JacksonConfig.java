@@ -0,0 +1,28 @@
+package com.projeto.backend.config;
+
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.projeto.backend.shared.Campos;
+
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Configuração do JsonMapper usado pelos controllers.
+ *
+ * As respostas com seleção de campos são anotadas com
+ * {@code @JsonFilter(Campos.FILTRO)}; por padrão o filtro serializa todos os
+ * campos, e as listagens com {@code fields} o substituem por requisição
+ * (ver {@code SelecaoCamposAdvice}).
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public JsonMapperBuilderCustomizer filtroCamposCustomizer() {
+        return builder -> builder.filterProvider(new SimpleFilterProvider()
+                .addFilter(Campos.FILTRO, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -1,5 +1,8 @@
 package com.projeto.backend.config;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +12,14 @@ import org.springframework.context.annotation.Configuration;
 import io.minio.BucketExistsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.SetBucketLifecycleArgs;
+import io.minio.messages.Expiration;
+import io.minio.messages.LifecycleConfiguration;
+import io.minio.messages.LifecycleRule;
+import io.minio.messages.RuleFilter;
+import io.minio.messages.Status;
+
+import com.projeto.backend.infrastructure.storage.StorageService;
 
 @Configuration
 public class MinioConfig {
@@ -27,9 +38,12 @@ public class MinioConfig {
     @Value("${minio.bucket-name:album-capas}")
     private String bucketName;
 
+    @Value("${minio.upload-expiration-days:1}")
+    private int uploadExpirationDays;
+
     /**
      * Cria e configura o cliente MinIO.
-     * Também garante que o bucket exista.
+     * Também garante que o bucket exista e expire os envios diretos não confirmados.
      *
      * @return MinioClient configurado
      */
@@ -58,6 +72,8 @@ public class MinioConfig {
                 logger.info("Bucket '{}' já existe", bucketName);
             }
 
+            configurarExpiracaoUploads(client);
+
             logger.info("Cliente MinIO configurado com sucesso - Endpoint: {}", endpoint);
             return client;
 
@@ -66,4 +82,35 @@ public class MinioConfig {
             throw new RuntimeException("Falha ao inicializar MinIO", e);
         }
     }
+
+    /**
+     * Regra de ciclo de vida que remove os envios diretos nunca confirmados
+     * (prefixo {@link StorageService#PREFIXO_UPLOAD}). Os confirmados são
+     * copiados para a pasta do álbum, fora do prefixo.
+     */
+    private void configurarExpiracaoUploads(MinioClient client) {
+        LifecycleRule regra = new LifecycleRule(
+            Status.ENABLED,
+            null,
+            new Expiration((ZonedDateTime) null, uploadExpirationDays, null),
+            new RuleFilter(StorageService.PREFIXO_UPLOAD),
+            "expirar-uploads-nao-confirmados",
+            null,
+            null,
+            null
+        );
+
+        try {
+            client.setBucketLifecycle(
+                SetBucketLifecycleArgs.builder()
+                    .bucket(bucketName)
+                    .config(new LifecycleConfiguration(List.of(regra)))
+                    .build()
+            );
+            logger.info("Envios diretos não confirmados expiram em {} dia(s)", uploadExpirationDays);
+
+        } catch (Exception e) {
+            logger.warn("Não foi possível configurar a expiração dos envios diretos: {}", e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.projeto.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.projeto.backend.infrastructure.ratelimit.JdbcRateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.LocalRateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Armazenamento dos buckets de rate limit, escolhido por ratelimit.backend:
+ *
+ * - LOCAL: em memória, limitado por tamanho e inatividade; cada instância
+ *   aplica o limite de forma independente. A inatividade é o maior período
+ *   dos limites, ou ratelimit.local.expire-after-access se maior.
+ * - JDBC: na tabela rate_limit_bucket; o limite vale para o conjunto das
+ *   instâncias.
+ *
+ * Os limites (ratelimit.padrao e ratelimit.politicas) são lidos em
+ * {@link RateLimitProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    public enum Backend {
+        LOCAL,
+        JDBC
+    }
+
+    @Value("${ratelimit.backend:LOCAL}")
+    private Backend backend;
+
+    @Value("${ratelimit.local.maximum-size:100000}")
+    private long localMaximumSize;
+
+    @Value("${ratelimit.local.expire-after-access:0s}")
+    private Duration localExpireAfterAccess;
+
+    @Value("${ratelimit.jdbc.request-timeout:2s}")
+    private Duration jdbcRequestTimeout;
+
+    @Value("${ratelimit.jdbc.limpeza:5m}")
+    private Duration jdbcLimpeza;
+
+    @Bean
+    RateLimitBackend rateLimitBackend(RateLimitProperties properties, ObjectProvider<DataSource> dataSource,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (backend == Backend.JDBC) {
+            logger.info("Rate limit compartilhado entre instâncias (tabela rate_limit_bucket)");
+            return new JdbcRateLimitBackend(dataSource.getObject(), jdbcRequestTimeout, jdbcLimpeza);
+        }
+
+        // Um bucket removido antes de encher de novo voltaria cheio: a
+        // expiração acompanha o período mais longo entre os limites
+        Duration expiracao = properties.maiorPeriodo();
+        if (localExpireAfterAccess.compareTo(expiracao) > 0) {
+            expiracao = localExpireAfterAccess;
+        }
+
+        LocalRateLimitBackend local = new LocalRateLimitBackend(localMaximumSize, expiracao);
+        meterRegistry.ifAvailable(local::registrarMetricas);
+        logger.info("Rate limit em memória (até {} buckets, expiração após {} sem uso)",
+                localMaximumSize, expiracao);
+        return local;
+    }
+}
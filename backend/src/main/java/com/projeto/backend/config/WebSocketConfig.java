@@ -1,35 +1,171 @@
 package com.projeto.backend.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.projeto.backend.infrastructure.websocket.NotificationFanout;
+import com.projeto.backend.infrastructure.websocket.PostgresNotificationFanout;
 
 /**
  * Configuração do WebSocket com STOMP.
+ *
+ * O broker é escolhido por websocket.broker.modo:
+ *
+ * - SIMPLE: broker em memória; as notificações chegam apenas aos clientes
+ *   conectados na mesma instância.
+ * - RELAY: broker STOMP externo (RabbitMQ, ActiveMQ); cada instância
+ *   repassa as mensagens e o broker as distribui a todos os clientes.
+ * - POSTGRES: broker em memória em cada instância, com as notificações
+ *   distribuídas entre as instâncias por LISTEN/NOTIFY no próprio banco.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
+
+    public enum BrokerModo {
+        SIMPLE,
+        RELAY,
+        POSTGRES
+    }
+
+    @Value("${websocket.broker.modo:SIMPLE}")
+    private BrokerModo modo;
+
+    /**
+     * Intervalo de heartbeat, em ms, nos dois sentidos (0 desativa).
+     */
+    @Value("${websocket.broker.heartbeat:10000}")
+    private long heartbeat;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.inbound.threads:8}")
+    private int inboundThreads;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.threads:8}")
+    private int outboundThreads;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.transport.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    /**
+     * Scheduler dos heartbeats do broker em memória. Lazy: o bean é criado
+     * pela própria configuração do WebSocket.
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     /**
      * Configura o message broker.
-     * 
+     *
      * - /topic: Para broadcasts (todos os clientes)
      * - /queue: Para mensagens privadas (usuário específico)
      * - /app: Prefixo para mensagens enviadas pelos clientes
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        if (modo == BrokerModo.RELAY) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setVirtualHost(relayVirtualHost.isBlank() ? null : relayVirtualHost)
+                    .setSystemHeartbeatSendInterval(heartbeat)
+                    .setSystemHeartbeatReceiveInterval(heartbeat);
+            logger.info("WebSocket com broker STOMP externo em {}:{}", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(new long[] { heartbeat, heartbeat })
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+            logger.info("WebSocket com broker em memória (modo {})", modo);
+        }
+
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * Mensagens recebidas dos clientes (SUBSCRIBE, ping): pool e fila limitados.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundThreads)
+                .maxPoolSize(inboundThreads)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    /**
+     * Mensagens enviadas aos clientes. O envio a cada sessão é limitado pelo
+     * tempo e pelo buffer de {@link #configureWebSocketTransport}: um cliente
+     * lento é desconectado em vez de ocupar as threads deste pool.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
     /**
      * Registra os endpoints STOMP.
-     * 
+     *
      * Clientes se conectam em /ws com suporte a SockJS para fallback.
      */
     @Override
@@ -37,9 +173,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
-        
+
         // Endpoint sem SockJS (para clientes que suportam WebSocket nativo)
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*");
     }
+
+    /**
+     * Distribuição das notificações: no modo POSTGRES passam pelo banco para
+     * chegar a todas as instâncias; nos demais vão direto ao broker.
+     */
+    @Bean
+    NotificationFanout notificationFanout(SimpMessagingTemplate brokerMessagingTemplate) {
+        if (modo == BrokerModo.POSTGRES) {
+            return new PostgresNotificationFanout(brokerMessagingTemplate);
+        }
+        return brokerMessagingTemplate::convertAndSend;
+    }
 }
@@ -52,6 +52,10 @@ public class Album {
     @Column(name = "genero", length = 100)
     private String genero;
 
+    /** Gênero normalizado (tabela genero), usado nos filtros e contagens. */
+    @Column(name = "genero_id")
+    private Long generoId;
+
     @Column(name = "total_faixas")
     private Integer totalFaixas;
 
@@ -186,6 +190,14 @@ public class Album {
         this.genero = genero;
     }
 
+    public Long getGeneroId() {
+        return generoId;
+    }
+
+    public void setGeneroId(Long generoId) {
+        this.generoId = generoId;
+    }
+
     public Integer getTotalFaixas() {
         return totalFaixas;
     }
@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -24,15 +25,24 @@ import jakarta.persistence.Table;
 @Table(name = "album_capa")
 public class AlbumCapa {
 
+    /**
+     * Ids reservados em blocos de 50 (V9), permitindo que o Hibernate
+     * agrupe os inserts de várias capas em um único batch JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "album_capa_seq")
+    @SequenceGenerator(name = "album_capa_seq", sequenceName = "album_capa_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "album_id", nullable = false)
     private Album album;
 
-    @Column(name = "object_key", nullable = false, unique = true, length = 500)
+    /**
+     * Chave do objeto no MinIO. Capas com o mesmo conteúdo compartilham o
+     * objeto, que só é removido quando deixa de ser referenciado.
+     */
+    @Column(name = "object_key", nullable = false, length = 500)
     private String objectKey;
 
     @Column(name = "nome_arquivo", nullable = false, length = 255)
@@ -54,6 +64,15 @@ public class AlbumCapa {
     @Column(name = "hash_md5", length = 32)
     private String hashMd5;
 
+    @Column(name = "miniaturas_geradas", nullable = false)
+    private Boolean miniaturasGeradas = false;
+
+    @Column(name = "miniaturas_tentativas", nullable = false)
+    private Integer miniaturasTentativas = 0;
+
+    @Column(name = "miniaturas_proxima_tentativa")
+    private LocalDateTime miniaturasProximaTentativa;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -145,6 +164,22 @@ public class AlbumCapa {
         this.hashMd5 = hashMd5;
     }
 
+    public Boolean getMiniaturasGeradas() {
+        return miniaturasGeradas;
+    }
+
+    public void setMiniaturasGeradas(Boolean miniaturasGeradas) {
+        this.miniaturasGeradas = miniaturasGeradas;
+    }
+
+    public Integer getMiniaturasTentativas() {
+        return miniaturasTentativas;
+    }
+
+    public LocalDateTime getMiniaturasProximaTentativa() {
+        return miniaturasProximaTentativa;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,9 +1,16 @@
 package com.projeto.backend.domain.album;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AlbumCapaRepository extends JpaRepository<AlbumCapa, Long> {
@@ -14,6 +21,78 @@ public interface AlbumCapaRepository extends JpaRepository<AlbumCapa, Long> {
      * @return Quantidade de capas
      */
     long countByAlbumId(Long albumId);
+
+    /**
+     * Conta as capas que referenciam um objeto no MinIO.
+     * Objetos endereçados pelo conteúdo são compartilhados entre capas.
+     *
+     * @param objectKey Chave do objeto
+     * @return Quantidade de referências
+     */
+    long countByObjectKey(String objectKey);
+
+    /**
+     * Bloqueia o objeto até o fim da transação (advisory lock do PostgreSQL),
+     * serializando o envio e a remoção de um mesmo conteúdo.
+     *
+     * @param objectKey Chave do objeto
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:objectKey))) AS bloqueio", nativeQuery = true)
+    Integer bloquearObjeto(@Param("objectKey") String objectKey);
+
+    /**
+     * Marca as miniaturas como disponíveis em todas as capas do objeto.
+     * Roda em transação própria: a geração é disparada após o commit do
+     * upload, quando a transação que a agendou já terminou.
+     *
+     * @param objectKey Chave do objeto original
+     * @return Quantidade de capas atualizadas
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE AlbumCapa c SET c.miniaturasGeradas = true WHERE c.objectKey = :objectKey AND c.miniaturasGeradas = false")
+    int marcarMiniaturasGeradas(@Param("objectKey") String objectKey);
+
+    /**
+     * Registra uma falha na geração das miniaturas em todas as capas do
+     * objeto. Roda em transação própria, como a marcação.
+     *
+     * @param objectKey Chave do objeto original
+     * @param tentativas Tentativas que falharam, incluindo esta
+     * @param proximaTentativa Instante a partir do qual a varredura tenta de novo
+     * @return Quantidade de capas atualizadas
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE AlbumCapa c SET c.miniaturasTentativas = :tentativas, c.miniaturasProximaTentativa = :proximaTentativa "
+            + "WHERE c.objectKey = :objectKey AND c.miniaturasGeradas = false")
+    int registrarFalhaMiniaturas(@Param("objectKey") String objectKey, @Param("tentativas") int tentativas,
+            @Param("proximaTentativa") LocalDateTime proximaTentativa);
+
+    /**
+     * Maior número de tentativas que falharam entre as capas do objeto.
+     *
+     * @param objectKey Chave do objeto original
+     * @return Tentativas, ou 0 sem capas
+     */
+    @Query("SELECT COALESCE(MAX(c.miniaturasTentativas), 0) FROM AlbumCapa c WHERE c.objectKey = :objectKey")
+    int findMiniaturasTentativas(@Param("objectKey") String objectKey);
+
+    /**
+     * Objetos com capas ainda sem miniaturas (varredura periódica), sem os
+     * que esgotaram as tentativas e sem os que aguardam o backoff.
+     *
+     * @param maxTentativas Limite de tentativas
+     * @param agora Instante da varredura
+     * @param pageable Tamanho do lote
+     * @return Chaves dos objetos originais
+     */
+    @Query("SELECT DISTINCT c.objectKey FROM AlbumCapa c WHERE c.miniaturasGeradas = false "
+            + "AND c.miniaturasTentativas < :maxTentativas "
+            + "AND (c.miniaturasProximaTentativa IS NULL OR c.miniaturasProximaTentativa <= :agora) "
+            + "ORDER BY c.objectKey")
+    List<String> findObjectKeysSemMiniaturas(@Param("maxTentativas") int maxTentativas,
+            @Param("agora") LocalDateTime agora, Pageable pageable);
     
     /**
      * Busca capas de um álbum ordenadas por ordem.
@@ -1,17 +1,43 @@
 package com.projeto.backend.domain.album;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.projeto.backend.config.AsyncConfig;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.storage.StorageException;
 import com.projeto.backend.infrastructure.storage.StorageService;
 import com.projeto.backend.web.dto.album.AlbumCapaResponse;
+import com.projeto.backend.web.dto.album.CapaUploadConfirmacaoRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlResponse;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -20,6 +46,14 @@ public class AlbumCapaService {
 
 	private static final Logger logger = LoggerFactory.getLogger(AlbumCapaService.class);
 
+	/**
+	 * Nome dos objetos enviados diretamente ao MinIO: UUID gerado pela API
+	 * mais a extensão do arquivo.
+	 */
+	private static final Pattern OBJETO_DIRETO = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}(\\.[A-Za-z0-9]{1,10})?");
+
+	private static final Pattern ETAG_MD5 = Pattern.compile("[0-9a-f]{32}");
+
 	@Autowired
 	private StorageService storageService;
 	
@@ -28,6 +62,22 @@ public class AlbumCapaService {
 	
 	@Autowired
     private AlbumRepository albumRepository;
+
+	@Autowired
+	private CatalogoCache catalogoCache;
+
+	@Autowired
+	@Qualifier(AsyncConfig.UPLOAD_EXECUTOR)
+	private Executor uploadExecutor;
+
+	@Value("${storage.upload.max-concurrency:8}")
+	private int maxConcurrency;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private CapaMiniaturaService capaMiniaturaService;
 	
 	/**
      * Faz upload de uma capa para um álbum.
@@ -44,33 +94,26 @@ public class AlbumCapaService {
         Album album = albumRepository.findByIdAndAtivoTrue(albumId)
     		.orElseThrow(() -> new EntityNotFoundException("Álbum não encontrado com ID: " + albumId));
 
-        // Define a pasta no MinIO: artista-{id}/album-{id}
-        String folder = String.format("artista-%d/album-%d", album.getArtista().getId(), albumId);
-
-        StorageService.StorageResult result = storageService.upload(file, folder);
+        StorageService.StorageResult conteudo = storageService.prepararConteudo(file);
+        enviarConteudos(List.of(file), List.of(conteudo));
 
         // Calcula a próxima ordem
         long countCapas = albumCapaRepository.countByAlbumId(albumId);
         int ordem = (int) countCapas;
 
         // Salva os metadados no banco
-        AlbumCapa capa = new AlbumCapa();
-        capa.setAlbum(album);
-        capa.setObjectKey(result.objectKey());
-        capa.setNomeArquivo(result.originalFilename());
-        capa.setContentType(result.contentType());
-        capa.setTamanhoBytes(result.size());
-        capa.setTipoCapa(tipoCapa);
-        capa.setOrdem(ordem);
-        capa.setHashMd5(result.md5Hash());
-
+        AlbumCapa capa = novaCapa(album, conteudo, tipoCapa, ordem);
         capa = albumCapaRepository.save(capa);
         logger.info("Capa salva com ID: {}", capa.getId());
 
+        albumRepository.marcarAlterado(albumId, LocalDateTime.now());
+        catalogoCache.evictAlbum(albumId);
+        capaMiniaturaService.gerarAposCommit(List.of(capa.getObjectKey()));
+
         // Gera URL pré-assinada
         String presignedUrl = storageService.getPublicUrl(capa.getObjectKey());
 
-        return AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+        return toResponse(capa, presignedUrl);
     }
     
     /**
@@ -85,10 +128,342 @@ public class AlbumCapaService {
     public List<AlbumCapaResponse> uploadMultiple(Long albumId, List<MultipartFile> files, TipoCapa tipoCapa) {
         logger.info("Iniciando upload de {} capas para álbum ID: {}", files.size(), albumId);
 
-        return files.stream()
-                .map(file -> upload(albumId, file, tipoCapa))
+        Album album = albumRepository.findByIdAndAtivoTrue(albumId)
+                .orElseThrow(() -> new EntityNotFoundException("Álbum não encontrado com ID: " + albumId));
+
+        // Valida todos os arquivos antes de ler o primeiro
+        files.forEach(storageService::validateFile);
+
+        // Ordens reservadas de uma vez, na ordem em que os arquivos foram recebidos
+        int ordemInicial = (int) albumCapaRepository.countByAlbumId(albumId);
+
+        List<StorageService.StorageResult> conteudos = executarEmParalelo(files, storageService::prepararConteudo);
+        enviarConteudos(files, conteudos);
+
+        List<AlbumCapa> capas = new ArrayList<>(conteudos.size());
+        for (int i = 0; i < conteudos.size(); i++) {
+            capas.add(novaCapa(album, conteudos.get(i), tipoCapa, ordemInicial + i));
+        }
+
+        capas = albumCapaRepository.saveAll(capas);
+        logger.info("{} capas salvas para o álbum ID: {}", capas.size(), albumId);
+
+        albumRepository.marcarAlterado(albumId, LocalDateTime.now());
+        catalogoCache.evictAlbum(albumId);
+        capaMiniaturaService.gerarAposCommit(capas.stream().map(AlbumCapa::getObjectKey).toList());
+
+        return capas.stream()
+                .map(capa -> toResponse(capa, storageService.getPublicUrl(capa.getObjectKey())))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Gera um formulário pré-assinado (POST) para o navegador enviar a capa
+     * diretamente ao MinIO. O objeto fica no prefixo de envios até a chamada
+     * a {@link #confirmarUpload}; sem ela, expira pelo ciclo de vida do bucket.
+     *
+     * @param albumId ID do álbum
+     * @param request Nome, tipo e tamanho do arquivo
+     * @return URL de envio, chave do objeto e campos do formulário
+     */
+    @Transactional(readOnly = true)
+    public CapaUploadUrlResponse gerarUrlUpload(Long albumId, CapaUploadUrlRequest request) {
+        logger.info("Gerando URL de upload direto para álbum ID: {}", albumId);
+
+        Album album = albumRepository.findByIdAndAtivoTrue(albumId)
+                .orElseThrow(() -> new EntityNotFoundException("Álbum não encontrado com ID: " + albumId));
+
+        try {
+            storageService.validateMetadata(request.getContentType(), request.getTamanhoBytes());
+        } catch (StorageException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        StorageService.UploadUrl uploadUrl = storageService.generateUploadUrl(getPasta(album), request.getNomeArquivo(),
+                request.getContentType(), request.getTamanhoBytes());
+
+        return new CapaUploadUrlResponse(
+                uploadUrl.objectKey(),
+                uploadUrl.url(),
+                "POST",
+                uploadUrl.campos(),
+                uploadUrl.expiraEm());
+    }
+
+    /**
+     * Registra uma capa enviada diretamente ao MinIO.
+     *
+     * A política do formulário já limita tipo e tamanho; ambos são conferidos
+     * novamente com os metadados do objeto, que é removido se não for uma
+     * imagem válida. O envio é copiado para a pasta do álbum, fora do prefixo
+     * que expira, e a capa passa a referenciar a cópia.
+     *
+     * @param albumId ID do álbum
+     * @param request Chave do objeto enviado, nome e tipo da capa
+     * @return AlbumCapaResponse com dados da capa
+     */
+    @Transactional
+    public AlbumCapaResponse confirmarUpload(Long albumId, CapaUploadConfirmacaoRequest request) {
+        logger.info("Confirmando upload direto para álbum ID: {}, objeto: {}", albumId, request.getObjectKey());
+
+        Album album = albumRepository.findByIdAndAtivoTrue(albumId)
+                .orElseThrow(() -> new EntityNotFoundException("Álbum não encontrado com ID: " + albumId));
+
+        String objectKey = request.getObjectKey();
+        String pasta = StorageService.PREFIXO_UPLOAD + getPasta(album) + "/";
+        if (!objectKey.startsWith(pasta) || !OBJETO_DIRETO.matcher(objectKey.substring(pasta.length())).matches()) {
+            throw new IllegalArgumentException("Chave do objeto não pertence a este álbum: " + objectKey);
+        }
+        String destino = objectKey.substring(StorageService.PREFIXO_UPLOAD.length());
+
+        // Mesmo bloqueio do envio e da remoção: a chave não é registrada duas vezes
+        albumCapaRepository.bloquearObjeto(destino);
+        if (albumCapaRepository.countByObjectKey(destino) > 0) {
+            throw new IllegalArgumentException("Upload já confirmado: " + objectKey);
+        }
+
+        StorageService.ObjetoInfo objeto = storageService.stat(objectKey)
+                .orElseThrow(() -> new IllegalArgumentException("Arquivo não encontrado no armazenamento: " + objectKey));
+
+        try {
+            storageService.validateMetadata(objeto.contentType(), objeto.size());
+        } catch (StorageException e) {
+            logger.warn("Upload direto inválido, removendo {}: {}", objectKey, e.getMessage());
+            storageService.delete(objectKey);
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        // Em uploads de parte única o ETag é o MD5 do conteúdo
+        String etag = objeto.etag() != null ? objeto.etag().replace("\"", "") : null;
+        String md5 = etag != null && ETAG_MD5.matcher(etag).matches() ? etag : null;
+
+        storageService.copy(objectKey, destino);
+        concluirEnvioDireto(objectKey, destino);
+
+        int ordem = (int) albumCapaRepository.countByAlbumId(albumId);
+        AlbumCapa capa = novaCapa(album,
+                new StorageService.StorageResult(destino, request.getNomeArquivo(), objeto.contentType(), objeto.size(), md5),
+                request.getTipoCapa() != null ? request.getTipoCapa() : TipoCapa.FRENTE,
+                ordem);
+        capa = albumCapaRepository.save(capa);
+        logger.info("Capa enviada diretamente salva com ID: {}", capa.getId());
+
+        albumRepository.marcarAlterado(albumId, LocalDateTime.now());
+        catalogoCache.evictAlbum(albumId);
+        capaMiniaturaService.gerarAposCommit(List.of(destino));
+
+        return toResponse(capa, storageService.getPublicUrl(destino));
+    }
+
+    /**
+     * Remove o envio direto após o commit; se a transação for desfeita,
+     * remove a cópia, que não chegou a ser referenciada. Falhas na remoção
+     * do envio ficam para a expiração do prefixo.
+     */
+    private void concluirEnvioDireto(String envio, String destino) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removerEnvioDireto(envio);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    removerEnvioDireto(envio);
+                } else {
+                    removerObjetosOrfaos(List.of(destino));
+                }
+            }
+        });
+    }
+
+    private void removerEnvioDireto(String envio) {
+        try {
+            storageService.delete(envio);
+        } catch (Exception e) {
+            logger.warn("Erro ao remover envio direto do MinIO: {}", envio);
+        }
+    }
+
+    /**
+     * Pasta do álbum no bucket.
+     */
+    private String getPasta(Album album) {
+        return "artista-" + album.getArtista().getId() + "/album-" + album.getId();
+    }
+
+    /**
+     * Monta a resposta com a URL do original e, quando já geradas, as das miniaturas.
+     */
+    private AlbumCapaResponse toResponse(AlbumCapa capa, String presignedUrl) {
+        AlbumCapaResponse response = AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+        if (Boolean.TRUE.equals(capa.getMiniaturasGeradas())) {
+            response.setMiniaturas(capaMiniaturaService.getUrls(capa.getObjectKey()));
+        }
+        return response;
+    }
+
+    private AlbumCapa novaCapa(Album album, StorageService.StorageResult conteudo, TipoCapa tipoCapa, int ordem) {
+        AlbumCapa capa = new AlbumCapa();
+        capa.setAlbum(album);
+        capa.setObjectKey(conteudo.objectKey());
+        capa.setNomeArquivo(conteudo.originalFilename());
+        capa.setContentType(conteudo.contentType());
+        capa.setTamanhoBytes(conteudo.size());
+        capa.setTipoCapa(tipoCapa);
+        capa.setOrdem(ordem);
+        capa.setHashMd5(conteudo.md5Hash());
+        return capa;
+    }
+
+    /**
+     * Envia ao MinIO apenas os conteúdos que ainda não são referenciados por
+     * nenhuma capa; os demais reaproveitam o objeto existente.
+     *
+     * Cada chave fica bloqueada até o fim da transação, para que uma remoção
+     * concorrente não apague um objeto que acabou de ganhar uma referência.
+     * Se a transação for desfeita, os objetos enviados e não referenciados
+     * são removidos.
+     */
+    private void enviarConteudos(List<MultipartFile> files, List<StorageService.StorageResult> conteudos) {
+        // Ordenado pela chave: os bloqueios são sempre adquiridos na mesma ordem
+        Map<String, Integer> novos = new TreeMap<>();
+        for (int i = 0; i < conteudos.size(); i++) {
+            novos.putIfAbsent(conteudos.get(i).objectKey(), i);
+        }
+
+        Iterator<String> chaves = novos.keySet().iterator();
+        while (chaves.hasNext()) {
+            String objectKey = chaves.next();
+            albumCapaRepository.bloquearObjeto(objectKey);
+            if (albumCapaRepository.countByObjectKey(objectKey) > 0) {
+                chaves.remove();
+            }
+        }
+
+        if (novos.size() < conteudos.size()) {
+            logger.info("{} de {} capas reaproveitam conteúdo já armazenado",
+                    conteudos.size() - novos.size(), conteudos.size());
+        }
+        if (novos.isEmpty()) {
+            return;
+        }
+
+        List<String> enviados = List.copyOf(novos.keySet());
+        boolean emTransacao = TransactionSynchronizationManager.isSynchronizationActive();
+        if (emTransacao) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        logger.warn("Transação desfeita; removendo {} arquivos enviados ao MinIO", enviados.size());
+                        removerObjetosOrfaos(enviados);
+                    }
+                }
+            });
+        }
+
+        try {
+            executarEmParalelo(List.copyOf(novos.values()), i -> {
+                storageService.uploadConteudo(files.get(i), conteudos.get(i));
+                return i;
+            });
+        } catch (RuntimeException e) {
+            if (!emTransacao) {
+                removerObjetosOrfaos(enviados);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Executa a tarefa para cada item no executor de uploads, aguardando
+     * todas terminarem. A primeira falha é propagada.
+     *
+     * Cada chamada tem seu próprio limite de storage.upload.max-concurrency
+     * tarefas simultâneas: as excedentes aguardam a vaga na própria virtual
+     * thread, sem bloquear quem as submeteu nem disputar vagas com outras
+     * requisições.
+     *
+     * @return Resultados na mesma ordem dos itens
+     */
+    private <E, T> List<T> executarEmParalelo(List<E> itens, Function<E, T> tarefa) {
+        Semaphore vagas = new Semaphore(Math.max(1, maxConcurrency));
+        List<CompletableFuture<T>> execucoes = itens.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> {
+                    vagas.acquireUninterruptibly();
+                    try {
+                        return tarefa.apply(item);
+                    } finally {
+                        vagas.release();
+                    }
+                }, uploadExecutor))
+                .toList();
+
+        List<T> resultados = new ArrayList<>(execucoes.size());
+        RuntimeException falha = null;
+
+        for (CompletableFuture<T> execucao : execucoes) {
+            try {
+                resultados.add(execucao.join());
+            } catch (CompletionException e) {
+                if (falha == null) {
+                    falha = e.getCause() instanceof RuntimeException causa
+                            ? causa
+                            : new StorageException("Falha ao fazer upload do arquivo", e.getCause());
+                }
+            }
+        }
+
+        if (falha != null) {
+            throw falha;
+        }
+        return resultados;
+    }
+
+    /**
+     * Remove os objetos após o commit da transação corrente, se não restar
+     * nenhuma capa que os referencie.
+     */
+    private void removerObjetosOrfaosAposCommit(List<String> chaves) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removerObjetosOrfaos(chaves);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removerObjetosOrfaos(chaves);
+            }
+        });
+    }
+
+    /**
+     * Remove do MinIO os objetos que não são mais referenciados por nenhuma capa.
+     * Executa em transação própria, com o mesmo bloqueio usado no envio.
+     */
+    private void removerObjetosOrfaos(Collection<String> chaves) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String objectKey : new TreeSet<>(chaves)) {
+                albumCapaRepository.bloquearObjeto(objectKey);
+                if (albumCapaRepository.countByObjectKey(objectKey) > 0) {
+                    continue;
+                }
+
+                try {
+                    storageService.delete(objectKey);
+                } catch (Exception e) {
+                    logger.warn("Erro ao remover arquivo do MinIO: {}", objectKey);
+                }
+                capaMiniaturaService.remover(objectKey);
+            }
+        });
+    }
     
     /**
      * Lista as capas de um álbum com URLs pré-assinadas.
@@ -105,12 +480,13 @@ public class AlbumCapaService {
             throw new EntityNotFoundException("Álbum não encontrado com ID: " + albumId);
         }
 
+        // Capas ainda sem miniaturas são processadas pela varredura de CapaMiniaturaService
         List<AlbumCapa> capas = albumCapaRepository.findByAlbumIdOrderByOrdemAsc(albumId);
 
         return capas.stream()
                 .map(capa -> {
                     String presignedUrl = storageService.getPublicUrl(capa.getObjectKey());
-                    return AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+                    return toResponse(capa, presignedUrl);
                 })
                 .collect(Collectors.toList());
     }
@@ -129,7 +505,7 @@ public class AlbumCapaService {
                 .orElseThrow(() -> new EntityNotFoundException("Capa não encontrada com ID: " + capaId));
 
         String presignedUrl = storageService.getPublicUrl(capa.getObjectKey());
-        return AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+        return toResponse(capa, presignedUrl);
     }
     
     /**
@@ -150,7 +526,7 @@ public class AlbumCapaService {
         capa = albumCapaRepository.save(capa);
 
         String presignedUrl = storageService.getPublicUrl(capa.getObjectKey());
-        return AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+        return toResponse(capa, presignedUrl);
     }
 
     /**
@@ -171,7 +547,7 @@ public class AlbumCapaService {
         capa = albumCapaRepository.save(capa);
 
         String presignedUrl = storageService.getPublicUrl(capa.getObjectKey());
-        return AlbumCapaResponse.fromEntityWithUrl(capa, presignedUrl);
+        return toResponse(capa, presignedUrl);
     }
     
     /**
@@ -186,11 +562,13 @@ public class AlbumCapaService {
         AlbumCapa capa = albumCapaRepository.findById(capaId)
                 .orElseThrow(() -> new EntityNotFoundException("Capa não encontrada com ID: " + capaId));
 
-        // Remove do MinIO
-        storageService.delete(capa.getObjectKey());
-
         // Remove do banco
         albumCapaRepository.delete(capa);
+        albumRepository.marcarAlterado(capa.getAlbum().getId(), LocalDateTime.now());
+        catalogoCache.evictAlbum(capa.getAlbum().getId());
+
+        // Remove do MinIO apenas se nenhuma outra capa usar o mesmo conteúdo
+        removerObjetosOrfaosAposCommit(List.of(capa.getObjectKey()));
 
         logger.info("Capa removida com sucesso: {}", capaId);
     }
@@ -206,15 +584,11 @@ public class AlbumCapaService {
 
         List<AlbumCapa> capas = albumCapaRepository.findByAlbumIdOrderByOrdemAsc(albumId);
 
-        for (AlbumCapa capa : capas) {
-            try {
-                storageService.delete(capa.getObjectKey());
-            } catch (Exception e) {
-                logger.warn("Erro ao remover arquivo do MinIO: {}", capa.getObjectKey());
-            }
-        }
-
         albumCapaRepository.deleteByAlbumId(albumId);
+        albumRepository.marcarAlterado(albumId, LocalDateTime.now());
+        catalogoCache.evictAlbum(albumId);
+
+        removerObjetosOrfaosAposCommit(capas.stream().map(AlbumCapa::getObjectKey).toList());
         logger.info("Todas as capas removidas do álbum: {}", albumId);
     }
 }
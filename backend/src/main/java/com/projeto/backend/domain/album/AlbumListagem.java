@@ -0,0 +1,37 @@
+package com.projeto.backend.domain.album;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.projeto.backend.shared.Campos;
+
+/**
+ * Projeção de leitura usada na listagem paginada de álbuns.
+ * Carrega os dados do álbum, do artista e a quantidade de capas
+ * em uma única consulta, sem inicializar associações lazy.
+ *
+ * Com seleção de campos, os componentes não selecionados ficam nulos e as
+ * colunas correspondentes não são lidas.
+ */
+public record AlbumListagem(
+        Long id,
+        Long artistaId,
+        String artistaNome,
+        String nome,
+        Integer anoLancamento,
+        String gravadora,
+        String genero,
+        Integer totalFaixas,
+        Integer duracaoTotal,
+        String descricao,
+        Long totalCapas,
+        Boolean ativo,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Campos selecionáveis na listagem (parâmetro fields).
+     */
+    public static final Set<String> CAMPOS = Campos.doRegistro(AlbumListagem.class);
+}
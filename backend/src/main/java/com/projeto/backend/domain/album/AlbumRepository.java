@@ -1,5 +1,6 @@
 package com.projeto.backend.domain.album;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,11 +8,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecificationExecutor<Album>{
+public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecificationExecutor<Album>, AlbumRepositoryCustom {
 	
 	/**
      * Busca álbuns ativos de um artista específico (lista).
@@ -29,14 +32,6 @@ public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecific
      */
     Optional<Album> findByIdAndAtivoTrue(Long id);
     
-    /**
-     * Lista gêneros distintos dos álbuns ativos.
-     *
-     * @return Lista de gêneros
-     */
-    @Query("SELECT DISTINCT al.genero FROM Album al WHERE al.ativo = true AND al.genero IS NOT NULL ORDER BY al.genero")
-    List<String> findDistinctGeneros();
-    
     /**
      * Busca todos os álbuns ativos com paginação.
      *
@@ -44,5 +39,36 @@ public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecific
      * @return Página de álbuns
      */
     Page<Album> findByAtivoTrue(Pageable pageable);
-    
+
+    /**
+     * Data da última alteração de um álbum ativo, sem carregar a entidade.
+     * Considera também o artista, cujo nome faz parte da resposta do álbum.
+     *
+     * @param id ID do álbum
+     * @return Optional com a maior data de atualização entre álbum e artista
+     */
+    @Query("SELECT greatest(a.updatedAt, ar.updatedAt) FROM Album a JOIN a.artista ar " +
+           "WHERE a.id = :id AND a.ativo = true")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Data da última alteração entre todos os álbuns, inclusive inativos
+     * (a inativação também atualiza updated_at).
+     *
+     * @return Optional com a maior data de atualização; vazio se não houver álbuns
+     */
+    @Query("SELECT MAX(a.updatedAt) FROM Album a")
+    Optional<LocalDateTime> findUltimaAlteracao();
+
+    /**
+     * Atualiza apenas a data de atualização do álbum, para alterações que
+     * mudam a resposta do álbum sem passar pela entidade (ex.: capas).
+     *
+     * @param id ID do álbum
+     * @param agora Nova data de atualização
+     * @return Quantidade de álbuns atualizados
+     */
+    @Modifying
+    @Query("UPDATE Album a SET a.updatedAt = :agora WHERE a.id = :id")
+    int marcarAlterado(@Param("id") Long id, @Param("agora") LocalDateTime agora);
 }
\ No newline at end of file
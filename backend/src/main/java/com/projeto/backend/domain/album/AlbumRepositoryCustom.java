@@ -0,0 +1,38 @@
+package com.projeto.backend.domain.album;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Consultas de leitura de álbuns que não são expressáveis por derivação de nome.
+ */
+public interface AlbumRepositoryCustom {
+
+    /**
+     * Lista álbuns como projeção, com artista e contagem de capas
+     * resolvidos na mesma consulta SQL.
+     *
+     * @param spec Filtros dinâmicos (ver {@link AlbumService#comFiltros})
+     * @param pageable Configuração de paginação e ordenação
+     * @param campos Componentes de {@link AlbumListagem} a ler; vazio = todos
+     * @return Página de projeções
+     */
+    Page<AlbumListagem> findListagem(Specification<Album> spec, Pageable pageable, Set<String> campos);
+
+    /**
+     * Lista álbuns como projeção limitada, sem OFFSET nem contagem
+     * (usada pela paginação por cursor).
+     *
+     * @param spec Filtros dinâmicos, incluindo a posição do cursor
+     * @param sort Ordenação
+     * @param limit Quantidade máxima de linhas
+     * @param campos Componentes de {@link AlbumListagem} a ler; vazio = todos
+     * @return Lista de projeções
+     */
+    List<AlbumListagem> findListagem(Specification<Album> spec, Sort sort, int limit, Set<String> campos);
+}
@@ -0,0 +1,141 @@
+package com.projeto.backend.domain.album;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.shared.Campos;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Implementação das consultas customizadas de {@link AlbumRepository}.
+ *
+ * A listagem monta uma projeção via Criteria API reaproveitando a mesma
+ * Specification de filtros, de modo que uma página custa uma consulta
+ * de dados e, quando necessário, uma consulta de contagem.
+ *
+ * Com seleção de campos, apenas as colunas pedidas são lidas: as demais
+ * viram NULL na projeção, e o join com artista e a contagem de capas só
+ * entram na consulta quando algum campo deles for selecionado.
+ */
+public class AlbumRepositoryImpl implements AlbumRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<AlbumListagem> findListagem(Specification<Album> spec, Pageable pageable, Set<String> campos) {
+        TypedQuery<AlbumListagem> query = criarConsultaListagem(spec, pageable.getSort(), campos);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<AlbumListagem> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public List<AlbumListagem> findListagem(Specification<Album> spec, Sort sort, int limit, Set<String> campos) {
+        return criarConsultaListagem(spec, sort, campos)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<AlbumListagem> criarConsultaListagem(Specification<Album> spec, Sort sort, Set<String> campos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<AlbumListagem> query = cb.createQuery(AlbumListagem.class);
+        Root<Album> root = query.from(Album.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+
+        query.select(cb.construct(AlbumListagem.class,
+                root.get("id"),
+                coluna(campos, "artistaId", Long.class, cb, () -> root.get("artista").get("id")),
+                coluna(campos, "artistaNome", String.class, cb, () -> joinArtista(root).get("nome")),
+                coluna(campos, "nome", String.class, cb, () -> root.get("nome")),
+                coluna(campos, "anoLancamento", Integer.class, cb, () -> root.get("anoLancamento")),
+                coluna(campos, "gravadora", String.class, cb, () -> root.get("gravadora")),
+                coluna(campos, "genero", String.class, cb, () -> root.get("genero")),
+                coluna(campos, "totalFaixas", Integer.class, cb, () -> root.get("totalFaixas")),
+                coluna(campos, "duracaoTotal", Integer.class, cb, () -> root.get("duracaoTotal")),
+                coluna(campos, "descricao", String.class, cb, () -> root.get("descricao")),
+                coluna(campos, "totalCapas", Long.class, cb, () -> totalCapas(query, root, cb)),
+                coluna(campos, "ativo", Boolean.class, cb, () -> root.get("ativo")),
+                coluna(campos, "createdAt", LocalDateTime.class, cb, () -> root.get("createdAt")),
+                coluna(campos, "updatedAt", LocalDateTime.class, cb, () -> root.get("updatedAt"))));
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Expressão do campo, se selecionado; caso contrário um NULL literal,
+     * para que a coluna (ou a subconsulta) não seja lida.
+     */
+    private static <T> Selection<? extends T> coluna(Set<String> campos, String campo, Class<T> tipo,
+            CriteriaBuilder cb, Supplier<Expression<T>> expressao) {
+        return Campos.contem(campos, campo) ? expressao.get() : cb.nullLiteral(tipo);
+    }
+
+    private static Subquery<Long> totalCapas(CriteriaQuery<?> query, Root<Album> root, CriteriaBuilder cb) {
+        Subquery<Long> totalCapas = query.subquery(Long.class);
+        Root<AlbumCapa> capa = totalCapas.from(AlbumCapa.class);
+        return totalCapas.select(cb.count(capa)).where(cb.equal(capa.get("album"), root));
+    }
+
+    private long contar(Specification<Album> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Album> root = query.from(Album.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Reaproveita o join com artista criado pela Specification, evitando
+     * um segundo join na mesma tabela.
+     */
+    @SuppressWarnings("unchecked")
+    private Join<Album, Artista> joinArtista(From<Album, Album> root) {
+        return root.getJoins().stream()
+                .filter(join -> "artista".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Album, Artista>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("artista"));
+    }
+}
@@ -1,13 +1,20 @@
 package com.projeto.backend.domain.album;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -15,9 +22,16 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.projeto.backend.config.CacheConfig;
 import com.projeto.backend.domain.artista.Artista;
 import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
 import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.shared.Campos;
+import com.projeto.backend.shared.CursorPage;
+import com.projeto.backend.shared.Keyset;
+import com.projeto.backend.shared.StringUtils;
 import com.projeto.backend.web.dto.album.AlbumRequest;
 import com.projeto.backend.web.dto.album.AlbumResponse;
 
@@ -33,14 +47,29 @@ public class AlbumService {
 
     private static final Logger logger = LoggerFactory.getLogger(AlbumService.class);
 
+    /**
+     * Campos aceitos em sortBy na paginação por cursor (cada um possui índice (campo, id)).
+     */
+    private static final Map<String, Keyset.Campo<AlbumListagem>> CAMPOS_CURSOR = Map.of(
+            "nome", new Keyset.Campo<>("nome", false, valor -> valor, AlbumListagem::nome),
+            "anoLancamento", new Keyset.Campo<>("anoLancamento", true, Integer::valueOf, AlbumListagem::anoLancamento),
+            "genero", new Keyset.Campo<>("genero", true, valor -> valor, AlbumListagem::genero)
+    );
+
     @Autowired
     private AlbumRepository albumRepository;
     
     @Autowired
     private ArtistaService artistaService;
+
+    @Autowired
+    private GeneroService generoService;
     
     @Autowired
     private NotificationService notificationService;
+
+    @Autowired
+    private CatalogoCache catalogoCache;
     
     /**
      * Lista todos os álbuns de um artista (sem paginação).
@@ -71,7 +100,9 @@ public class AlbumService {
      * @param size Tamanho da página
      * @param sortBy Campo para ordenação
      * @param sortDir Direção da ordenação (asc/desc)
+     * @param fields Campos da resposta, separados por vírgula (opcional; ver {@link AlbumListagem#CAMPOS})
      * @return Página de álbuns
+     * @throws IllegalArgumentException Se algum campo de fields for inválido
      */
     @Transactional(readOnly = true)
     public Page<AlbumResponse> listar(
@@ -81,22 +112,80 @@ public class AlbumService {
             int page,
             int size,
             String sortBy,
-            String sortDir
+            String sortDir,
+            String fields
     ) {
-        logger.info("Listando álbuns - nome: {}, artista: {}, genero: {}, page: {}, size: {}",
-                nome, nomeArtista, genero, page, size);
+        logger.info("Listando álbuns - nome: {}, artista: {}, genero: {}, page: {}, size: {}, fields: {}",
+                nome, nomeArtista, genero, page, size, fields);
 
+        Set<String> campos = Campos.selecionar(fields, AlbumListagem.CAMPOS);
         Sort sort = Sort.by(sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        String nomeParam = (nome != null && !nome.trim().isEmpty()) ? nome.trim().toLowerCase() : null;
-        String artistaParam = (nomeArtista != null && !nomeArtista.trim().isEmpty()) ? nomeArtista.trim().toLowerCase() : null;
-        String generoParam = (genero != null && !genero.trim().isEmpty()) ? genero.trim().toLowerCase() : null;
+        String generoFiltro = filtro(genero);
+        Optional<Long> generoId = generoFiltro != null ? generoService.buscarId(generoFiltro) : Optional.empty();
+        if (generoFiltro != null && generoId.isEmpty()) {
+            // Gênero inexistente: nenhum álbum corresponde ao filtro
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        var spec = AlbumService.comFiltros(filtro(nome), filtro(nomeArtista), generoId.orElse(null));
+        Page<AlbumListagem> pageResult = albumRepository.findListagem(spec, pageable, campos);
+
+        return pageResult.map(AlbumResponse::fromListagem);
+    }
+
+    /**
+     * Lista álbuns com paginação por cursor (keyset), sem OFFSET e sem contagem.
+     *
+     * @param nome Filtro por nome do álbum (opcional)
+     * @param nomeArtista Filtro por nome do artista (opcional)
+     * @param genero Filtro por gênero (opcional)
+     * @param after Cursor devolvido pela página anterior (opcional)
+     * @param size Tamanho da página
+     * @param sortBy Campo para ordenação (nome, anoLancamento, genero)
+     * @param sortDir Direção da ordenação (asc/desc)
+     * @param fields Campos da resposta, separados por vírgula (opcional; ver {@link AlbumListagem#CAMPOS})
+     * @return Página de álbuns com o cursor da próxima página
+     * @throws IllegalArgumentException Se o cursor, o campo de ordenação, o tamanho ou os campos forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AlbumResponse> listarCursor(
+            String nome,
+            String nomeArtista,
+            String genero,
+            String after,
+            int size,
+            String sortBy,
+            String sortDir,
+            String fields
+    ) {
+        logger.info("Listando álbuns por cursor - nome: {}, artista: {}, genero: {}, size: {}, sortBy: {}, fields: {}",
+                nome, nomeArtista, genero, size, sortBy, fields);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero");
+        }
+
+        Keyset.Campo<AlbumListagem> campo = Keyset.campo(CAMPOS_CURSOR, sortBy);
+        // O valor do campo de ordenação compõe o cursor, mesmo fora da seleção
+        Set<String> campos = Campos.incluir(Campos.selecionar(fields, AlbumListagem.CAMPOS), campo.nome());
+        Sort.Direction direcao = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        String generoFiltro = filtro(genero);
+        Optional<Long> generoId = generoFiltro != null ? generoService.buscarId(generoFiltro) : Optional.empty();
+        if (generoFiltro != null && generoId.isEmpty()) {
+            return new CursorPage<>(List.of(), size, false, null);
+        }
+
+        Specification<Album> spec = AlbumService.comFiltros(filtro(nome), filtro(nomeArtista), generoId.orElse(null));
+        if (after != null && !after.isBlank()) {
+            spec = spec.and(Keyset.apos(campo, Keyset.Cursor.decode(after), direcao));
+        }
 
-        var spec = AlbumService.comFiltros(nomeParam, artistaParam, generoParam);
-        Page<Album> pageResult = albumRepository.findAll(spec, pageable);
+        List<AlbumListagem> linhas = albumRepository.findListagem(spec, Keyset.ordenacao(campo, direcao), size + 1, campos);
 
-        return pageResult.map(AlbumResponse::fromEntity);
+        return Keyset.pagina(linhas, size, campo, AlbumListagem::id).map(AlbumResponse::fromListagem);
     }
     
     /**
@@ -107,6 +196,7 @@ public class AlbumService {
      * @throws EntityNotFoundException Se não encontrar
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ALBUNS, key = "#id")
     public AlbumResponse buscarPorId(Long id) {
         logger.info("Buscando álbum por ID: {}", id);
 
@@ -115,15 +205,41 @@ public class AlbumService {
 
         return AlbumResponse.fromEntity(album);
     }
+
+    /**
+     * Data da última alteração do álbum (ou do seu artista), lida sem carregar
+     * a entidade (validadores HTTP de {@link #buscarPorId}).
+     *
+     * @param id ID do álbum
+     * @return Data de atualização; vazio se o álbum não existir
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> ultimaAlteracao(Long id) {
+        return albumRepository.findUpdatedAtById(id);
+    }
+
+    /**
+     * Data da última alteração entre todos os álbuns e artistas (validadores
+     * HTTP das listagens de álbuns, que incluem o nome do artista).
+     *
+     * @return Maior data de atualização; vazio se não houver álbuns
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> ultimaAlteracao() {
+        return albumRepository.findUltimaAlteracao()
+                .map(album -> artistaService.ultimaAlteracao()
+                        .filter(artista -> artista.isAfter(album))
+                        .orElse(album));
+    }
     
     /**
-     * Lista gêneros distintos.
+     * Lista os gêneros com álbuns ativos, a partir do snapshot em memória
+     * (ver {@link GeneroService}).
      *
      * @return Lista de gêneros
      */
-    @Transactional(readOnly = true)
     public List<String> listarGeneros() {
-        return albumRepository.findDistinctGeneros();
+        return generoService.listarNomes();
     }
     
     /**
@@ -144,13 +260,21 @@ public class AlbumService {
         album.setAnoLancamento(request.getAnoLancamento());
         album.setGravadora(request.getGravadora());
         album.setGenero(request.getGenero());
+        album.setGeneroId(generoService.resolverId(request.getGenero()));
         album.setTotalFaixas(request.getTotalFaixas());
         album.setDuracaoTotal(request.getDuracaoTotal());
         album.setDescricao(request.getDescricao());
         album.setAtivo(true);
 
         album = albumRepository.save(album);
+        artistaService.ajustarTotalAlbuns(artista.getId(), 1);
         logger.info("Álbum criado com ID: {}", album.getId());
+
+        catalogoCache.evictArtista(artista.getId());
+        if (album.getGeneroId() != null) {
+            generoService.ajustarTotalAlbuns(album.getGeneroId(), 1);
+            generoService.recarregarAposCommit();
+        }
         
         notificationService.notifyAlbumCreated(album.getId(), album.getNome(), artista.getNome());
         
@@ -174,19 +298,31 @@ public class AlbumService {
 
         if (!album.getArtista().getId().equals(request.getArtistaId())) {
             Artista novoArtista = artistaService.buscarEntidadePorId(request.getArtistaId());
+            artistaService.moverAlbum(album.getArtista().getId(), novoArtista.getId());
+            catalogoCache.evictArtista(album.getArtista().getId());
+            catalogoCache.evictArtista(novoArtista.getId());
             album.setArtista(novoArtista);
         }
 
+        Long generoId = generoService.resolverId(request.getGenero());
+        if (!Objects.equals(album.getGeneroId(), generoId)) {
+            generoService.moverAlbum(album.getGeneroId(), generoId);
+            generoService.recarregarAposCommit();
+        }
+
         album.setNome(request.getNome());
         album.setAnoLancamento(request.getAnoLancamento());
         album.setGravadora(request.getGravadora());
         album.setGenero(request.getGenero());
+        album.setGeneroId(generoId);
         album.setTotalFaixas(request.getTotalFaixas());
         album.setDuracaoTotal(request.getDuracaoTotal());
         album.setDescricao(request.getDescricao());
 
         album = albumRepository.save(album);
         logger.info("Álbum atualizado: {}", album.getId());
+
+        catalogoCache.evictAlbum(id);
         
         notificationService.notifyAlbumUpdated(album.getId(), album.getNome(), album.getArtista().getNome());
         
@@ -208,13 +344,30 @@ public class AlbumService {
 
         album.setAtivo(false);
         albumRepository.save(album);
+        artistaService.ajustarTotalAlbuns(album.getArtista().getId(), -1);
+
+        catalogoCache.evictAlbum(id);
+        catalogoCache.evictArtista(album.getArtista().getId());
+        if (album.getGeneroId() != null) {
+            generoService.ajustarTotalAlbuns(album.getGeneroId(), -1);
+            generoService.recarregarAposCommit();
+        }
         
         notificationService.notifyAlbumDeleted(id);
 
         logger.info("Álbum inativado: {}", id);
     }
     
-    public static Specification<Album> comFiltros(String nome, String nomeArtista, String genero) {
+    private static String filtro(String valor) {
+        return (valor != null && !valor.trim().isEmpty()) ? valor.trim().toLowerCase() : null;
+    }
+
+    /**
+     * Filtros dinâmicos da listagem. Nome do álbum e do artista são pesquisados
+     * nas colunas nome_busca (normalizadas e indexadas por trigramas); o gênero
+     * é comparado pela chave genero_id.
+     */
+    public static Specification<Album> comFiltros(String nome, String nomeArtista, Long generoId) {
         return (root, query, cb) -> {
             Join<Object, Object> artista = root.join("artista");
 
@@ -226,8 +379,8 @@ public class AlbumService {
             if (nome != null) {
                 predicates.add(
                     cb.like(
-                        cb.lower(root.get("nome")),
-                        "%" + nome.toLowerCase() + "%"
+                        root.get("nomeBusca"),
+                        "%" + StringUtils.normalizar(nome) + "%"
                     )
                 );
             }
@@ -235,19 +388,14 @@ public class AlbumService {
             if (nomeArtista != null) {
                 predicates.add(
                     cb.like(
-                        cb.lower(artista.get("nome")),
-                        "%" + nomeArtista.toLowerCase() + "%"
+                        artista.get("nomeBusca"),
+                        "%" + StringUtils.normalizar(nomeArtista) + "%"
                     )
                 );
             }
 
-            if (genero != null) {
-                predicates.add(
-                    cb.equal(
-                        cb.lower(root.get("genero")),
-                        genero.toLowerCase()
-                    )
-                );
+            if (generoId != null) {
+                predicates.add(cb.equal(root.get("generoId"), generoId));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
@@ -0,0 +1,361 @@
+package com.projeto.backend.domain.album;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.projeto.backend.config.AsyncConfig;
+import com.projeto.backend.infrastructure.storage.StorageService;
+
+/**
+ * Geração assíncrona das miniaturas das capas.
+ *
+ * Para cada objeto original são gravadas versões JPEG em larguras fixas,
+ * ao lado do original no MinIO ({@code <chave>-w160.jpg}, ...). A geração
+ * roda no executor de miniaturas, que tem pool e fila limitados: com a fila
+ * cheia, a tarefa é recusada e a capa fica pendente. Uma varredura periódica
+ * reagenda as capas ainda sem miniaturas, de modo que a geração nunca ocupa
+ * threads de requisição.
+ *
+ * Falhas na geração são registradas nas capas: a próxima tentativa é adiada
+ * com backoff exponencial e, após storage.miniaturas.max-tentativas falhas,
+ * o objeto deixa de ser varrido. Formatos que o gerador não decodifica e
+ * imagens acima de storage.miniaturas.max-pixels saem da varredura na
+ * primeira falha, pois uma nova tentativa teria o mesmo resultado.
+ */
+@Service
+public class CapaMiniaturaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CapaMiniaturaService.class);
+
+    /**
+     * Larguras geradas, em pixels, da maior para a menor.
+     */
+    public static final List<Integer> LARGURAS = List.of(640, 320, 160);
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private AlbumCapaRepository albumCapaRepository;
+
+    @Autowired
+    @Qualifier(AsyncConfig.MINIATURA_EXECUTOR)
+    private Executor miniaturaExecutor;
+
+    @Value("${storage.miniaturas.qualidade:0.8}")
+    private float qualidade;
+
+    @Value("${storage.miniaturas.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${storage.miniaturas.varredura.enabled:true}")
+    private boolean varreduraEnabled;
+
+    @Value("${storage.miniaturas.varredura.lote:100}")
+    private int varreduraLote;
+
+    @Value("${storage.miniaturas.varredura.backoff:10m}")
+    private Duration varreduraBackoff;
+
+    @Value("${storage.miniaturas.max-tentativas:5}")
+    private int maxTentativas;
+
+    /**
+     * Objetos com geração em andamento (evita trabalho duplicado para
+     * o mesmo conteúdo enviado em paralelo).
+     */
+    private final Set<String> emAndamento = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Chave da miniatura de um objeto, ao lado do original.
+     *
+     * @param objectKey Chave do objeto original
+     * @param largura Largura da miniatura
+     * @return Chave da miniatura
+     */
+    public static String getMiniaturaKey(String objectKey, int largura) {
+        int barra = objectKey.lastIndexOf('/');
+        int ponto = objectKey.lastIndexOf('.');
+        String base = ponto > barra ? objectKey.substring(0, ponto) : objectKey;
+        return base + "-w" + largura + ".jpg";
+    }
+
+    /**
+     * URLs das miniaturas de um objeto, indexadas pela largura.
+     *
+     * @param objectKey Chave do objeto original
+     * @return Mapa largura → URL, da menor para a maior
+     */
+    public Map<Integer, String> getUrls(String objectKey) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int i = LARGURAS.size() - 1; i >= 0; i--) {
+            int largura = LARGURAS.get(i);
+            urls.put(largura, storageService.getPublicUrl(getMiniaturaKey(objectKey, largura)));
+        }
+        return urls;
+    }
+
+    /**
+     * Agenda a geração das miniaturas após o commit da transação corrente,
+     * quando as capas que referenciam os objetos já estão visíveis.
+     *
+     * @param objectKeys Chaves dos objetos originais
+     */
+    public void gerarAposCommit(Collection<String> objectKeys) {
+        List<String> chaves = List.copyOf(Set.copyOf(objectKeys));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            chaves.forEach(this::agendar);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chaves.forEach(CapaMiniaturaService.this::agendar);
+            }
+        });
+    }
+
+    /**
+     * Agenda a geração das miniaturas de um objeto, se ainda não estiver em andamento.
+     *
+     * @param objectKey Chave do objeto original
+     * @return false se o executor recusou a tarefa (fila cheia)
+     */
+    public boolean agendar(String objectKey) {
+        if (!emAndamento.add(objectKey)) {
+            return true;
+        }
+
+        try {
+            miniaturaExecutor.execute(() -> {
+                try {
+                    gerar(objectKey);
+                } finally {
+                    emAndamento.remove(objectKey);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            emAndamento.remove(objectKey);
+            logger.warn("Geração de miniaturas recusada para {}, fica para a varredura: {}", objectKey, e.getMessage());
+            return false;
+        }
+    }
+
+    @Scheduled(cron = "${storage.miniaturas.varredura.cron:0 */5 * * * *}", scheduler = AsyncConfig.SYNC_SCHEDULER)
+    public void varrerAgendado() {
+        if (varreduraEnabled) {
+            agendarPendentes();
+        }
+    }
+
+    /**
+     * Agenda a geração para um lote de objetos com capas ainda sem miniaturas
+     * (fila cheia no upload, falha na geração ou capas anteriores às
+     * miniaturas), exceto os que aguardam o backoff ou esgotaram as
+     * tentativas. Para no primeiro objeto recusado: a fila está cheia e o
+     * restante fica para a próxima varredura.
+     *
+     * @return Quantidade de objetos agendados
+     */
+    public int agendarPendentes() {
+        List<String> pendentes = albumCapaRepository.findObjectKeysSemMiniaturas(
+                maxTentativas, LocalDateTime.now(), PageRequest.of(0, varreduraLote));
+
+        int agendados = 0;
+        for (String objectKey : pendentes) {
+            if (!agendar(objectKey)) {
+                break;
+            }
+            agendados++;
+        }
+
+        if (agendados > 0) {
+            logger.info("Varredura de miniaturas: {} objetos agendados", agendados);
+        }
+        return agendados;
+    }
+
+    /**
+     * Remove as miniaturas de um objeto. Falhas são apenas registradas.
+     *
+     * @param objectKey Chave do objeto original
+     */
+    public void remover(String objectKey) {
+        for (int largura : LARGURAS) {
+            String chave = getMiniaturaKey(objectKey, largura);
+            try {
+                storageService.delete(chave);
+            } catch (Exception e) {
+                logger.warn("Erro ao remover miniatura do MinIO: {}", chave);
+            }
+        }
+    }
+
+    /**
+     * Gera e grava as miniaturas de um objeto e marca as capas que o
+     * referenciam. Se as miniaturas já existem (conteúdo reaproveitado),
+     * apenas marca as capas.
+     */
+    void gerar(String objectKey) {
+        try {
+            if (!storageService.exists(getMiniaturaKey(objectKey, LARGURAS.get(LARGURAS.size() - 1)))) {
+                BufferedImage imagem = ler(objectKey);
+
+                // Cada largura é reduzida a partir da anterior: menos pixels a processar
+                for (int largura : LARGURAS) {
+                    imagem = redimensionar(imagem, largura);
+                    storageService.uploadBytes(getMiniaturaKey(objectKey, largura), codificarJpeg(imagem), CONTENT_TYPE);
+                }
+                logger.info("Miniaturas geradas para {}", objectKey);
+            }
+
+            albumCapaRepository.marcarMiniaturasGeradas(objectKey);
+
+        } catch (Exception e) {
+            registrarFalha(objectKey, e);
+        }
+    }
+
+    /**
+     * Registra a falha nas capas do objeto e adia a próxima tentativa. Formato
+     * não suportado ou imagem grande demais ({@link IllegalArgumentException})
+     * esgotam as tentativas de imediato.
+     */
+    private void registrarFalha(String objectKey, Exception falha) {
+        try {
+            int tentativas = falha instanceof IllegalArgumentException
+                    ? maxTentativas
+                    : albumCapaRepository.findMiniaturasTentativas(objectKey) + 1;
+            LocalDateTime proximaTentativa = LocalDateTime.now()
+                    .plus(varreduraBackoff.multipliedBy(1L << Math.min(tentativas - 1, 16)));
+            albumCapaRepository.registrarFalhaMiniaturas(objectKey, tentativas, proximaTentativa);
+
+            if (tentativas >= maxTentativas) {
+                logger.warn("Não foi possível gerar miniaturas para {}, objeto fora da varredura após {} tentativas: {}",
+                        objectKey, tentativas, falha.getMessage());
+            } else {
+                logger.warn("Não foi possível gerar miniaturas para {} (tentativa {}), nova tentativa a partir de {}: {}",
+                        objectKey, tentativas, proximaTentativa, falha.getMessage());
+            }
+        } catch (Exception e) {
+            logger.warn("Não foi possível gerar miniaturas para {} nem registrar a falha: {}",
+                    objectKey, falha.getMessage());
+        }
+    }
+
+    /**
+     * Decodifica o original com subamostragem: imagens muito maiores que a
+     * maior miniatura são lidas em resolução reduzida, sem alocar o raster inteiro.
+     */
+    private BufferedImage ler(String objectKey) throws IOException {
+        try (InputStream inputStream = storageService.download(objectKey);
+                ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Formato de imagem não suportado");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+
+                int largura = reader.getWidth(0);
+                int altura = reader.getHeight(0);
+                if ((long) largura * altura > maxPixels) {
+                    throw new IllegalArgumentException("Imagem excede " + maxPixels + " pixels");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int fator = Math.max(1, largura / (LARGURAS.get(0) * 2));
+                param.setSourceSubsampling(fator, fator, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Redimensiona mantendo a proporção. Imagens menores que a largura
+     * pedida não são ampliadas.
+     */
+    private static BufferedImage redimensionar(BufferedImage origem, int largura) {
+        int destinoLargura = Math.min(largura, origem.getWidth());
+        int destinoAltura = Math.max(1, Math.round((float) origem.getHeight() * destinoLargura / origem.getWidth()));
+
+        BufferedImage destino = new BufferedImage(destinoLargura, destinoAltura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = destino.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG não tem transparência: áreas transparentes viram branco
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, destinoLargura, destinoAltura);
+            graphics.drawImage(origem, 0, 0, destinoLargura, destinoAltura, null);
+        } finally {
+            graphics.dispose();
+        }
+        return destino;
+    }
+
+    private byte[] codificarJpeg(BufferedImage imagem) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(saida)) {
+            writer.setOutput(imageOutput);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(qualidade);
+
+            writer.write(null, new IIOImage(imagem, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return saida.toByteArray();
+    }
+}
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.projeto.backend.domain.album.Album;
 import com.projeto.backend.shared.StringUtils;
 
@@ -55,6 +57,15 @@ public class Artista {
     @Column(name = "ativo", nullable = false, columnDefinition = "BOOLEAN")
     private Boolean ativo;
 
+    /**
+     * Total de álbuns ativos. Mantido apenas por UPDATE atômico no banco
+     * ({@link ArtistaRepository#ajustarTotalAlbuns}) e pelo reparo periódico;
+     * nunca é gravado a partir da entidade.
+     */
+    @ColumnDefault("0")
+    @Column(name = "total_albuns", nullable = false, insertable = false, updatable = false)
+    private int totalAlbuns;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -94,7 +105,7 @@ public class Artista {
     }
 
     public int getTotalAlbuns() {
-        return albuns != null ? albuns.size() : 0;
+        return totalAlbuns;
     }
 
     public void addAlbum(Album album) {
@@ -0,0 +1,31 @@
+package com.projeto.backend.domain.artista;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.projeto.backend.shared.Campos;
+
+/**
+ * Projeção de leitura usada na listagem paginada de artistas.
+ *
+ * Com seleção de campos, os componentes não selecionados ficam nulos e as
+ * colunas correspondentes (inclusive a biografia, TEXT) não são lidas.
+ */
+public record ArtistaListagem(
+        Long id,
+        String nome,
+        TipoArtista tipo,
+        String paisOrigem,
+        Integer anoFormacao,
+        String biografia,
+        Boolean ativo,
+        Integer totalAlbuns,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Componentes da projeção (colunas selecionáveis).
+     */
+    public static final Set<String> CAMPOS = Campos.doRegistro(ArtistaListagem.class);
+}
@@ -1,35 +1,60 @@
 package com.projeto.backend.domain.artista;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ArtistaRepository extends JpaRepository<Artista, Long> {
-	/**
-     * Busca artistas com contagem de álbuns.
+public interface ArtistaRepository extends JpaRepository<Artista, Long>, JpaSpecificationExecutor<Artista>,
+        ArtistaRepositoryCustom {
+    /**
+     * Soma {@code delta} ao total de álbuns do artista em um único UPDATE,
+     * sem ler o valor atual (escritas concorrentes não se sobrescrevem).
+     *
+     * @param id ID do artista
+     * @param delta Variação (positiva ou negativa)
+     * @param agora Nova data de atualização (o total faz parte da representação do artista)
+     * @return Quantidade de artistas atualizados
+     */
+    @Modifying
+    @Query(value = "UPDATE artista SET total_albuns = total_albuns + :delta, updated_at = :agora WHERE id = :id",
+           nativeQuery = true)
+    int ajustarTotalAlbuns(@Param("id") Long id, @Param("delta") int delta, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Bloqueia todos os artistas, em ordem de ID, até o fim da transação.
+     * Chamado antes de {@link #recalcularTotalAlbuns}: ajustes concorrentes
+     * já gravados ficam visíveis na agregação e os seguintes esperam o
+     * recálculo terminar, em vez de serem sobrescritos por uma contagem antiga.
      *
-     * @param pageable Configuração de paginação
-     * @return Página de artistas com total de álbuns
+     * @return IDs bloqueados
      */
-    @Query("SELECT a, COUNT(al) as totalAlbuns FROM Artista a LEFT JOIN a.albuns al WHERE a.ativo = true GROUP BY a")
-    Page<Object[]> findAllWithAlbumCount(Pageable pageable);
+    @Query(value = "SELECT id FROM artista ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearTodos();
 
     /**
-     * Busca artistas por nome com contagem de álbuns.
+     * Recalcula o total de álbuns ativos de todos os artistas em um único
+     * comando: uma agregação da tabela de álbuns, gravando apenas os totais
+     * divergentes. Requer {@link #bloquearTodos} na mesma transação.
      *
-     * @param nome Nome para busca
-     * @param pageable Configuração de paginação
-     * @return Página de artistas com total de álbuns
+     * @param agora Nova data de atualização dos artistas corrigidos
+     * @return Quantidade de artistas corrigidos
      */
-    @Query("SELECT a, COUNT(al) as totalAlbuns FROM Artista a LEFT JOIN a.albuns al " +
-           "WHERE a.ativo = true AND LOWER(a.nome) LIKE LOWER(CONCAT('%', :nome, '%')) GROUP BY a")
-    Page<Object[]> findByNomeWithAlbumCount(@Param("nome") String nome, Pageable pageable);
+    @Modifying
+    @Query(value = "MERGE INTO artista a " +
+                   "USING (SELECT ar.id, COUNT(al.id) AS total FROM artista ar " +
+                   "       LEFT JOIN album al ON al.artista_id = ar.id AND al.ativo = TRUE " +
+                   "       GROUP BY ar.id) c ON c.id = a.id " +
+                   "WHEN MATCHED AND a.total_albuns <> c.total THEN " +
+                   "UPDATE SET total_albuns = c.total, updated_at = :agora", nativeQuery = true)
+    int recalcularTotalAlbuns(@Param("agora") LocalDateTime agora);
     
     /**
      * Busca artista ativo por ID.
@@ -38,6 +63,24 @@ public interface ArtistaRepository extends JpaRepository<Artista, Long> {
      * @return Optional com o artista
      */
     Optional<Artista> findByIdAndAtivoTrue(Long id);
+
+    /**
+     * Data da última alteração de um artista ativo, sem carregar a entidade.
+     *
+     * @param id ID do artista
+     * @return Optional com a data de atualização
+     */
+    @Query("SELECT a.updatedAt FROM Artista a WHERE a.id = :id AND a.ativo = true")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Data da última alteração entre todos os artistas, inclusive inativos
+     * (a inativação também atualiza updated_at).
+     *
+     * @return Optional com a maior data de atualização; vazio se não houver artistas
+     */
+    @Query("SELECT MAX(a.updatedAt) FROM Artista a")
+    Optional<LocalDateTime> findUltimaAlteracao();
     
     /**
      * Verifica se existe artista com o nome exato.
@@ -0,0 +1,37 @@
+package com.projeto.backend.domain.artista;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Consultas de leitura de artistas que não são expressáveis por derivação de nome.
+ */
+public interface ArtistaRepositoryCustom {
+
+    /**
+     * Lista artistas como projeção, lendo apenas as colunas selecionadas.
+     *
+     * @param spec Filtros dinâmicos (ver {@link ArtistaService#comFiltros})
+     * @param pageable Configuração de paginação e ordenação
+     * @param campos Componentes de {@link ArtistaListagem} a ler; vazio = todos
+     * @return Página de projeções
+     */
+    Page<ArtistaListagem> findListagem(Specification<Artista> spec, Pageable pageable, Set<String> campos);
+
+    /**
+     * Lista artistas como projeção limitada, sem OFFSET nem contagem
+     * (usada pela paginação por cursor).
+     *
+     * @param spec Filtros dinâmicos, incluindo a posição do cursor
+     * @param sort Ordenação
+     * @param limit Quantidade máxima de linhas
+     * @param campos Componentes de {@link ArtistaListagem} a ler; vazio = todos
+     * @return Lista de projeções
+     */
+    List<ArtistaListagem> findListagem(Specification<Artista> spec, Sort sort, int limit, Set<String> campos);
+}
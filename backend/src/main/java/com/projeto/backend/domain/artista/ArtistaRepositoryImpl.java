@@ -0,0 +1,108 @@
+package com.projeto.backend.domain.artista;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.projeto.backend.shared.Campos;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Implementação das consultas customizadas de {@link ArtistaRepository}.
+ *
+ * A listagem monta uma projeção via Criteria API com as colunas selecionadas;
+ * as demais viram NULL na projeção, de modo que a biografia (TEXT) só é lida
+ * quando pedida.
+ */
+public class ArtistaRepositoryImpl implements ArtistaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ArtistaListagem> findListagem(Specification<Artista> spec, Pageable pageable, Set<String> campos) {
+        TypedQuery<ArtistaListagem> query = criarConsultaListagem(spec, pageable.getSort(), campos);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<ArtistaListagem> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public List<ArtistaListagem> findListagem(Specification<Artista> spec, Sort sort, int limit, Set<String> campos) {
+        return criarConsultaListagem(spec, sort, campos)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<ArtistaListagem> criarConsultaListagem(Specification<Artista> spec, Sort sort,
+            Set<String> campos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ArtistaListagem> query = cb.createQuery(ArtistaListagem.class);
+        Root<Artista> root = query.from(Artista.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+
+        query.select(cb.construct(ArtistaListagem.class,
+                root.get("id"),
+                coluna(campos, root, cb, "nome", String.class),
+                coluna(campos, root, cb, "tipo", TipoArtista.class),
+                coluna(campos, root, cb, "paisOrigem", String.class),
+                coluna(campos, root, cb, "anoFormacao", Integer.class),
+                coluna(campos, root, cb, "biografia", String.class),
+                coluna(campos, root, cb, "ativo", Boolean.class),
+                coluna(campos, root, cb, "totalAlbuns", Integer.class),
+                coluna(campos, root, cb, "createdAt", LocalDateTime.class),
+                coluna(campos, root, cb, "updatedAt", LocalDateTime.class)));
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Atributo do artista, se selecionado; caso contrário um NULL literal.
+     */
+    private static <T> Selection<? extends T> coluna(Set<String> campos, Root<Artista> root, CriteriaBuilder cb,
+            String campo, Class<T> tipo) {
+        return Campos.contem(campos, campo) ? root.get(campo) : cb.nullLiteral(tipo);
+    }
+
+    private long contar(Specification<Artista> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Artista> root = query.from(Artista.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
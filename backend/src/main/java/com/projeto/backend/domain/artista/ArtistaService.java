@@ -1,18 +1,31 @@
 package com.projeto.backend.domain.artista;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.projeto.backend.config.CacheConfig;
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
 import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.shared.Campos;
+import com.projeto.backend.shared.CursorPage;
+import com.projeto.backend.shared.Keyset;
+import com.projeto.backend.shared.StringUtils;
 import com.projeto.backend.web.dto.artista.ArtistaRequest;
 import com.projeto.backend.web.dto.artista.ArtistaResponse;
 
@@ -26,11 +39,29 @@ public class ArtistaService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArtistaService.class);
 
+    /**
+     * Campos aceitos em sortBy na paginação por cursor (cada um possui índice (campo, id)).
+     */
+    private static final Map<String, Keyset.Campo<ArtistaListagem>> CAMPOS_CURSOR = Map.of(
+            "nome", new Keyset.Campo<>("nome", false, valor -> valor, ArtistaListagem::nome),
+            "tipo", new Keyset.Campo<>("tipo", false, TipoArtista::valueOf, ArtistaListagem::tipo),
+            "anoFormacao", new Keyset.Campo<>("anoFormacao", true, Integer::valueOf, ArtistaListagem::anoFormacao),
+            "totalAlbuns", new Keyset.Campo<>("totalAlbuns", false, Integer::valueOf, ArtistaListagem::totalAlbuns)
+    );
+
+    /**
+     * Campos aceitos em fields: as colunas da projeção e a descrição do tipo (derivada da coluna tipo).
+     */
+    public static final Set<String> CAMPOS_LISTAGEM = Campos.incluir(ArtistaListagem.CAMPOS, "tipoDescricao");
+
     @Autowired
     private ArtistaRepository artistaRepository;
     
     @Autowired
     private NotificationService notificationService;
+
+    @Autowired
+    private CatalogoCache catalogoCache;
     
     /**
      * Lista artistas com paginação, filtro e ordenação.
@@ -40,31 +71,71 @@ public class ArtistaService {
      * @param size Tamanho da página
      * @param sortBy Campo para ordenação
      * @param sortDir Direção da ordenação (asc/desc)
+     * @param fields Campos da resposta, separados por vírgula (opcional; ver {@link #CAMPOS_LISTAGEM})
      * @return Página de artistas
+     * @throws IllegalArgumentException Se algum campo de fields for inválido
      */
     @Transactional(readOnly = true)
-    public Page<ArtistaResponse> listar(String nome, int page, int size, String sortBy, String sortDir) {
-        logger.info("Listando artistas - nome: {}, page: {}, size: {}, sortBy: {}, sortDir: {}",
-                nome, page, size, sortBy, sortDir);
+    public Page<ArtistaResponse> listar(String nome, int page, int size, String sortBy, String sortDir, String fields) {
+        logger.info("Listando artistas - nome: {}, page: {}, size: {}, sortBy: {}, sortDir: {}, fields: {}",
+                nome, page, size, sortBy, sortDir, fields);
 
+        Set<String> campos = colunas(fields);
         Sort sort = Sort.by(sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Object[]> pageResult;
+        Specification<Artista> spec = comFiltros(nome);
+        Page<ArtistaListagem> pageResult = artistaRepository.findListagem(spec, pageable, campos);
 
-        if (nome != null && !nome.trim().isEmpty()) {
-            pageResult = artistaRepository.findByNomeWithAlbumCount(nome.trim(), pageable);
-        } else {
-            pageResult = artistaRepository.findAllWithAlbumCount(pageable);
+        return pageResult.map(ArtistaResponse::fromListagem);
+    }
+    
+    /**
+     * Lista artistas com paginação por cursor (keyset), sem OFFSET e sem contagem.
+     *
+     * @param nome Filtro por nome (opcional)
+     * @param after Cursor devolvido pela página anterior (opcional)
+     * @param size Tamanho da página
+     * @param sortBy Campo para ordenação (nome, tipo, anoFormacao, totalAlbuns)
+     * @param sortDir Direção da ordenação (asc/desc)
+     * @param fields Campos da resposta, separados por vírgula (opcional; ver {@link #CAMPOS_LISTAGEM})
+     * @return Página de artistas com o cursor da próxima página
+     * @throws IllegalArgumentException Se o cursor, o campo de ordenação, o tamanho ou os campos forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArtistaResponse> listarCursor(String nome, String after, int size, String sortBy, String sortDir,
+            String fields) {
+        logger.info("Listando artistas por cursor - nome: {}, size: {}, sortBy: {}, sortDir: {}, fields: {}",
+                nome, size, sortBy, sortDir, fields);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero");
         }
 
-        return pageResult.map(obj -> {
-            Artista artista = (Artista) obj[0];
-            Long totalAlbuns = (Long) obj[1];
-            return ArtistaResponse.fromEntityWithAlbumCount(artista, totalAlbuns);
-        });
+        Keyset.Campo<ArtistaListagem> campo = Keyset.campo(CAMPOS_CURSOR, sortBy);
+        // O valor do campo de ordenação compõe o cursor, mesmo fora da seleção
+        Set<String> campos = Campos.incluir(colunas(fields), campo.nome());
+        Sort.Direction direcao = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        Specification<Artista> spec = comFiltros(nome);
+        if (after != null && !after.isBlank()) {
+            spec = spec.and(Keyset.apos(campo, Keyset.Cursor.decode(after), direcao));
+        }
+
+        Sort sort = Keyset.ordenacao(campo, direcao);
+        List<ArtistaListagem> linhas = artistaRepository.findListagem(spec, sort, size + 1, campos);
+
+        return Keyset.pagina(linhas, size, campo, ArtistaListagem::id).map(ArtistaResponse::fromListagem);
     }
-    
+
+    /**
+     * Colunas da projeção a ler para os campos pedidos em fields.
+     */
+    private static Set<String> colunas(String fields) {
+        Set<String> campos = Campos.selecionar(fields, CAMPOS_LISTAGEM);
+        return campos.contains("tipoDescricao") ? Campos.incluir(campos, "tipo") : campos;
+    }
+
     /**
      * Busca artista por ID.
      *
@@ -73,6 +144,7 @@ public class ArtistaService {
      * @throws EntityNotFoundException Se não encontrar
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ARTISTAS, key = "#id")
     public ArtistaResponse buscarPorId(Long id) {
         logger.info("Buscando artista por ID: {}", id);
 
@@ -82,6 +154,29 @@ public class ArtistaService {
         return ArtistaResponse.fromEntity(artista);
     }
 
+    /**
+     * Data da última alteração do artista, lida sem carregar a entidade
+     * (validadores HTTP de {@link #buscarPorId}).
+     *
+     * @param id ID do artista
+     * @return Data de atualização; vazio se o artista não existir
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> ultimaAlteracao(Long id) {
+        return artistaRepository.findUpdatedAtById(id);
+    }
+
+    /**
+     * Data da última alteração entre todos os artistas (validadores HTTP das
+     * listagens de artistas).
+     *
+     * @return Maior data de atualização; vazio se não houver artistas
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> ultimaAlteracao() {
+        return artistaRepository.findUltimaAlteracao();
+    }
+
     /**
      * Cria um novo artista.
      *
@@ -132,6 +227,8 @@ public class ArtistaService {
             throw new IllegalArgumentException("Já existe um artista com este nome: " + request.getNome());
         }
 
+        boolean nomeAlterado = !artista.getNome().equals(request.getNome());
+
         artista.setNome(request.getNome());
         artista.setTipo(request.getTipo());
         artista.setPaisOrigem(request.getPaisOrigem());
@@ -141,6 +238,12 @@ public class ArtistaService {
         artista = artistaRepository.save(artista);
         logger.info("Artista atualizado: {}", artista.getId());
 
+        catalogoCache.evictArtista(id);
+        if (nomeAlterado) {
+            // Os álbuns em cache carregam o nome do artista
+            artista.getAlbuns().stream().map(Album::getId).forEach(catalogoCache::evictAlbum);
+        }
+
         var response = ArtistaResponse.fromEntity(artista);
         response.setUpdatedAt(LocalDateTime.now());
         
@@ -165,6 +268,8 @@ public class ArtistaService {
         // Soft delete
         artista.setAtivo(false);
         artistaRepository.save(artista);
+
+        catalogoCache.evictArtista(id);
         
         notificationService.notifyArtistaDeleted(id);
         
@@ -183,4 +288,81 @@ public class ArtistaService {
         return artistaRepository.findByIdAndAtivoTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException("Artista não encontrado com ID: " + id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Ajusta o total de álbuns do artista na transação de quem cria, remove
+     * ou reatribui o álbum, atualizando também updated_at (o total faz parte
+     * da resposta do artista). A invalidação do cache fica com quem chama.
+     *
+     * @param artistaId ID do artista
+     * @param delta Variação (+1 ao ganhar um álbum, -1 ao perder)
+     */
+    @Transactional
+    public void ajustarTotalAlbuns(Long artistaId, int delta) {
+        artistaRepository.ajustarTotalAlbuns(artistaId, delta, LocalDateTime.now());
+    }
+
+    /**
+     * Reatribui um álbum entre dois artistas, ajustando os dois totais em
+     * ordem crescente de id, a mesma do bloqueio do recálculo: duas
+     * reatribuições em sentidos opostos (A→B e B→A) não se bloqueiam
+     * mutuamente.
+     *
+     * @param origemId ID do artista que perde o álbum
+     * @param destinoId ID do artista que ganha o álbum
+     */
+    @Transactional
+    public void moverAlbum(Long origemId, Long destinoId) {
+        if (origemId < destinoId) {
+            ajustarTotalAlbuns(origemId, -1);
+            ajustarTotalAlbuns(destinoId, 1);
+        } else {
+            ajustarTotalAlbuns(destinoId, 1);
+            ajustarTotalAlbuns(origemId, -1);
+        }
+    }
+
+    /**
+     * Recalcula o total de álbuns de todos os artistas a partir da tabela de
+     * álbuns, corrigindo eventuais divergências do contador.
+     *
+     * Os artistas são bloqueados antes da agregação: em READ COMMITTED, um
+     * ajuste concorrente gravado durante o UPDATE seria sobrescrito pela
+     * contagem tirada antes dele.
+     *
+     * @return Quantidade de artistas corrigidos
+     */
+    @Transactional
+    public int recalcularTotalAlbuns() {
+        artistaRepository.bloquearTodos();
+        int corrigidos = artistaRepository.recalcularTotalAlbuns(LocalDateTime.now());
+        if (corrigidos > 0) {
+            logger.warn("Total de álbuns corrigido em {} artistas", corrigidos);
+            catalogoCache.evictArtistas();
+        }
+        return corrigidos;
+    }
+
+    /**
+     * Filtros da listagem: artistas ativos e, se informado, nome contido em
+     * nome_busca (indexada por trigramas).
+     *
+     * @param nome Filtro por nome (opcional; vazio é ignorado, e o termo é
+     *             aparado e normalizado com {@code StringUtils.normalizar})
+     * @return Specification dos filtros
+     */
+    public static Specification<Artista> comFiltros(String nome) {
+        String termo = nome != null && !nome.isBlank() ? StringUtils.normalizar(nome.trim()) : null;
+
+        return (root, query, cb) -> {
+            if (termo == null) {
+                return cb.isTrue(root.get("ativo"));
+            }
+
+            return cb.and(
+                    cb.isTrue(root.get("ativo")),
+                    cb.like(root.get("nomeBusca"), "%" + termo + "%")
+            );
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.projeto.backend.domain.genero;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+/**
+ * Gênero musical dos álbuns.
+ *
+ * Gêneros que diferem apenas em maiúsculas ou espaços nas pontas são o
+ * mesmo gênero (mesma chave); o nome é o da primeira ocorrência.
+ */
+@Entity
+@Table(name = "genero")
+public class Genero {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "nome", nullable = false, length = 100)
+    private String nome;
+
+    @Column(name = "chave", nullable = false, unique = true, length = 100)
+    private String chave;
+
+    /**
+     * Total de álbuns ativos do gênero. Mantido apenas por UPDATE atômico no
+     * banco ({@link GeneroRepository#ajustarTotalAlbuns}) e pelo reparo
+     * periódico; nunca é gravado a partir da entidade.
+     */
+    @ColumnDefault("0")
+    @Column(name = "total_albuns", nullable = false, insertable = false, updatable = false)
+    private int totalAlbuns;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public Genero() {
+    }
+
+    public Genero(String nome) {
+        this.nome = nome.trim();
+        this.chave = chave(nome);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Chave de comparação do gênero (sem espaços nas pontas, minúscula).
+     */
+    public static String chave(String nome) {
+        return nome.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public int getTotalAlbuns() {
+        return totalAlbuns;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.projeto.backend.domain.genero;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeneroRepository extends JpaRepository<Genero, Long> {
+
+    /**
+     * Busca gênero pela chave (ver {@link Genero#chave}).
+     *
+     * @param chave Chave do gênero
+     * @return Optional com o gênero
+     */
+    Optional<Genero> findByChave(String chave);
+
+    /**
+     * Busca gêneros por chave em uma única consulta.
+     *
+     * @param chaves Chaves dos gêneros
+     * @return Gêneros encontrados
+     */
+    List<Genero> findByChaveIn(Collection<String> chaves);
+
+    /**
+     * Lista os gêneros com ao menos um álbum ativo, ordenados por nome.
+     *
+     * @return Lista de gêneros
+     */
+    @Query("SELECT g FROM Genero g WHERE g.totalAlbuns > 0 ORDER BY g.nome")
+    List<Genero> findComAlbuns();
+
+    /**
+     * Soma {@code delta} ao total de álbuns do gênero em um único UPDATE,
+     * sem ler o valor atual.
+     *
+     * @param id ID do gênero
+     * @param delta Variação (positiva ou negativa)
+     * @return Quantidade de gêneros atualizados
+     */
+    @Modifying
+    @Query(value = "UPDATE genero SET total_albuns = total_albuns + :delta WHERE id = :id", nativeQuery = true)
+    int ajustarTotalAlbuns(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Bloqueia todos os gêneros, em ordem de ID, até o fim da transação
+     * (mesmo motivo de {@code ArtistaRepository.bloquearTodos}).
+     *
+     * @return IDs bloqueados
+     */
+    @Query(value = "SELECT id FROM genero ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearTodos();
+
+    /**
+     * Recalcula o total de álbuns ativos de todos os gêneros em um único
+     * comando, gravando apenas os totais divergentes. Requer
+     * {@link #bloquearTodos} na mesma transação.
+     *
+     * @return Quantidade de gêneros corrigidos
+     */
+    @Modifying
+    @Query(value = "MERGE INTO genero g " +
+                   "USING (SELECT ge.id, COUNT(al.id) AS total FROM genero ge " +
+                   "       LEFT JOIN album al ON al.genero_id = ge.id AND al.ativo = TRUE " +
+                   "       GROUP BY ge.id) c ON c.id = g.id " +
+                   "WHEN MATCHED AND g.total_albuns <> c.total THEN " +
+                   "UPDATE SET total_albuns = c.total", nativeQuery = true)
+    int recalcularTotalAlbuns();
+}
@@ -0,0 +1,257 @@
+package com.projeto.backend.domain.genero;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serviço dos gêneros musicais.
+ *
+ * A lista de gêneros é servida de um snapshot imutável em memória, trocado
+ * por inteiro (referência volátil) após o commit de cada escrita de álbum
+ * nesta instância. Alterações feitas em outras instâncias aparecem quando o
+ * snapshot expira (cache.generos.ttl).
+ */
+@Service
+public class GeneroService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneroService.class);
+
+    private final GeneroRepository generoRepository;
+    private final TransactionTemplate novaTransacao;
+    private final TransactionTemplate novaLeitura;
+    private final Duration ttl;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param ttl Validade do snapshot sem escritas nesta instância
+     */
+    public GeneroService(GeneroRepository generoRepository, PlatformTransactionManager transactionManager,
+            @Value("${cache.generos.ttl:30m}") Duration ttl) {
+        this.generoRepository = generoRepository;
+        this.ttl = ttl;
+
+        this.novaTransacao = new TransactionTemplate(transactionManager);
+        this.novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.novaLeitura = new TransactionTemplate(transactionManager);
+        this.novaLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.novaLeitura.setReadOnly(true);
+    }
+
+    /**
+     * Lista os nomes dos gêneros com ao menos um álbum ativo, em ordem alfabética.
+     *
+     * @return Lista imutável de gêneros
+     */
+    public List<String> listarNomes() {
+        return snapshotAtual().nomes();
+    }
+
+    /**
+     * Busca o ID do gênero pelo nome, sem diferenciar maiúsculas.
+     *
+     * @param nome Nome do gênero
+     * @return ID do gênero; vazio se não existir
+     */
+    public Optional<Long> buscarId(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return Optional.empty();
+        }
+
+        String chave = Genero.chave(nome);
+        Long id = snapshotAtual().ids().get(chave);
+        if (id != null) {
+            return Optional.of(id);
+        }
+
+        // Gênero ainda fora do snapshot (sem álbuns ou criado em outra instância)
+        return generoRepository.findByChave(chave).map(Genero::getId);
+    }
+
+    /**
+     * Retorna o ID do gênero, criando-o se ainda não existir.
+     *
+     * @param nome Nome do gênero (opcional)
+     * @return ID do gênero; null se o nome for vazio
+     */
+    @Transactional
+    public Long resolverId(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return null;
+        }
+        return resolverIds(List.of(nome)).get(Genero.chave(nome));
+    }
+
+    /**
+     * Retorna os IDs dos gêneros, criando os que ainda não existirem.
+     * Os existentes são lidos em uma única consulta.
+     *
+     * @param nomes Nomes dos gêneros (vazios são ignorados)
+     * @return IDs por chave do gênero (ver {@link Genero#chave})
+     */
+    @Transactional
+    public Map<String, Long> resolverIds(Collection<String> nomes) {
+        Map<String, String> porChave = new LinkedHashMap<>();
+        for (String nome : nomes) {
+            if (nome != null && !nome.isBlank()) {
+                porChave.putIfAbsent(Genero.chave(nome), nome);
+            }
+        }
+        if (porChave.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        generoRepository.findByChaveIn(porChave.keySet())
+                .forEach(genero -> ids.put(genero.getChave(), genero.getId()));
+
+        porChave.forEach((chave, nome) -> ids.computeIfAbsent(chave, c -> criar(nome)));
+        return ids;
+    }
+
+    /**
+     * Cria o gênero em transação própria, para que uma criação concorrente do
+     * mesmo gênero não invalide a transação de quem grava o álbum.
+     */
+    private Long criar(String nome) {
+        try {
+            Long id = novaTransacao.execute(status -> generoRepository.saveAndFlush(new Genero(nome)).getId());
+            logger.info("Gênero criado: {} (ID {})", nome.trim(), id);
+            return id;
+        } catch (DataIntegrityViolationException e) {
+            return generoRepository.findByChave(Genero.chave(nome))
+                    .orElseThrow(() -> e)
+                    .getId();
+        }
+    }
+
+    /**
+     * Ajusta o total de álbuns do gênero na transação de quem grava o álbum.
+     *
+     * @param generoId ID do gênero (ignorado se null)
+     * @param delta Variação (+1 ao ganhar um álbum, -1 ao perder)
+     */
+    @Transactional
+    public void ajustarTotalAlbuns(Long generoId, int delta) {
+        if (generoId != null) {
+            generoRepository.ajustarTotalAlbuns(generoId, delta);
+        }
+    }
+
+    /**
+     * Reatribui um álbum entre dois gêneros, ajustando os totais em ordem
+     * crescente de id, como em {@code ArtistaService#moverAlbum}.
+     *
+     * @param origemId ID do gênero que perde o álbum (ignorado se null)
+     * @param destinoId ID do gênero que ganha o álbum (ignorado se null)
+     */
+    @Transactional
+    public void moverAlbum(Long origemId, Long destinoId) {
+        if (destinoId == null || (origemId != null && origemId < destinoId)) {
+            ajustarTotalAlbuns(origemId, -1);
+            ajustarTotalAlbuns(destinoId, 1);
+        } else {
+            ajustarTotalAlbuns(destinoId, 1);
+            ajustarTotalAlbuns(origemId, -1);
+        }
+    }
+
+    /**
+     * Recalcula o total de álbuns de todos os gêneros a partir da tabela de
+     * álbuns, corrigindo eventuais divergências do contador. Os gêneros são
+     * bloqueados antes da agregação, como em {@code ArtistaService}.
+     *
+     * @return Quantidade de gêneros corrigidos
+     */
+    @Transactional
+    public int recalcularTotalAlbuns() {
+        generoRepository.bloquearTodos();
+        int corrigidos = generoRepository.recalcularTotalAlbuns();
+        if (corrigidos > 0) {
+            logger.warn("Total de álbuns corrigido em {} gêneros", corrigidos);
+            recarregarAposCommit();
+        }
+        return corrigidos;
+    }
+
+    /**
+     * Recarrega o snapshot após o commit da transação corrente (ou
+     * imediatamente, fora de transação).
+     */
+    public void recarregarAposCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recarregar();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recarregar();
+            }
+        });
+    }
+
+    private Snapshot snapshotAtual() {
+        Snapshot atual = snapshot;
+        if (atual != null && !atual.expirado(ttl)) {
+            return atual;
+        }
+
+        synchronized (this) {
+            atual = snapshot;
+            if (atual != null && !atual.expirado(ttl)) {
+                return atual;
+            }
+            return recarregar();
+        }
+    }
+
+    /**
+     * Lê os gêneros e troca o snapshot. Sincronizado para que uma leitura
+     * mais antiga não substitua uma mais recente.
+     */
+    private synchronized Snapshot recarregar() {
+        List<Genero> generos = novaLeitura.execute(status -> generoRepository.findComAlbuns());
+
+        Map<String, Long> ids = new HashMap<>();
+        generos.forEach(genero -> ids.put(genero.getChave(), genero.getId()));
+
+        Snapshot novo = new Snapshot(
+                generos.stream().map(Genero::getNome).toList(),
+                Map.copyOf(ids),
+                System.nanoTime());
+        snapshot = novo;
+
+        logger.debug("Snapshot de gêneros recarregado: {} gêneros", novo.nomes().size());
+        return novo;
+    }
+
+    /**
+     * Gêneros com álbuns ativos: nomes em ordem alfabética e IDs por chave.
+     */
+    private record Snapshot(List<String> nomes, Map<String, Long> ids, long carregadoEm) {
+
+        private boolean expirado(Duration ttl) {
+            return System.nanoTime() - carregadoEm > ttl.toNanos();
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.projeto.backend.domain.regional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -35,4 +37,11 @@ public interface RegionalRepository extends JpaRepository<Regional, Integer> {
      */
     List<Regional> findByAtivoTrueOrderByNomeAsc();
 
+    /**
+     * Data da última alteração entre todas as regionais, inclusive inativas
+     * (a sincronização também atualiza updated_at ao inativar).
+     */
+    @Query("SELECT MAX(r.updatedAt) FROM Regional r")
+    Optional<LocalDateTime> findUltimaAlteracao();
+
 }
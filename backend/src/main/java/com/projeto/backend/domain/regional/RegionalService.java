@@ -1,11 +1,14 @@
 package com.projeto.backend.domain.regional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +16,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.projeto.backend.config.CacheConfig;
 import com.projeto.backend.web.dto.regional.RegionalResponse;
 
 @Service
@@ -42,6 +46,7 @@ public class RegionalService {
     }
 	
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.REGIONAIS, key = "'todos'")
     public List<RegionalResponse> listarTodas() {
         logger.info("Listando todas as regionais ativas");
 
@@ -50,4 +55,15 @@ public class RegionalService {
                 .map(RegionalResponse::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Data da última alteração entre todas as regionais (validadores HTTP das
+     * listagens de regionais).
+     *
+     * @return Maior data de atualização; vazio se não houver regionais
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> ultimaAlteracao() {
+        return regionalRepository.findUltimaAlteracao();
+    }
 }
@@ -0,0 +1,80 @@
+package com.projeto.backend.domain.regional;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Estado da última sincronização concluída de um feed de regionais:
+ * validadores HTTP (ETag / Last-Modified) e hash do conteúdo recebido.
+ */
+@Entity
+@Table(name = "regional_sync_estado")
+public class RegionalSyncEstado {
+
+    @Id
+    @Column(name = "api_url", length = 500)
+    private String apiUrl;
+
+    @Column(name = "etag", length = 500)
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public RegionalSyncEstado() {
+    }
+
+    public RegionalSyncEstado(String apiUrl) {
+        this.apiUrl = apiUrl;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getApiUrl() {
+        return apiUrl;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.projeto.backend.domain.regional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegionalSyncEstadoRepository extends JpaRepository<RegionalSyncEstado, String> {
+}
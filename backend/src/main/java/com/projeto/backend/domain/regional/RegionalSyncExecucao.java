@@ -0,0 +1,122 @@
+package com.projeto.backend.domain.regional;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Execução da sincronização de regionais, registrada ao final de cada
+ * execução que obteve o lease.
+ */
+@Entity
+@Table(name = "regional_sync_execucao")
+public class RegionalSyncExecucao {
+
+    public enum Origem {
+        MANUAL,
+        AGENDADA
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "origem", nullable = false, length = 20)
+    private Origem origem;
+
+    @Column(name = "instancia", nullable = false, length = 200)
+    private String instancia;
+
+    @Column(name = "iniciado_em", nullable = false)
+    private LocalDateTime iniciadoEm;
+
+    @Column(name = "duracao_ms", nullable = false)
+    private long duracaoMs;
+
+    @Column(name = "sucesso", nullable = false)
+    private boolean sucesso;
+
+    @Column(name = "novos", nullable = false)
+    private int novos;
+
+    @Column(name = "atualizados", nullable = false)
+    private int atualizados;
+
+    @Column(name = "inativados", nullable = false)
+    private int inativados;
+
+    @Column(name = "bytes_recebidos", nullable = false)
+    private long bytesRecebidos;
+
+    @Column(name = "mensagem", length = 500)
+    private String mensagem;
+
+    public RegionalSyncExecucao() {
+    }
+
+    public RegionalSyncExecucao(Origem origem, String instancia, LocalDateTime iniciadoEm, long duracaoMs,
+            boolean sucesso, int novos, int atualizados, int inativados, long bytesRecebidos, String mensagem) {
+        this.origem = origem;
+        this.instancia = instancia;
+        this.iniciadoEm = iniciadoEm;
+        this.duracaoMs = duracaoMs;
+        this.sucesso = sucesso;
+        this.novos = novos;
+        this.atualizados = atualizados;
+        this.inativados = inativados;
+        this.bytesRecebidos = bytesRecebidos;
+        this.mensagem = mensagem;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Origem getOrigem() {
+        return origem;
+    }
+
+    public String getInstancia() {
+        return instancia;
+    }
+
+    public LocalDateTime getIniciadoEm() {
+        return iniciadoEm;
+    }
+
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public int getNovos() {
+        return novos;
+    }
+
+    public int getAtualizados() {
+        return atualizados;
+    }
+
+    public int getInativados() {
+        return inativados;
+    }
+
+    public long getBytesRecebidos() {
+        return bytesRecebidos;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
@@ -0,0 +1,21 @@
+package com.projeto.backend.domain.regional;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegionalSyncExecucaoRepository extends JpaRepository<RegionalSyncExecucao, Long> {
+
+    /**
+     * Últimas execuções, da mais recente para a mais antiga.
+     */
+    List<RegionalSyncExecucao> findTop20ByOrderByIniciadoEmDesc();
+
+    /**
+     * Última execução concluída com sucesso.
+     */
+    Optional<RegionalSyncExecucao> findFirstBySucessoTrueOrderByIniciadoEmDesc();
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetails;
  */
 @Entity
 @Table(name = "usuario")
+@EntityListeners(UsuarioEntityListener.class)
 public class Usuario implements UserDetails {
 
     /**
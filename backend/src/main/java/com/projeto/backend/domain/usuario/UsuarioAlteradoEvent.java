@@ -0,0 +1,13 @@
+package com.projeto.backend.domain.usuario;
+
+/**
+ * Evento publicado quando um usuário é atualizado ou removido.
+ *
+ * Consumido após o commit para invalidar estados derivados do usuário,
+ * como os principals autenticados mantidos em cache.
+ *
+ * @param usuarioId ID do usuário alterado
+ * @param username Username atual do usuário
+ */
+public record UsuarioAlteradoEvent(Long usuarioId, String username) {
+}
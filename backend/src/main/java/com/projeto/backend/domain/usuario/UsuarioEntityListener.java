@@ -0,0 +1,27 @@
+package com.projeto.backend.domain.usuario;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que publica {@link UsuarioAlteradoEvent} sempre que um
+ * usuário é atualizado (inclusive desativado) ou removido.
+ *
+ * Instanciado pelo Hibernate através do container de beans do Spring.
+ */
+public class UsuarioEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    void aoAlterar(Usuario usuario) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new UsuarioAlteradoEvent(usuario.getId(), usuario.getUsername()));
+        }
+    }
+}
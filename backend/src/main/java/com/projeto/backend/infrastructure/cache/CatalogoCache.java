@@ -0,0 +1,63 @@
+package com.projeto.backend.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.projeto.backend.config.CacheConfig;
+
+/**
+ * Invalidação pontual das entradas do cache de catálogo.
+ *
+ * Usado pelos serviços quando a chave afetada não pode ser expressa por
+ * anotação (ex.: o artista anterior de um álbum reatribuído). Dentro de uma
+ * transação a remoção é adiada para após o commit (ver {@link CacheConfig}).
+ */
+@Component
+public class CatalogoCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogoCache.class);
+
+    private static final String TODOS = "todos";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public void evictAlbum(Long albumId) {
+        evict(CacheConfig.ALBUNS, albumId);
+    }
+
+    public void evictArtista(Long artistaId) {
+        evict(CacheConfig.ARTISTAS, artistaId);
+    }
+
+    /**
+     * Remove todos os artistas do cache (ex.: após recalcular os totais de álbuns).
+     */
+    public void evictArtistas() {
+        Cache cache = cacheManager.getCache(CacheConfig.ARTISTAS);
+        if (cache != null) {
+            cache.clear();
+            logger.debug("Cache {} esvaziado", CacheConfig.ARTISTAS);
+        }
+    }
+
+    public void evictRegionais() {
+        evict(CacheConfig.REGIONAIS, TODOS);
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            logger.debug("Cache {} invalidado para a chave {}", cacheName, key);
+        }
+    }
+}
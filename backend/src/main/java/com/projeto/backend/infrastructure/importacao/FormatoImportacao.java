@@ -0,0 +1,39 @@
+package com.projeto.backend.infrastructure.importacao;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos pela importação em lote.
+ */
+public enum FormatoImportacao {
+
+    /** Um objeto JSON por linha (application/x-ndjson). */
+    NDJSON,
+
+    /** CSV com cabeçalho na primeira linha (text/csv). */
+    CSV;
+
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+
+    /**
+     * Resolve o formato a partir do Content-Type da requisição.
+     *
+     * @param contentType Valor do header Content-Type
+     * @return Formato correspondente
+     * @throws IllegalArgumentException se o tipo não for suportado
+     */
+    public static FormatoImportacao fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(MEDIA_TYPE_NDJSON))) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(MEDIA_TYPE_CSV))) {
+                return CSV;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Formato de importação não suportado: " + contentType + ". Use " + MEDIA_TYPE_NDJSON + " ou " + MEDIA_TYPE_CSV);
+    }
+}
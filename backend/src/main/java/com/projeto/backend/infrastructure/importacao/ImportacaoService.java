@@ -0,0 +1,470 @@
+package com.projeto.backend.infrastructure.importacao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projeto.backend.domain.genero.Genero;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.shared.StringUtils;
+import com.projeto.backend.web.dto.album.AlbumRequest;
+import com.projeto.backend.web.dto.artista.ArtistaRequest;
+import com.projeto.backend.web.dto.importacao.ImportacaoResponse;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Importação em lote de artistas e álbuns.
+ *
+ * O arquivo (NDJSON ou CSV) é lido de forma incremental e cada registro é
+ * validado com as mesmas regras de {@link ArtistaRequest} e {@link AlbumRequest}.
+ * Os registros válidos são agrupados em lotes; cada lote é gravado em uma
+ * transação própria via JDBC batch (com reWriteBatchedInserts no driver
+ * do Postgres, um único INSERT multi-linha), após verificar conflitos em
+ * uma consulta por lote. Uma notificação WebSocket é enviada por lote.
+ *
+ * Os registros são convertidos pelo JsonMapper da aplicação; colunas ou
+ * propriedades desconhecidas são ignoradas.
+ */
+@Service
+public class ImportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoService.class);
+
+    private static final String INSERT_ARTISTA = """
+            INSERT INTO artista (nome, nome_busca, tipo, pais_origem, ano_formacao, biografia, ativo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+            """;
+
+    private static final int[] TIPOS_ARTISTA = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private static final String INSERT_ALBUM = """
+            INSERT INTO album (artista_id, nome, nome_busca, ano_lancamento, gravadora, genero, genero_id,
+                               total_faixas, duracao_total, descricao, ativo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+            """;
+
+    private static final int[] TIPOS_ALBUM = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+            Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private static final String SOMAR_TOTAL_ALBUNS =
+            "UPDATE artista SET total_albuns = total_albuns + ?, updated_at = ? WHERE id = ?";
+
+    private static final String SOMAR_TOTAL_ALBUNS_GENERO = "UPDATE genero SET total_albuns = total_albuns + ? WHERE id = ?";
+
+    private static final int[] TIPOS_TOTAL_ALBUNS = { Types.INTEGER, Types.TIMESTAMP, Types.BIGINT };
+
+    private static final int[] TIPOS_TOTAL_ALBUNS_GENERO = { Types.INTEGER, Types.BIGINT };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private CatalogoCache catalogoCache;
+
+    @Autowired
+    private GeneroService generoService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Value("${importacao.batch-size:500}")
+    private int batchSizePadrao;
+
+    @Value("${importacao.max-batch-size:5000}")
+    private int batchSizeMaximo;
+
+    @Value("${importacao.max-erros:1000}")
+    private int maxErros;
+
+    @Value("${importacao.max-tamanho-linha:65536}")
+    private int maxTamanhoLinha;
+
+    @Value("${importacao.max-tamanho-campo:10000}")
+    private int maxTamanhoCampo;
+
+    /**
+     * Importa artistas. Nomes já cadastrados (ou repetidos no arquivo) são rejeitados.
+     *
+     * @param entrada Conteúdo do arquivo
+     * @param formato Formato do arquivo
+     * @param batchSize Tamanho do lote (opcional)
+     * @return Resumo da importação com erros por linha
+     */
+    public ImportacaoResponse importarArtistas(InputStream entrada, FormatoImportacao formato, Integer batchSize) {
+        return importar("artistas", entrada, formato, batchSize, ArtistaRequest.class, new GravadorArtistas());
+    }
+
+    /**
+     * Importa álbuns. Registros de artistas inexistentes ou inativos são rejeitados.
+     *
+     * @param entrada Conteúdo do arquivo
+     * @param formato Formato do arquivo
+     * @param batchSize Tamanho do lote (opcional)
+     * @return Resumo da importação com erros por linha
+     */
+    public ImportacaoResponse importarAlbuns(InputStream entrada, FormatoImportacao formato, Integer batchSize) {
+        return importar("albuns", entrada, formato, batchSize, AlbumRequest.class, new GravadorAlbuns());
+    }
+
+    private <T> ImportacaoResponse importar(
+            String entidade,
+            InputStream entrada,
+            FormatoImportacao formato,
+            Integer batchSize,
+            Class<T> tipo,
+            GravadorLote<T> gravador
+    ) {
+        int tamanhoLote = resolverTamanhoLote(batchSize);
+        logger.info("Iniciando importação de {} ({}, lotes de {})", entidade, formato, tamanhoLote);
+
+        Resultado resultado = new Resultado(maxErros);
+        List<Linha<T>> lote = new ArrayList<>(tamanhoLote);
+        ObjectReader conversor = jsonMapper.readerFor(tipo)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        try (LeitorImportacao leitor = new LeitorImportacao(entrada, formato, jsonMapper,
+                maxTamanhoLinha, maxTamanhoCampo)) {
+            LeitorImportacao.Registro registro;
+            while ((registro = leitor.proximo()) != null) {
+                resultado.totalRegistros++;
+
+                T valor = converter(registro, conversor, resultado);
+                if (valor != null) {
+                    lote.add(new Linha<>(registro.linha(), valor));
+                }
+
+                if (lote.size() == tamanhoLote) {
+                    gravarLote(entidade, lote, gravador, resultado);
+                    lote.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Falha ao ler o arquivo de importação: " + e.getMessage(), e);
+        }
+
+        if (!lote.isEmpty() || resultado.rejeitadosNoLote > 0) {
+            gravarLote(entidade, lote, gravador, resultado);
+        }
+
+        logger.info("Importação de {} concluída: {} registros, {} importados, {} rejeitados, {} lotes",
+                entidade, resultado.totalRegistros, resultado.importados, resultado.rejeitados, resultado.lotes);
+
+        return resultado.toResponse();
+    }
+
+    private <T> T converter(LeitorImportacao.Registro registro, ObjectReader conversor, Resultado resultado) {
+        if (registro.erro() != null) {
+            resultado.rejeitar(registro.linha(), registro.erro());
+            return null;
+        }
+
+        T valor;
+        try {
+            valor = conversor.readValue(registro.campos());
+        } catch (JacksonException e) {
+            resultado.rejeitar(registro.linha(), "Valor inválido: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violacoes = validator.validate(valor);
+        if (!violacoes.isEmpty()) {
+            resultado.rejeitar(registro.linha(), violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        return valor;
+    }
+
+    private <T> void gravarLote(String entidade, List<Linha<T>> lote, GravadorLote<T> gravador, Resultado resultado) {
+        List<Linha<T>> aceitas = new ArrayList<>();
+
+        if (!lote.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    aceitas.addAll(gravador.filtrar(lote, resultado));
+                    if (!aceitas.isEmpty()) {
+                        gravador.inserir(aceitas);
+                    }
+                });
+                gravador.aposGravar(aceitas);
+                resultado.importados += aceitas.size();
+            } catch (DataAccessException e) {
+                String causa = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                logger.error("Falha ao gravar lote {} de {}: {}", resultado.lotes + 1, entidade, causa);
+                for (Linha<T> linha : aceitas.isEmpty() ? lote : aceitas) {
+                    resultado.rejeitar(linha.numero(), "Falha ao gravar o lote: " + causa);
+                }
+                aceitas.clear();
+            }
+        }
+
+        resultado.lotes++;
+        notificationService.notifyImportacaoLote(entidade, resultado.lotes, aceitas.size(), resultado.rejeitadosNoLote);
+        resultado.rejeitadosNoLote = 0;
+    }
+
+    private int resolverTamanhoLote(Integer batchSize) {
+        if (batchSize == null) {
+            return batchSizePadrao;
+        }
+        if (batchSize < 1 || batchSize > batchSizeMaximo) {
+            throw new IllegalArgumentException("batchSize deve estar entre 1 e " + batchSizeMaximo);
+        }
+        return batchSize;
+    }
+
+    private static Timestamp agora() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    /**
+     * Registro válido aguardando gravação, com a linha de origem para relatório de erros.
+     */
+    private record Linha<T>(long numero, T valor) {}
+
+    /**
+     * Etapas de gravação de um lote, executadas na mesma transação.
+     */
+    private interface GravadorLote<T> {
+
+        /** Rejeita os registros em conflito com o banco e retorna os demais. */
+        List<Linha<T>> filtrar(List<Linha<T>> lote, Resultado resultado);
+
+        /** Insere os registros aceitos via JDBC batch. */
+        void inserir(List<Linha<T>> linhas);
+
+        /** Executado após o commit do lote. */
+        void aposGravar(List<Linha<T>> linhas);
+    }
+
+    private class GravadorArtistas implements GravadorLote<ArtistaRequest> {
+
+        /** Nomes (em minúsculas) já importados neste arquivo. */
+        private final Set<String> nomesImportados = new HashSet<>();
+
+        @Override
+        public List<Linha<ArtistaRequest>> filtrar(List<Linha<ArtistaRequest>> lote, Resultado resultado) {
+            Set<String> nomes = lote.stream()
+                    .map(linha -> chaveNome(linha.valor()))
+                    .collect(Collectors.toSet());
+
+            Set<String> existentes = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    "SELECT LOWER(nome) FROM artista WHERE LOWER(nome) IN (:nomes)",
+                    Map.of("nomes", nomes),
+                    String.class));
+
+            Set<String> noLote = new HashSet<>();
+            List<Linha<ArtistaRequest>> aceitas = new ArrayList<>(lote.size());
+            for (Linha<ArtistaRequest> linha : lote) {
+                String nome = chaveNome(linha.valor());
+                if (existentes.contains(nome) || nomesImportados.contains(nome) || !noLote.add(nome)) {
+                    resultado.rejeitar(linha.numero(), "Já existe um artista com este nome: " + linha.valor().getNome());
+                } else {
+                    aceitas.add(linha);
+                }
+            }
+            return aceitas;
+        }
+
+        @Override
+        public void inserir(List<Linha<ArtistaRequest>> linhas) {
+            Timestamp agora = agora();
+            List<Object[]> parametros = new ArrayList<>(linhas.size());
+            for (Linha<ArtistaRequest> linha : linhas) {
+                ArtistaRequest artista = linha.valor();
+                parametros.add(new Object[] {
+                        artista.getNome(),
+                        StringUtils.normalizar(artista.getNome()),
+                        artista.getTipo().name(),
+                        artista.getPaisOrigem(),
+                        artista.getAnoFormacao(),
+                        artista.getBiografia(),
+                        agora,
+                        agora
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_ARTISTA, parametros, TIPOS_ARTISTA);
+        }
+
+        @Override
+        public void aposGravar(List<Linha<ArtistaRequest>> linhas) {
+            linhas.forEach(linha -> nomesImportados.add(chaveNome(linha.valor())));
+        }
+
+        private String chaveNome(ArtistaRequest artista) {
+            return artista.getNome().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private class GravadorAlbuns implements GravadorLote<AlbumRequest> {
+
+        @Override
+        public List<Linha<AlbumRequest>> filtrar(List<Linha<AlbumRequest>> lote, Resultado resultado) {
+            Set<Long> ids = lote.stream()
+                    .map(linha -> linha.valor().getArtistaId())
+                    .collect(Collectors.toSet());
+
+            Set<Long> ativos = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    "SELECT id FROM artista WHERE id IN (:ids) AND ativo = TRUE",
+                    Map.of("ids", ids),
+                    Long.class));
+
+            List<Linha<AlbumRequest>> aceitas = new ArrayList<>(lote.size());
+            for (Linha<AlbumRequest> linha : lote) {
+                Long artistaId = linha.valor().getArtistaId();
+                if (ativos.contains(artistaId)) {
+                    aceitas.add(linha);
+                } else {
+                    resultado.rejeitar(linha.numero(), "Artista não encontrado com ID: " + artistaId);
+                }
+            }
+            return aceitas;
+        }
+
+        @Override
+        public void inserir(List<Linha<AlbumRequest>> linhas) {
+            Map<String, Long> generos = generoService.resolverIds(
+                    linhas.stream().map(linha -> linha.valor().getGenero()).toList());
+
+            Timestamp agora = agora();
+            List<Object[]> parametros = new ArrayList<>(linhas.size());
+            Map<Long, Integer> totaisGenero = new TreeMap<>();
+            for (Linha<AlbumRequest> linha : linhas) {
+                AlbumRequest album = linha.valor();
+                Long generoId = album.getGenero() == null || album.getGenero().isBlank()
+                        ? null
+                        : generos.get(Genero.chave(album.getGenero()));
+                if (generoId != null) {
+                    totaisGenero.merge(generoId, 1, Integer::sum);
+                }
+                parametros.add(new Object[] {
+                        album.getArtistaId(),
+                        album.getNome(),
+                        StringUtils.normalizar(album.getNome()),
+                        album.getAnoLancamento(),
+                        album.getGravadora(),
+                        album.getGenero(),
+                        generoId,
+                        album.getTotalFaixas(),
+                        album.getDuracaoTotal(),
+                        album.getDescricao(),
+                        agora,
+                        agora
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_ALBUM, parametros, TIPOS_ALBUM);
+
+            // Um UPDATE por artista (e por gênero) do lote, em ordem de id para
+            // que lotes concorrentes bloqueiem as linhas na mesma ordem
+            Map<Long, Integer> totais = new TreeMap<>();
+            linhas.forEach(linha -> totais.merge(linha.valor().getArtistaId(), 1, Integer::sum));
+            // O total faz parte da resposta do artista: updated_at acompanha
+            List<Object[]> somas = new ArrayList<>(totais.size());
+            totais.forEach((id, total) -> somas.add(new Object[] { total, agora, id }));
+            jdbcTemplate.batchUpdate(SOMAR_TOTAL_ALBUNS, somas, TIPOS_TOTAL_ALBUNS);
+
+            if (!totaisGenero.isEmpty()) {
+                List<Object[]> somasGenero = new ArrayList<>(totaisGenero.size());
+                totaisGenero.forEach((id, total) -> somasGenero.add(new Object[] { total, id }));
+                jdbcTemplate.batchUpdate(SOMAR_TOTAL_ALBUNS_GENERO, somasGenero, TIPOS_TOTAL_ALBUNS_GENERO);
+            }
+        }
+
+        @Override
+        public void aposGravar(List<Linha<AlbumRequest>> linhas) {
+            if (linhas.isEmpty()) {
+                return;
+            }
+
+            Set<Long> artistas = new LinkedHashSet<>();
+            linhas.forEach(linha -> artistas.add(linha.valor().getArtistaId()));
+            artistas.forEach(catalogoCache::evictArtista);
+            generoService.recarregarAposCommit();
+        }
+    }
+
+    /**
+     * Acumulador do resultado; os erros detalhados são limitados para que
+     * arquivos grandes com muitos erros não esgotem a memória.
+     */
+    private static final class Resultado {
+
+        private final int maxErros;
+        private final List<ImportacaoResponse.ErroLinha> erros = new ArrayList<>();
+
+        private long totalRegistros;
+        private long importados;
+        private long rejeitados;
+        private long errosOmitidos;
+        private int rejeitadosNoLote;
+        private int lotes;
+
+        private Resultado(int maxErros) {
+            this.maxErros = maxErros;
+        }
+
+        private void rejeitar(long linha, String mensagem) {
+            rejeitados++;
+            rejeitadosNoLote++;
+            if (erros.size() < maxErros) {
+                erros.add(new ImportacaoResponse.ErroLinha(linha, mensagem));
+            } else {
+                errosOmitidos++;
+            }
+        }
+
+        private ImportacaoResponse toResponse() {
+            return new ImportacaoResponse(totalRegistros, importados, rejeitados, lotes, List.copyOf(erros), errosOmitidos);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.projeto.backend.infrastructure.importacao;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Leitura incremental dos registros de um arquivo de importação.
+ *
+ * Cada chamada a {@link #proximo()} consome apenas o próximo registro do
+ * stream, de modo que o arquivo nunca é carregado inteiro em memória.
+ * Registros em CSV são convertidos para objetos JSON usando o cabeçalho
+ * como nome dos campos; campos vazios são omitidos (tratados como nulos).
+ *
+ * Linhas NDJSON e registros CSV acima de maxTamanhoLinha caracteres, e
+ * campos CSV acima de maxTamanhoCampo, são rejeitados: o restante do
+ * registro é consumido sem ser guardado, de modo que um arquivo sem quebras
+ * de linha não é acumulado em memória.
+ */
+class LeitorImportacao implements Closeable {
+
+    /**
+     * Registro lido. Em caso de erro de formato, {@code campos} é nulo e
+     * {@code erro} descreve o problema.
+     *
+     * @param linha Linha (1-based) em que o registro começa
+     * @param campos Campos do registro
+     * @param erro Mensagem de erro de formato
+     */
+    record Registro(long linha, JsonNode campos, String erro) {
+
+        static Registro invalido(long linha, String erro) {
+            return new Registro(linha, null, erro);
+        }
+    }
+
+    private final BufferedReader reader;
+    private final FormatoImportacao formato;
+    private final JsonMapper jsonMapper;
+    private final int maxTamanhoLinha;
+    private final int maxTamanhoCampo;
+
+    private long linhaAtual = 0;
+    private List<String> cabecalho;
+
+    LeitorImportacao(InputStream entrada, FormatoImportacao formato, JsonMapper jsonMapper,
+            int maxTamanhoLinha, int maxTamanhoCampo) {
+        this.reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        this.formato = formato;
+        this.jsonMapper = jsonMapper;
+        this.maxTamanhoLinha = maxTamanhoLinha;
+        this.maxTamanhoCampo = maxTamanhoCampo;
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return Registro lido ou null ao fim do arquivo
+     */
+    Registro proximo() throws IOException {
+        return formato == FormatoImportacao.NDJSON ? proximoNdjson() : proximoCsv();
+    }
+
+    private Registro proximoNdjson() throws IOException {
+        while (true) {
+            String linha;
+            try {
+                linha = lerLinha();
+            } catch (IllegalArgumentException e) {
+                return Registro.invalido(linhaAtual, e.getMessage());
+            }
+            if (linha == null) {
+                return null;
+            }
+            if (linha.isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonNode campos = jsonMapper.readTree(linha);
+                if (!campos.isObject()) {
+                    return Registro.invalido(linhaAtual, "Linha não contém um objeto JSON");
+                }
+                return new Registro(linhaAtual, campos, null);
+            } catch (JacksonException e) {
+                return Registro.invalido(linhaAtual, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Lê uma linha, sem o terminador. Uma linha acima de maxTamanhoLinha é
+     * consumida até o fim sem ser guardada.
+     *
+     * @return Linha lida ou null ao fim do arquivo
+     * @throws IllegalArgumentException Se a linha exceder maxTamanhoLinha
+     */
+    private String lerLinha() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        linhaAtual++;
+
+        StringBuilder linha = new StringBuilder();
+        boolean excedida = false;
+        while (c != -1 && c != '\n') {
+            if (linha.length() < maxTamanhoLinha) {
+                linha.append((char) c);
+            } else if (c != '\r') {
+                excedida = true;
+            }
+            c = reader.read();
+        }
+
+        if (excedida) {
+            throw new IllegalArgumentException("Linha excede " + maxTamanhoLinha + " caracteres");
+        }
+        if (!linha.isEmpty() && linha.charAt(linha.length() - 1) == '\r') {
+            linha.setLength(linha.length() - 1);
+        }
+        return linha.toString();
+    }
+
+    private Registro proximoCsv() throws IOException {
+        if (cabecalho == null) {
+            List<String> colunas = lerRegistroCsv();
+            if (colunas == null) {
+                return null;
+            }
+            // Remove o BOM UTF-8, se presente
+            if (!colunas.isEmpty() && colunas.get(0).startsWith("\uFEFF")) {
+                colunas.set(0, colunas.get(0).substring(1));
+            }
+            cabecalho = colunas.stream().map(String::trim).toList();
+        }
+
+        List<String> valores;
+        long inicio;
+        do {
+            inicio = linhaAtual + 1;
+            try {
+                valores = lerRegistroCsv();
+            } catch (IllegalArgumentException e) {
+                return Registro.invalido(inicio, e.getMessage());
+            }
+            if (valores == null) {
+                return null;
+            }
+        } while (valores.size() == 1 && valores.get(0).isBlank());
+
+        if (valores.size() != cabecalho.size()) {
+            return Registro.invalido(inicio, String.format(
+                    "Quantidade de colunas (%d) diferente do cabeçalho (%d)", valores.size(), cabecalho.size()));
+        }
+
+        ObjectNode campos = jsonMapper.createObjectNode();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            String valor = valores.get(i);
+            if (!valor.isEmpty()) {
+                campos.put(cabecalho.get(i), valor);
+            }
+        }
+        return new Registro(inicio, campos, null);
+    }
+
+    /**
+     * Lê um registro CSV (RFC 4180): campos separados por vírgula, podendo
+     * estar entre aspas duplas, com aspas escapadas ("") e quebras de linha
+     * dentro de campos entre aspas. Um registro ou campo acima do limite é
+     * consumido até o fim sem ser guardado.
+     *
+     * @return Campos do registro ou null ao fim do arquivo
+     * @throws IllegalArgumentException Se o registro for inválido ou exceder os limites
+     */
+    private List<String> lerRegistroCsv() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        linhaAtual++;
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        long tamanhoRegistro = 0;
+        int tamanhoCampo = 0;
+        String excedido = null;
+
+        while (c != -1) {
+            char ch = (char) c;
+            int acrescentar = -1;
+
+            if (entreAspas) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int seguinte = reader.read();
+                    if (seguinte == '"') {
+                        acrescentar = '"';
+                    } else {
+                        entreAspas = false;
+                        if (seguinte != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        linhaAtual++;
+                    }
+                    acrescentar = ch;
+                }
+            } else if (ch == '"' && tamanhoCampo == 0) {
+                entreAspas = true;
+            } else if (ch == ',') {
+                if (excedido == null) {
+                    campos.add(campo.toString());
+                }
+                campo.setLength(0);
+                tamanhoCampo = 0;
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                acrescentar = ch;
+            }
+
+            if (acrescentar != -1) {
+                tamanhoCampo++;
+                if (excedido == null) {
+                    campo.append((char) acrescentar);
+                }
+            }
+
+            if (excedido == null && (++tamanhoRegistro > maxTamanhoLinha || tamanhoCampo > maxTamanhoCampo)) {
+                excedido = tamanhoCampo > maxTamanhoCampo
+                        ? "Campo excede " + maxTamanhoCampo + " caracteres"
+                        : "Registro excede " + maxTamanhoLinha + " caracteres";
+                // O restante do registro é apenas consumido
+                campos.clear();
+                campo.setLength(0);
+            }
+            c = reader.read();
+        }
+
+        if (excedido != null) {
+            throw new IllegalArgumentException(excedido);
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Campo entre aspas não terminado");
+        }
+
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
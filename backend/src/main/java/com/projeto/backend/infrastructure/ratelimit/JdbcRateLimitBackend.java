@@ -0,0 +1,307 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.BucketExceptions;
+import io.github.bucket4j.TimeMeter;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.AbstractSelectForUpdateBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.LockAndGetResult;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.SelectForUpdateBasedTransaction;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Buckets na tabela {@value #TABELA}, compartilhados por todas as instâncias.
+ *
+ * Segue o modelo proxy manager do Bucket4j: cada consumo lê o estado do
+ * bucket com SELECT ... FOR UPDATE, aplica a operação e grava o novo estado
+ * na mesma transação, em uma conexão do pool. O limite vale para o conjunto
+ * das instâncias, ao custo de uma ida ao banco por requisição.
+ *
+ * Cada linha guarda também o instante em que o bucket estará cheio
+ * novamente (expires_at); linhas expiradas são removidas em lotes por uma
+ * thread de limpeza, o que mantém a tabela do tamanho dos clientes ativos.
+ */
+public class JdbcRateLimitBackend implements RateLimitBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcRateLimitBackend.class);
+
+    static final String TABELA = "rate_limit_bucket";
+
+    private static final String SELECT_FOR_UPDATE = "SELECT state FROM " + TABELA + " WHERE id = ? FOR UPDATE";
+    private static final String INSERT = "INSERT INTO " + TABELA + " (id, state) VALUES (?, NULL)";
+    private static final String UPDATE = "UPDATE " + TABELA + " SET state = ?, expires_at = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM " + TABELA + " WHERE id = ?";
+    private static final String DELETE_ALL = "DELETE FROM " + TABELA;
+    private static final String DELETE_EXPIRADOS = "DELETE FROM " + TABELA + " WHERE id IN ("
+            + "SELECT id FROM " + TABELA + " WHERE expires_at < ? LIMIT ?)";
+
+    private static final String SQLSTATE_CHAVE_DUPLICADA = "23505";
+
+    private static final int LOTE_LIMPEZA = 1000;
+
+    private static final int TAMANHO_CHAVE = 255;
+
+    private final DataSource dataSource;
+    private final Duration intervaloLimpeza;
+    private final ProxyManager proxyManager;
+
+    private Thread limpeza;
+    private volatile boolean ativo;
+
+    /**
+     * @param dataSource Banco com a tabela {@value #TABELA}
+     * @param requestTimeout Tempo máximo de cada consulta ao bucket
+     * @param intervaloLimpeza Intervalo entre as remoções de buckets expirados
+     */
+    public JdbcRateLimitBackend(DataSource dataSource, Duration requestTimeout, Duration intervaloLimpeza) {
+        this.dataSource = dataSource;
+        this.intervaloLimpeza = intervaloLimpeza;
+        this.proxyManager = new ProxyManager(ClientSideConfig.getDefault()
+                .withRequestTimeout(requestTimeout)
+                .withExpirationAfterWriteStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ZERO)));
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        limpeza = Thread.ofPlatform().name("ratelimit-limpeza").daemon().start(this::limpar);
+    }
+
+    @PreDestroy
+    void parar() {
+        ativo = false;
+        limpeza.interrupt();
+    }
+
+    @Override
+    public Bucket resolve(String identifier, Supplier<BucketConfiguration> configuration) {
+        return proxyManager.builder().build(chave(identifier), configuration);
+    }
+
+    @Override
+    public void remove(String identifier) {
+        proxyManager.removeProxy(chave(identifier));
+    }
+
+    @Override
+    public void clear() {
+        executarUpdate(DELETE_ALL);
+    }
+
+    /**
+     * Remove os buckets que já estariam cheios novamente.
+     *
+     * @return Quantidade de buckets removidos
+     */
+    public int removerExpirados() {
+        long agora = System.currentTimeMillis();
+        int total = 0;
+        int removidos;
+        do {
+            removidos = executarUpdate(DELETE_EXPIRADOS, agora, LOTE_LIMPEZA);
+            total += removidos;
+        } while (removidos == LOTE_LIMPEZA);
+        return total;
+    }
+
+    /**
+     * Identificadores maiores que a coluna (ex.: X-Forwarded-For com muitos
+     * saltos) são substituídos pelo seu hash SHA-256.
+     */
+    private static String chave(String identifier) {
+        if (identifier.length() <= TAMANHO_CHAVE) {
+            return identifier;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return "sha256:" + HexFormat.of().formatHex(digest.digest(identifier.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 não disponível", e);
+        }
+    }
+
+    private void limpar() {
+        while (ativo) {
+            try {
+                Thread.sleep(intervaloLimpeza);
+                int removidos = removerExpirados();
+                if (removidos > 0) {
+                    logger.debug("{} buckets de rate limit expirados removidos", removidos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.warn("Erro ao remover buckets de rate limit expirados: {}", e.getMessage());
+            }
+        }
+    }
+
+    private int executarUpdate(String sql, Object... parametros) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parametros.length; i++) {
+                statement.setObject(i + 1, parametros[i]);
+            }
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new BucketExceptions.BucketExecutionException(e);
+        }
+    }
+
+    /**
+     * Proxy manager do Bucket4j sobre JDBC, equivalente ao do módulo
+     * bucket4j-postgresql, com a coluna expires_at para a limpeza.
+     */
+    private class ProxyManager extends AbstractSelectForUpdateBasedProxyManager<String> {
+
+        ProxyManager(ClientSideConfig clientSideConfig) {
+            super(clientSideConfig);
+        }
+
+        @Override
+        public void removeProxy(String key) {
+            executarUpdate(DELETE, key);
+        }
+
+        @Override
+        public boolean isExpireAfterWriteSupported() {
+            return true;
+        }
+
+        @Override
+        protected SelectForUpdateBasedTransaction allocateTransaction(String key, Optional<Long> requestTimeoutNanos) {
+            Connection connection;
+            try {
+                connection = dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new BucketExceptions.BucketExecutionException(e);
+            }
+            return new Transacao(connection, key);
+        }
+
+        private long agoraNanos() {
+            return getClientSideConfig().getClientSideClock()
+                    .orElse(TimeMeter.SYSTEM_MILLISECONDS)
+                    .currentTimeNanos();
+        }
+
+        private class Transacao implements SelectForUpdateBasedTransaction {
+
+            private final Connection connection;
+            private final String key;
+
+            Transacao(Connection connection, String key) {
+                this.connection = connection;
+                this.key = key;
+            }
+
+            @Override
+            public void begin(Optional<Long> requestTimeoutNanos) {
+                try {
+                    connection.setAutoCommit(false);
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public LockAndGetResult tryLockAndGet(Optional<Long> requestTimeoutNanos) {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_FOR_UPDATE)) {
+                    applyTimeout(statement, requestTimeoutNanos);
+                    statement.setString(1, key);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        if (!rs.next()) {
+                            return LockAndGetResult.notLocked();
+                        }
+                        return LockAndGetResult.locked(rs.getBytes(1));
+                    }
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public boolean tryInsertEmptyData(Optional<Long> requestTimeoutNanos) {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                    applyTimeout(statement, requestTimeoutNanos);
+                    statement.setString(1, key);
+                    return statement.executeUpdate() > 0;
+                } catch (SQLException e) {
+                    // Outra instância criou o bucket ao mesmo tempo: o Bucket4j
+                    // desfaz a transação e tenta de novo com SELECT ... FOR UPDATE
+                    if (SQLSTATE_CHAVE_DUPLICADA.equals(e.getSQLState())) {
+                        return false;
+                    }
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void update(byte[] data, RemoteBucketState newState, Optional<Long> requestTimeoutNanos) {
+                long ttl = getClientSideConfig().getExpirationAfterWriteStrategy()
+                        .map(strategy -> strategy.calculateTimeToLiveMillis(newState, agoraNanos()))
+                        .orElse(0L);
+
+                try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+                    applyTimeout(statement, requestTimeoutNanos);
+                    statement.setBytes(1, data);
+                    statement.setLong(2, System.currentTimeMillis() + ttl);
+                    statement.setString(3, key);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void commit(Optional<Long> requestTimeoutNanos) {
+                try {
+                    connection.commit();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void rollback() {
+                try {
+                    connection.rollback();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+
+            @Override
+            public void release() {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    throw new BucketExceptions.BucketExecutionException(e);
+                }
+            }
+        }
+    }
+}
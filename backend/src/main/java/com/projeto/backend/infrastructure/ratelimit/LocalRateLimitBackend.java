@@ -0,0 +1,95 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Buckets em memória, válidos apenas nesta instância.
+ *
+ * O identificador vem, para anônimos, de um cabeçalho controlado pelo
+ * cliente (X-Forwarded-For); por isso o cache é limitado. Um bucket sem uso
+ * pelo tempo de reposição completa já estaria cheio, e removê-lo não altera o
+ * limite aplicado; por isso a expiração não pode ser menor que o maior
+ * período configurado ({@link RateLimitProperties#maiorPeriodo()}). O
+ * tamanho máximo protege o heap de uma varredura de IPs: além dele, os
+ * buckets menos usados são descartados (e voltam cheios).
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    static final String NOME_CACHE = "ratelimit-buckets";
+
+    private final Cache<String, Bucket> buckets;
+
+    /**
+     * @param maximumSize Quantidade máxima de buckets mantidos
+     * @param expireAfterAccess Tempo sem uso após o qual o bucket é removido;
+     *                          no mínimo o maior período dos limites
+     */
+    public LocalRateLimitBackend(long maximumSize, Duration expireAfterAccess) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                // Manutenção na própria thread: evita acordar o ForkJoinPool a cada lote de leituras
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Bucket resolve(String identifier, Supplier<BucketConfiguration> configuration) {
+        return buckets.get(identifier, k -> criar(configuration.get()));
+    }
+
+    private static Bucket criar(BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void remove(String identifier) {
+        buckets.invalidate(identifier);
+    }
+
+    @Override
+    public void clear() {
+        buckets.invalidateAll();
+    }
+
+    /**
+     * Tempo sem uso após o qual um bucket é removido.
+     */
+    public Duration expiracao() {
+        return buckets.policy().expireAfterAccess()
+                .map(expiracao -> expiracao.getExpiresAfter())
+                .orElseThrow();
+    }
+
+    /**
+     * Quantidade de buckets mantidos, após aplicar as remoções pendentes.
+     */
+    public long tamanho() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Publica tamanho, acertos e remoções do cache (cache.size,
+     * cache.evictions) com o nome {@value #NOME_CACHE}.
+     */
+    public void registrarMetricas(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, NOME_CACHE);
+    }
+}
@@ -0,0 +1,39 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.util.function.Supplier;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Armazenamento dos buckets de rate limit.
+ *
+ * - {@link LocalRateLimitBackend}: buckets em memória, por instância, com
+ *   expiração por inatividade e tamanho máximo.
+ * - {@link JdbcRateLimitBackend}: buckets no banco, compartilhados entre as
+ *   instâncias (modelo proxy manager do Bucket4j).
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Obtém o bucket do identificador, criando-o com a configuração
+     * informada se ainda não existir.
+     *
+     * @param identifier Identificador único (username ou IP)
+     * @param configuration Configuração usada na criação do bucket
+     * @return Bucket do identificador
+     */
+    Bucket resolve(String identifier, Supplier<BucketConfiguration> configuration);
+
+    /**
+     * Remove o bucket do identificador.
+     *
+     * @param identifier Identificador único
+     */
+    void remove(String identifier);
+
+    /**
+     * Remove todos os buckets.
+     */
+    void clear();
+}
@@ -1,25 +1,26 @@
 package com.projeto.backend.infrastructure.ratelimit;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
 
 @Component
 @Order(1)
@@ -28,7 +29,11 @@ public class RateLimitFilter extends OncePerRequestFilter {
 	@Autowired
     private RateLimitService rateLimitService;
 	
-    private ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Mapper JSON da aplicação, compartilhado com o restante da API.
+     */
+    @Autowired
+    private JsonMapper jsonMapper;
 
     private static final String[] EXCLUDED_PATHS = {
         "/api/v1/auth/",
@@ -38,6 +43,19 @@ public class RateLimitFilter extends OncePerRequestFilter {
         "/ws"
     };
 
+    /**
+     * Corpo da resposta 429.
+     */
+    private record RateLimitExceededResponse(
+        String timestamp,
+        int status,
+        String error,
+        String message,
+        long limit,
+        long remaining,
+        long retryAfter
+    ) {}
+
     @Override
     protected void doFilterInternal(
         HttpServletRequest request,
@@ -52,26 +70,26 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Obtém o identificador (username ou IP)
-        String identifier = getIdentifier(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean autenticado = isAutenticado(authentication);
+
+        // Obtém o identificador (username ou IP) e a política da requisição
+        String identifier = autenticado ? "user:" + authentication.getName() : "ip:" + getClientIp(request);
+        Collection<? extends GrantedAuthority> authorities = autenticado ? authentication.getAuthorities() : List.of();
+        RateLimitPolicy politica = rateLimitService.resolvePolicy(request.getMethod(), path, authorities);
 
-        // Obtém informações do rate limit
-        RateLimitService.RateLimitInfo info = rateLimitService.getRateLimitInfo(identifier);
+        // Consome e obtém o estado do bucket em um único acesso
+        RateLimitService.RateLimitResult result = rateLimitService.tryConsumeAndReturnRemaining(identifier, politica);
 
-        // Adiciona headers de rate limit
-        response.addHeader("X-RateLimit-Limit", String.valueOf(info.limit()));
-        response.addHeader("X-RateLimit-Remaining", String.valueOf(info.remaining()));
-        response.addHeader("X-RateLimit-Reset", String.valueOf(info.resetInSeconds()));
+        response.setHeader("X-RateLimit-Limit", Long.toString(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(result.remaining()));
+        response.setHeader("X-RateLimit-Reset", Long.toString(result.resetInSeconds()));
 
-        // Tenta consumir um token
-        if (rateLimitService.tryConsume(identifier)) {
-            // Atualiza o header remaining após consumo
-            response.setHeader("X-RateLimit-Remaining", 
-                    String.valueOf(Math.max(0, info.remaining() - 1)));
+        if (result.consumed()) {
             filterChain.doFilter(request, response);
         } else {
             // Rate limit excedido
-            sendRateLimitExceededResponse(response, info);
+            sendRateLimitExceededResponse(response, result);
         }
     }
 
@@ -87,24 +105,20 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return false;
     }
 
+    private static boolean isAutenticado(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal());
+    }
+
     /**
-     * Obtém o identificador para rate limiting.
-     * Usa username se autenticado, senão usa IP.
+     * IP do cliente, usado como identificador de requisições anônimas.
      */
-    private String getIdentifier(HttpServletRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication != null && authentication.isAuthenticated() 
-                && !"anonymousUser".equals(authentication.getPrincipal())) {
-            return "user:" + authentication.getName();
-        }
-
-        // Fallback para IP
+    private String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty()) {
             ip = request.getRemoteAddr();
         }
-        return "ip:" + ip;
+        return ip;
     }
 
     /**
@@ -112,21 +126,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
      */
     private void sendRateLimitExceededResponse(
             HttpServletResponse response,
-            RateLimitService.RateLimitInfo info
+            RateLimitService.RateLimitResult result
     ) throws IOException {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.addHeader("Retry-After", String.valueOf(info.resetInSeconds()));
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now().toString());
-        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
-        errorResponse.put("error", "Too Many Requests");
-        errorResponse.put("message", "Limite de requisições excedido. Tente novamente em " + info.resetInSeconds() + " segundos.");
-        errorResponse.put("limit", info.limit());
-        errorResponse.put("remaining", 0);
-        errorResponse.put("retryAfter", info.resetInSeconds());
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.setCharacterEncoding(StandardCharsets.UTF_8);
+        response.setHeader("Retry-After", Long.toString(result.retryAfterSeconds()));
+
+        RateLimitExceededResponse body = new RateLimitExceededResponse(
+                LocalDateTime.now().toString(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Limite de requisições excedido. Tente novamente em " + result.retryAfterSeconds() + " segundos.",
+                result.limit(),
+                0,
+                result.retryAfterSeconds());
+
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
     }
 }
@@ -0,0 +1,114 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Política de rate limit já preparada para uso: padrão de caminho
+ * compilado e configuração do bucket criada uma única vez.
+ */
+public final class RateLimitPolicy {
+
+    static final String PADRAO = "padrao";
+
+    private final String nome;
+    private final PathPattern caminho;
+    private final Set<String> metodos;
+    private final String authority;
+    private final long capacidade;
+    private final BucketConfiguration configuration;
+
+    private RateLimitPolicy(String nome, PathPattern caminho, Set<String> metodos, String authority,
+            long capacidade, Duration periodo) {
+        if (capacidade <= 0 || periodo == null || periodo.isNegative() || periodo.isZero()) {
+            throw new IllegalArgumentException("Política de rate limit '" + nome + "' com capacidade ou período inválido");
+        }
+        this.nome = nome;
+        this.caminho = caminho;
+        this.metodos = metodos;
+        this.authority = authority;
+        this.capacidade = capacidade;
+        this.configuration = BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(capacidade)
+                        .refillGreedy(capacidade, periodo)
+                        .build())
+                .build();
+    }
+
+    static RateLimitPolicy padrao(RateLimitProperties.Limite limite) {
+        return new RateLimitPolicy(PADRAO, null, Set.of(), null, limite.capacidade(), limite.periodo());
+    }
+
+    static RateLimitPolicy of(RateLimitProperties.Politica politica) {
+        if (politica.nome() == null || politica.nome().isBlank()
+                || politica.caminho() == null || politica.caminho().isBlank()) {
+            throw new IllegalArgumentException("Política de rate limit sem nome ou caminho");
+        }
+
+        Set<String> metodos = politica.metodos().stream()
+                .map(metodo -> metodo.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        String authority = politica.perfil() == null || politica.perfil().isBlank()
+                ? null
+                : "ROLE_" + politica.perfil().toUpperCase(Locale.ROOT);
+
+        return new RateLimitPolicy(politica.nome(), PathPatternParser.defaultInstance.parse(politica.caminho()),
+                metodos, authority, politica.capacidade(), politica.periodo());
+    }
+
+    /**
+     * Verifica se a política atende à requisição.
+     *
+     * @param metodo Método HTTP
+     * @param path Caminho da requisição
+     * @param authorities Perfis do usuário autenticado; vazio para anônimos
+     */
+    boolean aplicaA(String metodo, PathContainer path, Collection<? extends GrantedAuthority> authorities) {
+        if (caminho == null || !caminho.matches(path)) {
+            return false;
+        }
+        if (!metodos.isEmpty() && !metodos.contains(metodo)) {
+            return false;
+        }
+        if (authority == null) {
+            return true;
+        }
+        for (GrantedAuthority granted : authorities) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Chave do bucket: cada política tem buckets próprios por identificador.
+     */
+    String chave(String identifier) {
+        return PADRAO.equals(nome) ? identifier : nome + "|" + identifier;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    BucketConfiguration getConfiguration() {
+        return configuration;
+    }
+}
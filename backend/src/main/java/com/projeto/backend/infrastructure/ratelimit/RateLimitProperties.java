@@ -0,0 +1,62 @@
+package com.projeto.backend.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limites de requisições configurados em ratelimit.padrao e
+ * ratelimit.politicas.
+ *
+ * @param padrao Limite aplicado quando nenhuma política atende à requisição
+ * @param politicas Políticas por endpoint e perfil, avaliadas em ordem
+ */
+@ConfigurationProperties(prefix = "ratelimit")
+public record RateLimitProperties(
+        @DefaultValue Limite padrao,
+        @DefaultValue List<Politica> politicas
+) {
+
+    /**
+     * Maior período entre o limite padrão e as políticas: um bucket sem uso
+     * por esse tempo está cheio, qualquer que seja a política que o criou.
+     */
+    public Duration maiorPeriodo() {
+        Duration maior = padrao.periodo();
+        for (Politica politica : politicas) {
+            if (politica.periodo().compareTo(maior) > 0) {
+                maior = politica.periodo();
+            }
+        }
+        return maior;
+    }
+
+    /**
+     * @param capacidade Requisições permitidas por período
+     * @param periodo Tempo de reposição completa, gradual, dos tokens
+     */
+    public record Limite(
+            @DefaultValue("10") long capacidade,
+            @DefaultValue("1m") Duration periodo
+    ) {}
+
+    /**
+     * @param nome Nome da política, usado na chave dos buckets
+     * @param caminho Padrão de caminho (ex: /api/v1/importacao/**)
+     * @param metodos Métodos HTTP atendidos; vazio atende a todos
+     * @param perfil Perfil do usuário (ex: ADMIN); vazio atende a todos,
+     *               inclusive anônimos
+     * @param capacidade Requisições permitidas por período
+     * @param periodo Tempo de reposição completa, gradual, dos tokens
+     */
+    public record Politica(
+            String nome,
+            String caminho,
+            @DefaultValue List<String> metodos,
+            String perfil,
+            long capacidade,
+            @DefaultValue("1m") Duration periodo
+    ) {}
+}
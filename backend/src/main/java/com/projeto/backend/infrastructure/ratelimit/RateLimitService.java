@@ -1,30 +1,62 @@
 package com.projeto.backend.infrastructure.ratelimit;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 
 @Service
 public class RateLimitService {
 
 	private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
 	
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    /**
+     * Buckets por identificador (usuário ou IP), locais ou compartilhados
+     * conforme ratelimit.backend.
+     */
+    private final RateLimitBackend backend;
+
     /**
-     * Cache de buckets por identificador (usuário ou IP).
+     * Limite de ratelimit.padrao (padrão: 10 requisições por minuto).
      */
-    private final Map<String, Bucket> bucketCache = new ConcurrentHashMap<>();
+    private final RateLimitPolicy padrao;
 
     /**
-     * Configuração padrão: 10 requisições por minuto.
+     * Políticas de ratelimit.politicas, na ordem da configuração.
      */
-    private static final int REQUESTS_PER_MINUTE = 10;
+    private final List<RateLimitPolicy> politicas;
+
+    private final long periodoPadraoSegundos;
+
+    /**
+     * Buckets em memória com os limites padrão de ratelimit.local.
+     */
+    public RateLimitService() {
+        this(new LocalRateLimitBackend(100_000, Duration.ofMinutes(1)));
+    }
+
+    public RateLimitService(RateLimitBackend backend) {
+        this(backend, new RateLimitProperties(new RateLimitProperties.Limite(10, Duration.ofMinutes(1)), List.of()));
+    }
+
+    @Autowired
+    public RateLimitService(RateLimitBackend backend, RateLimitProperties properties) {
+        this.backend = backend;
+        this.padrao = RateLimitPolicy.padrao(properties.padrao());
+        this.politicas = properties.politicas().stream().map(RateLimitPolicy::of).toList();
+        this.periodoPadraoSegundos = properties.padrao().periodo().toSeconds();
+    }
     
     public record RateLimitInfo(
         long limit,
@@ -33,17 +65,82 @@ public class RateLimitService {
     ) {}
 
     /**
-     * Obtém ou cria um bucket para o identificador.
+     * Resultado de uma tentativa de consumo, obtido em um único acesso ao bucket.
+     *
+     * @param consumed true se a requisição foi permitida
+     * @param limit Capacidade do bucket
+     * @param remaining Tokens restantes após a tentativa
+     * @param resetInSeconds Segundos até o bucket voltar a ficar cheio
+     * @param retryAfterSeconds Segundos até haver um token (0 se permitida)
+     */
+    public record RateLimitResult(
+        boolean consumed,
+        long limit,
+        long remaining,
+        long resetInSeconds,
+        long retryAfterSeconds
+    ) {}
+
+    /**
+     * Seleciona a política da requisição: a primeira de ratelimit.politicas
+     * que atender ao caminho, método e perfil, ou o limite padrão.
+     *
+     * @param metodo Método HTTP
+     * @param path Caminho da requisição
+     * @param authorities Perfis do usuário autenticado; vazio para anônimos
+     * @return Política aplicável
+     */
+    public RateLimitPolicy resolvePolicy(String metodo, String path, Collection<? extends GrantedAuthority> authorities) {
+        if (politicas.isEmpty()) {
+            return padrao;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (RateLimitPolicy politica : politicas) {
+            if (politica.aplicaA(metodo, pathContainer, authorities)) {
+                return politica;
+            }
+        }
+        return padrao;
+    }
+
+    /**
+     * Tenta consumir um token e retorna, do mesmo acesso ao bucket, os
+     * tokens restantes e os tempos de espera.
+     *
+     * @param identifier Identificador único (username ou IP)
+     * @param politica Política aplicável à requisição
+     * @return Resultado da tentativa
+     */
+    public RateLimitResult tryConsumeAndReturnRemaining(String identifier, RateLimitPolicy politica) {
+        Bucket bucket = backend.resolve(politica.chave(identifier), politica::getConfiguration);
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+
+        if (!probe.isConsumed()) {
+            logger.debug("[Rate Limit] limite excedido: identificador {}, política {}", identifier, politica.getNome());
+        }
+
+        return new RateLimitResult(
+                probe.isConsumed(),
+                politica.getCapacidade(),
+                probe.getRemainingTokens(),
+                segundos(probe.getNanosToWaitForReset()),
+                probe.isConsumed() ? 0 : Math.max(1, segundos(probe.getNanosToWaitForRefill()))
+        );
+    }
+
+    /**
+     * Obtém ou cria um bucket para o identificador, com o limite padrão.
      *
      * @param identifier Identificador único (username ou IP)
      * @return Bucket configurado
      */
     public Bucket resolveBucket(String identifier) {
-        return bucketCache.computeIfAbsent(identifier, this::createNewBucket);
+        return backend.resolve(padrao.chave(identifier), padrao::getConfiguration);
     }
 
     /**
-     * Verifica se uma requisição pode ser processada.
+     * Verifica se uma requisição pode ser processada, com o limite padrão.
      *
      * @param identifier Identificador único
      * @return true se permitido, false se limite excedido
@@ -54,7 +151,7 @@ public class RateLimitService {
     }
 
     /**
-     * Retorna informações sobre o rate limit atual.
+     * Retorna informações sobre o rate limit atual, sem consumir tokens.
      *
      * @param identifier Identificador único
      * @return RateLimitInfo com tokens disponíveis e tempo para reset
@@ -63,47 +160,32 @@ public class RateLimitService {
         Bucket bucket = resolveBucket(identifier);
         long availableTokens = bucket.getAvailableTokens();
         
-        logger.info("[Rate Limit] identificador {}. tokens disponiveis {}", identifier, availableTokens);
+        logger.debug("[Rate Limit] identificador {}. tokens disponiveis {}", identifier, availableTokens);
         
         return new RateLimitInfo(
-                REQUESTS_PER_MINUTE,
+                padrao.getCapacidade(),
                 availableTokens,
-                60 // segundos até reset completo
+                periodoPadraoSegundos // segundos até reset completo
         );
     }
 
     /**
-     * Cria um novo bucket com a configuração padrão.
-     *
-     * @param identifier Identificador (não usado, mas necessário para computeIfAbsent)
-     * @return Novo Bucket configurado
-     */
-    private Bucket createNewBucket(String identifier) {
-    	
-        // Configuração: 10 tokens, repostos gradualmente ao longo de 1 minuto
-    	Bandwidth limit = Bandwidth.builder()
-	        .capacity(REQUESTS_PER_MINUTE)
-	        .refillGreedy(REQUESTS_PER_MINUTE, Duration.ofMinutes(1))
-	        .build();
-
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
-    }
-
-    /**
-     * Remove um bucket do cache (útil para testes ou reset manual).
+     * Remove um bucket (útil para testes ou reset manual).
      *
      * @param identifier Identificador único
      */
     public void removeBucket(String identifier) {
-        bucketCache.remove(identifier);
+        backend.remove(identifier);
     }
 
     /**
-     * Limpa todo o cache de buckets.
+     * Remove todos os buckets.
      */
     public void clearAllBuckets() {
-        bucketCache.clear();
+        backend.clear();
+    }
+
+    private static long segundos(long nanos) {
+        return (nanos + NANOS_POR_SEGUNDO - 1) / NANOS_POR_SEGUNDO;
     }
-}
\ No newline at end of file
+}
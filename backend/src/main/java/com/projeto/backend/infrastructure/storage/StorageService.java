@@ -1,9 +1,20 @@
 package com.projeto.backend.infrastructure.storage;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,15 +23,38 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.GetObjectArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class StorageService {
 
     private static final Logger logger = LoggerFactory.getLogger(StorageService.class);
 
+    /**
+     * Prefixo dos objetos endereçados pelo conteúdo (SHA-256).
+     */
+    private static final String PREFIXO_CONTEUDO = "conteudo/";
+
+    /**
+     * Prefixo dos envios diretos ainda não confirmados. Uma regra de ciclo de
+     * vida do bucket (MinioConfig) remove os que nunca forem confirmados.
+     */
+    public static final String PREFIXO_UPLOAD = "uploads/";
+
+    private static final long TAMANHO_MAXIMO = 10 * 1024 * 1024;
+
+    private static final Pattern EXTENSAO = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+
     @Autowired
     private MinioClient minioClient;
 
@@ -32,6 +66,39 @@ public class StorageService {
     
     @Value("${minio.public-url:http://localhost:9000}")
     private String publicUrl;
+
+    /**
+     * Tamanho das partes do upload multipart (mínimo do S3: 5MB).
+     * Arquivos maiores são enviados em partes; no máximo uma parte
+     * fica em memória por envio.
+     */
+    @Value("${minio.part-size:5242880}")
+    private long partSize;
+
+    @Value("${minio.access-key:minioadmin}")
+    private String accessKey;
+
+    @Value("${minio.secret-key:minioadmin123}")
+    private String secretKey;
+
+    @Value("${minio.region:us-east-1}")
+    private String region;
+
+    /**
+     * Cliente usado apenas para assinar URLs, com o endpoint público: a
+     * assinatura cobre o host, que precisa ser o acessado pelo navegador.
+     * Com a região fixa, a assinatura é local e não acessa a rede.
+     */
+    private MinioClient presignClient;
+
+    @PostConstruct
+    void init() {
+        presignClient = MinioClient.builder()
+            .endpoint(publicUrl)
+            .credentials(accessKey, secretKey)
+            .region(region)
+            .build();
+    }
     
     /**
      * Resultado do upload.
@@ -43,72 +110,149 @@ public class StorageService {
         Long size,
         String md5Hash
     ) {}
+
+    /**
+     * Formulário pré-assinado (POST) para envio direto ao MinIO.
+     */
+    public record UploadUrl(
+        String objectKey,
+        String url,
+        Map<String, String> campos,
+        Instant expiraEm
+    ) {}
+
+    /**
+     * Metadados de um objeto armazenado.
+     */
+    public record ObjetoInfo(
+        String objectKey,
+        String contentType,
+        long size,
+        String etag
+    ) {}
     
     /**
-     * Faz upload de um arquivo para o MinIO.
+     * Calcula a chave endereçada pelo conteúdo do arquivo, sem enviá-lo.
+     * Arquivos idênticos resultam na mesma chave, permitindo que o envio
+     * seja dispensado quando o objeto já é referenciado.
      *
      * @param file Arquivo a ser enviado
-     * @param folder Pasta dentro do bucket (ex: "artista-1/album-1")
-     * @return StorageResult com informações do arquivo salvo
+     * @return StorageResult com a chave derivada do SHA-256 e o MD5 do conteúdo
      */
-    public StorageResult upload(MultipartFile file, String folder) {
-        try {
-            validateFile(file);
-
-            // Gera nome único para o arquivo
-            String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String uniqueFilename = UUID.randomUUID().toString() + extension;
-            String objectKey = folder + "/" + uniqueFilename;
+    public StorageResult prepararConteudo(MultipartFile file) {
+        validateFile(file);
 
-            // Calcula hash MD5
-            String md5Hash = calculateMD5(file.getInputStream());
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest sha256 = novoDigest("SHA-256");
+            MessageDigest md5 = novoDigest("MD5");
+            new DigestInputStream(new DigestInputStream(inputStream, sha256), md5)
+                    .transferTo(OutputStream.nullOutputStream());
 
-            // Faz upload
-            minioClient.putObject(
-                PutObjectArgs.builder()
-                    .bucket(bucketName)
-                    .object(objectKey)
-                    .stream(file.getInputStream(), file.getSize(), -1)
-                    .contentType(file.getContentType())
-                    .build()
-            );
-
-            logger.info("Arquivo uploaded com sucesso: {}", objectKey);
+            String sha256Hex = HexFormat.of().formatHex(sha256.digest());
+            String objectKey = PREFIXO_CONTEUDO + sha256Hex.substring(0, 2) + "/" + sha256Hex;
 
             return new StorageResult(
                     objectKey,
-                    originalFilename,
+                    file.getOriginalFilename(),
                     file.getContentType(),
                     file.getSize(),
-                    md5Hash
+                    HexFormat.of().formatHex(md5.digest())
             );
 
+        } catch (Exception e) {
+            logger.error("Erro ao ler o arquivo: {}", e.getMessage());
+            throw new StorageException("Falha ao ler o arquivo", e);
+        }
+    }
+
+    /**
+     * Envia o arquivo na chave calculada por {@link #prepararConteudo}, em
+     * uma única leitura. Acima de partSize o cliente usa upload multipart,
+     * sem carregar o arquivo inteiro em memória.
+     *
+     * @param file Arquivo a ser enviado
+     * @param conteudo Resultado de prepararConteudo para o mesmo arquivo
+     */
+    public void uploadConteudo(MultipartFile file, StorageResult conteudo) {
+        try (InputStream inputStream = file.getInputStream()) {
+            putObject(inputStream, conteudo.size(), conteudo.objectKey(), conteudo.contentType());
+            logger.info("Arquivo uploaded com sucesso: {}", conteudo.objectKey());
+
         } catch (Exception e) {
             logger.error("Erro ao fazer upload do arquivo: {}", e.getMessage());
             throw new StorageException("Falha ao fazer upload do arquivo", e);
         }
     }
-    
+
     /**
      * Valida o arquivo antes do upload.
+     * Público para que envios múltiplos sejam validados antes do primeiro envio.
      */
-    private void validateFile(MultipartFile file) {
+    public void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new StorageException("Arquivo não pode ser vazio");
         }
+        validateMetadata(file.getContentType(), file.getSize());
+    }
+
+    /**
+     * Valida tipo e tamanho de um arquivo, enviado pela API ou diretamente ao MinIO.
+     */
+    public void validateMetadata(String contentType, long size) {
+        if (size <= 0) {
+            throw new StorageException("Arquivo não pode ser vazio");
+        }
 
-        String contentType = file.getContentType();
         if (contentType == null || !contentType.startsWith("image/")) {
             throw new StorageException("Apenas arquivos de imagem são permitidos");
         }
 
         // Limite de 10MB
-        long maxSize = 10 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
+        if (size > TAMANHO_MAXIMO) {
             throw new StorageException("Arquivo excede o tamanho máximo de 10MB");
         }
     }
+
+    /**
+     * Gera um formulário pré-assinado (POST policy) para envio direto ao
+     * MinIO, sem passar pela API. A política expira em
+     * minio.presigned-url-expiration minutos.
+     *
+     * A política fixa a chave e o Content-Type declarado e limita o tamanho
+     * ao declarado: o MinIO recusa envios fora dessas condições. O objeto é
+     * gravado em {@link #PREFIXO_UPLOAD} até a confirmação.
+     *
+     * @param folder Pasta dentro do bucket (ex: "artista-1/album-1")
+     * @param nomeArquivo Nome original do arquivo
+     * @param contentType Tipo do conteúdo declarado
+     * @param size Tamanho declarado em bytes
+     * @return Chave do objeto, URL, campos do formulário e instante de expiração
+     */
+    public UploadUrl generateUploadUrl(String folder, String nomeArquivo, String contentType, long size) {
+        validateMetadata(contentType, size);
+
+        String objectKey = PREFIXO_UPLOAD + folder + "/" + UUID.randomUUID() + getFileExtension(nomeArquivo);
+        Instant expiraEm = Instant.now().plus(Duration.ofMinutes(presignedUrlExpiration));
+
+        try {
+            PostPolicy policy = new PostPolicy(bucketName, expiraEm.atZone(ZoneOffset.UTC));
+            policy.addEqualsCondition("key", objectKey);
+            policy.addEqualsCondition("Content-Type", contentType);
+            policy.addContentLengthRangeCondition(1, size);
+
+            // Os campos fixados pela política acompanham os da assinatura
+            Map<String, String> campos = new LinkedHashMap<>();
+            campos.put("key", objectKey);
+            campos.put("Content-Type", contentType);
+            campos.putAll(presignClient.getPresignedPostFormData(policy));
+
+            return new UploadUrl(objectKey, publicUrl + "/" + bucketName, campos, expiraEm);
+
+        } catch (Exception e) {
+            logger.error("Erro ao gerar URL de upload: {}", e.getMessage());
+            throw new StorageException("Falha ao gerar URL de upload", e);
+        }
+    }
     
     /**
      * Extrai a extensão do arquivo.
@@ -117,38 +261,135 @@ public class StorageService {
         if (filename == null || !filename.contains(".")) {
             return "";
         }
-        return filename.substring(filename.lastIndexOf("."));
+        // O nome vem do cliente: só extensões simples entram na chave do objeto
+        String extension = filename.substring(filename.lastIndexOf("."));
+        return EXTENSAO.matcher(extension).matches() ? extension : "";
     }
     
+    private void putObject(InputStream inputStream, long size, String objectKey, String contentType) throws Exception {
+        minioClient.putObject(
+            PutObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectKey)
+                .stream(inputStream, size, partSize)
+                .contentType(contentType)
+                .build()
+        );
+    }
+
+    private static MessageDigest novoDigest(String algoritmo) {
+        try {
+            return MessageDigest.getInstance(algoritmo);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo " + algoritmo + " não disponível", e);
+        }
+    }
+    
+    public String getPublicUrl(String objectKey) {
+        return publicUrl + "/" + bucketName + "/" + objectKey;
+    }
+
     /**
-     * Calcula o hash MD5 do arquivo.
+     * Abre o conteúdo de um objeto para leitura. O stream deve ser fechado
+     * pelo chamador.
+     *
+     * @param objectKey Chave do objeto no bucket
+     * @return Stream do conteúdo
      */
-    private String calculateMD5(InputStream inputStream) {
+    public InputStream download(String objectKey) {
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] buffer = new byte[8192];
-            int bytesRead;
+            return minioClient.getObject(
+                GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build()
+            );
+
+        } catch (Exception e) {
+            logger.error("Erro ao ler arquivo: {}", e.getMessage());
+            throw new StorageException("Falha ao ler arquivo", e);
+        }
+    }
+
+    /**
+     * Verifica se um objeto existe no bucket.
+     *
+     * @param objectKey Chave do objeto no bucket
+     * @return true se o objeto existe
+     */
+    public boolean exists(String objectKey) {
+        return stat(objectKey).isPresent();
+    }
 
-            inputStream.mark(Integer.MAX_VALUE);
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                md.update(buffer, 0, bytesRead);
+    /**
+     * Consulta os metadados de um objeto, sem ler o conteúdo.
+     *
+     * @param objectKey Chave do objeto no bucket
+     * @return Metadados, ou vazio se o objeto não existe
+     */
+    public Optional<ObjetoInfo> stat(String objectKey) {
+        try {
+            StatObjectResponse response = minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build()
+            );
+            return Optional.of(new ObjetoInfo(objectKey, response.contentType(), response.size(), response.etag()));
+
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return Optional.empty();
             }
-            inputStream.reset();
+            throw new StorageException("Falha ao consultar arquivo", e);
+        } catch (Exception e) {
+            throw new StorageException("Falha ao consultar arquivo", e);
+        }
+    }
 
-            byte[] digest = md.digest();
-            return HexFormat.of().formatHex(digest);
+    /**
+     * Grava um conteúdo já em memória (ex.: miniaturas geradas no servidor).
+     *
+     * @param objectKey Chave do objeto no bucket
+     * @param conteudo Bytes do arquivo
+     * @param contentType Tipo do conteúdo
+     */
+    public void uploadBytes(String objectKey, byte[] conteudo, String contentType) {
+        try {
+            putObject(new ByteArrayInputStream(conteudo), conteudo.length, objectKey, contentType);
+            logger.debug("Arquivo uploaded com sucesso: {}", objectKey);
 
         } catch (Exception e) {
-            logger.warn("Não foi possível calcular MD5: {}", e.getMessage());
-            return null;
+            logger.error("Erro ao fazer upload do arquivo: {}", e.getMessage());
+            throw new StorageException("Falha ao fazer upload do arquivo", e);
         }
     }
+
     
-    public String getPublicUrl(String objectKey) {
-        return publicUrl + "/" + bucketName + "/" + objectKey;
+    /**
+     * Copia um objeto dentro do bucket, sem trafegar o conteúdo pela API.
+     *
+     * @param origem Chave do objeto copiado
+     * @param destino Chave da cópia
+     */
+    public void copy(String origem, String destino) {
+        try {
+            minioClient.copyObject(
+                CopyObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(destino)
+                    .source(CopySource.builder().bucket(bucketName).object(origem).build())
+                    .build()
+            );
+
+            logger.info("Arquivo copiado com sucesso: {} -> {}", origem, destino);
+
+        } catch (Exception e) {
+            logger.error("Erro ao copiar arquivo: {}", e.getMessage());
+            throw new StorageException("Falha ao copiar arquivo", e);
+        }
     }
 
-    
     /**
      * Remove um arquivo do MinIO.
      *
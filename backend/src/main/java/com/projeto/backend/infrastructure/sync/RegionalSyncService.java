@@ -1,24 +1,59 @@
 package com.projeto.backend.infrastructure.sync;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.projeto.backend.domain.regional.Regional;
+import com.projeto.backend.config.AsyncConfig;
 import com.projeto.backend.domain.regional.RegionalRepository;
+import com.projeto.backend.domain.regional.RegionalSyncEstado;
+import com.projeto.backend.domain.regional.RegionalSyncEstadoRepository;
+import com.projeto.backend.domain.regional.RegionalSyncExecucao;
+import com.projeto.backend.domain.regional.RegionalSyncExecucaoRepository;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
 import com.projeto.backend.infrastructure.websocket.NotificationService;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
 /**
  * Serviço para sincronização de dados com API externa.
  * 
@@ -28,29 +63,90 @@ import com.projeto.backend.infrastructure.websocket.NotificationService;
  * - Sincronização manual via endpoint
  * - Sincronização agendada (configurável)
  * - Notificações via WebSocket sobre o progresso
+ * 
+ * A requisição à API é condicional (If-None-Match / If-Modified-Since, com
+ * os validadores da última sincronização concluída). O corpo é gravado em
+ * arquivo temporário enquanto o hash SHA-256 é calculado; com 304 ou com o
+ * mesmo hash da última sincronização, nada é lido nem gravado no banco.
+ *
+ * Havendo alterações, o arquivo é lido de forma incremental, em lotes de
+ * sync.regional.batch-size regionais: cada lote é comparado com o banco em
+ * uma única consulta e gravado via JDBC batch (INSERT ... ON CONFLICT), em
+ * transação própria. Ao final, as regionais ausentes da resposta são
+ * inativadas em um único UPDATE.
+ * 
+ * Apenas uma sincronização é executada por vez, inclusive entre instâncias
+ * (lease na tabela sync_lease). Cada execução é registrada em
+ * regional_sync_execucao e exibida no status.
  */
 @Service
 public class RegionalSyncService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(RegionalSyncService.class);
+
+    /** Nome do lease que garante uma sincronização por vez entre as instâncias. */
+    static final String LEASE = "regionais";
+
+    private static final String UPSERT_REGIONAL =
+            "INSERT INTO regional (nome, ativo, external_id, created_at, updated_at) " +
+            "VALUES (?, TRUE, ?, ?, ?) " +
+            "ON CONFLICT (external_id) DO UPDATE " +
+            "SET nome = EXCLUDED.nome, ativo = TRUE, updated_at = EXCLUDED.updated_at";
+
+    private static final int[] TIPOS_UPSERT = {
+            Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
 	
+    private static final String INATIVAR_AUSENTES =
+            "UPDATE regional SET ativo = FALSE, updated_at = ? " +
+            "WHERE ativo = TRUE AND external_id IS NOT NULL AND NOT (external_id = ANY (?))";
+
 	@Autowired
 	private RegionalRepository regionalRepository;
+
+    @Autowired
+    private RegionalSyncEstadoRepository estadoRepository;
+
+    @Autowired
+    private RegionalSyncExecucaoRepository execucaoRepository;
+
+    @Autowired
+    private SyncLeaseLock leaseLock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 	
 	@Autowired
     private NotificationService notificationService;
 
+	@Autowired
+	private CatalogoCache catalogoCache;
+
 	@Autowired
 	private WebClient webClient;
 	
+    @Autowired
+    private JsonMapper jsonMapper;
+
 	@Value("${sync.regional.url:https://integrador-argus-api.geia.vip/v1/regionais}")
     private String apiUrl;
 
     @Value("${sync.regional.timeout:30}")
     private int timeoutSeconds;
+
+    @Value("${sync.regional.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${sync.regional.scheduled.enabled:false}")
+    private boolean scheduledEnabled;
     
-    private LocalDateTime lastSyncTime;
-    private boolean syncInProgress = false;
+    private final AtomicBoolean syncInProgress = new AtomicBoolean();
     
 	
 	/**
@@ -58,104 +154,374 @@ public class RegionalSyncService {
      * 
      * @return Resultado da sincronização
      */
-    @Transactional
     public SyncResult sincronizar() {
-        if (syncInProgress) {
+        return executar(RegionalSyncExecucao.Origem.MANUAL);
+    }
+
+    /**
+     * Sincronização agendada (sync.regional.scheduled.cron), habilitada por
+     * sync.regional.scheduled.enabled. Todas as instâncias disparam no mesmo
+     * horário; apenas a que obtiver o lease executa.
+     */
+    @Scheduled(cron = "${sync.regional.scheduled.cron:0 0 */6 * * *}", scheduler = AsyncConfig.SYNC_SCHEDULER)
+    public void sincronizarAgendada() {
+        if (scheduledEnabled) {
+            executar(RegionalSyncExecucao.Origem.AGENDADA);
+        }
+    }
+
+    /**
+     * Executa a sincronização se nenhuma outra estiver em andamento, nesta
+     * instância (syncInProgress) ou em outra (lease {@value #LEASE}), e
+     * registra a execução no histórico.
+     */
+    private SyncResult executar(RegionalSyncExecucao.Origem origem) {
+        if (!syncInProgress.compareAndSet(false, true)) {
             logger.warn("Sincronização já em andamento");
-            return new SyncResult(false, 0, 0, 0, "Sincronização já em andamento");
+            return new SyncResult(false, 0, 0, 0, 0, "Sincronização já em andamento");
         }
 
-        syncInProgress = true;
+        try {
+            Optional<SyncLeaseLock.Lease> lease = leaseLock.tentarAdquirir(LEASE);
+            if (lease.isEmpty()) {
+                logger.info("Sincronização {} ignorada: em andamento em outra instância", origem);
+                return new SyncResult(false, 0, 0, 0, 0, "Sincronização já em andamento em outra instância");
+            }
+
+            LocalDateTime iniciadoEm = LocalDateTime.now();
+            long inicio = System.nanoTime();
+            Contagem contagem = new Contagem();
+            SyncResult result;
+            try (SyncLeaseLock.Lease ativo = lease.get()) {
+                result = sincronizarComLease(ativo, contagem);
+            }
+            registrarExecucao(origem, iniciadoEm, Duration.ofNanos(System.nanoTime() - inicio), result, contagem);
+            return result;
+
+        } finally {
+            syncInProgress.set(false);
+        }
+    }
+
+    /**
+     * Lotes já gravados permanecem no banco se a leitura da resposta ou a
+     * gravação de um lote posterior falhar; nesse caso nenhuma regional é
+     * inativada e os validadores não são atualizados, de modo que a próxima
+     * execução processa a resposta inteira.
+     */
+    private SyncResult sincronizarComLease(SyncLeaseLock.Lease lease, Contagem contagem) {
         notificationService.notifySyncStarted();
+        Download download = null;
 
         try {
-            logger.info("Iniciando sincronização de regionais de: {}", apiUrl);
+            logger.info("Iniciando sincronização de regionais de: {} (lotes de {})", apiUrl, batchSize);
 
-            // Busca dados da API externa
-            List<RegionalExternalDto> externals = fetchFromApi();
+            RegionalSyncEstado estado = estadoRepository.findById(apiUrl)
+                    .orElseGet(() -> new RegionalSyncEstado(apiUrl));
 
-            if (externals == null || externals.isEmpty()) {
-                logger.warn("Nenhum dado retornado da API externa");
-                notificationService.notifySyncError("Nenhum dado retornado da API");
-                return new SyncResult(false, 0, 0, 0, "Nenhum dado retornado da API");
+            download = fetchFromApi(estado);
+            contagem.bytes = download.bytes();
+
+            if (download.naoModificado()) {
+                return semAlteracoes("Nenhuma alteração na API externa (304)");
+            }
+            if (download.hash().equals(estado.getContentHash())) {
+                salvarEstado(estado, download);
+                return semAlteracoes("Conteúdo da API externa inalterado");
             }
 
-            int novos = 0;
-            int atualizados = 0;
+            lerEmLotes(download.arquivo(), lease, contagem);
 
-            for (RegionalExternalDto external : externals) {
-                Optional<Regional> existente = regionalRepository.findByExternalId(external.id());
+            if (contagem.recebidos == 0) {
+                logger.warn("Nenhum dado retornado da API externa");
+                notificationService.notifySyncError("Nenhum dado retornado da API");
+                return new SyncResult(false, 0, 0, 0, 0, "Nenhum dado retornado da API");
+            }
 
-                if (existente.isPresent()) {
-                    Regional regional = existente.get();
-                    if (!regional.getNome().equals(external.nome())) {
-                        regional.setNome(external.nome());
-                        regionalRepository.save(regional);
-                        atualizados++;
-                    }
-                } else {
-                    Regional novaRegional = new Regional(external.nome(), external.id());
-                    regionalRepository.save(novaRegional);
-                    novos++;
-                }
+            // Sem nenhuma regional válida, a lista de ids recebidos não
+            // representa o catálogo: inativar as ausentes inativaria todas
+            if (contagem.externalIds.isEmpty() || contagem.ignorados == contagem.recebidos) {
+                String error = "Nenhuma regional válida retornada da API (" + contagem.recebidos + " ignoradas)";
+                logger.warn(error);
+                notificationService.notifySyncError(error);
+                return contagem.falha(error);
             }
 
-            int total = novos + atualizados;
-            lastSyncTime = LocalDateTime.now();
+            contagem.inativados = inativarAusentes(contagem.externalIds);
+            salvarEstado(estado, download);
 
-            logger.info("Sincronização concluída: {} total ({} novos, {} atualizados)", total, novos, atualizados);
-            notificationService.notifySyncCompleted(total, novos, atualizados);
+            int total = contagem.total();
 
-            return new SyncResult(true, total, novos, atualizados, "Sincronização concluída com sucesso");
+            logger.info("Sincronização concluída: {} total ({} novos, {} atualizados, {} inativados), "
+                    + "{} recebidos, {} ignorados, {} lotes, {} bytes",
+                    total, contagem.novos, contagem.atualizados, contagem.inativados,
+                    contagem.recebidos, contagem.ignorados, contagem.lotes, contagem.bytes);
+            notificationService.notifySyncCompleted(total, contagem.novos, contagem.atualizados);
+
+            return new SyncResult(true, total, contagem.novos, contagem.atualizados, contagem.inativados,
+                    "Sincronização concluída com sucesso");
 
         } catch (WebClientResponseException e) {
             String error = "Erro ao acessar API externa: " + e.getStatusCode();
             logger.error(error, e);
             notificationService.notifySyncError(error);
-            return new SyncResult(false, 0, 0, 0, error);
+            return contagem.falha(error);
 
         } catch (Exception e) {
             String error = "Erro durante sincronização: " + e.getMessage();
             logger.error(error, e);
             notificationService.notifySyncError(error);
-            return new SyncResult(false, 0, 0, 0, error);
+            return contagem.falha(error);
 
         } finally {
-            syncInProgress = false;
+            if (download != null) {
+                excluir(download.arquivo());
+            }
+            if (contagem.total() > 0) {
+                catalogoCache.evictRegionais();
+            }
         }
     }
     
-    private List<RegionalExternalDto> fetchFromApi() {
+    private SyncResult semAlteracoes(String mensagem) {
+        logger.info("Sincronização concluída: {}", mensagem);
+        notificationService.notifySyncCompleted(0, 0, 0);
+        return new SyncResult(true, 0, 0, 0, 0, mensagem);
+    }
+
+    /**
+     * Baixa a resposta da API para um arquivo temporário, calculando o hash
+     * e o tamanho durante a transferência, sem manter o corpo em memória. O
+     * timeout vale para o intervalo entre blocos recebidos.
+     */
+    private Download fetchFromApi(RegionalSyncEstado estado) throws IOException {
+        Path arquivo = Files.createTempFile("regionais-", ".json");
         try {
             return webClient.get()
                     .uri(apiUrl)
-                    .retrieve()
-                    .bodyToFlux(RegionalExternalDto.class)
-                    .collectList()
-                    .block(Duration.ofSeconds(timeoutSeconds));
-        } catch (Exception e) {
-            logger.error("Erro ao buscar dados da API: {}", e.getMessage());
+                    .headers(headers -> {
+                        if (estado.getEtag() != null) {
+                            headers.setIfNoneMatch(estado.getEtag());
+                        }
+                        if (estado.getLastModified() != null) {
+                            headers.set(HttpHeaders.IF_MODIFIED_SINCE, estado.getLastModified());
+                        }
+                    })
+                    .exchangeToMono(response -> {
+                        if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                            return response.releaseBody().thenReturn(Download.naoModificado(arquivo));
+                        }
+                        if (response.statusCode().isError()) {
+                            return response.createError();
+                        }
+
+                        MessageDigest sha256 = sha256();
+                        AtomicLong bytes = new AtomicLong();
+                        Flux<DataBuffer> corpo = response.bodyToFlux(DataBuffer.class)
+                                .timeout(Duration.ofSeconds(timeoutSeconds))
+                                .doOnNext(buffer -> {
+                                    bytes.addAndGet(buffer.readableByteCount());
+                                    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                                        iterator.forEachRemaining(sha256::update);
+                                    }
+                                });
+
+                        HttpHeaders headers = response.headers().asHttpHeaders();
+                        return DataBufferUtils.write(corpo, arquivo)
+                                .then(Mono.fromSupplier(() -> new Download(arquivo, false, bytes.get(),
+                                        HexFormat.of().formatHex(sha256.digest()),
+                                        headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED))));
+                    })
+                    .doOnError(e -> logger.error("Erro ao buscar dados da API: {}", e.getMessage()))
+                    .block();
+        } catch (RuntimeException e) {
+            excluir(arquivo);
             throw e;
         }
     }
 
+    /**
+     * Lê o arquivo baixado de forma incremental e grava as regionais em lotes.
+     */
+    private void lerEmLotes(Path arquivo, SyncLeaseLock.Lease lease, Contagem contagem) {
+        ObjectReader reader = jsonMapper.readerFor(RegionalExternalDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+        try (JsonParser parser = reader.createParser(arquivo)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Resposta da API não é uma lista de regionais");
+            }
+
+            List<RegionalExternalDto> lote = new ArrayList<>(batchSize);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                lote.add(parser.currentToken() == JsonToken.VALUE_NULL
+                        ? new RegionalExternalDto(null, null)
+                        : reader.readValue(parser));
+                if (lote.size() == batchSize) {
+                    verificarLease(lease);
+                    gravarLote(lote, contagem);
+                    lote.clear();
+                }
+            }
+            if (!lote.isEmpty()) {
+                verificarLease(lease);
+                gravarLote(lote, contagem);
+            }
+        }
+    }
+
+    /**
+     * Interrompe a sincronização se o lease expirou, antes que outra
+     * instância que o tenha assumido grave em paralelo.
+     */
+    private static void verificarLease(SyncLeaseLock.Lease lease) {
+        if (!lease.isValido()) {
+            throw new IllegalStateException("Lease da sincronização expirado");
+        }
+    }
+
+    /**
+     * Compara o lote com as regionais já gravadas (uma consulta por lote) e
+     * grava apenas as novas e as alteradas.
+     */
+    private void gravarLote(List<RegionalExternalDto> lote, Contagem contagem) {
+        contagem.lotes++;
+        contagem.recebidos += lote.size();
+
+        // Um mesmo external_id repetido no lote prevalece a última ocorrência
+        Map<Long, String> recebidas = new LinkedHashMap<>();
+        for (RegionalExternalDto external : lote) {
+            if (external.id() != null) {
+                contagem.externalIds.add(external.id());
+            }
+            if (external.id() == null || external.nome() == null || external.nome().isBlank()) {
+                contagem.ignorados++;
+                continue;
+            }
+            recebidas.put(external.id(), external.nome());
+        }
+        if (recebidas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Existente> existentes = namedParameterJdbcTemplate.query(
+                "SELECT external_id, nome, ativo FROM regional WHERE external_id IN (:ids)",
+                Map.of("ids", recebidas.keySet()),
+                rs -> {
+                    Map<Long, Existente> encontradas = new HashMap<>();
+                    while (rs.next()) {
+                        encontradas.put(rs.getLong(1), new Existente(rs.getString(2), rs.getBoolean(3)));
+                    }
+                    return encontradas;
+                });
+
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> parametros = new ArrayList<>(recebidas.size());
+        int novos = 0;
+        int atualizados = 0;
+        for (Map.Entry<Long, String> recebida : recebidas.entrySet()) {
+            Existente existente = existentes.get(recebida.getKey());
+            if (existente == null) {
+                novos++;
+            } else if (!existente.ativo() || !existente.nome().equals(recebida.getValue())) {
+                atualizados++;
+            } else {
+                continue;
+            }
+            parametros.add(new Object[] { recebida.getValue(), recebida.getKey(), agora, agora });
+        }
+
+        if (!parametros.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_REGIONAL, parametros, TIPOS_UPSERT));
+        }
+
+        contagem.novos += novos;
+        contagem.atualizados += atualizados;
+        logger.debug("Lote {} de regionais: {} recebidas, {} novas, {} atualizadas",
+                contagem.lotes, lote.size(), novos, atualizados);
+    }
+
+    /**
+     * Inativa, em um único UPDATE, as regionais vinculadas à API que não
+     * vieram na resposta; os ids recebidos vão em um parâmetro array.
+     */
+    private int inativarAusentes(List<Long> externalIds) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        Long[] ids = externalIds.toArray(Long[]::new);
+        Integer inativados = transactionTemplate.execute(status ->
+                jdbcTemplate.update(INATIVAR_AUSENTES, agora, ids));
+        return Objects.requireNonNullElse(inativados, 0);
+    }
+
+    private void registrarExecucao(RegionalSyncExecucao.Origem origem, LocalDateTime iniciadoEm, Duration duracao,
+            SyncResult result, Contagem contagem) {
+        String mensagem = result.message();
+        if (mensagem != null && mensagem.length() > 500) {
+            mensagem = mensagem.substring(0, 500);
+        }
+        try {
+            execucaoRepository.save(new RegionalSyncExecucao(origem, leaseLock.getInstancia(), iniciadoEm,
+                    duracao.toMillis(), result.success(), result.novos(), result.atualizados(), result.inativados(),
+                    contagem.bytes, mensagem));
+        } catch (Exception e) {
+            logger.warn("Não foi possível registrar a execução da sincronização: {}", e.getMessage());
+        }
+    }
+
+    private void salvarEstado(RegionalSyncEstado estado, Download download) {
+        estado.setEtag(download.etag());
+        estado.setLastModified(download.lastModified());
+        estado.setContentHash(download.hash());
+        estadoRepository.save(estado);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void excluir(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível excluir o arquivo temporário {}: {}", arquivo, e.getMessage());
+        }
+    }
+
 	/**
      * Verifica se a sincronização está em andamento.
      */
     public boolean isSyncInProgress() {
-        return syncInProgress;
+        return syncInProgress.get();
     }
     
     /**
-     * Retorna status da última sincronização.
+     * Retorna status da última sincronização, considerando as execuções de
+     * todas as instâncias.
      */
     public SyncStatus getStatus() {
         long totalRegionais = regionalRepository.countByAtivoTrue();
+        List<SyncExecucao> historico = execucaoRepository.findTop20ByOrderByIniciadoEmDesc().stream()
+                .map(SyncExecucao::of)
+                .toList();
+        SyncExecucao ultima = historico.isEmpty() ? null : historico.getFirst();
+        LocalDateTime lastSync = execucaoRepository.findFirstBySucessoTrueOrderByIniciadoEmDesc()
+                .map(execucao -> execucao.getIniciadoEm().plus(Duration.ofMillis(execucao.getDuracaoMs())))
+                .orElse(null);
+
         return new SyncStatus(
-                lastSyncTime,
-                syncInProgress,
+                lastSync,
+                syncInProgress.get() || leaseLock.donoAtual(LEASE).isPresent(),
                 totalRegionais,
-                apiUrl
+                apiUrl,
+                ultima != null ? ultima.bytesFetched() : 0,
+                ultima != null ? ultima.rowsTouched() : 0,
+                historico
         );
     }
     
@@ -164,6 +530,49 @@ public class RegionalSyncService {
         sincronizar();
     }
     
+    private record Existente(String nome, boolean ativo) {}
+
+    /**
+     * Resposta da API gravada em arquivo temporário.
+     *
+     * @param naoModificado A API respondeu 304; o arquivo fica vazio
+     */
+    private record Download(
+            Path arquivo,
+            boolean naoModificado,
+            long bytes,
+            String hash,
+            String etag,
+            String lastModified
+    ) {
+        static Download naoModificado(Path arquivo) {
+            return new Download(arquivo, true, 0, null, null, null);
+        }
+    }
+
+    /**
+     * Totais acumulados durante uma sincronização.
+     */
+    private static final class Contagem {
+        /** external_id de todas as regionais recebidas, para inativar as ausentes. */
+        private final List<Long> externalIds = new ArrayList<>();
+        private long bytes;
+        private int recebidos;
+        private int ignorados;
+        private int novos;
+        private int atualizados;
+        private int inativados;
+        private int lotes;
+
+        private int total() {
+            return novos + atualizados + inativados;
+        }
+
+        private SyncResult falha(String message) {
+            return new SyncResult(false, total(), novos, atualizados, inativados, message);
+        }
+    }
+
     public record RegionalExternalDto(
         Long id,
         String nome
@@ -174,13 +583,50 @@ public class RegionalSyncService {
         int total,
         int novos,
         int atualizados,
+        int inativados,
         String message
     ) {}
     
+    /**
+     * @param bytesFetched Bytes recebidos da API na última sincronização
+     * @param rowsTouched Regionais inseridas, alteradas ou inativadas na
+     *                    última sincronização
+     * @param historico Últimas execuções, da mais recente para a mais antiga
+     */
     public record SyncStatus(
             LocalDateTime lastSync,
             boolean inProgress,
             long totalRegionais,
-            String apiUrl
+            String apiUrl,
+            long bytesFetched,
+            int rowsTouched,
+            List<SyncExecucao> historico
     ) {}
+
+    /**
+     * Execução registrada em regional_sync_execucao.
+     * 
+     * @param origin MANUAL ou AGENDADA
+     * @param instance Instância que executou a sincronização (pid@host)
+     */
+    public record SyncExecucao(
+            LocalDateTime startedAt,
+            long durationMs,
+            String origin,
+            String instance,
+            boolean success,
+            int novos,
+            int atualizados,
+            int inativados,
+            int rowsTouched,
+            long bytesFetched,
+            String message
+    ) {
+        static SyncExecucao of(RegionalSyncExecucao execucao) {
+            int rowsTouched = execucao.getNovos() + execucao.getAtualizados() + execucao.getInativados();
+            return new SyncExecucao(execucao.getIniciadoEm(), execucao.getDuracaoMs(), execucao.getOrigem().name(),
+                    execucao.getInstancia(), execucao.isSucesso(), execucao.getNovos(), execucao.getAtualizados(),
+                    execucao.getInativados(), rowsTouched, execucao.getBytesRecebidos(), execucao.getMensagem());
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package com.projeto.backend.infrastructure.sync;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock entre instâncias baseado em lease na tabela sync_lease.
+ *
+ * O lease vale por sync.lease.ttl e é renovado a cada sync.lease.heartbeat
+ * por uma thread própria enquanto a tarefa executa. Se a instância cair,
+ * o lease expira e outra instância pode assumi-lo. Os instantes são
+ * calculados pelo relógio de cada instância, que deve estar sincronizado
+ * (NTP) com folga bem menor que o ttl.
+ */
+@Component
+public class SyncLeaseLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncLeaseLock.class);
+
+    private static final String ADQUIRIR =
+            "UPDATE sync_lease SET dono = ?, expira_em = ? WHERE nome = ? AND (dono IS NULL OR expira_em < ?)";
+    private static final String INSERIR = "INSERT INTO sync_lease (nome, dono, expira_em) VALUES (?, ?, ?)";
+    private static final String RENOVAR = "UPDATE sync_lease SET expira_em = ? WHERE nome = ? AND dono = ?";
+    private static final String LIBERAR = "UPDATE sync_lease SET dono = NULL, expira_em = 0 WHERE nome = ? AND dono = ?";
+    private static final String CONSULTAR_DONO =
+            "SELECT dono FROM sync_lease WHERE nome = ? AND dono IS NOT NULL AND expira_em >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration heartbeat;
+    private final String instancia;
+
+    /**
+     * @param ttl Validade do lease sem renovação
+     * @param heartbeat Intervalo entre as renovações; deve ser menor que o ttl
+     */
+    public SyncLeaseLock(JdbcTemplate jdbcTemplate,
+            @Value("${sync.lease.ttl:2m}") Duration ttl,
+            @Value("${sync.lease.heartbeat:30s}") Duration heartbeat) {
+        if (heartbeat.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("sync.lease.heartbeat deve ser menor que sync.lease.ttl");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.heartbeat = heartbeat;
+        this.instancia = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * Tenta obter o lease, sem aguardar.
+     *
+     * @param nome Nome do lease (ex: regionais)
+     * @return Lease obtido, a ser fechado ao final da tarefa; vazio se outra
+     *         instância detém um lease ainda válido
+     */
+    public Optional<Lease> tentarAdquirir(String nome) {
+        String dono = instancia + "/" + UUID.randomUUID();
+        long agora = System.currentTimeMillis();
+        long expiraEm = agora + ttl.toMillis();
+
+        if (jdbcTemplate.update(ADQUIRIR, dono, expiraEm, nome, agora) == 0) {
+            try {
+                jdbcTemplate.update(INSERIR, nome, dono, expiraEm);
+            } catch (DuplicateKeyException e) {
+                return Optional.empty();
+            }
+        }
+
+        logger.debug("Lease '{}' obtido por {}", nome, dono);
+        return Optional.of(new Lease(nome, dono, expiraEm));
+    }
+
+    /**
+     * @return Dono do lease, se houver um lease válido
+     */
+    public Optional<String> donoAtual(String nome) {
+        List<String> donos = jdbcTemplate.queryForList(CONSULTAR_DONO, String.class, nome, System.currentTimeMillis());
+        return donos.stream().findFirst();
+    }
+
+    /**
+     * Identificação desta instância (pid@host).
+     */
+    public String getInstancia() {
+        return instancia;
+    }
+
+    /**
+     * Lease obtido. Enquanto aberto, é renovado periodicamente; ao fechar, é
+     * liberado para as demais instâncias.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String nome;
+        private final String dono;
+        private final Thread renovacao;
+        private volatile long expiraEm;
+        private volatile boolean valido = true;
+
+        private Lease(String nome, String dono, long expiraEm) {
+            this.nome = nome;
+            this.dono = dono;
+            this.expiraEm = expiraEm;
+            this.renovacao = Thread.ofPlatform().name("sync-lease-" + nome).daemon().start(this::renovar);
+        }
+
+        /**
+         * Indica se o lease ainda pertence a esta instância. Deixa de ser
+         * válido se outra instância o assumiu ou se não foi possível
+         * renová-lo antes de expirar.
+         */
+        public boolean isValido() {
+            return valido && System.currentTimeMillis() < expiraEm;
+        }
+
+        private void renovar() {
+            while (valido) {
+                try {
+                    Thread.sleep(heartbeat);
+                    long novaExpiracao = System.currentTimeMillis() + ttl.toMillis();
+                    if (jdbcTemplate.update(RENOVAR, novaExpiracao, nome, dono) == 0) {
+                        // Após o close() a linha já foi liberada; só é perda se ainda válido
+                        if (valido) {
+                            valido = false;
+                            logger.warn("Lease '{}' perdido: assumido por outra instância", nome);
+                        }
+                    } else {
+                        expiraEm = novaExpiracao;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    logger.warn("Erro ao renovar o lease '{}': {}", nome, e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            boolean liberar = valido;
+            valido = false;
+            renovacao.interrupt();
+            if (liberar) {
+                try {
+                    jdbcTemplate.update(LIBERAR, nome, dono);
+                } catch (Exception e) {
+                    logger.warn("Erro ao liberar o lease '{}' (expira em {} ms): {}",
+                            nome, expiraEm - System.currentTimeMillis(), e.getMessage());
+                }
+            }
+        }
+    }
+}
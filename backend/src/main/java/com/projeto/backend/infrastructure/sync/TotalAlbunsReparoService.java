@@ -0,0 +1,77 @@
+package com.projeto.backend.infrastructure.sync;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.projeto.backend.config.AsyncConfig;
+import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.genero.GeneroService;
+
+/**
+ * Reparo periódico do total de álbuns dos artistas (artista.total_albuns) e
+ * dos gêneros (genero.total_albuns).
+ *
+ * Os contadores são mantidos pelas escritas de álbuns; o reparo recalcula
+ * todos os totais em um comando por tabela e corrige os que divergirem (ex.:
+ * escritas feitas diretamente no banco). Cada tabela é bloqueada, em ordem
+ * de id, antes da contagem: um álbum gravado em paralelo ou já entrou na
+ * contagem ou ajusta o total depois dela, sem ser sobrescrito.
+ *
+ * Todas as instâncias disparam no mesmo horário; apenas a que obtiver o
+ * lease {@value #LEASE} executa.
+ */
+@Service
+public class TotalAlbunsReparoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TotalAlbunsReparoService.class);
+
+    static final String LEASE = "total-albuns";
+
+    @Autowired
+    private ArtistaService artistaService;
+
+    @Autowired
+    private GeneroService generoService;
+
+    @Autowired
+    private SyncLeaseLock leaseLock;
+
+    @Value("${sync.total-albuns.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${sync.total-albuns.cron:0 30 3 * * *}", scheduler = AsyncConfig.SYNC_SCHEDULER)
+    public void repararAgendado() {
+        if (enabled) {
+            reparar();
+        }
+    }
+
+    /**
+     * Recalcula os totais, se nenhuma outra instância estiver fazendo o mesmo.
+     *
+     * @return Quantidade de artistas e gêneros corrigidos; vazio se o lease
+     *         estava com outra instância
+     */
+    public Optional<Integer> reparar() {
+        Optional<SyncLeaseLock.Lease> lease = leaseLock.tentarAdquirir(LEASE);
+        if (lease.isEmpty()) {
+            logger.info("Reparo do total de álbuns ignorado: em andamento em outra instância");
+            return Optional.empty();
+        }
+
+        try (SyncLeaseLock.Lease ativo = lease.get()) {
+            long inicio = System.currentTimeMillis();
+            int artistas = artistaService.recalcularTotalAlbuns();
+            int generos = generoService.recalcularTotalAlbuns();
+            logger.info("Reparo do total de álbuns concluído em {} ms: {} artistas e {} gêneros corrigidos",
+                    System.currentTimeMillis() - inicio, artistas, generos);
+            return Optional.of(artistas + generos);
+        }
+    }
+}
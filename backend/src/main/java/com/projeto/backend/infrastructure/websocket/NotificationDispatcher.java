@@ -0,0 +1,226 @@
+package com.projeto.backend.infrastructure.websocket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.projeto.backend.infrastructure.websocket.NotificationService.AlbumPayload;
+import com.projeto.backend.infrastructure.websocket.NotificationService.ArtistaPayload;
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationMessage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Envio assíncrono das notificações WebSocket.
+ *
+ * As notificações publicadas dentro de uma transação só entram na fila após
+ * o commit; se a transação for desfeita, são descartadas. A fila é limitada:
+ * quando cheia, a notificação é descartada e contabilizada, e quem publicou
+ * nunca espera pelo envio.
+ *
+ * Uma única thread consome a fila em janelas de notifications.janela. Dentro
+ * da janela, eventos repetidos para a mesma entidade (ex.: vários
+ * ALBUM_UPDATED do mesmo álbum) são reduzidos ao mais recente, e cada
+ * tópico recebe um único frame com a lista das notificações.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationFanout fanout;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${notifications.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${notifications.janela:200ms}")
+    private Duration janela;
+
+    @Value("${notifications.max-lote:100}")
+    private int maxLote;
+
+    private BlockingQueue<Pendente> fila;
+
+    private final AtomicLong enfileiradas = new AtomicLong();
+    private final AtomicLong coalescidas = new AtomicLong();
+    private final AtomicLong descartadas = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+
+    private Thread consumidor;
+    private volatile boolean ativo;
+
+    private record Pendente(String destination, NotificationMessage message) {}
+
+    @PostConstruct
+    void init() {
+        fila = new ArrayBlockingQueue<>(queueCapacity);
+
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("notificacoes.enfileiradas", enfileiradas, AtomicLong::get).register(registry);
+            FunctionCounter.builder("notificacoes.coalescidas", coalescidas, AtomicLong::get).register(registry);
+            FunctionCounter.builder("notificacoes.descartadas", descartadas, AtomicLong::get)
+                    .description("Notificações descartadas com a fila cheia")
+                    .register(registry);
+            FunctionCounter.builder("notificacoes.frames", frames, AtomicLong::get).register(registry);
+            FunctionCounter.builder("notificacoes.falhas", falhas, AtomicLong::get).register(registry);
+            Gauge.builder("notificacoes.fila", fila, BlockingQueue::size).register(registry);
+        });
+
+        ativo = true;
+        consumidor = Thread.ofPlatform().name("notificacoes").daemon().start(this::consumir);
+    }
+
+    @PreDestroy
+    void parar() throws InterruptedException {
+        ativo = false;
+        consumidor.interrupt();
+        consumidor.join(janela.toMillis() * 5);
+        despachar();
+    }
+
+    /**
+     * Publica uma notificação. Dentro de uma transação, o envio é agendado
+     * para depois do commit.
+     *
+     * @param destination Tópico de destino (ex: "/topic/albuns")
+     * @param message Notificação
+     */
+    public void publicar(String destination, NotificationMessage message) {
+        Pendente pendente = new Pendente(destination, message);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enfileirar(pendente);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enfileirar(pendente);
+            }
+        });
+    }
+
+    public long getEnfileiradas() {
+        return enfileiradas.get();
+    }
+
+    public long getCoalescidas() {
+        return coalescidas.get();
+    }
+
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    private void enfileirar(Pendente pendente) {
+        if (fila.offer(pendente)) {
+            enfileiradas.incrementAndGet();
+            return;
+        }
+
+        long total = descartadas.incrementAndGet();
+        if (total == 1 || total % 1000 == 0) {
+            logger.warn("Fila de notificações cheia ({} itens); {} notificações descartadas até agora",
+                    queueCapacity, total);
+        }
+    }
+
+    private void consumir() {
+        while (ativo) {
+            try {
+                Pendente primeiro = fila.take();
+                // Aguarda a janela para agrupar a rajada que começou com esta notificação
+                Thread.sleep(janela);
+                despachar(primeiro);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Erro ao despachar notificações: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Envia tudo o que está na fila.
+     */
+    void despachar() {
+        Pendente primeiro = fila.poll();
+        if (primeiro != null) {
+            despachar(primeiro);
+        }
+    }
+
+    private void despachar(Pendente primeiro) {
+        List<Pendente> pendentes = new ArrayList<>();
+        pendentes.add(primeiro);
+        fila.drainTo(pendentes);
+
+        // Por tópico, na ordem de chegada; eventos repetidos ficam na posição
+        // do primeiro, com o conteúdo do mais recente
+        Map<String, Map<Object, NotificationMessage>> porTopico = new LinkedHashMap<>();
+        for (Pendente pendente : pendentes) {
+            Map<Object, NotificationMessage> mensagens =
+                    porTopico.computeIfAbsent(pendente.destination(), d -> new LinkedHashMap<>());
+            if (mensagens.put(chaveCoalescencia(pendente.message()), pendente.message()) != null) {
+                coalescidas.incrementAndGet();
+            }
+        }
+
+        porTopico.forEach((destination, mensagens) -> {
+            List<NotificationMessage> lista = List.copyOf(mensagens.values());
+            for (int inicio = 0; inicio < lista.size(); inicio += maxLote) {
+                enviar(destination, lista.subList(inicio, Math.min(inicio + maxLote, lista.size())));
+            }
+        });
+    }
+
+    /**
+     * Eventos de uma mesma entidade e tipo são coalescidos; os demais
+     * (sincronização, importação, sistema) são sempre enviados.
+     */
+    private static Object chaveCoalescencia(NotificationMessage message) {
+        if (message.payload() instanceof AlbumPayload album && album.id() != null) {
+            return message.type() + ":" + album.id();
+        }
+        if (message.payload() instanceof ArtistaPayload artista && artista.id() != null) {
+            return message.type() + ":" + artista.id();
+        }
+        return new Object();
+    }
+
+    private void enviar(String destination, List<NotificationMessage> mensagens) {
+        try {
+            fanout.enviar(destination, mensagens);
+            frames.incrementAndGet();
+            logger.debug("Frame enviado para {} com {} notificações", destination, mensagens.size());
+        } catch (Exception e) {
+            falhas.incrementAndGet();
+            logger.error("Erro ao enviar notificações para {}: {}", destination, e.getMessage());
+        }
+    }
+}
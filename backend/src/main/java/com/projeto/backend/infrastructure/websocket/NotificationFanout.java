@@ -0,0 +1,20 @@
+package com.projeto.backend.infrastructure.websocket;
+
+import java.util.List;
+
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationMessage;
+
+/**
+ * Entrega de um frame de notificações aos clientes inscritos no tópico,
+ * em todas as instâncias da API. A implementação depende do modo do broker
+ * (ver {@code WebSocketConfig}).
+ */
+@FunctionalInterface
+public interface NotificationFanout {
+
+    /**
+     * @param destination Tópico de destino (ex: "/topic/albuns")
+     * @param mensagens Notificações do frame
+     */
+    void enviar(String destination, List<NotificationMessage> mensagens);
+}
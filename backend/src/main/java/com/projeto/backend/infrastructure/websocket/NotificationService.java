@@ -4,18 +4,21 @@ import java.time.LocalDateTime;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Monta as notificações do catálogo e as publica pelo {@link NotificationDispatcher},
+ * que as envia após o commit, de forma assíncrona e agrupada por tópico.
+ */
 @Service
 public class NotificationService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationDispatcher dispatcher;
 
-    public NotificationService(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public NotificationService(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
     }
 	
     public void notifyArtistaCreated(Long artistaId, String nome) {
@@ -26,7 +29,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/artistas", message);
-        logger.info("Notificação enviada: Artista criado - {}", nome);
+        logger.info("Notificação publicada: Artista criado - {}", nome);
     }
 
     public void notifyArtistaUpdated(Long artistaId, String nome) {
@@ -37,7 +40,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/artistas", message);
-        logger.info("Notificação enviada: Artista atualizado - {}", nome);
+        logger.info("Notificação publicada: Artista atualizado - {}", nome);
     }
 
     public void notifyArtistaDeleted(Long artistaId) {
@@ -48,7 +51,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/artistas", message);
-        logger.info("Notificação enviada: Artista removido - ID {}", artistaId);
+        logger.info("Notificação publicada: Artista removido - ID {}", artistaId);
     }
     
     /**
@@ -62,7 +65,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/albuns", message);
-        logger.info("Notificação enviada: Álbum criado - {}", nome);
+        logger.info("Notificação publicada: Álbum criado - {}", nome);
     }
 
     public void notifyAlbumUpdated(Long albumId, String nome, String artistaNome) {
@@ -73,7 +76,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/albuns", message);
-        logger.info("Notificação enviada: Álbum atualizado - {}", nome);
+        logger.info("Notificação publicada: Álbum atualizado - {}", nome);
     }
 
     public void notifyAlbumDeleted(Long albumId) {
@@ -84,7 +87,31 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/albuns", message);
-        logger.info("Notificação enviada: Álbum removido - ID {}", albumId);
+        logger.info("Notificação publicada: Álbum removido - ID {}", albumId);
+    }
+    
+    /**
+     * Envia uma notificação agregada por lote de importação, em vez de uma por registro.
+     *
+     * @param entidade "artistas" ou "albuns" (também define o tópico)
+     * @param lote Número do lote (1-based)
+     * @param importados Registros gravados no lote
+     * @param rejeitados Registros rejeitados desde o lote anterior
+     */
+    public void notifyImportacaoLote(String entidade, int lote, int importados, int rejeitados) {
+        NotificationType type = "albuns".equals(entidade)
+                ? NotificationType.ALBUM_BATCH_IMPORTED
+                : NotificationType.ARTISTA_BATCH_IMPORTED;
+        NotificationMessage message = new NotificationMessage(
+            type,
+            String.format("Importação de %s: lote %d com %d registros importados (%d rejeitados)",
+                    entidade, lote, importados, rejeitados),
+            new ImportacaoPayload(lote, importados, rejeitados),
+            LocalDateTime.now()
+        );
+        send("/topic/" + entidade, message);
+        logger.info("Notificação publicada: Importação de {} - lote {} ({} importados, {} rejeitados)",
+                entidade, lote, importados, rejeitados);
     }
     
     public void notifySyncStarted() {
@@ -95,7 +122,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/sync", message);
-        logger.info("Notificação enviada: Sincronização iniciada");
+        logger.info("Notificação publicada: Sincronização iniciada");
     }
 
     public void notifySyncCompleted(int totalSincronizados, int novos, int atualizados) {
@@ -108,7 +135,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/sync", message);
-        logger.info("Notificação enviada: Sincronização concluída - {} registros", totalSincronizados);
+        logger.info("Notificação publicada: Sincronização concluída - {} registros", totalSincronizados);
     }
 
     public void notifySyncError(String errorMessage) {
@@ -119,7 +146,7 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/sync", message);
-        logger.warn("Notificação enviada: Erro na sincronização - {}", errorMessage);
+        logger.warn("Notificação publicada: Erro na sincronização - {}", errorMessage);
     }
     
     public void notifySystem(String systemMessage) {
@@ -130,15 +157,11 @@ public class NotificationService {
             LocalDateTime.now()
         );
         send("/topic/system", message);
-        logger.info("Notificação de sistema enviada: {}", systemMessage);
+        logger.info("Notificação de sistema publicada: {}", systemMessage);
     }
     
     private void send(String destination, NotificationMessage message) {
-        try {
-            messagingTemplate.convertAndSend(destination, message);
-        } catch (Exception e) {
-            logger.error("Erro ao enviar notificação para {}: {}", destination, e.getMessage());
-        }
+        dispatcher.publicar(destination, message);
     }
     
     public enum NotificationType {
@@ -148,6 +171,8 @@ public class NotificationService {
         ALBUM_CREATED,
         ALBUM_UPDATED,
         ALBUM_DELETED,
+        ARTISTA_BATCH_IMPORTED,
+        ALBUM_BATCH_IMPORTED,
         SYNC_STARTED,
         SYNC_COMPLETED,
         SYNC_ERROR,
@@ -166,4 +191,6 @@ public class NotificationService {
     public record AlbumPayload(Long id, String nome, String artistaNome) {}
     
     public record SyncPayload(int total, int novos, int atualizados) {}
+    
+    public record ImportacaoPayload(int lote, int importados, int rejeitados) {}
 }
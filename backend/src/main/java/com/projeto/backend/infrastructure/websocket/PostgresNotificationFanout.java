@@ -0,0 +1,187 @@
+package com.projeto.backend.infrastructure.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationMessage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Distribuição das notificações entre instâncias por LISTEN/NOTIFY do Postgres.
+ *
+ * Cada frame é publicado com pg_notify no canal {@value #CANAL}; todas as
+ * instâncias, inclusive a que publicou, escutam o canal em uma conexão
+ * dedicada (fora do pool) e entregam o frame ao broker em memória local.
+ *
+ * A entrega é de melhor esforço, como a do próprio WebSocket: frames
+ * publicados enquanto uma instância reconecta não chegam aos clientes dela.
+ */
+public class PostgresNotificationFanout implements NotificationFanout {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotificationFanout.class);
+
+    static final String CANAL = "notificacoes";
+
+    /**
+     * O NOTIFY aceita payloads de até 8000 bytes; frames maiores são divididos.
+     */
+    static final int LIMITE_PAYLOAD = 7999;
+
+    private static final int ESPERA_MS = 5000;
+
+    private static final String PREFIXO_TOPICO = "/topic/";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private Thread ouvinte;
+    private volatile boolean ativo;
+
+    public PostgresNotificationFanout(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        ouvinte = Thread.ofPlatform().name("notificacoes-listen").daemon().start(this::ouvir);
+    }
+
+    @PreDestroy
+    void parar() {
+        ativo = false;
+        ouvinte.interrupt();
+    }
+
+    @Override
+    public void enviar(String destination, List<NotificationMessage> mensagens) {
+        String payload = destination + "\n" + serializar(mensagens);
+
+        if (payload.getBytes(StandardCharsets.UTF_8).length > LIMITE_PAYLOAD) {
+            if (mensagens.size() > 1) {
+                int meio = mensagens.size() / 2;
+                enviar(destination, mensagens.subList(0, meio));
+                enviar(destination, mensagens.subList(meio, mensagens.size()));
+                return;
+            }
+            logger.warn("Notificação excede o limite do NOTIFY; entregue apenas nesta instância: {}", destination);
+            entregar(payload);
+            return;
+        }
+
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CANAL, payload);
+        } catch (DataAccessException e) {
+            logger.warn("Falha no pg_notify; notificação entregue apenas nesta instância: {}", e.getMessage());
+            entregar(payload);
+        }
+    }
+
+    /**
+     * Entrega ao broker local um frame recebido pelo canal, já serializado.
+     *
+     * @param payload Tópico e JSON do frame, separados por quebra de linha
+     */
+    void entregar(String payload) {
+        int separador = payload.indexOf('\n');
+        if (separador < 0 || !payload.startsWith(PREFIXO_TOPICO)) {
+            logger.warn("Payload de notificação inválido ignorado");
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        byte[] corpo = payload.substring(separador + 1).getBytes(StandardCharsets.UTF_8);
+        messagingTemplate.send(payload.substring(0, separador), MessageBuilder.createMessage(corpo, accessor.getMessageHeaders()));
+    }
+
+    /**
+     * Serializa com o mesmo conversor usado pelo broker, para que o JSON
+     * entregue seja idêntico ao do envio direto.
+     */
+    private String serializar(List<NotificationMessage> mensagens) {
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(mensagens, null);
+        if (message == null) {
+            throw new IllegalStateException("Conversor sem suporte a JSON para notificações");
+        }
+        return message.getPayload() instanceof byte[] bytes
+                ? new String(bytes, StandardCharsets.UTF_8)
+                : message.getPayload().toString();
+    }
+
+    /**
+     * Escuta o canal em uma conexão própria, reconectando após falhas.
+     */
+    private void ouvir() {
+        while (ativo) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                    Statement statement = connection.createStatement()) {
+
+                statement.execute("LISTEN " + CANAL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                logger.info("Ouvindo notificações entre instâncias no canal '{}'", CANAL);
+
+                while (ativo) {
+                    PGNotification[] notificacoes = pgConnection.getNotifications(ESPERA_MS);
+                    if (notificacoes == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacao : notificacoes) {
+                        try {
+                            entregar(notificacao.getParameter());
+                        } catch (Exception e) {
+                            logger.warn("Erro ao entregar notificação recebida: {}", e.getMessage());
+                        }
+                    }
+                }
+
+            } catch (SQLException e) {
+                if (!ativo) {
+                    return;
+                }
+                logger.warn("Conexão de LISTEN perdida: {}; nova tentativa em {} ms", e.getMessage(), ESPERA_MS);
+                try {
+                    Thread.sleep(ESPERA_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
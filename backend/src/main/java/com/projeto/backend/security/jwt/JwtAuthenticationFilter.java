@@ -13,6 +13,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,10 +36,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+            PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -56,17 +61,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Extrai o token do header
+            // Extrai o token do header e verifica assinatura e expiração uma única vez
             final String jwt = authHeader.substring(BEARER_PREFIX.length());
-            final String username = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.parseToken(jwt);
+            final String username = claims.getSubject();
 
             // Se o username foi extraído e não há autenticação no contexto
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
-                // Carrega os detalhes do usuário
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // Carrega os detalhes do usuário (do cache, após a primeira requisição com o token)
+                UserDetails userDetails = principalCache.obter(claims, jwt,
+                        () -> this.userDetailsService.loadUserByUsername(username));
                 
-                if (jwtService.validateToken(jwt, userDetails)) {
+                if (username.equals(userDetails.getUsername()) && userDetails.isEnabled()) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -82,6 +89,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     logger.debug("Usuário autenticado: {}", username);
                 }
             }
+        } catch (ExpiredJwtException e) {
+            logger.warn("Token JWT expirado: {}", e.getMessage());
         } catch (Exception e) {
             logger.error("Erro ao processar autenticação JWT: {}", e.getMessage());
         }
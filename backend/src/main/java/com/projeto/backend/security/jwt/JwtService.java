@@ -1,8 +1,10 @@
 package com.projeto.backend.security.jwt;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -15,12 +17,24 @@ import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Serviço responsável por operações com JWT (JSON Web Token).
+ *
+ * As chaves e o parser são construídos uma única vez na inicialização e
+ * reutilizados por todas as requisições (ambos são imutáveis e thread-safe).
+ * Os tokens são assinados com a chave ativa e identificados pelo header
+ * {@code kid}; chaves anteriores configuradas em {@code jwt.previous-keys}
+ * continuam aceitas na verificação, permitindo rotacionar o secret sem
+ * invalidar as sessões em andamento.
  */
 @Service
 public class JwtService {
@@ -30,12 +44,50 @@ public class JwtService {
     @Value("${jwt.secret:projeto-artistas-albuns-jwt-secret-key}")
     private String jwtSecret;
 
+    @Value("${jwt.kid:default}")
+    private String activeKid;
+
+    @Value("${jwt.previous-keys:}") // kid=secret separados por vírgula
+    private String previousKeys;
+
     @Value("${jwt.expiration:300000}") // 5 minutos em milissegundos
     private long jwtExpiration;
 
     @Value("${jwt.refresh-expiration:86400000}") // 24 horas em milissegundos
     private long refreshExpiration;
 
+    private SecretKey signingKey;
+    private Map<String, SecretKey> verificationKeys;
+    private JwtParser parser;
+
+    /**
+     * Constrói as chaves de assinatura e o parser reutilizável.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = criarChave(jwtSecret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        keys.put(activeKid, signingKey);
+
+        if (previousKeys != null && !previousKeys.isBlank()) {
+            for (String entrada : previousKeys.split(",")) {
+                String[] partes = entrada.trim().split("=", 2);
+                if (partes.length != 2 || partes[0].isBlank() || partes[1].isBlank()) {
+                    throw new IllegalStateException("Configuração jwt.previous-keys inválida: esperado kid=secret");
+                }
+                keys.putIfAbsent(partes[0].trim(), criarChave(partes[1].trim()));
+            }
+        }
+
+        verificationKeys = Map.copyOf(keys);
+        parser = Jwts.parser()
+                .keyLocator(this::localizarChave)
+                .build();
+
+        logger.info("JWT configurado com chave ativa '{}' e {} chave(s) de verificação", activeKid, verificationKeys.size());
+    }
+
     /**
      * Extrai o username do token JWT.
      *
@@ -64,20 +116,22 @@ public class JwtService {
      * @return Valor do claim
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
     /**
-     * Extrai todos os claims do token.
+     * Verifica assinatura e expiração do token e retorna todos os claims.
+     *
+     * Usado pelo filtro de autenticação para processar o token uma única
+     * vez por requisição.
      *
      * @param token Token JWT
      * @return Claims do token
+     * @throws io.jsonwebtoken.JwtException se o token for inválido ou estiver expirado
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+    public Claims parseToken(String token) {
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -140,11 +194,13 @@ public class JwtService {
      */
     private String createToken(Map<String, Object> claims, String subject, long expiration) {
         return Jwts.builder()
+                .header().keyId(activeKid).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -186,18 +242,39 @@ public class JwtService {
         }
     }
 
+    /**
+     * Seleciona a chave de verificação pelo header {@code kid}.
+     * Tokens emitidos antes da rotação (sem kid) usam a chave ativa.
+     *
+     * @param header Header do token
+     * @return Chave de verificação
+     */
+    private Key localizarChave(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            return signingKey;
+        }
+
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Chave de assinatura desconhecida: " + kid);
+        }
+        return key;
+    }
+
     /**
      * Obtém a chave de assinatura a partir do secret.
      *
+     * @param secret Secret configurado
      * @return SecretKey para assinatura
      */
-    private SecretKey getSigningKey() {
+    private static SecretKey criarChave(String secret) {
         // Garante que a chave tenha pelo menos 256 bits (32 caracteres)
-        String paddedSecret = jwtSecret;
+        String paddedSecret = secret;
         while (paddedSecret.length() < 32) {
-            paddedSecret += jwtSecret;
+            paddedSecret += secret;
         }
-        paddedSecret = paddedSecret.substring(0, Math.max(32, jwtSecret.length()));
+        paddedSecret = paddedSecret.substring(0, Math.max(32, secret.length()));
         
         byte[] keyBytes = paddedSecret.getBytes();
         return Keys.hmacShaKeyFor(keyBytes);
@@ -0,0 +1,121 @@
+package com.projeto.backend.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projeto.backend.domain.usuario.Usuario;
+import com.projeto.backend.domain.usuario.UsuarioAlteradoEvent;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cache dos principals já verificados, indexado pelo identificador do token
+ * (claim jti) ou, na ausência dele, pelo hash SHA-256 do token.
+ *
+ * Evita a consulta ao banco em toda requisição autenticada. O cache é
+ * limitado por tamanho e TTL curto; a expiração do token continua sendo
+ * verificada a cada requisição pelo {@link JwtService}. Qualquer alteração
+ * ou remoção de um {@link Usuario} invalida as entradas desse usuário.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    static final String NOME_CACHE = "jwt-principais";
+
+    @Value("${jwt.principal-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${jwt.principal-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private Cache<String, UserDetails> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, NOME_CACHE));
+    }
+
+    /**
+     * Retorna o principal associado ao token, carregando-o apenas na
+     * primeira requisição com esse token.
+     *
+     * @param claims Claims já verificados do token
+     * @param token Token JWT original
+     * @param loader Carregamento do usuário em caso de ausência no cache
+     * @return Principal do usuário
+     */
+    public UserDetails obter(Claims claims, String token, Supplier<UserDetails> loader) {
+        return cache.get(chave(claims, token), k -> loader.get());
+    }
+
+    /**
+     * Remove todas as entradas do usuário informado.
+     *
+     * @param usuarioId ID do usuário
+     */
+    public void evictUsuario(Long usuarioId) {
+        if (usuarioId == null) {
+            return;
+        }
+
+        cache.asMap().values().removeIf(principal ->
+                principal instanceof Usuario usuario && usuarioId.equals(usuario.getId()));
+        logger.debug("Principals do usuário {} removidos do cache", usuarioId);
+    }
+
+    /**
+     * Invalida o cache após o commit da alteração, para que uma requisição
+     * concorrente não volte a armazenar o estado anterior do usuário.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void aoAlterarUsuario(UsuarioAlteradoEvent event) {
+        evictUsuario(event.usuarioId());
+    }
+
+    private String chave(Claims claims, String token) {
+        String jti = claims.getId();
+        if (jti != null && !jti.isBlank()) {
+            return jti;
+        }
+        return sha256(token);
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 não disponível", e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.projeto.backend.shared;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utilitário para seleção de campos (sparse fieldsets) nas listagens.
+ *
+ * O parâmetro {@code fields} é uma lista separada por vírgulas com os campos
+ * da resposta desejados (ex.: {@code fields=id,nome,anoLancamento}). A seleção
+ * limita tanto as colunas lidas pela consulta quanto o JSON devolvido. Uma
+ * seleção vazia significa todos os campos; o id é sempre incluído.
+ */
+public final class Campos {
+
+    /**
+     * ID do filtro Jackson ({@code @JsonFilter}) aplicado às respostas com seleção de campos.
+     */
+    public static final String FILTRO = "campos";
+
+    public static final String ID = "id";
+
+    private Campos() {
+    }
+
+    /**
+     * Separa a lista de campos, sem validá-los.
+     *
+     * @param fields Lista separada por vírgulas (opcional)
+     * @return Campos informados, mais o id; vazio se nenhum campo foi informado
+     */
+    public static Set<String> separar(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> campos = new LinkedHashSet<>();
+        campos.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(campo -> !campo.isEmpty())
+                .forEach(campos::add);
+
+        return Collections.unmodifiableSet(campos);
+    }
+
+    /**
+     * Separa e valida a lista de campos.
+     *
+     * @param fields Lista separada por vírgulas (opcional)
+     * @param permitidos Campos aceitos
+     * @return Campos informados, mais o id; vazio se nenhum campo foi informado
+     * @throws IllegalArgumentException Se algum campo não for aceito
+     */
+    public static Set<String> selecionar(String fields, Set<String> permitidos) {
+        Set<String> campos = separar(fields);
+
+        for (String campo : campos) {
+            if (!permitidos.contains(campo)) {
+                throw new IllegalArgumentException("Campo inválido em fields: " + campo
+                        + ". Valores aceitos: " + String.join(", ", permitidos));
+            }
+        }
+
+        return campos;
+    }
+
+    /**
+     * Acrescenta um campo necessário à consulta (ex.: o campo de ordenação do
+     * cursor) a uma seleção. Uma seleção vazia já inclui todos os campos.
+     *
+     * @param campos Seleção atual
+     * @param campo Campo a incluir
+     * @return Nova seleção
+     */
+    public static Set<String> incluir(Set<String> campos, String campo) {
+        if (campos.isEmpty() || campos.contains(campo)) {
+            return campos;
+        }
+
+        Set<String> resultado = new LinkedHashSet<>(campos);
+        resultado.add(campo);
+        return Collections.unmodifiableSet(resultado);
+    }
+
+    /**
+     * Verifica se o campo faz parte da seleção (vazia = todos os campos).
+     */
+    public static boolean contem(Set<String> campos, String campo) {
+        return campos.isEmpty() || campos.contains(campo);
+    }
+
+    /**
+     * Campos de uma projeção, na ordem dos componentes do record.
+     *
+     * @param projecao Record de projeção
+     * @return Nomes dos componentes
+     */
+    public static Set<String> doRegistro(Class<? extends Record> projecao) {
+        return Arrays.stream(projecao.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new),
+                        Collections::unmodifiableSet));
+    }
+}
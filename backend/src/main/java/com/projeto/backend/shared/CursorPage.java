@@ -0,0 +1,20 @@
+package com.projeto.backend.shared;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados da paginação por cursor (keyset).
+ *
+ * @param content Itens da página
+ * @param size Tamanho solicitado
+ * @param hasNext Indica se existe página seguinte
+ * @param nextCursor Token opaco para o parâmetro {@code after} da próxima página (null na última)
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> convertidos = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(convertidos, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,162 @@
+package com.projeto.backend.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Utilitário para paginação por cursor (keyset/seek).
+ *
+ * A ordenação é sempre composta pelo campo escolhido seguido do id, e a próxima
+ * página é obtida filtrando a partir do último par (valor, id) lido, sem OFFSET
+ * e sem consulta de contagem. A ordem de nulos acompanha o padrão do PostgreSQL
+ * (ASC NULLS LAST, DESC NULLS FIRST), de modo que os índices (campo, id) atendem
+ * as duas direções.
+ */
+public final class Keyset {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String NULO = "-";
+
+    private Keyset() {
+    }
+
+    /**
+     * Campo ordenável por cursor.
+     *
+     * @param nome Nome do atributo na entidade
+     * @param anulavel Se a coluna aceita nulos
+     * @param conversor Converte o valor serializado no cursor para o tipo do atributo
+     * @param extrator Lê o valor do atributo a partir da linha retornada
+     */
+    public record Campo<R>(
+            String nome,
+            boolean anulavel,
+            Function<String, ? extends Comparable<?>> conversor,
+            Function<R, Object> extrator
+    ) {
+    }
+
+    /**
+     * Posição decodificada de um cursor: campo de ordenação, último valor e último id.
+     */
+    public record Cursor(String campo, String valor, Long id) {
+
+        public String encode() {
+            String valorCodificado = valor == null ? NULO : ENCODER.encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(campo.getBytes(StandardCharsets.UTF_8)) + "." + valorCodificado + "." + id;
+        }
+
+        public static Cursor decode(String token) {
+            String[] partes = token.split("\\.", -1);
+            if (partes.length != 3) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            try {
+                String campo = new String(DECODER.decode(partes[0]), StandardCharsets.UTF_8);
+                String valor = NULO.equals(partes[1]) ? null : new String(DECODER.decode(partes[1]), StandardCharsets.UTF_8);
+                return new Cursor(campo, valor, Long.valueOf(partes[2]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+        }
+    }
+
+    /**
+     * Resolve o campo de ordenação permitido.
+     *
+     * @throws IllegalArgumentException Se o campo não for aceito para paginação por cursor
+     */
+    public static <R> Campo<R> campo(Map<String, Campo<R>> campos, String sortBy) {
+        Campo<R> campo = campos.get(sortBy);
+        if (campo == null) {
+            throw new IllegalArgumentException("Campo de ordenação não permitido: " + sortBy
+                    + ". Valores aceitos: " + String.join(", ", campos.keySet()));
+        }
+        return campo;
+    }
+
+    /**
+     * Ordenação (campo, id) na direção informada.
+     */
+    public static Sort ordenacao(Campo<?> campo, Sort.Direction direcao) {
+        Sort.Order ordem = direcao.isAscending()
+                ? Sort.Order.asc(campo.nome()).nullsLast()
+                : Sort.Order.desc(campo.nome()).nullsFirst();
+        return Sort.by(ordem, new Sort.Order(direcao, "id"));
+    }
+
+    /**
+     * Filtro que posiciona a consulta logo após o cursor.
+     *
+     * @throws IllegalArgumentException Se o cursor foi gerado para outro campo de ordenação
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> apos(Campo<?> campo, Cursor cursor, Sort.Direction direcao) {
+        if (!campo.nome().equals(cursor.campo())) {
+            throw new IllegalArgumentException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        final Comparable valor;
+        try {
+            valor = cursor.valor() == null ? null : campo.conversor().apply(cursor.valor());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+
+        return (root, query, cb) -> {
+            Path path = root.get(campo.nome());
+            Path<Long> id = root.get("id");
+
+            if (direcao.isAscending()) {
+                if (valor == null) {
+                    return cb.and(cb.isNull(path), cb.greaterThan(id, cursor.id()));
+                }
+                Predicate seguinte = cb.and(
+                        cb.greaterThanOrEqualTo(path, valor),
+                        cb.or(cb.greaterThan(path, valor), cb.greaterThan(id, cursor.id())));
+                return campo.anulavel() ? cb.or(seguinte, cb.isNull(path)) : seguinte;
+            }
+
+            if (valor == null) {
+                return cb.or(cb.and(cb.isNull(path), cb.lessThan(id, cursor.id())), cb.isNotNull(path));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(path, valor),
+                    cb.or(cb.lessThan(path, valor), cb.lessThan(id, cursor.id())));
+        };
+    }
+
+    /**
+     * Monta a página a partir de até {@code size + 1} linhas lidas: a linha
+     * excedente apenas sinaliza que existe página seguinte.
+     */
+    public static <R> CursorPage<R> pagina(List<R> linhas, int size, Campo<R> campo, Function<R, Long> id) {
+        boolean hasNext = linhas.size() > size;
+        List<R> conteudo = hasNext ? linhas.subList(0, size) : linhas;
+
+        String nextCursor = null;
+        if (hasNext) {
+            R ultima = conteudo.get(conteudo.size() - 1);
+            nextCursor = new Cursor(campo.nome(), serializar(campo.extrator().apply(ultima)), id.apply(ultima)).encode();
+        }
+
+        return new CursorPage<>(conteudo, size, hasNext, nextCursor);
+    }
+
+    private static String serializar(Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        return valor instanceof Enum<?> e ? e.name() : valor.toString();
+    }
+}
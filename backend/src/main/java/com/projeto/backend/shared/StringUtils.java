@@ -1,15 +1,96 @@
 package com.projeto.backend.shared;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 public class StringUtils {
-	
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("[\\p{InCombiningDiacriticalMarks}]");
+
+    /**
+     * Resultado de {@link #normalizar} para cada caractere Latin-1
+     * (U+0000 a U+00FF), calculado uma única vez pelo caminho completo.
+     */
+    private static final char[] LATIN1 = new char[256];
+
+    /**
+     * Idiomas cuja conversão para minúsculas difere da regra padrão
+     * (ex.: 'I' vira 'ı' em turco); nesses casos usa-se sempre o caminho completo.
+     */
+    private static final String[] IDIOMAS_ESPECIAIS = {"tr", "az", "lt"};
+
+    static {
+        for (char c = 0; c < LATIN1.length; c++) {
+            String removido = MARCAS_DIACRITICAS
+                    .matcher(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD))
+                    .replaceAll("");
+            if (removido.length() != 1) {
+                throw new IllegalStateException("Decomposição inesperada para U+" + Integer.toHexString(c));
+            }
+            LATIN1[c] = Character.toLowerCase(removido.charAt(0));
+        }
+    }
+
 	/**
      * Normaliza (remove acentos e converte para minúsculas).
+     *
+     * Entradas compostas apenas por caracteres Latin-1 (o caso comum de
+     * nomes e termos de busca) são convertidas por tabela, sem regex nem
+     * strings intermediárias; se nada mudar, a própria entrada é retornada.
+     * As demais usam decomposição NFD, com resultado idêntico.
      */
 	public static String normalizar(String nome) {
         if (nome == null) return "";
-        return java.text.Normalizer.normalize(nome, java.text.Normalizer.Form.NFD)
-                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "")
+
+        int length = nome.length();
+        int i = 0;
+        while (i < length) {
+            char c = nome.charAt(i);
+            if (c > 0xFF || LATIN1[c] != c) {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return nome;
+        }
+        if (!possuiApenasLatin1(nome, i) || usaRegraEspecialDeMinusculas()) {
+            return normalizarCompleto(nome);
+        }
+
+        char[] resultado = new char[length];
+        nome.getChars(0, i, resultado, 0);
+        for (; i < length; i++) {
+            resultado[i] = LATIN1[nome.charAt(i)];
+        }
+        return new String(resultado);
+    }
+
+    private static String normalizarCompleto(String nome) {
+        return MARCAS_DIACRITICAS
+                .matcher(Normalizer.normalize(nome, Normalizer.Form.NFD))
+                .replaceAll("")
                 .toLowerCase();
     }
 
+    private static boolean possuiApenasLatin1(String nome, int inicio) {
+        for (int i = inicio; i < nome.length(); i++) {
+            if (nome.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean usaRegraEspecialDeMinusculas() {
+        String idioma = Locale.getDefault().getLanguage();
+        for (String especial : IDIOMAS_ESPECIAIS) {
+            if (especial.equals(idioma)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
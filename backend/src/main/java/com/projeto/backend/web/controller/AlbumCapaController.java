@@ -23,8 +23,13 @@ import com.projeto.backend.domain.album.AlbumCapaService;
 import com.projeto.backend.domain.album.TipoCapa;
 import com.projeto.backend.web.dto.album.AlbumCapaResponse;
 import com.projeto.backend.web.dto.album.AlbumCapaUpdateRequest;
+import com.projeto.backend.web.dto.album.CapaUploadConfirmacaoRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlResponse;
 import com.projeto.backend.web.openapi.AlbumCapaControllerOpenApi;
 
+import jakarta.validation.Valid;
+
 @RestController
 @RequestMapping("/api/v1")
 public class AlbumCapaController implements AlbumCapaControllerOpenApi {
@@ -58,6 +63,28 @@ public class AlbumCapaController implements AlbumCapaControllerOpenApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(responses);
     }
 
+    @PostMapping("/albuns/{albumId}/capas/upload-url")
+    public ResponseEntity<CapaUploadUrlResponse> gerarUrlUpload(
+        @PathVariable Long albumId,
+        @Valid @RequestBody CapaUploadUrlRequest request
+    ) {
+        logger.info("POST /api/v1/albuns/{}/capas/upload-url", albumId);
+
+        CapaUploadUrlResponse response = albumCapaService.gerarUrlUpload(albumId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/albuns/{albumId}/capas/confirmar")
+    public ResponseEntity<AlbumCapaResponse> confirmarUpload(
+        @PathVariable Long albumId,
+        @Valid @RequestBody CapaUploadConfirmacaoRequest request
+    ) {
+        logger.info("POST /api/v1/albuns/{}/capas/confirmar", albumId);
+
+        AlbumCapaResponse response = albumCapaService.confirmarUpload(albumId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/albuns/{albumId}/capas")
     public ResponseEntity<List<AlbumCapaResponse>> listarPorAlbum(@PathVariable Long albumId) {
         logger.info("GET /api/v1/albuns/{}/capas", albumId);
@@ -17,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.projeto.backend.domain.album.AlbumService;
+import com.projeto.backend.shared.CursorPage;
 import com.projeto.backend.web.dto.album.AlbumRequest;
 import com.projeto.backend.web.dto.album.AlbumResponse;
 import com.projeto.backend.web.openapi.AlbumControllerOpenApi;
@@ -45,21 +47,46 @@ public class AlbumController implements AlbumControllerOpenApi {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "nome") String sortBy,
-        @RequestParam(defaultValue = "asc") String sortDir
+        @RequestParam(defaultValue = "asc") String sortDir,
+        @RequestParam(required = false) String fields,
+        WebRequest request
     ) {
-        logger.info("GET /api/v1/albuns - nome: {}, artista: {}, genero: {}, page: {}, size: {}",
-                nome, artista, genero, page, size);
+        logger.info("GET /api/v1/albuns - nome: {}, artista: {}, genero: {}, page: {}, size: {}, fields: {}",
+                nome, artista, genero, page, size, fields);
 
-        Page<AlbumResponse> albuns = albumService.listar(nome, artista, genero, page, size, sortBy, sortDir);
-        return ResponseEntity.ok(albuns);
+        SelecaoCamposAdvice.registrar(request, fields);
+        return RespostaCondicional.listagem(request, albumService.ultimaAlteracao(),
+                new Object[] { nome, artista, genero, page, size, sortBy, sortDir, fields },
+                () -> albumService.listar(nome, artista, genero, page, size, sortBy, sortDir, fields));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<AlbumResponse>> listarCursor(
+        @RequestParam(required = false) String nome,
+        @RequestParam(required = false) String artista,
+        @RequestParam(required = false) String genero,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "nome") String sortBy,
+        @RequestParam(defaultValue = "asc") String sortDir,
+        @RequestParam(required = false) String fields,
+        WebRequest request
+    ) {
+        logger.info("GET /api/v1/albuns/cursor - nome: {}, artista: {}, genero: {}, size: {}, fields: {}",
+                nome, artista, genero, size, fields);
+
+        SelecaoCamposAdvice.registrar(request, fields);
+        return RespostaCondicional.listagem(request, albumService.ultimaAlteracao(),
+                new Object[] { nome, artista, genero, after, size, sortBy, sortDir, fields },
+                () -> albumService.listarCursor(nome, artista, genero, after, size, sortBy, sortDir, fields));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<AlbumResponse> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<AlbumResponse> buscarPorId(@PathVariable Long id, WebRequest request) {
         logger.info("GET /api/v1/albuns/{}", id);
 
-        AlbumResponse album = albumService.buscarPorId(id);
-        return ResponseEntity.ok(album);
+        return RespostaCondicional.recurso(request, id, albumService.ultimaAlteracao(id),
+                () -> albumService.buscarPorId(id));
     }
 
     @GetMapping("/generos")
@@ -17,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.projeto.backend.domain.album.AlbumService;
 import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.shared.CursorPage;
 import com.projeto.backend.web.dto.album.AlbumResponse;
 import com.projeto.backend.web.dto.artista.ArtistaRequest;
 import com.projeto.backend.web.dto.artista.ArtistaResponse;
@@ -45,20 +47,43 @@ public class ArtistaController implements ArtistaControllerOpenApi {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "nome") String sortBy,
-        @RequestParam(defaultValue = "asc") String sortDir
+        @RequestParam(defaultValue = "asc") String sortDir,
+        @RequestParam(required = false) String fields,
+        WebRequest request
     ) {
-        logger.info("GET /api/v1/artistas - nome: {}, page: {}, size: {}", nome, page, size);
+        logger.info("GET /api/v1/artistas - nome: {}, page: {}, size: {}, fields: {}", nome, page, size, fields);
 
-        Page<ArtistaResponse> artistas = artistaService.listar(nome, page, size, sortBy, sortDir);
-        return ResponseEntity.ok(artistas);
+        SelecaoCamposAdvice.registrar(request, fields);
+        return RespostaCondicional.listagem(request, artistaService.ultimaAlteracao(),
+                new Object[] { nome, page, size, sortBy, sortDir, fields },
+                () -> artistaService.listar(nome, page, size, sortBy, sortDir, fields));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ArtistaResponse>> listarCursor(
+        @RequestParam(required = false) String nome,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "nome") String sortBy,
+        @RequestParam(defaultValue = "asc") String sortDir,
+        @RequestParam(required = false) String fields,
+        WebRequest request
+    ) {
+        logger.info("GET /api/v1/artistas/cursor - nome: {}, size: {}, sortBy: {}, fields: {}",
+                nome, size, sortBy, fields);
+
+        SelecaoCamposAdvice.registrar(request, fields);
+        return RespostaCondicional.listagem(request, artistaService.ultimaAlteracao(),
+                new Object[] { nome, after, size, sortBy, sortDir, fields },
+                () -> artistaService.listarCursor(nome, after, size, sortBy, sortDir, fields));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ArtistaResponse> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<ArtistaResponse> buscarPorId(@PathVariable Long id, WebRequest request) {
         logger.info("GET /api/v1/artistas/{}", id);
 
-        ArtistaResponse artista = artistaService.buscarPorId(id);
-        return ResponseEntity.ok(artista);
+        return RespostaCondicional.recurso(request, id, artistaService.ultimaAlteracao(id),
+                () -> artistaService.buscarPorId(id));
     }
     
     @PostMapping
@@ -92,10 +117,11 @@ public class ArtistaController implements ArtistaControllerOpenApi {
      * Lista álbuns de um artista.
      */
     @GetMapping("/{id}/albuns")
-    public ResponseEntity<List<AlbumResponse>> listarAlbuns(@PathVariable Long id) {
+    public ResponseEntity<List<AlbumResponse>> listarAlbuns(@PathVariable Long id, WebRequest request) {
         logger.info("GET /api/v1/artistas/{}/albuns", id);
 
-        List<AlbumResponse> albuns = albumService.listarTodosPorArtista(id);
-        return ResponseEntity.ok(albuns);
+        return RespostaCondicional.listagem(request, albumService.ultimaAlteracao(),
+                new Object[] { id },
+                () -> albumService.listarTodosPorArtista(id));
     }
 }
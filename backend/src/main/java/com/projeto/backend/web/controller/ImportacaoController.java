@@ -0,0 +1,55 @@
+package com.projeto.backend.web.controller;
+
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projeto.backend.infrastructure.importacao.FormatoImportacao;
+import com.projeto.backend.infrastructure.importacao.ImportacaoService;
+import com.projeto.backend.web.dto.importacao.ImportacaoResponse;
+import com.projeto.backend.web.openapi.ImportacaoControllerOpenApi;
+
+@RestController
+@RequestMapping("/api/v1/importacao")
+public class ImportacaoController implements ImportacaoControllerOpenApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoController.class);
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @PostMapping(value = "/artistas", consumes = {FormatoImportacao.MEDIA_TYPE_NDJSON, FormatoImportacao.MEDIA_TYPE_CSV})
+    public ResponseEntity<ImportacaoResponse> importarArtistas(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) Integer batchSize,
+            InputStream body
+    ) {
+        logger.info("POST /api/v1/importacao/artistas - contentType: {}, batchSize: {}", contentType, batchSize);
+
+        ImportacaoResponse response = importacaoService.importarArtistas(
+                body, FormatoImportacao.fromContentType(contentType), batchSize);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/albuns", consumes = {FormatoImportacao.MEDIA_TYPE_NDJSON, FormatoImportacao.MEDIA_TYPE_CSV})
+    public ResponseEntity<ImportacaoResponse> importarAlbuns(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) Integer batchSize,
+            InputStream body
+    ) {
+        logger.info("POST /api/v1/importacao/albuns - contentType: {}, batchSize: {}", contentType, batchSize);
+
+        ImportacaoResponse response = importacaoService.importarAlbuns(
+                body, FormatoImportacao.fromContentType(contentType), batchSize);
+        return ResponseEntity.ok(response);
+    }
+}
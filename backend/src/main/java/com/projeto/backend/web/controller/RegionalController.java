@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.projeto.backend.domain.regional.RegionalService;
 import com.projeto.backend.infrastructure.sync.RegionalSyncService;
@@ -37,12 +38,14 @@ public class RegionalController implements RegionalControllerOpenApi {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "nome") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir
+            @RequestParam(defaultValue = "asc") String sortDir,
+            WebRequest request
     ) {
         logger.info("GET /api/v1/regionais - nome: {}, page: {}, size: {}", nome, page, size);
 
-        Page<RegionalResponse> regionais = regionalService.listar(nome, page, size, sortBy, sortDir);
-        return ResponseEntity.ok(regionais);
+        return RespostaCondicional.listagem(request, regionalService.ultimaAlteracao(),
+                new Object[] { nome, page, size, sortBy, sortDir },
+                () -> regionalService.listar(nome, page, size, sortBy, sortDir));
     }
 
     @PostMapping("/sync")
@@ -63,16 +66,18 @@ public class RegionalController implements RegionalControllerOpenApi {
                 "total", result.total(),
                 "novos", result.novos(),
                 "atualizados", result.atualizados(),
+                "inativados", result.inativados(),
                 "message", result.message()
         ));
     }
 
     @GetMapping("/todas")
-    public ResponseEntity<List<RegionalResponse>> listarTodas() {
+    public ResponseEntity<List<RegionalResponse>> listarTodas(WebRequest request) {
         logger.info("GET /api/v1/regionais/todas");
 
-        List<RegionalResponse> regionais = regionalService.listarTodas();
-        return ResponseEntity.ok(regionais);
+        return RespostaCondicional.listagem(request, regionalService.ultimaAlteracao(),
+                new Object[0],
+                regionalService::listarTodas);
     }
     
     @PostMapping("/sync/async")
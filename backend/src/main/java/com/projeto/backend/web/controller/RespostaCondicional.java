@@ -0,0 +1,127 @@
+package com.projeto.backend.web.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * GET condicional (ETag / Last-Modified) dos recursos do catálogo.
+ *
+ * Os validadores são derivados da data da última alteração (updated_at),
+ * lida por uma consulta escalar. Se o cliente já tem a versão atual
+ * (If-None-Match / If-Modified-Since), a resposta é 304 sem que a consulta
+ * do corpo seja executada; caso contrário o corpo é montado normalmente.
+ *
+ * Recursos individuais recebem ETag forte (ID e versão); páginas de listagem
+ * recebem ETag fraca (versão da tabela e SHA-256 dos parâmetros da consulta).
+ * As respostas levam Cache-Control: no-cache, para que navegadores e o proxy
+ * guardem o corpo mas sempre revalidem.
+ *
+ * Limitação: a versão de uma listagem é o max(updated_at) da tabela, e o
+ * updated_at é gravado antes do commit. Se uma transação com timestamp
+ * anterior ao máximo já visível fizer commit depois dele, o máximo não muda
+ * e a alteração não invalida a ETag: clientes que revalidarem nesse
+ * intervalo recebem 304 com a página antiga até a próxima alteração da
+ * tabela. O mesmo vale para o Last-Modified.
+ */
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * Responde a consulta de um recurso individual.
+     *
+     * @param request Requisição (cabeçalhos condicionais)
+     * @param id ID do recurso
+     * @param alteracao Última alteração do recurso; vazio se não existir (o
+     *        corpo é montado sem validadores, e decide a resposta, ex.: 404)
+     * @param corpo Consulta do corpo, executada apenas se necessário
+     */
+    static <T> ResponseEntity<T> recurso(WebRequest request, Object id, Optional<LocalDateTime> alteracao,
+            Supplier<T> corpo) {
+        return alteracao
+                .map(data -> responder(request, "\"" + id + "-" + versao(data) + "\"", data, corpo))
+                .orElseGet(() -> ResponseEntity.ok(corpo.get()));
+    }
+
+    /**
+     * Responde uma página de listagem.
+     *
+     * @param request Requisição (cabeçalhos condicionais)
+     * @param alteracao Última alteração entre os registros da tabela (inclusive
+     *        inativos); vazio se a tabela estiver vazia
+     * @param parametros Filtros, página e ordenação da consulta
+     * @param corpo Consulta do corpo, executada apenas se necessário
+     */
+    static <T> ResponseEntity<T> listagem(WebRequest request, Optional<LocalDateTime> alteracao,
+            Object[] parametros, Supplier<T> corpo) {
+        return alteracao
+                .map(data -> responder(request,
+                        "W/\"" + versao(data) + "-" + hashParametros(parametros) + "\"",
+                        data, corpo))
+                .orElseGet(() -> ResponseEntity.ok(corpo.get()));
+    }
+
+    private static <T> ResponseEntity<T> responder(WebRequest request, String etag, LocalDateTime alteracao,
+            Supplier<T> corpo) {
+        long ultimaAlteracao = alteracao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        if (request.checkNotModified(etag, ultimaAlteracao)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(ultimaAlteracao)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(ultimaAlteracao)
+                .cacheControl(CacheControl.noCache())
+                .body(corpo.get());
+    }
+
+    /**
+     * SHA-256 dos parâmetros normalizados: cada um é prefixado pelo tamanho
+     * da sua representação textual, e null tem marcador próprio, para que
+     * listas distintas (ex.: {"a,b"} e {"a", "b"}, ou null e "null") nunca
+     * gerem a mesma entrada.
+     */
+    private static String hashParametros(Object[] parametros) {
+        StringBuilder normalizado = new StringBuilder();
+        for (Object parametro : parametros) {
+            if (parametro == null) {
+                normalizado.append("-;");
+            } else {
+                String valor = parametro.toString();
+                normalizado.append(valor.length()).append(':').append(valor).append(';');
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizado.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Versão em microssegundos (precisão do timestamp no PostgreSQL), em hexadecimal.
+     */
+    private static String versao(LocalDateTime alteracao) {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), alteracao);
+        return Long.toHexString(micros);
+    }
+}
@@ -0,0 +1,83 @@
+package com.projeto.backend.web.controller;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.projeto.backend.shared.Campos;
+
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Aplica a seleção de campos (parâmetro {@code fields}) ao JSON das listagens.
+ *
+ * O controller registra os campos pedidos na requisição; na escrita da
+ * resposta, o filtro {@link Campos#FILTRO} das classes anotadas com
+ * {@code @JsonFilter} passa a serializar apenas esses campos. Os campos já
+ * foram validados pelo serviço, que também limitou as colunas da consulta.
+ */
+@ControllerAdvice
+public class SelecaoCamposAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String ATRIBUTO = SelecaoCamposAdvice.class.getName() + ".campos";
+
+    /**
+     * Registra os campos pedidos para a resposta da requisição atual.
+     *
+     * @param request Requisição
+     * @param fields Lista separada por vírgulas (opcional; vazio = todos os campos)
+     */
+    static void registrar(WebRequest request, String fields) {
+        Set<String> campos = Campos.separar(fields);
+        if (!campos.isEmpty()) {
+            request.setAttribute(ATRIBUTO, campos, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        return body;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> determineWriteHints(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType) {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        Object campos = atributos != null ? atributos.getAttribute(ATRIBUTO, RequestAttributes.SCOPE_REQUEST) : null;
+        if (campos == null) {
+            return null;
+        }
+
+        // Mesma chave usada pelo conversor Jackson para o FilterProvider da escrita
+        return Map.of(FilterProvider.class.getName(), filtro((Set<String>) campos));
+    }
+
+    /**
+     * Filtro que serializa apenas os campos informados.
+     */
+    static FilterProvider filtro(Set<String> campos) {
+        return new SimpleFilterProvider()
+                .addFilter(Campos.FILTRO, SimpleBeanPropertyFilter.filterOutAllExcept(campos));
+    }
+}
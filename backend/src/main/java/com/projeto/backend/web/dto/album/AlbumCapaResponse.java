@@ -1,6 +1,7 @@
 package com.projeto.backend.web.dto.album;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import com.projeto.backend.domain.album.AlbumCapa;
 import com.projeto.backend.domain.album.TipoCapa;
@@ -37,6 +38,10 @@ public class AlbumCapaResponse {
     @Schema(description = "URL pré-assinada para acesso à imagem (expira em 30 minutos)")
     private String url;
 
+    @Schema(description = "URLs das miniaturas JPEG por largura em pixels (ausente enquanto são geradas)",
+            example = "{\"160\": \"http://localhost:9000/album-capas/conteudo/ab/abc-w160.jpg\"}")
+    private Map<Integer, String> miniaturas;
+
     @Schema(description = "Data de upload")
     private LocalDateTime createdAt;
 
@@ -143,6 +148,14 @@ public class AlbumCapaResponse {
         this.url = url;
     }
 
+    public Map<Integer, String> getMiniaturas() {
+        return miniaturas;
+    }
+
+    public void setMiniaturas(Map<Integer, String> miniaturas) {
+        this.miniaturas = miniaturas;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -4,11 +4,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumListagem;
+import com.projeto.backend.shared.Campos;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Dados do álbum")
+@JsonFilter(Campos.FILTRO)
 public class AlbumResponse {
 
     @Schema(description = "ID do álbum", example = "1")
@@ -102,6 +106,30 @@ public class AlbumResponse {
         return response;
     }
 
+    /**
+     * Cria um AlbumResponse a partir da projeção de listagem
+     * (artista e total de capas já resolvidos na consulta; campos fora da
+     * seleção chegam nulos).
+     */
+    public static AlbumResponse fromListagem(AlbumListagem listagem) {
+        AlbumResponse response = new AlbumResponse();
+        response.setId(listagem.id());
+        response.setArtistaId(listagem.artistaId());
+        response.setArtistaNome(listagem.artistaNome());
+        response.setNome(listagem.nome());
+        response.setAnoLancamento(listagem.anoLancamento());
+        response.setGravadora(listagem.gravadora());
+        response.setGenero(listagem.genero());
+        response.setTotalFaixas(listagem.totalFaixas());
+        response.setDuracaoTotal(listagem.duracaoTotal());
+        response.setDescricao(listagem.descricao());
+        response.setTotalCapas(listagem.totalCapas() != null ? listagem.totalCapas().intValue() : 0);
+        response.setCreatedAt(listagem.createdAt());
+        response.setUpdatedAt(listagem.updatedAt());
+        response.setAtivo(listagem.ativo());
+        return response;
+    }
+
     // Getters e Setters
     public Long getId() {
         return id;
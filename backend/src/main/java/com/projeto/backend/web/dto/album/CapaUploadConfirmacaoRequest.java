@@ -0,0 +1,64 @@
+package com.projeto.backend.web.dto.album;
+
+import com.projeto.backend.domain.album.TipoCapa;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Confirmação de uma capa enviada diretamente ao armazenamento")
+public class CapaUploadConfirmacaoRequest {
+
+    @Schema(
+            description = "Chave do objeto retornada junto com a URL de envio",
+            example = "artista-1/album-1/3f1c2a9e-5b7d-4c8e-9a1f-2d3e4f5a6b7c.jpg",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Chave do objeto é obrigatória")
+    private String objectKey;
+
+    @Schema(
+            description = "Nome original do arquivo",
+            example = "capa-frente.jpg",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Nome do arquivo é obrigatório")
+    @Size(max = 255, message = "Nome do arquivo deve ter no máximo 255 caracteres")
+    private String nomeArquivo;
+
+    @Schema(description = "Tipo da capa", example = "FRENTE")
+    private TipoCapa tipoCapa = TipoCapa.FRENTE;
+
+    public CapaUploadConfirmacaoRequest() {
+    }
+
+    public CapaUploadConfirmacaoRequest(String objectKey, String nomeArquivo, TipoCapa tipoCapa) {
+        this.objectKey = objectKey;
+        this.nomeArquivo = nomeArquivo;
+        this.tipoCapa = tipoCapa;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public String getNomeArquivo() {
+        return nomeArquivo;
+    }
+
+    public void setNomeArquivo(String nomeArquivo) {
+        this.nomeArquivo = nomeArquivo;
+    }
+
+    public TipoCapa getTipoCapa() {
+        return tipoCapa;
+    }
+
+    public void setTipoCapa(TipoCapa tipoCapa) {
+        this.tipoCapa = tipoCapa;
+    }
+}
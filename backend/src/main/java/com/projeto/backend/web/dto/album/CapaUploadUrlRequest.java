@@ -0,0 +1,70 @@
+package com.projeto.backend.web.dto.album;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Dados do arquivo a ser enviado diretamente ao armazenamento")
+public class CapaUploadUrlRequest {
+
+    @Schema(
+            description = "Nome original do arquivo",
+            example = "capa-frente.jpg",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Nome do arquivo é obrigatório")
+    @Size(max = 255, message = "Nome do arquivo deve ter no máximo 255 caracteres")
+    private String nomeArquivo;
+
+    @Schema(
+            description = "Tipo de conteúdo (fixado na política do formulário de envio)",
+            example = "image/jpeg",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Tipo de conteúdo é obrigatório")
+    private String contentType;
+
+    @Schema(
+            description = "Tamanho do arquivo em bytes (máximo 10MB)",
+            example = "245678",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotNull(message = "Tamanho é obrigatório")
+    @Positive(message = "Tamanho deve ser maior que zero")
+    private Long tamanhoBytes;
+
+    public CapaUploadUrlRequest() {
+    }
+
+    public CapaUploadUrlRequest(String nomeArquivo, String contentType, Long tamanhoBytes) {
+        this.nomeArquivo = nomeArquivo;
+        this.contentType = contentType;
+        this.tamanhoBytes = tamanhoBytes;
+    }
+
+    public String getNomeArquivo() {
+        return nomeArquivo;
+    }
+
+    public void setNomeArquivo(String nomeArquivo) {
+        this.nomeArquivo = nomeArquivo;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getTamanhoBytes() {
+        return tamanhoBytes;
+    }
+
+    public void setTamanhoBytes(Long tamanhoBytes) {
+        this.tamanhoBytes = tamanhoBytes;
+    }
+}
@@ -0,0 +1,78 @@
+package com.projeto.backend.web.dto.album;
+
+import java.time.Instant;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Formulário pré-assinado para envio direto da capa ao armazenamento")
+public class CapaUploadUrlResponse {
+
+    @Schema(description = "Chave do objeto; deve ser informada na confirmação",
+            example = "uploads/artista-1/album-1/3f1c2a9e-5b7d-4c8e-9a1f-2d3e4f5a6b7c.jpg")
+    private String objectKey;
+
+    @Schema(description = "URL do formulário de envio")
+    private String url;
+
+    @Schema(description = "Método HTTP do envio", example = "POST")
+    private String metodo;
+
+    @Schema(description = "Campos do formulário (multipart/form-data), enviados antes do campo file; "
+            + "incluem a política assinada, que limita chave, tipo e tamanho")
+    private Map<String, String> campos;
+
+    @Schema(description = "Instante em que a URL expira")
+    private Instant expiraEm;
+
+    public CapaUploadUrlResponse() {
+    }
+
+    public CapaUploadUrlResponse(String objectKey, String url, String metodo, Map<String, String> campos, Instant expiraEm) {
+        this.objectKey = objectKey;
+        this.url = url;
+        this.metodo = metodo;
+        this.campos = campos;
+        this.expiraEm = expiraEm;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getMetodo() {
+        return metodo;
+    }
+
+    public void setMetodo(String metodo) {
+        this.metodo = metodo;
+    }
+
+    public Map<String, String> getCampos() {
+        return campos;
+    }
+
+    public void setCampos(Map<String, String> campos) {
+        this.campos = campos;
+    }
+
+    public Instant getExpiraEm() {
+        return expiraEm;
+    }
+
+    public void setExpiraEm(Instant expiraEm) {
+        this.expiraEm = expiraEm;
+    }
+}
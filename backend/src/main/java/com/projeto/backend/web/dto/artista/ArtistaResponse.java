@@ -2,12 +2,16 @@ package com.projeto.backend.web.dto.artista;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaListagem;
 import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.shared.Campos;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Dados do artista")
+@JsonFilter(Campos.FILTRO)
 public class ArtistaResponse {
 
     @Schema(description = "ID do artista", example = "1")
@@ -34,7 +38,7 @@ public class ArtistaResponse {
     @Schema(description = "Ativo")
     private Boolean ativo;
     
-    @Schema(description = "Quantidade de álbuns", example = "7")
+    @Schema(description = "Quantidade de álbuns ativos", example = "7")
     private Integer totalAlbuns;
 
     @Schema(description = "Data de criação")
@@ -67,11 +71,22 @@ public class ArtistaResponse {
     }
 
     /**
-     * Cria um ArtistaResponse com contagem de álbuns.
+     * Cria um ArtistaResponse a partir da projeção de listagem
+     * (campos fora da seleção chegam nulos).
      */
-    public static ArtistaResponse fromEntityWithAlbumCount(Artista artista, Long totalAlbuns) {
-        ArtistaResponse response = fromEntity(artista);
-        response.setTotalAlbuns(totalAlbuns != null ? totalAlbuns.intValue() : 0);
+    public static ArtistaResponse fromListagem(ArtistaListagem listagem) {
+        ArtistaResponse response = new ArtistaResponse();
+        response.setId(listagem.id());
+        response.setNome(listagem.nome());
+        response.setTipo(listagem.tipo());
+        response.setTipoDescricao(listagem.tipo() != null ? listagem.tipo().getDescricao() : null);
+        response.setPaisOrigem(listagem.paisOrigem());
+        response.setAnoFormacao(listagem.anoFormacao());
+        response.setBiografia(listagem.biografia());
+        response.setTotalAlbuns(listagem.totalAlbuns());
+        response.setCreatedAt(listagem.createdAt());
+        response.setUpdatedAt(listagem.updatedAt());
+        response.setAtivo(listagem.ativo());
         return response;
     }
 
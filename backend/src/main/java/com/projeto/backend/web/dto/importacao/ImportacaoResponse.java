@@ -0,0 +1,32 @@
+package com.projeto.backend.web.dto.importacao;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resultado de uma importação em lote.
+ *
+ * @param totalRegistros Registros lidos do arquivo
+ * @param importados Registros gravados
+ * @param rejeitados Registros rejeitados (formato, validação ou conflito)
+ * @param lotes Quantidade de lotes gravados
+ * @param erros Erros por linha (limitados a importacao.max-erros)
+ * @param errosOmitidos Erros além do limite, não detalhados
+ */
+@Schema(description = "Resultado da importação em lote")
+public record ImportacaoResponse(
+        long totalRegistros,
+        long importados,
+        long rejeitados,
+        int lotes,
+        List<ErroLinha> erros,
+        long errosOmitidos
+) {
+
+    @Schema(description = "Erro de um registro da importação")
+    public record ErroLinha(
+            @Schema(description = "Linha do arquivo em que o registro começa", example = "42") long linha,
+            @Schema(description = "Motivo da rejeição", example = "Nome é obrigatório") String mensagem
+    ) {}
+}
@@ -8,6 +8,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.projeto.backend.domain.album.TipoCapa;
 import com.projeto.backend.web.dto.album.AlbumCapaResponse;
 import com.projeto.backend.web.dto.album.AlbumCapaUpdateRequest;
+import com.projeto.backend.web.dto.album.CapaUploadConfirmacaoRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -55,6 +58,42 @@ public interface AlbumCapaControllerOpenApi {
         @Parameter(description = "Tipo das capas", example = "FRENTE") TipoCapa tipoCapa
     );
 	
+	@Operation(
+        summary = "URL de upload direto",
+        description = "Gera um formulário pré-assinado (POST) para enviar a imagem diretamente ao armazenamento, sem passar pela API. "
+                + "O envio deve usar os campos retornados, seguidos do arquivo no campo file; a política recusa tipo diferente "
+                + "ou tamanho maior que o declarado. O envio deve ser confirmado em /albuns/{albumId}/capas/confirmar; "
+                + "sem confirmação, o arquivo é removido."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "URL gerada com sucesso",
+                content = @Content(schema = @Schema(implementation = CapaUploadUrlResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Tipo ou tamanho inválido", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    public ResponseEntity<CapaUploadUrlResponse> gerarUrlUpload(
+        @Parameter(description = "ID do álbum") Long albumId,
+        @RequestBody CapaUploadUrlRequest request
+    );
+
+	@Operation(
+        summary = "Confirmar upload direto",
+        description = "Registra a capa enviada pelo formulário pré-assinado. O arquivo é conferido no armazenamento "
+                + "e removido se não for uma imagem de até 10MB."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Capa registrada com sucesso",
+                content = @Content(schema = @Schema(implementation = AlbumCapaResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Arquivo não enviado, inválido ou já confirmado", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    public ResponseEntity<AlbumCapaResponse> confirmarUpload(
+        @Parameter(description = "ID do álbum") Long albumId,
+        @RequestBody CapaUploadConfirmacaoRequest request
+    );
+
 	@Operation(
             summary = "Listar capas do álbum",
             description = "Retorna todas as capas de um álbum com URLs pré-assinadas (válidas por 30 minutos)"
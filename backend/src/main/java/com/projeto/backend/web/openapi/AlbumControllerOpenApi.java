@@ -7,7 +7,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.WebRequest;
 
+import com.projeto.backend.shared.CursorPage;
 import com.projeto.backend.web.dto.album.AlbumRequest;
 import com.projeto.backend.web.dto.album.AlbumResponse;
 
@@ -35,6 +37,8 @@ public interface AlbumControllerOpenApi {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de álbuns retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Campos inválidos em fields", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
     public ResponseEntity<Page<AlbumResponse>> listar(
@@ -44,7 +48,34 @@ public interface AlbumControllerOpenApi {
             @Parameter(description = "Número da página (começa em 0)") int page,
             @Parameter(description = "Quantidade de itens por página") int size,
             @Parameter(description = "Campo para ordenação (nome, anoLancamento, genero)") String sortBy,
-            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir
+            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,nome,anoLancamento,artistaNome); "
+                    + "apenas as colunas correspondentes são lidas", required = false) String fields,
+            @Parameter(hidden = true) WebRequest request
+    );
+
+    @Operation(
+            summary = "Listar álbuns por cursor",
+            description = "Retorna álbuns paginados por cursor (keyset). Use o nextCursor da resposta "
+                    + "no parâmetro after para obter a página seguinte; não há contagem total"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de álbuns retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou campos inválidos", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    public ResponseEntity<CursorPage<AlbumResponse>> listarCursor(
+            @Parameter(description = "Filtrar por nome do álbum", required = false) String nome,
+            @Parameter(description = "Filtrar por nome do artista", required = false) String artista,
+            @Parameter(description = "Filtrar por gênero musical", required = false) String genero,
+            @Parameter(description = "Cursor da página anterior (nextCursor)", required = false) String after,
+            @Parameter(description = "Quantidade de itens por página") int size,
+            @Parameter(description = "Campo para ordenação (nome, anoLancamento, genero)") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,nome,anoLancamento,artistaNome); "
+                    + "apenas as colunas correspondentes são lidas", required = false) String fields,
+            @Parameter(hidden = true) WebRequest request
     );
     
     @Operation(
@@ -54,11 +85,15 @@ public interface AlbumControllerOpenApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Álbum encontrado",
                     content = @Content(schema = @Schema(implementation = AlbumResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
             @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AlbumResponse> buscarPorId(@Parameter(description = "ID do álbum") Long id);
+    public ResponseEntity<AlbumResponse> buscarPorId(
+            @Parameter(description = "ID do álbum") Long id,
+            @Parameter(hidden = true) WebRequest request
+    );
     
     @Operation(
             summary = "Listar gêneros",
@@ -2,7 +2,9 @@ package com.projeto.backend.web.openapi;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import com.projeto.backend.shared.CursorPage;
 import com.projeto.backend.web.dto.artista.ArtistaRequest;
 import com.projeto.backend.web.dto.artista.ArtistaResponse;
 
@@ -26,14 +28,41 @@ public interface ArtistaControllerOpenApi {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de artistas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Campos inválidos em fields", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
     public ResponseEntity<Page<ArtistaResponse>> listar(
             @Parameter(description = "Filtrar por nome do artista", required = false) String nome,
             @Parameter(description = "Número da página (começa em 0)") int page,
             @Parameter(description = "Quantidade de itens por página") int size,
-            @Parameter(description = "Campo para ordenação (nome, tipo, anoFormacao)") String sortBy,
-            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir
+            @Parameter(description = "Campo para ordenação (nome, tipo, anoFormacao, totalAlbuns)") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,nome,tipo,totalAlbuns); "
+                    + "apenas as colunas correspondentes são lidas", required = false) String fields,
+            @Parameter(hidden = true) WebRequest request
+    );
+
+    @Operation(
+            summary = "Listar artistas por cursor",
+            description = "Retorna artistas paginados por cursor (keyset). Use o nextCursor da resposta "
+                    + "no parâmetro after para obter a página seguinte; não há contagem total"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de artistas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou campos inválidos", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    public ResponseEntity<CursorPage<ArtistaResponse>> listarCursor(
+            @Parameter(description = "Filtrar por nome do artista", required = false) String nome,
+            @Parameter(description = "Cursor da página anterior (nextCursor)", required = false) String after,
+            @Parameter(description = "Quantidade de itens por página") int size,
+            @Parameter(description = "Campo para ordenação (nome, tipo, anoFormacao, totalAlbuns)") String sortBy,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,nome,tipo,totalAlbuns); "
+                    + "apenas as colunas correspondentes são lidas", required = false) String fields,
+            @Parameter(hidden = true) WebRequest request
     );
     
     @Operation(
@@ -43,10 +72,14 @@ public interface ArtistaControllerOpenApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Artista encontrado",
                     content = @Content(schema = @Schema(implementation = ArtistaResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
             @ApiResponse(responseCode = "404", description = "Artista não encontrado", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
-    public ResponseEntity<ArtistaResponse> buscarPorId(@Parameter(description = "ID do artista") Long id);
+    public ResponseEntity<ArtistaResponse> buscarPorId(
+            @Parameter(description = "ID do artista") Long id,
+            @Parameter(hidden = true) WebRequest request
+    );
     
     @Operation(
             summary = "Criar artista",
@@ -0,0 +1,64 @@
+package com.projeto.backend.web.openapi;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+
+import com.projeto.backend.web.dto.importacao.ImportacaoResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Importação", description = "Importação em lote de artistas e álbuns (NDJSON ou CSV)")
+@SecurityRequirement(name = "bearerAuth")
+public interface ImportacaoControllerOpenApi {
+
+    @Operation(
+        summary = "Importar artistas",
+        description = "Importa artistas a partir de NDJSON (um objeto por linha) ou CSV com cabeçalho "
+                + "(nome,tipo,paisOrigem,anoFormacao,biografia). Os registros são validados individualmente "
+                + "e gravados em lotes; nomes já existentes são rejeitados. Uma notificação é enviada por lote."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída, com erros por linha"),
+        @ApiResponse(responseCode = "400", description = "Formato ou batchSize inválido", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    @RequestBody(content = {
+        @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string")),
+        @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+    })
+    public ResponseEntity<ImportacaoResponse> importarArtistas(
+        @Parameter(hidden = true) String contentType,
+        @Parameter(description = "Registros por lote (padrão: importacao.batch-size)") Integer batchSize,
+        @Parameter(hidden = true) InputStream body
+    );
+
+    @Operation(
+        summary = "Importar álbuns",
+        description = "Importa álbuns a partir de NDJSON (um objeto por linha) ou CSV com cabeçalho "
+                + "(artistaId,nome,anoLancamento,gravadora,genero,totalFaixas,duracaoTotal,descricao). "
+                + "Registros de artistas inexistentes ou inativos são rejeitados. Uma notificação é enviada por lote."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída, com erros por linha"),
+        @ApiResponse(responseCode = "400", description = "Formato ou batchSize inválido", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
+    })
+    @RequestBody(content = {
+        @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string")),
+        @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+    })
+    public ResponseEntity<ImportacaoResponse> importarAlbuns(
+        @Parameter(hidden = true) String contentType,
+        @Parameter(description = "Registros por lote (padrão: importacao.batch-size)") Integer batchSize,
+        @Parameter(hidden = true) InputStream body
+    );
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import com.projeto.backend.infrastructure.sync.RegionalSyncService;
 import com.projeto.backend.web.dto.regional.RegionalResponse;
@@ -28,6 +29,7 @@ public interface RegionalControllerOpenApi {
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de regionais retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
     public ResponseEntity<Page<RegionalResponse>> listar(
@@ -35,7 +37,8 @@ public interface RegionalControllerOpenApi {
         @Parameter(description = "Número da página (começa em 0)") int page,
         @Parameter(description = "Quantidade de itens por página") int size,
         @Parameter(description = "Campo para ordenação") String sortBy,
-        @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir
+        @Parameter(description = "Direção da ordenação (asc ou desc)") String sortDir,
+        @Parameter(hidden = true) WebRequest request
     );
 	
 	@Operation(
@@ -56,9 +59,10 @@ public interface RegionalControllerOpenApi {
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista completa retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content)
     })
-    public ResponseEntity<List<RegionalResponse>> listarTodas();
+    public ResponseEntity<List<RegionalResponse>> listarTodas(@Parameter(hidden = true) WebRequest request);
 	
 	@Operation(
         summary = "Sincronizar regionais (async)",
@@ -0,0 +1,8 @@
+-- Capas passam a referenciar objetos endereçados pelo conteúdo (SHA-256):
+-- uma mesma imagem enviada para vários álbuns é armazenada uma única vez.
+-- O número de linhas com a mesma object_key é a contagem de referências.
+ALTER TABLE album_capa DROP CONSTRAINT uk_album_capa_object_key;
+
+CREATE INDEX idx_album_capa_object_key ON album_capa(object_key);
+
+COMMENT ON COLUMN album_capa.object_key IS 'Chave do objeto no MinIO; compartilhada entre capas com o mesmo conteúdo';
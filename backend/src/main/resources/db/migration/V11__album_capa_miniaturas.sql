@@ -0,0 +1,5 @@
+-- Miniaturas (JPEG em larguras fixas) geradas de forma assíncrona após o upload,
+-- gravadas ao lado do objeto original no MinIO.
+ALTER TABLE album_capa ADD COLUMN miniaturas_geradas BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN album_capa.miniaturas_geradas IS 'Indica se as miniaturas do objeto já estão disponíveis no MinIO';
@@ -0,0 +1,10 @@
+-- Buckets de rate limit compartilhados entre as instâncias (ratelimit.backend=JDBC).
+-- state: estado serializado do Bucket4j; expires_at: instante (epoch ms) em que
+-- o bucket estará cheio novamente, a partir do qual a linha pode ser removida.
+CREATE TABLE rate_limit_bucket (
+    id VARCHAR(255) PRIMARY KEY,
+    state BYTEA,
+    expires_at BIGINT
+);
+
+CREATE INDEX idx_rate_limit_bucket_expires_at ON rate_limit_bucket (expires_at);
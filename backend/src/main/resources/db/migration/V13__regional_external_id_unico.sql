@@ -0,0 +1,17 @@
+-- A sincronização de regionais grava com INSERT ... ON CONFLICT (external_id),
+-- que exige um índice único na coluna. Havendo registros repetidos para o
+-- mesmo external_id, o mais antigo continua vinculado à API e os demais são
+-- desvinculados e inativados.
+UPDATE regional r
+SET external_id = NULL,
+    ativo = FALSE,
+    updated_at = CURRENT_TIMESTAMP
+WHERE r.external_id IS NOT NULL
+  AND EXISTS (
+      SELECT 1 FROM regional o
+      WHERE o.external_id = r.external_id
+        AND o.id < r.id
+  );
+
+DROP INDEX IF EXISTS idx_regional_external_id;
+CREATE UNIQUE INDEX uk_regional_external_id ON regional(external_id);
@@ -0,0 +1,12 @@
+-- Estado da última sincronização concluída de cada feed de regionais, usado
+-- para requisições condicionais (If-None-Match / If-Modified-Since) e para
+-- descartar respostas com o mesmo conteúdo (hash SHA-256 do corpo).
+CREATE TABLE regional_sync_estado (
+    api_url         VARCHAR(500)    PRIMARY KEY,
+    etag            VARCHAR(500),
+    last_modified   VARCHAR(100),
+    content_hash    VARCHAR(64),
+    updated_at      TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE regional_sync_estado IS 'Validadores HTTP e hash do conteúdo da última sincronização de regionais';
@@ -0,0 +1,28 @@
+-- Lease das tarefas que devem rodar em uma única instância por vez (ex.: a
+-- sincronização de regionais). dono: instância que detém o lease;
+-- expira_em: instante (epoch ms) a partir do qual outra instância pode
+-- assumi-lo, renovado periodicamente enquanto a tarefa executa.
+CREATE TABLE sync_lease (
+    nome        VARCHAR(100)    PRIMARY KEY,
+    dono        VARCHAR(200),
+    expira_em   BIGINT          NOT NULL
+);
+
+-- Histórico das sincronizações de regionais, para acompanhar duração e volume.
+CREATE TABLE regional_sync_execucao (
+    id                  BIGSERIAL       PRIMARY KEY,
+    origem              VARCHAR(20)     NOT NULL,
+    instancia           VARCHAR(200)    NOT NULL,
+    iniciado_em         TIMESTAMP       NOT NULL,
+    duracao_ms          BIGINT          NOT NULL,
+    sucesso             BOOLEAN         NOT NULL,
+    novos               INTEGER         NOT NULL,
+    atualizados         INTEGER         NOT NULL,
+    inativados          INTEGER         NOT NULL,
+    bytes_recebidos     BIGINT          NOT NULL,
+    mensagem            VARCHAR(500)
+);
+
+CREATE INDEX idx_regional_sync_execucao_iniciado_em ON regional_sync_execucao(iniciado_em);
+
+COMMENT ON TABLE regional_sync_execucao IS 'Histórico das sincronizações de regionais (manuais e agendadas)';
@@ -0,0 +1,20 @@
+-- Total de álbuns ativos de cada artista, mantido pelas escritas de álbuns
+-- (AlbumService e importação) e recalculado periodicamente pelo reparo.
+-- A listagem de artistas passa a ler a coluna em vez de agrupar a tabela de
+-- álbuns a cada página.
+ALTER TABLE artista ADD COLUMN total_albuns INTEGER NOT NULL DEFAULT 0;
+
+UPDATE artista a
+SET total_albuns = c.total
+FROM (
+    SELECT artista_id, COUNT(*) AS total
+    FROM album
+    WHERE ativo = TRUE
+    GROUP BY artista_id
+) c
+WHERE c.artista_id = a.id;
+
+-- Paginação por cursor ordenada pelo total de álbuns
+CREATE INDEX idx_artista_total_albuns_id ON artista(total_albuns, id);
+
+COMMENT ON COLUMN artista.total_albuns IS 'Total de álbuns ativos do artista (desnormalizado)';
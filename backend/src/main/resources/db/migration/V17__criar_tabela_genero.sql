@@ -0,0 +1,47 @@
+-- Gêneros dos álbuns em tabela própria, com o total de álbuns ativos de
+-- cada um. A lista de gêneros deixa de ser um SELECT DISTINCT sobre os
+-- álbuns e o filtro por gênero passa a comparar album.genero_id, em vez de
+-- LOWER(genero), que não usava índice. A coluna album.genero é mantida com
+-- o texto informado (exibição e ordenação).
+CREATE TABLE genero (
+    id              BIGSERIAL       PRIMARY KEY,
+    nome            VARCHAR(100)    NOT NULL,
+    chave           VARCHAR(100)    NOT NULL,
+    total_albuns    INTEGER         NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uk_genero_chave ON genero(chave);
+
+-- Um gênero por chave (sem espaços nas pontas, minúscula); o nome é o menor
+-- entre as grafias existentes
+INSERT INTO genero (nome, chave)
+SELECT MIN(TRIM(genero)), LOWER(TRIM(genero))
+FROM album
+WHERE genero IS NOT NULL AND TRIM(genero) <> ''
+GROUP BY LOWER(TRIM(genero));
+
+ALTER TABLE album ADD COLUMN genero_id BIGINT NULL;
+
+UPDATE album al
+SET genero_id = g.id
+FROM genero g
+WHERE g.chave = LOWER(TRIM(al.genero));
+
+UPDATE genero g
+SET total_albuns = c.total
+FROM (
+    SELECT genero_id, COUNT(*) AS total
+    FROM album
+    WHERE ativo = TRUE AND genero_id IS NOT NULL
+    GROUP BY genero_id
+) c
+WHERE c.genero_id = g.id;
+
+ALTER TABLE album ADD CONSTRAINT fk_album_genero FOREIGN KEY (genero_id) REFERENCES genero(id);
+
+CREATE INDEX idx_album_genero_ref ON album(genero_id);
+
+COMMENT ON TABLE genero IS 'Gêneros musicais dos álbuns';
+COMMENT ON COLUMN genero.chave IS 'Nome sem espaços nas pontas e em minúsculas; identifica o gênero';
+COMMENT ON COLUMN genero.total_albuns IS 'Total de álbuns ativos do gênero (desnormalizado)';
@@ -0,0 +1,8 @@
+-- Índices da última alteração dos recursos do catálogo.
+-- Os validadores HTTP (ETag / Last-Modified) das listagens são derivados de
+-- MAX(updated_at) de cada tabela; com o índice a consulta lê apenas a ponta
+-- do índice, sem varrer a tabela.
+
+CREATE INDEX idx_album_updated_at ON album(updated_at);
+CREATE INDEX idx_artista_updated_at ON artista(updated_at);
+CREATE INDEX idx_regional_updated_at ON regional(updated_at);
@@ -0,0 +1,8 @@
+-- Tentativas de geração das miniaturas. Falhas adiam a próxima tentativa
+-- (backoff exponencial); ao atingir o limite, ou com um formato que o
+-- gerador não decodifica, o objeto sai da varredura periódica.
+ALTER TABLE album_capa ADD COLUMN miniaturas_tentativas INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE album_capa ADD COLUMN miniaturas_proxima_tentativa TIMESTAMP;
+
+COMMENT ON COLUMN album_capa.miniaturas_tentativas IS 'Tentativas de geração das miniaturas que falharam';
+COMMENT ON COLUMN album_capa.miniaturas_proxima_tentativa IS 'Instante a partir do qual a varredura tenta gerar as miniaturas de novo';
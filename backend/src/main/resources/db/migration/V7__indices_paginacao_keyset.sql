@@ -0,0 +1,19 @@
+-- Índices compostos para a paginação por cursor (keyset).
+-- Cada campo aceito em sortBy é indexado junto com o id, que desempata a ordenação,
+-- permitindo que a página seguinte seja lida a partir do último registro sem OFFSET.
+-- Os índices simples equivalentes ficam redundantes e são substituídos.
+
+DROP INDEX IF EXISTS idx_album_nome;
+DROP INDEX IF EXISTS idx_album_ano_lancamento;
+DROP INDEX IF EXISTS idx_album_genero;
+
+CREATE INDEX idx_album_nome_id ON album(nome, id);
+CREATE INDEX idx_album_ano_lancamento_id ON album(ano_lancamento, id);
+CREATE INDEX idx_album_genero_id ON album(genero, id);
+
+DROP INDEX IF EXISTS idx_artista_nome;
+DROP INDEX IF EXISTS idx_artista_tipo;
+
+CREATE INDEX idx_artista_nome_id ON artista(nome, id);
+CREATE INDEX idx_artista_tipo_id ON artista(tipo, id);
+CREATE INDEX idx_artista_ano_formacao_id ON artista(ano_formacao, id);
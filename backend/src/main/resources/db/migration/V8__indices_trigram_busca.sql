@@ -0,0 +1,16 @@
+-- Busca por trecho do nome (LIKE '%termo%') indexada com trigramas.
+-- As consultas pesquisam a coluna nome_busca, já normalizada pela aplicação
+-- (sem acentos e em minúsculas), de modo que a busca é insensível a acentos
+-- e pode usar os índices GIN abaixo em vez de varrer a tabela inteira.
+-- Requer permissão para criar a extensão pg_trgm (disponível no contrib padrão).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_artista_nome_busca_trgm ON artista USING gin (nome_busca gin_trgm_ops);
+CREATE INDEX idx_album_nome_busca_trgm ON album USING gin (nome_busca gin_trgm_ops);
+
+-- A busca por nome deixou de usar LOWER(nome) em álbuns
+DROP INDEX IF EXISTS idx_album_nome_lower;
+
+COMMENT ON COLUMN artista.nome_busca IS 'Nome normalizado (sem acentos, minúsculo) usado nas buscas; indexado por trigramas';
+COMMENT ON COLUMN album.nome_busca IS 'Nome normalizado (sem acentos, minúsculo) usado nas buscas; indexado por trigramas';
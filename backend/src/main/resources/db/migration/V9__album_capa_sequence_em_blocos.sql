@@ -0,0 +1,4 @@
+-- Ids de album_capa passam a ser reservados em blocos de 50 pelo Hibernate
+-- (otimizador pooled), permitindo o insert em batch de várias capas.
+-- O valor retornado por nextval é o limite superior do bloco reservado.
+ALTER SEQUENCE album_capa_id_seq INCREMENT BY 50;
@@ -0,0 +1,308 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.album.AlbumCapaRepository;
+import com.projeto.backend.domain.album.AlbumCapaService;
+import com.projeto.backend.domain.album.AlbumRepository;
+import com.projeto.backend.domain.album.CapaMiniaturaService;
+import com.projeto.backend.domain.album.TipoCapa;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.storage.StorageException;
+import com.projeto.backend.infrastructure.storage.StorageService;
+import com.projeto.backend.web.dto.album.AlbumCapaResponse;
+
+/**
+ * Testes unitários para AlbumCapaService.
+ *
+ * Cobertura:
+ * - Upload múltiplo em paralelo
+ * - Limite de envios simultâneos por requisição
+ * - Ordem das capas reservada de uma vez
+ * - Gravação dos metadados em um único saveAll
+ * - Remoção dos arquivos já enviados em caso de falha
+ * - Reaproveitamento de conteúdo já armazenado
+ * - Remoção do objeto apenas sem outras referências
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlbumCapaService")
+class AlbumCapaServiceTest {
+
+    private static final long LATENCIA_ENVIO_MS = 200;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private AlbumCapaRepository albumCapaRepository;
+
+    @Mock
+    private AlbumRepository albumRepository;
+
+    @Mock
+    private CatalogoCache catalogoCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CapaMiniaturaService capaMiniaturaService;
+
+    @InjectMocks
+    private AlbumCapaService albumCapaService;
+
+    private Album album;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(albumCapaService, "uploadExecutor", Executors.newVirtualThreadPerTaskExecutor());
+        ReflectionTestUtils.setField(albumCapaService, "maxConcurrency", 8);
+
+        Artista artista = new Artista();
+        artista.setId(7L);
+
+        album = new Album();
+        album.setId(1L);
+        album.setArtista(artista);
+    }
+
+    private List<MultipartFile> arquivos(int quantidade) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            files.add(new MockMultipartFile("files", "capa-" + i + ".jpg", "image/jpeg", new byte[] { (byte) i }));
+        }
+        return files;
+    }
+
+    private StorageService.StorageResult conteudo(MultipartFile file) {
+        return new StorageService.StorageResult(
+                "conteudo/" + file.getOriginalFilename(), file.getOriginalFilename(), "image/jpeg", 1L, "md5");
+    }
+
+    private void simularLatencia() {
+        try {
+            Thread.sleep(LATENCIA_ENVIO_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Upload Múltiplo")
+    class UploadMultiplo {
+
+        @Test
+        @DisplayName("Deve enviar os arquivos em paralelo e gravar os metadados em um único saveAll")
+        void deveEnviarEmParaleloEGravarUmaVez() {
+            // Arrange
+            List<MultipartFile> files = arquivos(10);
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(albumCapaRepository.countByAlbumId(1L)).thenReturn(3L);
+            when(storageService.prepararConteudo(any(MultipartFile.class))).thenAnswer(inv -> conteudo(inv.getArgument(0)));
+            doAnswer(inv -> {
+                simularLatencia();
+                return null;
+            }).when(storageService).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+            when(albumCapaRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            long inicio = System.nanoTime();
+            List<AlbumCapaResponse> response = albumCapaService.uploadMultiple(1L, files, TipoCapa.FRENTE);
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            // Assert
+            assertThat(duracaoMs).isLessThan(files.size() * LATENCIA_ENVIO_MS / 2);
+            assertThat(response).extracting(AlbumCapaResponse::getOrdem)
+                    .containsExactly(3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+            assertThat(response).extracting(AlbumCapaResponse::getNomeArquivo)
+                    .containsExactly(files.stream().map(MultipartFile::getOriginalFilename).toArray(String[]::new));
+
+            verify(albumCapaRepository, times(1)).countByAlbumId(1L);
+            verify(albumCapaRepository, times(1)).saveAll(anyList());
+            verify(albumCapaRepository, never()).save(any(AlbumCapa.class));
+            verify(storageService, times(10)).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+            verify(catalogoCache, times(1)).evictAlbum(1L);
+            verify(albumRepository).marcarAlterado(eq(1L), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Deve limitar os envios simultâneos de um mesmo upload")
+        void deveLimitarEnviosSimultaneos() {
+            // Arrange
+            ReflectionTestUtils.setField(albumCapaService, "maxConcurrency", 2);
+            List<MultipartFile> files = arquivos(6);
+            AtomicInteger emAndamento = new AtomicInteger();
+            AtomicInteger pico = new AtomicInteger();
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(storageService.prepararConteudo(any(MultipartFile.class))).thenAnswer(inv -> conteudo(inv.getArgument(0)));
+            doAnswer(inv -> {
+                pico.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+                simularLatencia();
+                emAndamento.decrementAndGet();
+                return null;
+            }).when(storageService).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+            when(albumCapaRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            List<AlbumCapaResponse> response = albumCapaService.uploadMultiple(1L, files, TipoCapa.FRENTE);
+
+            // Assert
+            assertThat(response).hasSize(6);
+            assertThat(pico.get()).isEqualTo(2);
+            verify(storageService, times(6)).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+        }
+
+        @Test
+        @DisplayName("Deve remover os arquivos já enviados quando um envio falhar")
+        void deveRemoverArquivosEnviadosQuandoEnvioFalhar() {
+            // Arrange
+            List<MultipartFile> files = arquivos(3);
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(storageService.prepararConteudo(any(MultipartFile.class))).thenAnswer(inv -> conteudo(inv.getArgument(0)));
+            doAnswer(inv -> {
+                MultipartFile file = inv.getArgument(0);
+                if ("capa-1.jpg".equals(file.getOriginalFilename())) {
+                    throw new StorageException("Falha ao fazer upload do arquivo");
+                }
+                return null;
+            }).when(storageService).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.uploadMultiple(1L, files, TipoCapa.FRENTE))
+                    .isInstanceOf(StorageException.class);
+
+            verify(storageService).delete("conteudo/capa-0.jpg");
+            verify(storageService).delete("conteudo/capa-2.jpg");
+            verify(albumCapaRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Não deve enviar nenhum arquivo se algum for inválido")
+        void naoDeveEnviarSeAlgumArquivoForInvalido() {
+            // Arrange
+            List<MultipartFile> files = arquivos(2);
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            doAnswer(inv -> {
+                MultipartFile file = inv.getArgument(0);
+                if ("capa-1.jpg".equals(file.getOriginalFilename())) {
+                    throw new StorageException("Apenas arquivos de imagem são permitidos");
+                }
+                return null;
+            }).when(storageService).validateFile(any(MultipartFile.class));
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.uploadMultiple(1L, files, TipoCapa.FRENTE))
+                    .isInstanceOf(StorageException.class);
+
+            verify(storageService, never()).prepararConteudo(any(MultipartFile.class));
+            verify(storageService, never()).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conteúdo Compartilhado")
+    class ConteudoCompartilhado {
+
+        @Test
+        @DisplayName("Não deve enviar ao MinIO conteúdo já referenciado por outra capa")
+        void naoDeveEnviarConteudoJaReferenciado() {
+            // Arrange
+            MultipartFile file = arquivos(1).get(0);
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(storageService.prepararConteudo(file)).thenReturn(conteudo(file));
+            when(albumCapaRepository.countByObjectKey("conteudo/capa-0.jpg")).thenReturn(1L);
+            when(albumCapaRepository.save(any(AlbumCapa.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            AlbumCapaResponse response = albumCapaService.upload(1L, file, TipoCapa.FRENTE);
+
+            // Assert
+            assertThat(response.getNomeArquivo()).isEqualTo("capa-0.jpg");
+            verify(albumCapaRepository).bloquearObjeto("conteudo/capa-0.jpg");
+            verify(storageService, never()).uploadConteudo(any(MultipartFile.class), any(StorageService.StorageResult.class));
+        }
+
+        @Test
+        @DisplayName("Deve enviar uma única vez conteúdo repetido no mesmo upload")
+        void deveEnviarUmaVezConteudoRepetido() {
+            // Arrange
+            List<MultipartFile> files = arquivos(3);
+            StorageService.StorageResult mesmoConteudo = conteudo(files.get(0));
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(storageService.prepararConteudo(any(MultipartFile.class))).thenReturn(mesmoConteudo);
+            when(albumCapaRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            List<AlbumCapaResponse> response = albumCapaService.uploadMultiple(1L, files, TipoCapa.FRENTE);
+
+            // Assert
+            assertThat(response).hasSize(3);
+            verify(storageService, times(1)).uploadConteudo(any(MultipartFile.class), eq(mesmoConteudo));
+        }
+
+        @Test
+        @DisplayName("Deve manter o objeto no MinIO enquanto houver outra capa com o mesmo conteúdo")
+        void deveManterObjetoComOutrasReferencias() {
+            // Arrange
+            AlbumCapa capa = new AlbumCapa(album, "conteudo/capa-0.jpg", "capa-0.jpg", "image/jpeg", 1L);
+            when(albumCapaRepository.findById(10L)).thenReturn(Optional.of(capa));
+            when(albumCapaRepository.countByObjectKey("conteudo/capa-0.jpg")).thenReturn(1L);
+
+            // Act
+            albumCapaService.deletar(10L);
+
+            // Assert
+            verify(albumCapaRepository).delete(capa);
+            verify(storageService, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve remover o objeto do MinIO ao remover a última referência")
+        void deveRemoverObjetoSemReferencias() {
+            // Arrange
+            AlbumCapa capa = new AlbumCapa(album, "conteudo/capa-0.jpg", "capa-0.jpg", "image/jpeg", 1L);
+            when(albumCapaRepository.findById(10L)).thenReturn(Optional.of(capa));
+            when(albumCapaRepository.countByObjectKey("conteudo/capa-0.jpg")).thenReturn(0L);
+
+            // Act
+            albumCapaService.deletar(10L);
+
+            // Assert
+            verify(albumCapaRepository).bloquearObjeto("conteudo/capa-0.jpg");
+            verify(storageService).delete("conteudo/capa-0.jpg");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.album.AlbumListagem;
+import com.projeto.backend.domain.album.AlbumRepository;
+import com.projeto.backend.domain.album.AlbumService;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.domain.genero.Genero;
+import com.projeto.backend.shared.CursorPage;
+import com.projeto.backend.shared.Keyset;
+
+/**
+ * Testes de repositório para AlbumRepository (H2).
+ *
+ * Cobertura:
+ * - Listagem por projeção sem N+1 (contagem de statements via Hibernate Statistics)
+ * - Busca por nome insensível a acentos (coluna nome_busca)
+ * - Filtro por gênero (genero_id)
+ * - Paginação por cursor (keyset), inclusive com valores nulos no campo de ordenação
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("AlbumRepository")
+class AlbumRepositoryTest {
+
+    private static final int TOTAL_ALBUNS = 30;
+    private static final int CAPAS_POR_ALBUM = 2;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Long rockId;
+
+    @BeforeEach
+    void setUp() {
+        Artista artista = new Artista("Legião Urbana", TipoArtista.BANDA);
+        artista.setAtivo(true);
+        entityManager.persist(artista);
+
+        Genero rock = new Genero("Rock");
+        entityManager.persist(rock);
+        rockId = rock.getId();
+
+        for (int i = 0; i < TOTAL_ALBUNS; i++) {
+            Album album = new Album(String.format("Álbum %02d", i), artista);
+            album.setAnoLancamento(i % 4 == 0 ? null : 1990 + (i % 5));
+            if (i % 3 == 0) {
+                album.setGenero("Rock");
+                album.setGeneroId(rockId);
+            }
+            entityManager.persist(album);
+            for (int j = 0; j < CAPAS_POR_ALBUM; j++) {
+                entityManager.persist(new AlbumCapa(album, "capa-" + i + "-" + j + ".jpg",
+                        "capa.jpg", "image/jpeg", 1024L));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("Listagem por Projeção")
+    class ListagemPorProjecao {
+
+        @Test
+        @DisplayName("Deve carregar página com artista e total de capas em consulta de dados e contagem")
+        void deveCarregarPaginaSemNMaisUm() {
+            // Act
+            Page<AlbumListagem> pagina = albumRepository.findListagem(
+                    AlbumService.comFiltros(null, null, null),
+                    PageRequest.of(0, 10, Sort.by("nome")), Set.of());
+
+            // Assert
+            assertThat(pagina.getContent()).hasSize(10);
+            assertThat(pagina.getTotalElements()).isEqualTo(TOTAL_ALBUNS);
+            assertThat(pagina.getContent()).allSatisfy(album -> {
+                assertThat(album.artistaNome()).isEqualTo("Legião Urbana");
+                assertThat(album.totalCapas()).isEqualTo(CAPAS_POR_ALBUM);
+            });
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve dispensar a contagem quando a página não estiver cheia")
+        void deveDispensarContagemEmPaginaParcial() {
+            // Act
+            Page<AlbumListagem> pagina = albumRepository.findListagem(
+                    AlbumService.comFiltros("álbum 0", "legião", null),
+                    PageRequest.of(0, 20, Sort.by("nome")), Set.of());
+
+            // Assert
+            assertThat(pagina.getContent()).hasSize(10);
+            assertThat(pagina.getContent().get(0).nome()).isEqualTo("Álbum 00");
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve filtrar por gênero pelo ID")
+        void deveFiltrarPorGenero() {
+            // Act
+            Page<AlbumListagem> pagina = albumRepository.findListagem(
+                    AlbumService.comFiltros(null, null, rockId),
+                    PageRequest.of(0, 20, Sort.by("nome")), Set.of());
+
+            // Assert
+            assertThat(pagina.getContent()).hasSize(TOTAL_ALBUNS / 3);
+            assertThat(pagina.getContent()).allSatisfy(album -> assertThat(album.genero()).isEqualTo("Rock"));
+        }
+
+        @Test
+        @DisplayName("Deve buscar por nome de álbum e artista ignorando acentos e maiúsculas")
+        void deveBuscarIgnorandoAcentos() {
+            // Act
+            Page<AlbumListagem> pagina = albumRepository.findListagem(
+                    AlbumService.comFiltros("ALBUM 1", "legiao", null),
+                    PageRequest.of(0, 20, Sort.by("nome")), Set.of());
+
+            // Assert
+            assertThat(pagina.getContent()).extracting(AlbumListagem::nome)
+                    .containsExactly("Álbum 10", "Álbum 11", "Álbum 12", "Álbum 13", "Álbum 14",
+                            "Álbum 15", "Álbum 16", "Álbum 17", "Álbum 18", "Álbum 19");
+        }
+    }
+
+    @Nested
+    @DisplayName("Paginação por Cursor")
+    class PaginacaoPorCursor {
+
+        private final Keyset.Campo<AlbumListagem> anoLancamento =
+                new Keyset.Campo<>("anoLancamento", true, Integer::valueOf, AlbumListagem::anoLancamento);
+
+        @Test
+        @DisplayName("Deve percorrer todos os álbuns em ordem ascendente sem repetir nem pular")
+        void devePercorrerEmOrdemAscendente() {
+            // Act
+            List<AlbumListagem> lidos = percorrer(Sort.Direction.ASC, 7);
+
+            // Assert
+            assertThat(lidos).hasSize(TOTAL_ALBUNS);
+            assertThat(lidos).extracting(AlbumListagem::id).doesNotHaveDuplicates();
+            assertThat(lidos.subList(0, 22)).extracting(AlbumListagem::anoLancamento).isSorted();
+            assertThat(lidos.subList(22, TOTAL_ALBUNS)).extracting(AlbumListagem::anoLancamento).containsOnlyNulls();
+        }
+
+        @Test
+        @DisplayName("Deve percorrer todos os álbuns em ordem descendente sem repetir nem pular")
+        void devePercorrerEmOrdemDescendente() {
+            // Act
+            List<AlbumListagem> lidos = percorrer(Sort.Direction.DESC, 4);
+
+            // Assert
+            assertThat(lidos).hasSize(TOTAL_ALBUNS);
+            assertThat(lidos).extracting(AlbumListagem::id).doesNotHaveDuplicates();
+            assertThat(lidos.subList(0, 8)).extracting(AlbumListagem::anoLancamento).containsOnlyNulls();
+            assertThat(lidos.subList(8, TOTAL_ALBUNS)).extracting(AlbumListagem::anoLancamento)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a));
+        }
+
+        @Test
+        @DisplayName("Deve ler cada página com uma única consulta, sem contagem")
+        void deveLerPaginaComUmaConsulta() {
+            // Act
+            CursorPage<AlbumListagem> pagina = proximaPagina(Sort.Direction.ASC, null, 10);
+
+            // Assert
+            assertThat(pagina.content()).hasSize(10);
+            assertThat(pagina.hasNext()).isTrue();
+            assertThat(pagina.nextCursor()).isNotBlank();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        private List<AlbumListagem> percorrer(Sort.Direction direcao, int size) {
+            List<AlbumListagem> lidos = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorPage<AlbumListagem> pagina = proximaPagina(direcao, cursor, size);
+                lidos.addAll(pagina.content());
+                cursor = pagina.nextCursor();
+            } while (cursor != null);
+            return lidos;
+        }
+
+        private CursorPage<AlbumListagem> proximaPagina(Sort.Direction direcao, String cursor, int size) {
+            Specification<Album> spec = AlbumService.comFiltros(null, null, null);
+            if (cursor != null) {
+                spec = spec.and(Keyset.apos(anoLancamento, Keyset.Cursor.decode(cursor), direcao));
+            }
+            Keyset.Campo<AlbumListagem> campo = Keyset.campo(Map.of("anoLancamento", anoLancamento), "anoLancamento");
+            List<AlbumListagem> linhas = albumRepository.findListagem(spec, Keyset.ordenacao(campo, direcao), size + 1, Set.of());
+            return Keyset.pagina(linhas, size, campo, AlbumListagem::id);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.projeto.backend.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,11 +30,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumListagem;
 import com.projeto.backend.domain.album.AlbumRepository;
 import com.projeto.backend.domain.album.AlbumService;
 import com.projeto.backend.domain.artista.Artista;
 import com.projeto.backend.domain.artista.ArtistaService;
 import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
 import com.projeto.backend.infrastructure.websocket.NotificationService;
 import com.projeto.backend.web.dto.album.AlbumRequest;
 import com.projeto.backend.web.dto.album.AlbumResponse;
@@ -49,7 +54,7 @@ import jakarta.persistence.EntityNotFoundException;
  * - Criar álbum
  * - Atualizar álbum
  * - Deletar álbum (soft delete)
- * - Listar gêneros
+ * - Listar gêneros (snapshot) e contagem de álbuns por gênero
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AlbumService")
@@ -61,13 +66,20 @@ class AlbumServiceTest {
     @Mock
     private ArtistaService artistaService;
 
+    @Mock
+    private GeneroService generoService;
+
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private CatalogoCache catalogoCache;
+
     @InjectMocks
     private AlbumService albumService;
 
     private Album album;
+    private AlbumListagem albumListagem;
     private Artista artista;
     private AlbumRequest albumRequest;
 
@@ -86,10 +98,14 @@ class AlbumServiceTest {
         album.setAnoLancamento(1986);
         album.setGravadora("EMI");
         album.setGenero("Rock");
+        album.setGeneroId(3L);
         album.setTotalFaixas(10);
         album.setDuracaoTotal(2400);
         album.setAtivo(true);
 
+        albumListagem = new AlbumListagem(1L, 1L, "Legião Urbana", "Dois", 1986, "EMI", "Rock",
+                10, 2400, null, 2L, true, null, null);
+
         albumRequest = new AlbumRequest();
         albumRequest.setArtistaId(1L);
         albumRequest.setNome("Dois");
@@ -105,21 +121,23 @@ class AlbumServiceTest {
     class ListarAlbuns {
 
         @Test
-        @DisplayName("Deve listar álbuns com paginação usando Specification")
+        @DisplayName("Deve listar álbuns com paginação usando projeção")
         @SuppressWarnings("unchecked")
         void deveListarAlbunsComPaginacao() {
             // Arrange
-            Page<Album> page = new PageImpl<>(List.of(album));
-            when(albumRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+            Page<AlbumListagem> page = new PageImpl<>(List.of(albumListagem));
+            when(albumRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<AlbumResponse> resultado = albumService.listar(null, null, null, 0, 10, "nome", "asc");
+            Page<AlbumResponse> resultado = albumService.listar(null, null, null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getContent()).hasSize(1);
             assertThat(resultado.getContent().get(0).getNome()).isEqualTo("Dois");
-            verify(albumRepository).findAll(any(Specification.class), any(Pageable.class));
+            assertThat(resultado.getContent().get(0).getArtistaNome()).isEqualTo("Legião Urbana");
+            assertThat(resultado.getContent().get(0).getTotalCapas()).isEqualTo(2);
+            verify(albumRepository).findListagem(any(Specification.class), any(Pageable.class), anySet());
         }
 
         @Test
@@ -127,16 +145,16 @@ class AlbumServiceTest {
         @SuppressWarnings("unchecked")
         void deveFiltrarAlbunsPorNome() {
             // Arrange
-            Page<Album> page = new PageImpl<>(List.of(album));
-            when(albumRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+            Page<AlbumListagem> page = new PageImpl<>(List.of(albumListagem));
+            when(albumRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<AlbumResponse> resultado = albumService.listar("dois", null, null, 0, 10, "nome", "asc");
+            Page<AlbumResponse> resultado = albumService.listar("dois", null, null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getContent()).hasSize(1);
-            verify(albumRepository).findAll(any(Specification.class), any(Pageable.class));
+            verify(albumRepository).findListagem(any(Specification.class), any(Pageable.class), anySet());
         }
 
         @Test
@@ -144,16 +162,34 @@ class AlbumServiceTest {
         @SuppressWarnings("unchecked")
         void deveFiltrarAlbunsPorGenero() {
             // Arrange
-            Page<Album> page = new PageImpl<>(List.of(album));
-            when(albumRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+            Page<AlbumListagem> page = new PageImpl<>(List.of(albumListagem));
+            when(generoService.buscarId("rock")).thenReturn(Optional.of(3L));
+            when(albumRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<AlbumResponse> resultado = albumService.listar(null, null, "Rock", 0, 10, "nome", "asc");
+            Page<AlbumResponse> resultado = albumService.listar(null, null, "Rock", 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getContent()).hasSize(1);
-            verify(albumRepository).findAll(any(Specification.class), any(Pageable.class));
+            verify(generoService).buscarId("rock");
+            verify(albumRepository).findListagem(any(Specification.class), any(Pageable.class), anySet());
+        }
+
+        @Test
+        @DisplayName("Deve retornar página vazia sem consultar álbuns para gênero inexistente")
+        @SuppressWarnings("unchecked")
+        void deveRetornarPaginaVaziaParaGeneroInexistente() {
+            // Arrange
+            when(generoService.buscarId("axé")).thenReturn(Optional.empty());
+
+            // Act
+            Page<AlbumResponse> resultado = albumService.listar(null, null, "Axé", 0, 10, "nome", "asc", null);
+
+            // Assert
+            assertThat(resultado.getContent()).isEmpty();
+            assertThat(resultado.getTotalElements()).isZero();
+            verify(albumRepository, never()).findListagem(any(Specification.class), any(Pageable.class), anySet());
         }
 
         @Test
@@ -161,16 +197,16 @@ class AlbumServiceTest {
         @SuppressWarnings("unchecked")
         void deveFiltrarAlbunsPorArtista() {
             // Arrange
-            Page<Album> page = new PageImpl<>(List.of(album));
-            when(albumRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+            Page<AlbumListagem> page = new PageImpl<>(List.of(albumListagem));
+            when(albumRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<AlbumResponse> resultado = albumService.listar(null, "legiao", null, 0, 10, "nome", "asc");
+            Page<AlbumResponse> resultado = albumService.listar(null, "legiao", null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getContent()).hasSize(1);
-            verify(albumRepository).findAll(any(Specification.class), any(Pageable.class));
+            verify(albumRepository).findListagem(any(Specification.class), any(Pageable.class), anySet());
         }
         
         @Test
@@ -178,11 +214,11 @@ class AlbumServiceTest {
         @SuppressWarnings("unchecked")
         void deveRetornarPaginaVaziaQuandoNaoHouverAlbuns() {
             // Arrange
-            Page<Album> page = new PageImpl<>(List.of());
-            when(albumRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+            Page<AlbumListagem> page = new PageImpl<>(List.of());
+            when(albumRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<AlbumResponse> resultado = albumService.listar(null, null, null, 0, 10, "nome", "asc");
+            Page<AlbumResponse> resultado = albumService.listar(null, null, null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
@@ -273,6 +309,7 @@ class AlbumServiceTest {
         void deveCriarAlbumComSucesso() {
             // Arrange
             when(artistaService.buscarEntidadePorId(1L)).thenReturn(artista);
+            when(generoService.resolverId("Rock")).thenReturn(3L);
             when(albumRepository.save(any(Album.class))).thenAnswer(invocation -> {
                 Album saved = invocation.getArgument(0);
                 saved.setId(1L);
@@ -288,6 +325,10 @@ class AlbumServiceTest {
             assertThat(resultado.getArtistaNome()).isEqualTo("Legião Urbana");
             verify(artistaService).buscarEntidadePorId(1L);
             verify(albumRepository).save(any(Album.class));
+            verify(artistaService).ajustarTotalAlbuns(1L, 1);
+            verify(albumRepository).save(argThat(a -> a.getGeneroId() == 3L));
+            verify(generoService).ajustarTotalAlbuns(3L, 1);
+            verify(generoService).recarregarAposCommit();
             verify(notificationService).notifyAlbumCreated(anyLong(), eq("Dois"), eq("Legião Urbana"));
         }
 
@@ -305,6 +346,7 @@ class AlbumServiceTest {
                     .hasMessageContaining("Artista não encontrado");
             
             verify(albumRepository, never()).save(any());
+            verify(artistaService, never()).ajustarTotalAlbuns(anyLong(), anyInt());
         }
 
         @Test
@@ -342,6 +384,7 @@ class AlbumServiceTest {
         void deveAtualizarAlbumComSucessoMantendoMesmoArtista() {
             // Arrange
             when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(generoService.resolverId("Rock")).thenReturn(3L);
             when(albumRepository.save(any(Album.class))).thenReturn(album);
 
             // Act
@@ -352,6 +395,11 @@ class AlbumServiceTest {
             verify(albumRepository).findByIdAndAtivoTrue(1L);
             verify(albumRepository).save(any(Album.class));
             verify(notificationService).notifyAlbumUpdated(eq(1L), anyString(), anyString());
+            verify(catalogoCache).evictAlbum(1L);
+            verify(catalogoCache, never()).evictArtista(anyLong());
+            verify(generoService, never()).ajustarTotalAlbuns(any(), anyInt());
+            verify(generoService, never()).recarregarAposCommit();
+            verify(artistaService, never()).ajustarTotalAlbuns(anyLong(), anyInt());
         }
         
         @Test
@@ -378,6 +426,28 @@ class AlbumServiceTest {
             assertThat(resultado).isNotNull();
             verify(artistaService).buscarEntidadePorId(2L);
             verify(albumRepository).save(any(Album.class));
+            verify(catalogoCache).evictArtista(1L);
+            verify(catalogoCache).evictArtista(2L);
+            verify(catalogoCache).evictAlbum(1L);
+            verify(artistaService).moverAlbum(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("Deve mover o álbum de gênero ao trocar o gênero")
+        void deveMoverAlbumDeGenero() {
+            // Arrange
+            albumRequest.setGenero("MPB");
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(generoService.resolverId("MPB")).thenReturn(4L);
+            when(albumRepository.save(any(Album.class))).thenReturn(album);
+
+            // Act
+            albumService.atualizar(1L, albumRequest);
+
+            // Assert
+            assertThat(album.getGeneroId()).isEqualTo(4L);
+            verify(generoService).moverAlbum(3L, 4L);
+            verify(generoService).recarregarAposCommit();
         }
 
         @Test
@@ -411,6 +481,9 @@ class AlbumServiceTest {
             // Assert
             verify(albumRepository).findByIdAndAtivoTrue(1L);
             verify(albumRepository).save(argThat(a -> !a.getAtivo()));
+            verify(artistaService).ajustarTotalAlbuns(1L, -1);
+            verify(generoService).ajustarTotalAlbuns(3L, -1);
+            verify(generoService).recarregarAposCommit();
             verify(notificationService).notifyAlbumDeleted(1L);
         }
         
@@ -438,7 +511,7 @@ class AlbumServiceTest {
         void deveListarTodosOsGenerosDistintos() {
             // Arrange
             List<String> generos = List.of("MPB", "Pop", "Rock", "Sertanejo");
-            when(albumRepository.findDistinctGeneros()).thenReturn(generos);
+            when(generoService.listarNomes()).thenReturn(generos);
 
             // Act
             List<String> resultado = albumService.listarGeneros();
@@ -447,14 +520,14 @@ class AlbumServiceTest {
             assertThat(resultado).isNotNull();
             assertThat(resultado).hasSize(4);
             assertThat(resultado).containsExactly("MPB", "Pop", "Rock", "Sertanejo");
-            verify(albumRepository).findDistinctGeneros();
+            verify(generoService).listarNomes();
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não houver gêneros")
         void deveRetornarListaVaziaQuandoNaoHouverGeneros() {
             // Arrange
-            when(albumRepository.findDistinctGeneros()).thenReturn(List.of());
+            when(generoService.listarNomes()).thenReturn(List.of());
 
             // Act
             List<String> resultado = albumService.listarGeneros();
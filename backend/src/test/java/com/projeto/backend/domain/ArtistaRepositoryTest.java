@@ -0,0 +1,110 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaListagem;
+import com.projeto.backend.domain.artista.ArtistaRepository;
+import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.artista.TipoArtista;
+
+/**
+ * Testes de repositório para a listagem de artistas (H2).
+ *
+ * Cobertura:
+ * - Filtro por nome na coluna nome_busca, sem diferenciar acentos e maiúsculas
+ * - Termo com espaços nas pontas e termo vazio
+ * - Apenas artistas ativos
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("ArtistaRepository")
+class ArtistaRepositoryTest {
+
+    @Autowired
+    private ArtistaRepository artistaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        persistir("Legião Urbana", true);
+        persistir("Titãs", true);
+        persistir("Legião Inativa", false);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void persistir(String nome, boolean ativo) {
+        Artista artista = new Artista(nome, TipoArtista.BANDA);
+        artista.setAtivo(ativo);
+        entityManager.persist(artista);
+    }
+
+    private Page<ArtistaListagem> listar(String nome) {
+        return artistaRepository.findListagem(ArtistaService.comFiltros(nome),
+                PageRequest.of(0, 10, Sort.by("nome")), Set.of());
+    }
+
+    @Nested
+    @DisplayName("Filtro por Nome")
+    class FiltroPorNome {
+
+        @Test
+        @DisplayName("Deve listar artistas ativos cujo nome contém o termo")
+        void deveListarArtistasComFiltroPorNome() {
+            // Act
+            Page<ArtistaListagem> pagina = listar("legiao");
+
+            // Assert
+            assertThat(pagina.getContent()).extracting(ArtistaListagem::nome).containsExactly("Legião Urbana");
+        }
+
+        @Test
+        @DisplayName("Deve normalizar o termo de busca removendo acentos, maiúsculas e espaços nas pontas")
+        void deveNormalizarTermoDeBusca() {
+            // Act
+            Page<ArtistaListagem> pagina = listar("  LEGIÃO ");
+
+            // Assert
+            assertThat(pagina.getContent()).extracting(ArtistaListagem::nome).containsExactly("Legião Urbana");
+        }
+
+        @Test
+        @DisplayName("Deve ignorar termo vazio e listar todos os artistas ativos")
+        void deveIgnorarTermoVazio() {
+            // Act
+            Page<ArtistaListagem> pagina = listar("   ");
+
+            // Assert
+            assertThat(pagina.getContent()).extracting(ArtistaListagem::nome).containsExactly("Legião Urbana", "Titãs");
+        }
+
+        @Test
+        @DisplayName("Deve retornar página vazia quando nenhum nome contém o termo")
+        void deveRetornarVazioSemCorrespondencia() {
+            // Act
+            Page<ArtistaListagem> pagina = listar("paralamas");
+
+            // Assert
+            assertThat(pagina.getContent()).isEmpty();
+            assertThat(pagina.getTotalElements()).isZero();
+        }
+    }
+}
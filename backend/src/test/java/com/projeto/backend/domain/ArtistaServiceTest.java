@@ -5,33 +5,41 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaListagem;
 import com.projeto.backend.domain.artista.ArtistaRepository;
 import com.projeto.backend.domain.artista.ArtistaService;
 import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
 import com.projeto.backend.infrastructure.websocket.NotificationService;
 import com.projeto.backend.web.dto.artista.ArtistaRequest;
 import com.projeto.backend.web.dto.artista.ArtistaResponse;
@@ -42,11 +50,12 @@ import jakarta.persistence.EntityNotFoundException;
  * Testes unitários para ArtistaService.
  * 
  * Cobertura:
- * - Listar artistas com paginação
+ * - Listar artistas com paginação e seleção de campos
  * - Buscar por ID
  * - Criar artista
  * - Atualizar artista
  * - Deletar (soft delete)
+ * - Total de álbuns (coluna desnormalizada e reparo)
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ArtistaService")
@@ -58,6 +67,9 @@ class ArtistaServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private CatalogoCache catalogoCache;
+
     @InjectMocks
     private ArtistaService artistaService;
 
@@ -87,57 +99,65 @@ class ArtistaServiceTest {
     @DisplayName("Listar Artistas")
     class ListarArtistas {
 
+        private final ArtistaListagem listagem = new ArtistaListagem(1L, "Legião Urbana", TipoArtista.BANDA,
+                "Brasil", 1982, "Banda de rock brasileira", true, 5, null, null);
+
         @Test
         @DisplayName("Deve listar artistas com paginação sem filtro")
+        @SuppressWarnings("unchecked")
         void deveListarArtistasComPaginacaoSemFiltro() {
             // Arrange
-            Object[] artistaComCount = new Object[]{artista, 5L};
-            List<Object[]> content = new ArrayList<>();
-            content.add(artistaComCount);
-            Page<Object[]> page = new PageImpl<Object[]>(content);
+            Page<ArtistaListagem> page = new PageImpl<>(List.of(listagem));
             
-            when(artistaRepository.findAllWithAlbumCount(any(Pageable.class))).thenReturn(page);
+            when(artistaRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "asc");
+            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
             assertThat(resultado.getContent()).hasSize(1);
             assertThat(resultado.getContent().get(0).getNome()).isEqualTo("Legião Urbana");
+            assertThat(resultado.getContent().get(0).getTipoDescricao()).isEqualTo(TipoArtista.BANDA.getDescricao());
             assertThat(resultado.getContent().get(0).getTotalAlbuns()).isEqualTo(5);
-            verify(artistaRepository).findAllWithAlbumCount(any(Pageable.class));
+            verify(artistaRepository).findListagem(any(Specification.class), any(Pageable.class), eq(Set.of()));
         }
 
         @Test
-        @DisplayName("Deve listar artistas com filtro por nome")
-        void deveListarArtistasComFiltroPorNome() {
+        @DisplayName("Deve ler apenas as colunas dos campos pedidos, mais o id")
+        @SuppressWarnings("unchecked")
+        void deveLerApenasColunasPedidas() {
             // Arrange
-            Object[] artistaComCount = new Object[]{artista, 5L};
-            List<Object[]> content = new ArrayList<>();
-            content.add(artistaComCount);
-            Page<Object[]> page = new PageImpl<Object[]>(content);
-            
-            when(artistaRepository.findByNomeWithAlbumCount(anyString(), any(Pageable.class))).thenReturn(page);
+            when(artistaRepository.findListagem(any(Specification.class), any(Pageable.class), anySet()))
+                    .thenReturn(new PageImpl<>(List.of()));
 
             // Act
-            Page<ArtistaResponse> resultado = artistaService.listar("legiao", 0, 10, "nome", "asc");
+            artistaService.listar("legiao", 0, 10, "nome", "asc", "nome, tipoDescricao");
 
             // Assert
-            assertThat(resultado).isNotNull();
-            assertThat(resultado.getContent()).hasSize(1);
-            verify(artistaRepository).findByNomeWithAlbumCount(eq("legiao"), any(Pageable.class));
+            verify(artistaRepository).findListagem(any(Specification.class), any(Pageable.class),
+                    eq(Set.of("id", "nome", "tipoDescricao", "tipo")));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar campo desconhecido em fields")
+        void deveRejeitarCampoDesconhecido() {
+            // Act & Assert
+            assertThatThrownBy(() -> artistaService.listar(null, 0, 10, "nome", "asc", "nome,senha"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("senha");
         }
 
         @Test
         @DisplayName("Deve retornar página vazia quando não houver artistas")
+        @SuppressWarnings("unchecked")
         void deveRetornarPaginaVaziaQuandoNaoHouverArtistas() {
             // Arrange
-            Page<Object[]> page = new PageImpl<>(List.of());
-            when(artistaRepository.findAllWithAlbumCount(any(Pageable.class))).thenReturn(page);
+            Page<ArtistaListagem> page = new PageImpl<>(List.of());
+            when(artistaRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "asc");
+            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "asc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
@@ -147,23 +167,21 @@ class ArtistaServiceTest {
         
         @Test
         @DisplayName("Deve ordenar artistas em ordem descendente")
+        @SuppressWarnings("unchecked")
         void deveOrdenarArtistasEmOrdemDescendente() {
             // Arrange
-            Object[] artistaComCount = new Object[]{artista, 5L};
-            List<Object[]> content = new ArrayList<>();
-            content.add(artistaComCount);
-            Page<Object[]> page = new PageImpl<Object[]>(content);
+            Page<ArtistaListagem> page = new PageImpl<>(List.of(listagem));
             
-            when(artistaRepository.findAllWithAlbumCount(any(Pageable.class))).thenReturn(page);
+            when(artistaRepository.findListagem(any(Specification.class), any(Pageable.class), anySet())).thenReturn(page);
 
             // Act
-            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "desc");
+            Page<ArtistaResponse> resultado = artistaService.listar(null, 0, 10, "nome", "desc", null);
 
             // Assert
             assertThat(resultado).isNotNull();
-            verify(artistaRepository).findAllWithAlbumCount(argThat(pageable -> 
+            verify(artistaRepository).findListagem(any(Specification.class), argThat(pageable -> 
                 pageable.getSort().getOrderFor("nome").getDirection().isDescending()
-            ));
+            ), anySet());
         }
     }
 
@@ -390,4 +408,89 @@ class ArtistaServiceTest {
                     .hasMessageContaining("Artista não encontrado");
         }
     }
+
+    @Nested
+    @DisplayName("Total de Álbuns")
+    class TotalAlbuns {
+
+        @Test
+        @DisplayName("Deve retornar o total de álbuns da coluna sem carregar os álbuns")
+        void deveRetornarTotalDaColuna() {
+            // Arrange
+            ReflectionTestUtils.setField(artista, "totalAlbuns", 3);
+            when(artistaRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(artista));
+
+            // Act
+            ArtistaResponse resultado = artistaService.buscarPorId(1L);
+
+            // Assert
+            assertThat(resultado.getTotalAlbuns()).isEqualTo(3);
+            assertThat(artista.getAlbuns()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve ajustar o total e a data de atualização com UPDATE atômico")
+        void deveAjustarTotal() {
+            // Arrange
+            LocalDateTime antes = LocalDateTime.now();
+
+            // Act
+            artistaService.ajustarTotalAlbuns(1L, -1);
+
+            // Assert
+            verify(artistaRepository).ajustarTotalAlbuns(eq(1L), eq(-1), argThat(agora -> !agora.isBefore(antes)));
+        }
+
+        @Test
+        @DisplayName("Deve esvaziar o cache de artistas quando o reparo corrigir totais")
+        void deveEsvaziarCacheAoCorrigir() {
+            // Arrange
+            when(artistaRepository.recalcularTotalAlbuns(any(LocalDateTime.class))).thenReturn(2);
+
+            // Act
+            int corrigidos = artistaService.recalcularTotalAlbuns();
+
+            // Assert
+            assertThat(corrigidos).isEqualTo(2);
+            verify(catalogoCache).evictArtistas();
+        }
+
+        @Test
+        @DisplayName("Deve ajustar os totais em ordem crescente de id ao mover um álbum")
+        void deveMoverAlbumEmOrdemDeId() {
+            // Act
+            artistaService.moverAlbum(2L, 1L);
+
+            // Assert
+            InOrder ordem = inOrder(artistaRepository);
+            ordem.verify(artistaRepository).ajustarTotalAlbuns(eq(1L), eq(1), any(LocalDateTime.class));
+            ordem.verify(artistaRepository).ajustarTotalAlbuns(eq(2L), eq(-1), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Deve bloquear os artistas antes de agregar os álbuns")
+        void deveBloquearAntesDeRecalcular() {
+            // Act
+            artistaService.recalcularTotalAlbuns();
+
+            // Assert
+            InOrder ordem = inOrder(artistaRepository);
+            ordem.verify(artistaRepository).bloquearTodos();
+            ordem.verify(artistaRepository).recalcularTotalAlbuns(any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Não deve mexer no cache quando os totais estiverem corretos")
+        void naoDeveMexerNoCacheSemCorrecoes() {
+            // Arrange
+            when(artistaRepository.recalcularTotalAlbuns(any(LocalDateTime.class))).thenReturn(0);
+
+            // Act
+            int corrigidos = artistaService.recalcularTotalAlbuns();
+
+            // Assert
+            assertThat(corrigidos).isZero();
+            verify(catalogoCache, never()).evictArtistas();
+        }
+    }
 }
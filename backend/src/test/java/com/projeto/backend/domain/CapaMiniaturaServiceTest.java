@@ -0,0 +1,185 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.domain.album.AlbumCapaRepository;
+import com.projeto.backend.domain.album.CapaMiniaturaService;
+import com.projeto.backend.infrastructure.storage.StorageService;
+
+/**
+ * Testes unitários para CapaMiniaturaService.
+ *
+ * Cobertura:
+ * - Geração das miniaturas nas larguras fixas
+ * - Imagens menores que a miniatura não são ampliadas
+ * - Conteúdo reaproveitado não é processado novamente
+ * - Original que não é imagem esgota as tentativas na primeira falha
+ * - Chaves das miniaturas ao lado do original
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CapaMiniaturaService")
+class CapaMiniaturaServiceTest {
+
+    private static final String OBJECT_KEY = "conteudo/ab/abcdef";
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private AlbumCapaRepository albumCapaRepository;
+
+    @InjectMocks
+    private CapaMiniaturaService capaMiniaturaService;
+
+    private final Map<String, byte[]> gravados = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Executor naMesmaThread = Runnable::run;
+        ReflectionTestUtils.setField(capaMiniaturaService, "miniaturaExecutor", naMesmaThread);
+        ReflectionTestUtils.setField(capaMiniaturaService, "qualidade", 0.8f);
+        ReflectionTestUtils.setField(capaMiniaturaService, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(capaMiniaturaService, "maxTentativas", 5);
+        ReflectionTestUtils.setField(capaMiniaturaService, "varreduraBackoff", Duration.ofMinutes(10));
+    }
+
+    private byte[] imagemPng(int largura, int altura) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = imagem.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, largura / 2, altura);
+        graphics.dispose();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "png", saida);
+        return saida.toByteArray();
+    }
+
+    private void simularOriginal(byte[] conteudo) {
+        when(storageService.exists(anyString())).thenReturn(false);
+        when(storageService.download(OBJECT_KEY)).thenReturn(new ByteArrayInputStream(conteudo));
+        doAnswer(inv -> {
+            gravados.put(inv.getArgument(0), inv.getArgument(1));
+            return null;
+        }).when(storageService).uploadBytes(anyString(), any(byte[].class), eq("image/jpeg"));
+    }
+
+    private BufferedImage lerGravado(int largura) throws IOException {
+        byte[] conteudo = gravados.get(CapaMiniaturaService.getMiniaturaKey(OBJECT_KEY, largura));
+        assertThat(conteudo).as("Miniatura de %dpx", largura).isNotNull();
+        return ImageIO.read(new ByteArrayInputStream(conteudo));
+    }
+
+    @Nested
+    @DisplayName("Geração")
+    class Geracao {
+
+        @Test
+        @DisplayName("Deve gerar as miniaturas JPEG nas larguras fixas mantendo a proporção")
+        void deveGerarMiniaturasNasLargurasFixas() throws Exception {
+            // Arrange
+            simularOriginal(imagemPng(2000, 1000));
+
+            // Act
+            capaMiniaturaService.agendar(OBJECT_KEY);
+
+            // Assert
+            assertThat(gravados).hasSize(3);
+            assertThat(lerGravado(640).getWidth()).isEqualTo(640);
+            assertThat(lerGravado(640).getHeight()).isEqualTo(320);
+            assertThat(lerGravado(320).getWidth()).isEqualTo(320);
+            assertThat(lerGravado(160).getWidth()).isEqualTo(160);
+            assertThat(lerGravado(160).getHeight()).isEqualTo(80);
+            verify(albumCapaRepository).marcarMiniaturasGeradas(OBJECT_KEY);
+        }
+
+        @Test
+        @DisplayName("Não deve ampliar imagens menores que a miniatura")
+        void naoDeveAmpliarImagensPequenas() throws Exception {
+            // Arrange
+            simularOriginal(imagemPng(200, 100));
+
+            // Act
+            capaMiniaturaService.agendar(OBJECT_KEY);
+
+            // Assert
+            assertThat(lerGravado(640).getWidth()).isEqualTo(200);
+            assertThat(lerGravado(160).getWidth()).isEqualTo(160);
+        }
+
+        @Test
+        @DisplayName("Deve apenas marcar as capas quando as miniaturas já existem")
+        void deveApenasMarcarQuandoMiniaturasExistem() {
+            // Arrange
+            when(storageService.exists(CapaMiniaturaService.getMiniaturaKey(OBJECT_KEY, 160))).thenReturn(true);
+
+            // Act
+            capaMiniaturaService.agendar(OBJECT_KEY);
+
+            // Assert
+            verify(storageService, never()).download(anyString());
+            verify(albumCapaRepository).marcarMiniaturasGeradas(OBJECT_KEY);
+        }
+
+        @Test
+        @DisplayName("Não deve marcar as capas e deve esgotar as tentativas quando o original não é uma imagem válida")
+        void naoDeveMarcarQuandoImagemInvalida() {
+            // Arrange
+            when(storageService.exists(anyString())).thenReturn(false);
+            when(storageService.download(OBJECT_KEY)).thenReturn(new ByteArrayInputStream("não é imagem".getBytes()));
+
+            // Act
+            capaMiniaturaService.agendar(OBJECT_KEY);
+
+            // Assert
+            verify(storageService, never()).uploadBytes(anyString(), any(byte[].class), anyString());
+            verify(albumCapaRepository, never()).marcarMiniaturasGeradas(anyString());
+            verify(albumCapaRepository).registrarFalhaMiniaturas(eq(OBJECT_KEY), eq(5), any(LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chaves")
+    class Chaves {
+
+        @Test
+        @DisplayName("Deve gravar a miniatura ao lado do original, sem a extensão original")
+        void deveGerarChaveAoLadoDoOriginal() {
+            assertThat(CapaMiniaturaService.getMiniaturaKey("artista-1/album-2/capa.png", 320))
+                    .isEqualTo("artista-1/album-2/capa-w320.jpg");
+            assertThat(CapaMiniaturaService.getMiniaturaKey(OBJECT_KEY, 160))
+                    .isEqualTo("conteudo/ab/abcdef-w160.jpg");
+        }
+    }
+}
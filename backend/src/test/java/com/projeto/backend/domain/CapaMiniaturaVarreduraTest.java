@@ -0,0 +1,291 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projeto.backend.config.AsyncConfig;
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.album.CapaMiniaturaService;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.infrastructure.storage.StorageException;
+import com.projeto.backend.infrastructure.storage.StorageService;
+
+/**
+ * Testes de integração da marcação das miniaturas e da varredura de capas
+ * pendentes (H2, sem transação do teste).
+ *
+ * Cobertura:
+ * - Marcação gravada quando a geração roda no callback após o commit
+ * - Fila cheia recusa a tarefa sem rodar na thread que a submeteu
+ * - Varredura reagenda as capas recusadas até todas ficarem marcadas
+ * - Falhas registradas: formato não suportado sai da varredura na primeira
+ *   falha, falha transitória aguarda o backoff, e objetos que falham não
+ *   ocupam o lote das capas válidas
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ CapaMiniaturaService.class, CapaMiniaturaVarreduraTest.ExecutorConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CapaMiniaturaService - varredura")
+class CapaMiniaturaVarreduraTest {
+
+    private static final List<String> OBJECT_KEYS = List.of(
+            "conteudo/aa/1.jpg", "conteudo/bb/2.jpg", "conteudo/cc/3.jpg", "conteudo/dd/4.jpg");
+
+    @Autowired
+    private CapaMiniaturaService capaMiniaturaService;
+
+    @Autowired
+    @Qualifier(AsyncConfig.MINIATURA_EXECUTOR)
+    private ThreadPoolTaskExecutor miniaturaExecutor;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private StorageService storageService;
+
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Um worker e fila de uma posição: a terceira tarefa simultânea é recusada.
+     */
+    @TestConfiguration
+    static class ExecutorConfig {
+
+        @Bean(name = AsyncConfig.MINIATURA_EXECUTOR)
+        ThreadPoolTaskExecutor miniaturaExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.setQueueCapacity(1);
+            executor.setThreadNamePrefix("miniatura-");
+            executor.initialize();
+            return executor;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Artista artista = new Artista("Legião Urbana", TipoArtista.BANDA);
+            artista.setAtivo(true);
+            entityManager.persist(artista);
+            Album album = new Album("Dois", artista);
+            entityManager.persist(album);
+            OBJECT_KEYS.forEach(objectKey -> entityManager.persist(
+                    new AlbumCapa(album, objectKey, "capa.jpg", "image/jpeg", 1024L)));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(capaMiniaturaService, "miniaturaExecutor", miniaturaExecutor);
+        ReflectionTestUtils.setField(capaMiniaturaService, "varreduraLote", 100);
+        jdbcTemplate.update("DELETE FROM album_capa");
+        jdbcTemplate.update("DELETE FROM album");
+        jdbcTemplate.update("DELETE FROM artista");
+    }
+
+    @Nested
+    @DisplayName("Marcação")
+    class Marcacao {
+
+        @Test
+        @DisplayName("Deve gravar a marcação feita no callback após o commit")
+        void deveGravarMarcacaoAposCommit() {
+            // Arrange
+            when(storageService.exists(anyString())).thenReturn(true);
+            Executor naMesmaThread = Runnable::run;
+            ReflectionTestUtils.setField(capaMiniaturaService, "miniaturaExecutor", naMesmaThread);
+
+            // Act
+            transactionTemplate.executeWithoutResult(
+                    status -> capaMiniaturaService.gerarAposCommit(OBJECT_KEYS));
+
+            // Assert
+            assertThat(pendentes()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fila cheia")
+    class FilaCheia {
+
+        @Test
+        @DisplayName("Deve recusar o excedente e marcar todas as capas pela varredura")
+        void deveMarcarTodasPelaVarredura() throws Exception {
+            // Arrange
+            CountDownLatch liberar = new CountDownLatch(1);
+            when(storageService.exists(anyString())).thenAnswer(invocation -> {
+                if (Thread.currentThread().getName().startsWith("miniatura-")) {
+                    liberar.await(5, TimeUnit.SECONDS);
+                }
+                return true;
+            });
+
+            // Act
+            transactionTemplate.executeWithoutResult(
+                    status -> capaMiniaturaService.gerarAposCommit(OBJECT_KEYS));
+            liberar.countDown();
+            aguardarFila();
+
+            // Assert: uma tarefa rodou, uma esperou na fila e duas foram recusadas
+            assertThat(pendentes()).isEqualTo(2);
+
+            // Act
+            for (int i = 0; i < OBJECT_KEYS.size() && pendentes() > 0; i++) {
+                capaMiniaturaService.agendarPendentes();
+                aguardarFila();
+            }
+
+            // Assert
+            assertThat(pendentes()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve agendar nada na varredura sem capas pendentes")
+        void naoDeveAgendarSemPendentes() {
+            // Arrange
+            jdbcTemplate.update("UPDATE album_capa SET miniaturas_geradas = true");
+
+            // Act
+            int agendados = capaMiniaturaService.agendarPendentes();
+
+            // Assert
+            assertThat(agendados).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas")
+    class Falhas {
+
+        @BeforeEach
+        void setUp() {
+            Executor naMesmaThread = Runnable::run;
+            ReflectionTestUtils.setField(capaMiniaturaService, "miniaturaExecutor", naMesmaThread);
+        }
+
+        @Test
+        @DisplayName("Deve tirar da varredura, na primeira falha, o formato que não decodifica")
+        void deveDescartarFormatoNaoSuportado() {
+            // Arrange
+            when(storageService.exists(anyString())).thenReturn(false);
+            when(storageService.download(anyString())).thenAnswer(invocation ->
+                    new ByteArrayInputStream("RIFF....WEBPVP8 ".getBytes(StandardCharsets.US_ASCII)));
+
+            // Act
+            capaMiniaturaService.agendarPendentes();
+
+            // Assert
+            assertThat(pendentes()).isEqualTo(4);
+            assertThat(tentativas("conteudo/aa/1.jpg")).isEqualTo(5);
+            assertThat(capaMiniaturaService.agendarPendentes()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve aguardar o backoff antes de tentar de novo após uma falha transitória")
+        void deveAguardarBackoff() {
+            // Arrange
+            when(storageService.exists(anyString())).thenThrow(new StorageException("MinIO indisponível"));
+            capaMiniaturaService.agendarPendentes();
+
+            // Act
+            int agendadosNoBackoff = capaMiniaturaService.agendarPendentes();
+            jdbcTemplate.update("UPDATE album_capa SET miniaturas_proxima_tentativa = ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+            int agendadosAposBackoff = capaMiniaturaService.agendarPendentes();
+
+            // Assert
+            assertThat(agendadosNoBackoff).isZero();
+            assertThat(agendadosAposBackoff).isEqualTo(4);
+            assertThat(tentativas("conteudo/aa/1.jpg")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Não deve deixar objetos que falham ocuparem o lote das capas válidas")
+        void naoDeveOcuparLoteComFalhas() {
+            // Arrange: lote de dois, e os dois primeiros objetos não decodificam
+            ReflectionTestUtils.setField(capaMiniaturaService, "varreduraLote", 2);
+            when(storageService.exists(anyString())).thenReturn(false);
+            when(storageService.download(startsWith("conteudo/aa/"))).thenAnswer(invocation ->
+                    new ByteArrayInputStream(new byte[16]));
+            when(storageService.download(startsWith("conteudo/bb/"))).thenAnswer(invocation ->
+                    new ByteArrayInputStream(new byte[16]));
+            capaMiniaturaService.agendarPendentes();
+            when(storageService.exists(anyString())).thenReturn(true);
+
+            // Act
+            int agendados = capaMiniaturaService.agendarPendentes();
+
+            // Assert
+            assertThat(agendados).isEqualTo(2);
+            assertThat(pendentes()).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList(
+                    "SELECT object_key FROM album_capa WHERE miniaturas_geradas = true ORDER BY object_key", String.class))
+                    .containsExactly("conteudo/cc/3.jpg", "conteudo/dd/4.jpg");
+        }
+    }
+
+    private int tentativas(String objectKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT miniaturas_tentativas FROM album_capa WHERE object_key = ?", Integer.class, objectKey);
+    }
+
+    private long pendentes() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM album_capa WHERE miniaturas_geradas = false", Long.class);
+    }
+
+    private void aguardarFila() throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite
+                && (miniaturaExecutor.getActiveCount() > 0
+                        || !miniaturaExecutor.getThreadPoolExecutor().getQueue().isEmpty())) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projeto.backend.domain.genero.GeneroService;
+
+/**
+ * Testes de integração para GeneroService (H2).
+ *
+ * Cobertura:
+ * - Resolução de IDs com criação dos gêneros ausentes (sem diferenciar maiúsculas)
+ * - Snapshot com os gêneros que têm álbuns, recarregado apenas após o commit
+ * - Busca de ID fora do snapshot
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(GeneroService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("GeneroService")
+class GeneroServiceTest {
+
+    @Autowired
+    private GeneroService generoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM genero");
+        generoService.recarregarAposCommit();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM genero");
+    }
+
+    @Nested
+    @DisplayName("Resolução de IDs")
+    class ResolucaoIds {
+
+        @Test
+        @DisplayName("Deve criar cada gênero uma única vez, sem diferenciar maiúsculas e espaços")
+        void deveCriarGeneroUmaVez() {
+            // Act
+            Long rock = generoService.resolverId("Rock");
+            Map<String, Long> ids = generoService.resolverIds(List.of(" rock ", "MPB", "mpb", " "));
+
+            // Assert
+            assertThat(ids).containsOnlyKeys("rock", "mpb");
+            assertThat(ids.get("rock")).isEqualTo(rock);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genero", Long.class)).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT nome FROM genero WHERE chave = 'mpb'", String.class))
+                    .isEqualTo("MPB");
+        }
+
+        @Test
+        @DisplayName("Deve retornar null para nome vazio")
+        void deveRetornarNullParaNomeVazio() {
+            assertThat(generoService.resolverId("  ")).isNull();
+            assertThat(generoService.resolverId(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot")
+    class Snapshot {
+
+        @Test
+        @DisplayName("Deve listar apenas gêneros com álbuns, em ordem alfabética")
+        void deveListarGenerosComAlbuns() {
+            // Arrange
+            Map<String, Long> ids = generoService.resolverIds(List.of("Samba", "Axé", "Rock"));
+            generoService.ajustarTotalAlbuns(ids.get("samba"), 2);
+            generoService.ajustarTotalAlbuns(ids.get("axé"), 1);
+            List<String> anterior = generoService.listarNomes();
+
+            // Act
+            generoService.recarregarAposCommit();
+
+            // Assert
+            assertThat(anterior).isEmpty();
+            assertThat(generoService.listarNomes()).containsExactly("Axé", "Samba");
+        }
+
+        @Test
+        @DisplayName("Deve recarregar o snapshot somente após o commit")
+        void deveRecarregarAposCommit() {
+            // Arrange
+            Long rock = generoService.resolverId("Rock");
+            TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+            // Act
+            List<String> durante = transacao.execute(status -> {
+                generoService.ajustarTotalAlbuns(rock, 1);
+                generoService.recarregarAposCommit();
+                return generoService.listarNomes();
+            });
+
+            // Assert
+            assertThat(durante).isEmpty();
+            assertThat(generoService.listarNomes()).containsExactly("Rock");
+        }
+
+        @Test
+        @DisplayName("Não deve recarregar o snapshot quando a transação for desfeita")
+        void naoDeveRecarregarAposRollback() {
+            // Arrange
+            Long rock = generoService.resolverId("Rock");
+            TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+            // Act
+            transacao.executeWithoutResult(status -> {
+                generoService.ajustarTotalAlbuns(rock, 1);
+                generoService.recarregarAposCommit();
+                status.setRollbackOnly();
+            });
+
+            // Assert
+            assertThat(generoService.listarNomes()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Busca de ID")
+    class BuscaId {
+
+        @Test
+        @DisplayName("Deve encontrar gênero fora do snapshot pelo banco")
+        void deveBuscarForaDoSnapshot() {
+            // Arrange
+            Long rock = generoService.resolverId("Rock");
+
+            // Act & Assert
+            assertThat(generoService.listarNomes()).isEmpty();
+            assertThat(generoService.buscarId("ROCK")).contains(rock);
+            assertThat(generoService.buscarId("Forró")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.projeto.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+
+/**
+ * Testes de integração do recálculo do total de álbuns concorrente com
+ * ajustes do contador (H2, sem transação do teste).
+ *
+ * Cobertura:
+ * - Recálculo de artistas e gêneros com um ajuste ainda não comitado:
+ *   o recálculo espera o ajuste e conta o álbum novo, sem sobrescrevê-lo
+ * - Ajuste feito durante o recálculo preservado após o commit
+ * - Reatribuições simultâneas em sentidos opostos (A→B e B→A) sem deadlock
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ ArtistaService.class, GeneroService.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Total de álbuns - concorrência")
+class TotalAlbunsConcorrenciaTest {
+
+    @Autowired
+    private ArtistaService artistaService;
+
+    @Autowired
+    private GeneroService generoService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private CatalogoCache catalogoCache;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private static final int REATRIBUICOES = 200;
+
+    private TransactionTemplate transactionTemplate;
+    private Long artistaId;
+    private Long generoId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        generoId = generoService.resolverId("Rock");
+        artistaId = transactionTemplate.execute(status -> {
+            Artista artista = new Artista("Legião Urbana", TipoArtista.BANDA);
+            artista.setAtivo(true);
+            entityManager.persist(artista);
+            for (int i = 0; i < 2; i++) {
+                entityManager.persist(novoAlbum("Álbum " + i, artista));
+            }
+            return artista.getId();
+        });
+
+        // Contadores divergentes: o recálculo precisa gravar os dois
+        jdbcTemplate.update("UPDATE artista SET total_albuns = 0");
+        jdbcTemplate.update("UPDATE genero SET total_albuns = 0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbcTemplate.update("DELETE FROM album");
+        jdbcTemplate.update("DELETE FROM artista");
+        jdbcTemplate.update("DELETE FROM genero");
+    }
+
+    @Nested
+    @DisplayName("Recálculo")
+    class Recalculo {
+
+        @Test
+        @DisplayName("Deve esperar o ajuste em andamento e contar o álbum novo")
+        void deveContarAjusteEmAndamento() throws Exception {
+            // Arrange: álbum novo e ajuste do contador, ainda sem commit
+            CountDownLatch ajustado = new CountDownLatch(1);
+            CountDownLatch liberar = new CountDownLatch(1);
+            Future<?> ajuste = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(novoAlbum("Álbum novo", entityManager.find(Artista.class, artistaId)));
+                entityManager.flush();
+                artistaService.ajustarTotalAlbuns(artistaId, 1);
+                generoService.ajustarTotalAlbuns(generoId, 1);
+                ajustado.countDown();
+                aguardar(liberar);
+            }));
+            assertThat(ajustado.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            Future<?> recalculo = executor.submit(() -> {
+                artistaService.recalcularTotalAlbuns();
+                generoService.recalcularTotalAlbuns();
+            });
+            Thread.sleep(300);
+            liberar.countDown();
+            ajuste.get(5, TimeUnit.SECONDS);
+            recalculo.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(totalArtista()).isEqualTo(3);
+            assertThat(totalGenero()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve preservar o ajuste feito durante o recálculo")
+        void devePreservarAjusteDuranteRecalculo() throws Exception {
+            // Arrange: recálculo feito, ainda sem commit
+            CountDownLatch recalculado = new CountDownLatch(1);
+            CountDownLatch liberar = new CountDownLatch(1);
+            Future<?> recalculo = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                artistaService.recalcularTotalAlbuns();
+                generoService.recalcularTotalAlbuns();
+                recalculado.countDown();
+                aguardar(liberar);
+            }));
+            assertThat(recalculado.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            Future<?> ajuste = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(novoAlbum("Álbum novo", entityManager.find(Artista.class, artistaId)));
+                entityManager.flush();
+                artistaService.ajustarTotalAlbuns(artistaId, 1);
+                generoService.ajustarTotalAlbuns(generoId, 1);
+            }));
+            Thread.sleep(300);
+            liberar.countDown();
+            recalculo.get(5, TimeUnit.SECONDS);
+            ajuste.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(totalArtista()).isEqualTo(3);
+            assertThat(totalGenero()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reatribuição")
+    class Reatribuicao {
+
+        @Test
+        @DisplayName("Deve reatribuir álbuns em sentidos opostos, em paralelo, sem deadlock")
+        void deveReatribuirEmSentidosOpostos() throws Exception {
+            // Arrange
+            Long outroArtistaId = transactionTemplate.execute(status -> {
+                Artista artista = new Artista("Titãs", TipoArtista.BANDA);
+                artista.setAtivo(true);
+                entityManager.persist(artista);
+                return artista.getId();
+            });
+            Long outroGeneroId = generoService.resolverId("MPB");
+
+            // Act
+            Future<?> ida = executor.submit(() -> reatribuir(artistaId, outroArtistaId, generoId, outroGeneroId));
+            Future<?> volta = executor.submit(() -> reatribuir(outroArtistaId, artistaId, outroGeneroId, generoId));
+            ida.get(30, TimeUnit.SECONDS);
+            volta.get(30, TimeUnit.SECONDS);
+
+            // Assert: cada reatribuição de ida foi desfeita por uma de volta
+            assertThat(totalArtista()).isZero();
+            assertThat(totalGenero()).isZero();
+        }
+
+        private void reatribuir(Long origemArtista, Long destinoArtista, Long origemGenero, Long destinoGenero) {
+            for (int i = 0; i < REATRIBUICOES; i++) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    artistaService.moverAlbum(origemArtista, destinoArtista);
+                    generoService.moverAlbum(origemGenero, destinoGenero);
+                });
+            }
+        }
+    }
+
+    private Album novoAlbum(String nome, Artista artista) {
+        Album album = new Album(nome, artista);
+        album.setAtivo(true);
+        album.setGeneroId(generoId);
+        return album;
+    }
+
+    private int totalArtista() {
+        return jdbcTemplate.queryForObject("SELECT total_albuns FROM artista WHERE id = ?", Integer.class, artistaId);
+    }
+
+    private int totalGenero() {
+        return jdbcTemplate.queryForObject("SELECT total_albuns FROM genero WHERE id = ?", Integer.class, generoId);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
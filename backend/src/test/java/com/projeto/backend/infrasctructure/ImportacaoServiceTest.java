@@ -0,0 +1,268 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.importacao.FormatoImportacao;
+import com.projeto.backend.infrastructure.importacao.ImportacaoService;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.web.dto.importacao.ImportacaoResponse;
+
+/**
+ * Testes de integração para ImportacaoService (H2).
+ *
+ * Cobertura:
+ * - Importação de artistas em NDJSON com erros por linha
+ * - Importação de álbuns em CSV (campos entre aspas), com o total de álbuns do artista
+ *   e do gênero
+ * - Uma notificação por lote
+ * - Validação do tamanho de lote
+ * - Colunas e propriedades desconhecidas ignoradas
+ * - Linhas e campos acima do limite rejeitados, sem interromper a leitura
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ImportacaoService.class, GeneroService.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ImportacaoService")
+class ImportacaoServiceTest {
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private CatalogoCache catalogoCache;
+
+    private Long artistaId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO artista (nome, nome_busca, tipo, ativo, created_at, updated_at)
+                VALUES ('Legião Urbana', 'legiao urbana', 'BANDA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+        artistaId = jdbcTemplate.queryForObject("SELECT id FROM artista WHERE nome = 'Legião Urbana'", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM album");
+        jdbcTemplate.update("DELETE FROM genero");
+        jdbcTemplate.update("DELETE FROM artista");
+    }
+
+    private InputStream arquivo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("Importação de Artistas")
+    class ImportacaoArtistas {
+
+        @Test
+        @DisplayName("Deve importar artistas válidos e reportar erros por linha")
+        void deveImportarArtistasEReportarErros() {
+            // Arrange
+            String ndjson = """
+                    {"nome": "Titãs", "tipo": "BANDA", "anoFormacao": 1982}
+                    {"nome": "Legião Urbana", "tipo": "BANDA"}
+                    {"nome": "Cássia Eller", "tipo": "CANTOR"}
+
+                    {"nome": "titãs", "tipo": "BANDA"}
+                    {"nome": "Sem Tipo"}
+                    {nome inválido}
+                    {"nome": "Skank", "tipo": "BANDA", "paisOrigem": "Brasil"}
+                    """;
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarArtistas(arquivo(ndjson), FormatoImportacao.NDJSON, 2);
+
+            // Assert
+            assertThat(response.totalRegistros()).isEqualTo(7);
+            assertThat(response.importados()).isEqualTo(3);
+            assertThat(response.rejeitados()).isEqualTo(4);
+            assertThat(response.erros())
+                    .extracting(ImportacaoResponse.ErroLinha::linha)
+                    .containsExactlyInAnyOrder(2L, 5L, 6L, 7L);
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT nome_busca FROM artista WHERE nome = 'Cássia Eller'", String.class))
+                    .isEqualTo("cassia eller");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM artista", Long.class)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Deve enviar uma notificação por lote")
+        void deveEnviarUmaNotificacaoPorLote() {
+            // Arrange
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < 10; i++) {
+                ndjson.append("{\"nome\": \"Artista ").append(i).append("\", \"tipo\": \"CANTOR\"}\n");
+            }
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarArtistas(
+                    arquivo(ndjson.toString()), FormatoImportacao.NDJSON, 4);
+
+            // Assert
+            assertThat(response.lotes()).isEqualTo(3);
+            verify(notificationService, times(3)).notifyImportacaoLote(eq("artistas"), anyInt(), anyInt(), anyInt());
+            verify(notificationService).notifyImportacaoLote("artistas", 3, 2, 0);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar propriedades desconhecidas")
+        void deveIgnorarPropriedadesDesconhecidas() {
+            // Arrange
+            String ndjson = """
+                    {"nome": "Titãs", "tipo": "BANDA", "origem": "planilha"}
+                    {"nome": "Skank", "tipo": "BANDA", "id": 10, "extra": {"a": 1}}
+                    """;
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarArtistas(arquivo(ndjson), FormatoImportacao.NDJSON, null);
+
+            // Assert
+            assertThat(response.importados()).isEqualTo(2);
+            assertThat(response.rejeitados()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar a linha acima do limite sem acumulá-la e seguir com as próximas")
+        void deveRejeitarLinhaLonga() {
+            // Arrange - uma linha de 100 mil caracteres, sem quebra até o fim
+            String ndjson = "{\"nome\": \"" + "a".repeat(100_000) + "\", \"tipo\": \"BANDA\"}\n"
+                    + "{\"nome\": \"Titãs\", \"tipo\": \"BANDA\"}\n";
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarArtistas(arquivo(ndjson), FormatoImportacao.NDJSON, null);
+
+            // Assert
+            assertThat(response.totalRegistros()).isEqualTo(2);
+            assertThat(response.importados()).isEqualTo(1);
+            assertThat(response.erros()).singleElement().satisfies(erro -> {
+                assertThat(erro.linha()).isEqualTo(1L);
+                assertThat(erro.mensagem()).contains("Linha excede");
+            });
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar tamanho de lote fora do limite")
+        void deveRejeitarTamanhoDeLoteInvalido() {
+            assertThatThrownBy(() -> importacaoService.importarArtistas(arquivo(""), FormatoImportacao.NDJSON, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Importação de Álbuns")
+    class ImportacaoAlbuns {
+
+        @Test
+        @DisplayName("Deve importar álbuns em CSV com campos entre aspas")
+        void deveImportarAlbunsEmCsv() {
+            // Arrange
+            String csv = "artistaId,nome,anoLancamento,genero,descricao\r\n"
+                    + artistaId + ",Dois,1986,Rock,\"Segundo álbum, com \"\"Tempo Perdido\"\"\"\r\n"
+                    + artistaId + ",\"As Quatro Estações\",1989,,\"Linha 1\nLinha 2\"\r\n"
+                    + "999999,Álbum Órfão,1990,Rock,\r\n"
+                    + artistaId + ",Ano Inválido,1800,Rock,\r\n"
+                    + artistaId + ",Colunas,1990\r\n";
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarAlbuns(arquivo(csv), FormatoImportacao.CSV, null);
+
+            // Assert
+            assertThat(response.importados()).isEqualTo(2);
+            assertThat(response.erros())
+                    .extracting(ImportacaoResponse.ErroLinha::linha)
+                    .containsExactlyInAnyOrder(5L, 6L, 7L);
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT descricao FROM album WHERE nome = 'Dois'", String.class))
+                    .isEqualTo("Segundo álbum, com \"Tempo Perdido\"");
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT nome_busca FROM album WHERE nome = 'As Quatro Estações'", String.class))
+                    .isEqualTo("as quatro estacoes");
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT total_albuns FROM artista WHERE id = ?", Integer.class, artistaId))
+                    .isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT g.total_albuns FROM genero g JOIN album a ON a.genero_id = g.id WHERE a.nome = 'Dois'",
+                    Integer.class))
+                    .isEqualTo(1);
+            verify(catalogoCache).evictArtista(artistaId);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar colunas desconhecidas no CSV")
+        void deveIgnorarColunasDesconhecidas() {
+            // Arrange
+            String csv = "artistaId,nome,anoLancamento,codigoInterno\n"
+                    + artistaId + ",Dois,1986,A-17\n"
+                    + artistaId + ",Que País É Este,1987,A-18\n";
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarAlbuns(arquivo(csv), FormatoImportacao.CSV, null);
+
+            // Assert
+            assertThat(response.importados()).isEqualTo(2);
+            assertThat(response.rejeitados()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar o campo acima do limite e seguir com os próximos registros")
+        void deveRejeitarCampoLongo() {
+            // Arrange - campo entre aspas com quebras de linha, maior que o limite
+            String csv = "artistaId,nome,descricao\n"
+                    + artistaId + ",Dois,\"" + "linha longa\n".repeat(2_000) + "\"\n"
+                    + artistaId + ",Que País É Este,\n";
+
+            // Act
+            ImportacaoResponse response = importacaoService.importarAlbuns(arquivo(csv), FormatoImportacao.CSV, null);
+
+            // Assert
+            assertThat(response.totalRegistros()).isEqualTo(2);
+            assertThat(response.importados()).isEqualTo(1);
+            assertThat(response.erros()).singleElement().satisfies(erro -> {
+                assertThat(erro.linha()).isEqualTo(2L);
+                assertThat(erro.mensagem()).contains("Campo excede");
+            });
+            assertThat(jdbcTemplate.queryForObject("SELECT nome FROM album", String.class)).isEqualTo("Que País É Este");
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.projeto.backend.infrastructure.websocket.NotificationDispatcher;
+import com.projeto.backend.infrastructure.websocket.NotificationFanout;
+import com.projeto.backend.infrastructure.websocket.NotificationService.AlbumPayload;
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationMessage;
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Testes unitários para NotificationDispatcher.
+ *
+ * Cobertura:
+ * - Envio apenas após o commit
+ * - Coalescência de eventos repetidos em um frame por tópico
+ * - Descarte contabilizado com a fila cheia, sem bloquear quem publica
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatcher")
+class NotificationDispatcherTest {
+
+    private static final long ESPERA_MS = 2000;
+
+    @Mock
+    private NotificationFanout fanout;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @InjectMocks
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(dispatcher, "janela", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(dispatcher, "maxLote", 100);
+        ReflectionTestUtils.invokeMethod(dispatcher, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(dispatcher, "parar");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private NotificationMessage albumAtualizado(long id, String nome) {
+        return new NotificationMessage(NotificationType.ALBUM_UPDATED, "Álbum atualizado: " + nome,
+                new AlbumPayload(id, nome, "Artista"), LocalDateTime.now());
+    }
+
+    private List<NotificationMessage> frameEnviado(String destination) {
+        ArgumentCaptor<List<NotificationMessage>> frame = ArgumentCaptor.captor();
+        verify(fanout, timeout(ESPERA_MS)).enviar(eq(destination), frame.capture());
+        return frame.getValue();
+    }
+
+    @Nested
+    @DisplayName("Transação")
+    class Transacao {
+
+        @Test
+        @DisplayName("Deve enviar apenas após o commit e descartar na transação desfeita")
+        void deveEnviarApenasAposCommit() throws Exception {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            dispatcher.publicar("/topic/albuns", albumAtualizado(1L, "Desfeito"));
+            List<TransactionSynchronization> desfeita = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+
+            TransactionSynchronizationManager.initSynchronization();
+            dispatcher.publicar("/topic/albuns", albumAtualizado(2L, "Confirmado"));
+            List<TransactionSynchronization> confirmada = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // Act
+            desfeita.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            Thread.sleep(300);
+            verify(fanout, never()).enviar(anyString(), anyList());
+            confirmada.forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertThat(frameEnviado("/topic/albuns"))
+                    .extracting(NotificationMessage::message)
+                    .containsExactly("Álbum atualizado: Confirmado");
+            assertThat(dispatcher.getEnfileiradas()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescência")
+    class Coalescencia {
+
+        @Test
+        @DisplayName("Deve reduzir atualizações repetidas do mesmo álbum à mais recente, em um frame por tópico")
+        void deveCoalescerAtualizacoesRepetidas() {
+            // Act
+            for (int i = 1; i <= 8; i++) {
+                dispatcher.publicar("/topic/albuns", albumAtualizado(1L, "Versão " + i));
+            }
+            dispatcher.publicar("/topic/albuns", albumAtualizado(2L, "Outro"));
+
+            // Assert
+            List<NotificationMessage> frame = frameEnviado("/topic/albuns");
+            assertThat(frame).extracting(NotificationMessage::message)
+                    .containsExactly("Álbum atualizado: Versão 8", "Álbum atualizado: Outro");
+            verify(fanout, times(1)).enviar(anyString(), anyList());
+            assertThat(dispatcher.getCoalescidas()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Não deve coalescer notificações sem entidade")
+        void naoDeveCoalescerNotificacoesSemEntidade() {
+            // Arrange
+            NotificationMessage sistema = new NotificationMessage(NotificationType.SYSTEM, "Manutenção", null, LocalDateTime.now());
+
+            // Act
+            dispatcher.publicar("/topic/system", sistema);
+            dispatcher.publicar("/topic/system", sistema);
+
+            // Assert
+            assertThat(frameEnviado("/topic/system")).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fila Cheia")
+    class FilaCheia {
+
+        @Test
+        @DisplayName("Deve descartar e contabilizar notificações sem bloquear quem publica quando o envio está lento")
+        void deveDescartarSemBloquearQuandoEnvioLento() throws Exception {
+            // Arrange
+            CountDownLatch envioLiberado = new CountDownLatch(1);
+            CountDownLatch envioIniciado = new CountDownLatch(1);
+            doAnswer(inv -> {
+                envioIniciado.countDown();
+                envioLiberado.await();
+                return null;
+            }).when(fanout).enviar(anyString(), anyList());
+
+            dispatcher.publicar("/topic/albuns", albumAtualizado(0L, "Primeiro"));
+            assertThat(envioIniciado.await(ESPERA_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+            // Act
+            long inicio = System.nanoTime();
+            for (int i = 1; i <= 25; i++) {
+                dispatcher.publicar("/topic/albuns", albumAtualizado(i, "Álbum " + i));
+            }
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            envioLiberado.countDown();
+
+            // Assert
+            assertThat(duracaoMs).isLessThan(100);
+            assertThat(dispatcher.getDescartadas()).isEqualTo(15);
+            assertThat(dispatcher.getEnfileiradas()).isEqualTo(11);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.infrastructure.websocket.NotificationService.AlbumPayload;
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationMessage;
+import com.projeto.backend.infrastructure.websocket.NotificationService.NotificationType;
+import com.projeto.backend.infrastructure.websocket.PostgresNotificationFanout;
+
+/**
+ * Testes unitários para PostgresNotificationFanout.
+ *
+ * Cobertura:
+ * - Frames divididos para respeitar o limite de 8000 bytes do NOTIFY
+ * - Entrega ao broker local do frame recebido pelo canal
+ * - Entrega local quando o pg_notify falha
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresNotificationFanout")
+class PostgresNotificationFanoutTest {
+
+    private static final int LIMITE_NOTIFY = 8000;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private MessageChannel brokerChannel;
+
+    private PostgresNotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new JacksonJsonMessageConverter());
+
+        fanout = new PostgresNotificationFanout(messagingTemplate);
+        ReflectionTestUtils.setField(fanout, "jdbcTemplate", jdbcTemplate);
+    }
+
+    private List<NotificationMessage> albuns(int quantidade) {
+        List<NotificationMessage> mensagens = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String nome = "Álbum com um nome razoavelmente longo número " + i;
+            mensagens.add(new NotificationMessage(NotificationType.ALBUM_UPDATED, "Álbum atualizado: " + nome,
+                    new AlbumPayload((long) i, nome, "Artista"), LocalDateTime.now()));
+        }
+        return mensagens;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> payloadsNotificados() {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(1)).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq("notificacoes"), payload.capture());
+        return payload.getAllValues();
+    }
+
+    private static int contar(String texto, String trecho) {
+        return texto.split(Pattern.quote(trecho), -1).length - 1;
+    }
+
+    @Nested
+    @DisplayName("Publicação")
+    class Publicacao {
+
+        @Test
+        @DisplayName("Deve dividir frames grandes em vários NOTIFY dentro do limite de 8000 bytes")
+        void deveDividirFramesGrandes() {
+            // Act
+            fanout.enviar("/topic/albuns", albuns(200));
+
+            // Assert
+            List<String> payloads = payloadsNotificados();
+            assertThat(payloads).hasSizeGreaterThan(1);
+            assertThat(payloads).allSatisfy(payload -> {
+                assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThan(LIMITE_NOTIFY);
+                assertThat(payload).startsWith("/topic/albuns\n[");
+            });
+            assertThat(payloads.stream().mapToInt(payload -> contar(payload, "\"ALBUM_UPDATED\"")).sum())
+                    .isEqualTo(200);
+            verify(brokerChannel, never()).send(any(Message.class));
+        }
+
+        @Test
+        @DisplayName("Deve entregar apenas nesta instância quando o pg_notify falhar")
+        @SuppressWarnings("unchecked")
+        void deveEntregarLocalmenteQuandoNotifyFalhar() {
+            // Arrange
+            when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(), any()))
+                    .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+            when(brokerChannel.send(any(Message.class))).thenReturn(true);
+
+            // Act
+            fanout.enviar("/topic/albuns", albuns(1));
+
+            // Assert
+            verify(brokerChannel).send(any(Message.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recebimento")
+    class Recebimento {
+
+        @Test
+        @DisplayName("Deve entregar ao broker local o JSON recebido pelo canal, sem convertê-lo novamente")
+        @SuppressWarnings("unchecked")
+        void deveEntregarFrameRecebido() {
+            // Arrange
+            fanout.enviar("/topic/albuns", albuns(2));
+            String payload = payloadsNotificados().get(0);
+            ArgumentCaptor<Message<?>> entregue = ArgumentCaptor.forClass(Message.class);
+            when(brokerChannel.send(entregue.capture())).thenReturn(true);
+
+            // Act
+            ReflectionTestUtils.invokeMethod(fanout, "entregar", payload);
+
+            // Assert
+            Message<?> message = entregue.getValue();
+            assertThat(SimpMessageHeaderAccessor.getDestination(message.getHeaders())).isEqualTo("/topic/albuns");
+            assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                    .isEqualTo(payload.substring(payload.indexOf('\n') + 1));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar payloads fora dos tópicos de notificação")
+        void deveIgnorarPayloadInvalido() {
+            // Act
+            ReflectionTestUtils.invokeMethod(fanout, "entregar", "/queue/privada\n[]");
+            ReflectionTestUtils.invokeMethod(fanout, "entregar", "sem separador");
+
+            // Assert
+            verify(brokerChannel, never()).send(any(Message.class));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.projeto.backend.config.RateLimitConfig;
+import com.projeto.backend.infrastructure.ratelimit.JdbcRateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.LocalRateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitService;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Testes unitários para os backends de rate limit.
+ *
+ * Cobertura:
+ * - Local: tamanho máximo de buckets mantidos, expiração não menor que o
+ *   maior período dos limites
+ * - JDBC: limite compartilhado entre instâncias, remoção e limpeza de expirados
+ */
+@DisplayName("RateLimitBackend")
+class RateLimitBackendTest {
+
+    private static final BucketConfiguration CONFIGURATION = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder()
+                    .capacity(10)
+                    .refillGreedy(10, Duration.ofMinutes(1))
+                    .build())
+            .build();
+
+    @Nested
+    @DisplayName("Local")
+    class Local {
+
+        @Test
+        @DisplayName("Deve manter no máximo maximum-size buckets")
+        void deveLimitarQuantidadeDeBuckets() {
+            // Arrange
+            LocalRateLimitBackend backend = new LocalRateLimitBackend(100, Duration.ofMinutes(1));
+
+            // Act - varredura de IPs distintos
+            for (int i = 0; i < 10_000; i++) {
+                backend.resolve("ip:10.0." + (i / 256) + "." + (i % 256), () -> CONFIGURATION).tryConsume(1);
+            }
+
+            // Assert
+            assertThat(backend.tamanho()).isLessThanOrEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Deve devolver o mesmo bucket enquanto estiver em uso")
+        void deveReutilizarBucket() {
+            // Arrange
+            LocalRateLimitBackend backend = new LocalRateLimitBackend(100, Duration.ofMinutes(1));
+            Bucket bucket = backend.resolve("user:a", () -> CONFIGURATION);
+            bucket.tryConsume(3);
+
+            // Act
+            Bucket mesmo = backend.resolve("user:a", () -> CONFIGURATION);
+
+            // Assert
+            assertThat(mesmo).isSameAs(bucket);
+            assertThat(mesmo.getAvailableTokens()).isEqualTo(7);
+        }
+
+        /**
+         * RateLimitConfig com a conversão de propriedades da aplicação (Duration).
+         */
+        private ApplicationContextRunner contextoLocal() {
+            return new ApplicationContextRunner()
+                    .withInitializer(context -> context.getBeanFactory()
+                            .setConversionService(ApplicationConversionService.getSharedInstance()))
+                    .withUserConfiguration(RateLimitConfig.class);
+        }
+
+        @Test
+        @DisplayName("Deve expirar os buckets somente após o maior período configurado")
+        void deveExpirarAposMaiorPeriodo() {
+            // Arrange
+            ApplicationContextRunner contexto = contextoLocal()
+                    .withPropertyValues(
+                            "ratelimit.local.expire-after-access=1m",
+                            "ratelimit.padrao.periodo=1m",
+                            "ratelimit.politicas[0].nome=relatorio",
+                            "ratelimit.politicas[0].caminho=/api/v1/relatorios/**",
+                            "ratelimit.politicas[0].capacidade=10",
+                            "ratelimit.politicas[0].periodo=1h");
+
+            // Act & Assert
+            contexto.run(context -> assertThat(((LocalRateLimitBackend) context.getBean(RateLimitBackend.class))
+                    .expiracao()).isEqualTo(Duration.ofHours(1)));
+        }
+
+        @Test
+        @DisplayName("Deve manter expire-after-access quando maior que os períodos")
+        void deveManterExpiracaoConfiguradaMaior() {
+            // Arrange
+            ApplicationContextRunner contexto = contextoLocal()
+                    .withPropertyValues("ratelimit.local.expire-after-access=10m");
+
+            // Act & Assert
+            contexto.run(context -> assertThat(((LocalRateLimitBackend) context.getBean(RateLimitBackend.class))
+                    .expiracao()).isEqualTo(Duration.ofMinutes(10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("JDBC")
+    class Jdbc {
+
+        private JdbcDataSource dataSource;
+        private Connection manterBanco;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:ratelimit;MODE=PostgreSQL");
+            dataSource.setUser("sa");
+
+            // Mantém o banco em memória entre as conexões do teste
+            manterBanco = dataSource.getConnection();
+            try (Statement statement = manterBanco.createStatement()) {
+                statement.execute("CREATE TABLE rate_limit_bucket (id VARCHAR(255) PRIMARY KEY, state BYTEA, expires_at BIGINT)");
+            }
+        }
+
+        @AfterEach
+        void tearDown() throws SQLException {
+            manterBanco.close();
+        }
+
+        private JdbcRateLimitBackend novaInstancia() {
+            return new JdbcRateLimitBackend(dataSource, Duration.ofSeconds(2), Duration.ofMinutes(5));
+        }
+
+        @Test
+        @DisplayName("Deve aplicar o mesmo limite em instâncias distintas")
+        void deveCompartilharLimiteEntreInstancias() {
+            // Arrange
+            RateLimitService instancia1 = new RateLimitService(novaInstancia());
+            RateLimitService instancia2 = new RateLimitService(novaInstancia());
+
+            // Act - 10 requisições alternadas entre as instâncias
+            for (int i = 0; i < 5; i++) {
+                assertThat(instancia1.tryConsume("user:compartilhado")).isTrue();
+                assertThat(instancia2.tryConsume("user:compartilhado")).isTrue();
+            }
+
+            // Assert
+            assertThat(instancia1.tryConsume("user:compartilhado")).isFalse();
+            assertThat(instancia2.tryConsume("user:compartilhado")).isFalse();
+            assertThat(instancia1.tryConsume("user:outro")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve recriar o bucket após remoção")
+        void deveRecriarBucketAposRemocao() {
+            // Arrange
+            RateLimitService service = new RateLimitService(novaInstancia());
+            for (int i = 0; i < 10; i++) {
+                service.tryConsume("user:removido");
+            }
+
+            // Act
+            service.removeBucket("user:removido");
+
+            // Assert
+            assertThat(service.tryConsume("user:removido")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve aceitar identificadores maiores que a coluna")
+        void deveAceitarIdentificadorLongo() {
+            // Arrange
+            RateLimitService service = new RateLimitService(novaInstancia());
+            String identifier = "ip:" + "10.0.0.1, ".repeat(100);
+
+            // Act & Assert
+            assertThat(service.tryConsume(identifier)).isTrue();
+            assertThat(service.getRateLimitInfo(identifier).remaining()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Deve remover apenas os buckets já cheios novamente")
+        void deveRemoverBucketsExpirados() {
+            // Arrange
+            JdbcRateLimitBackend backend = novaInstancia();
+            backend.resolve("user:ativo", () -> CONFIGURATION).tryConsume(1);
+            backend.resolve("user:inativo", () -> CONFIGURATION).tryConsume(1);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.update("UPDATE rate_limit_bucket SET expires_at = 0 WHERE id = 'user:inativo'");
+
+            // Act
+            int removidos = backend.removerExpirados();
+
+            // Assert
+            assertThat(removidos).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM rate_limit_bucket", String.class))
+                    .containsExactly("user:ativo");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.infrastructure.ratelimit.RateLimitFilter;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitService;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Testes unitários para RateLimitFilter.
+ *
+ * Cobertura:
+ * - Headers X-RateLimit-* a partir de um único consumo
+ * - Resposta 429 com Retry-After e corpo JSON
+ * - Caminhos excluídos
+ */
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "rateLimitService", new RateLimitService());
+        ReflectionTestUtils.setField(filter, "jsonMapper", jsonMapper);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse executar(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Requisições permitidas")
+    class Permitidas {
+
+        @Test
+        @DisplayName("Deve informar limite, restante e reset após o consumo")
+        void deveInformarHeaders() throws Exception {
+            // Act
+            MockHttpServletResponse response = executar("/api/v1/albuns");
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("10");
+            assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("9");
+            assertThat(response.getHeader("X-RateLimit-Reset")).isEqualTo("6");
+            assertThat(response.getHeader("Retry-After")).isNull();
+        }
+
+        @Test
+        @DisplayName("Não deve limitar caminhos excluídos")
+        void naoDeveLimitarCaminhosExcluidos() throws Exception {
+            // Act
+            MockHttpServletResponse response = executar("/api/v1/auth/login");
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("X-RateLimit-Limit")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Limite excedido")
+    class LimiteExcedido {
+
+        @Test
+        @DisplayName("Deve responder 429 com Retry-After e corpo JSON")
+        void deveResponder429() throws Exception {
+            // Arrange - esgotar o limite do IP
+            for (int i = 0; i < 10; i++) {
+                executar("/api/v1/albuns");
+            }
+
+            // Act
+            MockHttpServletResponse response = executar("/api/v1/albuns");
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+            assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(1L, 6L);
+
+            JsonNode body = jsonMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+            assertThat(body.get("status").asInt()).isEqualTo(429);
+            assertThat(body.get("limit").asLong()).isEqualTo(10);
+            assertThat(body.get("remaining").asLong()).isZero();
+            assertThat(body.get("message").asString()).startsWith("Limite de requisições excedido");
+        }
+    }
+}
@@ -3,11 +3,19 @@ package com.projeto.backend.infrasctructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.projeto.backend.infrastructure.ratelimit.LocalRateLimitBackend;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitPolicy;
+import com.projeto.backend.infrastructure.ratelimit.RateLimitProperties;
 import com.projeto.backend.infrastructure.ratelimit.RateLimitService;
 
 /**
@@ -18,6 +26,7 @@ import com.projeto.backend.infrastructure.ratelimit.RateLimitService;
  * - Limite de requisições
  * - Reset de buckets
  * - Informações de rate limit
+ * - Políticas por endpoint e perfil
  */
 @DisplayName("RateLimitService")
 class RateLimitServiceTest {
@@ -221,4 +230,57 @@ class RateLimitServiceTest {
             assertThat(permitidoIP2).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("Políticas")
+    class Politicas {
+
+        private RateLimitService servicoComPoliticas() {
+            RateLimitProperties properties = new RateLimitProperties(
+                    new RateLimitProperties.Limite(10, Duration.ofMinutes(1)),
+                    List.of(
+                            new RateLimitProperties.Politica("admin", "/api/v1/**", List.of(), "ADMIN", 100, Duration.ofMinutes(1)),
+                            new RateLimitProperties.Politica("importacao", "/api/v1/importacao/**", List.of("post"), null, 2, Duration.ofMinutes(1))));
+            return new RateLimitService(new LocalRateLimitBackend(1000, Duration.ofMinutes(1)), properties);
+        }
+
+        @Test
+        @DisplayName("Deve aplicar a primeira política que atender a caminho, método e perfil")
+        void deveResolverPoliticaPorCaminhoMetodoEPerfil() {
+            // Arrange
+            RateLimitService service = servicoComPoliticas();
+            List<SimpleGrantedAuthority> admin = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            List<SimpleGrantedAuthority> usuario = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+            // Act & Assert
+            assertThat(service.resolvePolicy("POST", "/api/v1/importacao/artistas", admin).getNome()).isEqualTo("admin");
+            assertThat(service.resolvePolicy("POST", "/api/v1/importacao/artistas", usuario).getNome()).isEqualTo("importacao");
+            assertThat(service.resolvePolicy("GET", "/api/v1/importacao/artistas", usuario).getNome()).isEqualTo("padrao");
+            assertThat(service.resolvePolicy("POST", "/api/v1/albuns", List.of()).getNome()).isEqualTo("padrao");
+        }
+
+        @Test
+        @DisplayName("Deve consumir da política com bucket próprio e informar restante e espera")
+        void deveConsumirComBucketDaPolitica() {
+            // Arrange
+            RateLimitService service = servicoComPoliticas();
+            RateLimitPolicy importacao = service.resolvePolicy("POST", "/api/v1/importacao/artistas", List.of());
+
+            // Act
+            RateLimitService.RateLimitResult primeira = service.tryConsumeAndReturnRemaining("user:a", importacao);
+            RateLimitService.RateLimitResult segunda = service.tryConsumeAndReturnRemaining("user:a", importacao);
+            RateLimitService.RateLimitResult terceira = service.tryConsumeAndReturnRemaining("user:a", importacao);
+
+            // Assert
+            assertThat(primeira.consumed()).isTrue();
+            assertThat(primeira.limit()).isEqualTo(2);
+            assertThat(primeira.remaining()).isEqualTo(1);
+            assertThat(primeira.retryAfterSeconds()).isZero();
+            assertThat(segunda.remaining()).isZero();
+            assertThat(segunda.resetInSeconds()).isEqualTo(60);
+            assertThat(terceira.consumed()).isFalse();
+            assertThat(terceira.retryAfterSeconds()).isBetween(1L, 30L);
+            assertThat(service.tryConsume("user:a")).isTrue();
+        }
+    }
 }
@@ -0,0 +1,634 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.SimpleResultSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.projeto.backend.domain.regional.RegionalRepository;
+import com.projeto.backend.domain.regional.RegionalSyncEstado;
+import com.projeto.backend.domain.regional.RegionalSyncEstadoRepository;
+import com.projeto.backend.domain.regional.RegionalSyncExecucao;
+import com.projeto.backend.domain.regional.RegionalSyncExecucaoRepository;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.sync.RegionalSyncService;
+import com.projeto.backend.infrastructure.sync.RegionalSyncService.SyncResult;
+import com.projeto.backend.infrastructure.sync.SyncLeaseLock;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.sun.net.httpserver.HttpServer;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Testes unitários para RegionalSyncService.
+ *
+ * A API externa é um servidor HTTP local, com suporte a ETag; a tabela
+ * regional é simulada em memória a partir das consultas e dos comandos
+ * enviados ao JDBC. O lease usa um banco H2 próprio.
+ *
+ * Cobertura:
+ * - Leitura em lotes com uma consulta e um batch por lote
+ * - Apenas regionais novas, alteradas ou inativas são gravadas
+ * - Registros repetidos ou inválidos na resposta
+ * - Requisição condicional (304) e conteúdo com o mesmo hash
+ * - Inativação das regionais ausentes da resposta, nunca com uma resposta
+ *   sem nenhuma regional válida
+ * - Bytes recebidos e registros alterados no status
+ * - Bloqueio de execuções simultâneas, nesta e em outra instância
+ * - Histórico das execuções no status
+ * - Sincronização agendada
+ * - Falha da API externa
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegionalSyncService")
+class RegionalSyncServiceTest {
+
+    private record Linha(String nome, boolean ativo) {}
+
+    @Mock
+    private RegionalRepository regionalRepository;
+
+    @Mock
+    private RegionalSyncEstadoRepository estadoRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CatalogoCache catalogoCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RegionalSyncExecucaoRepository execucaoRepository;
+
+    @InjectMocks
+    private RegionalSyncService regionalSyncService;
+
+    /** Tabela regional simulada, por external_id. */
+    private final Map<Long, Linha> banco = new ConcurrentHashMap<>();
+
+    /** Tabela regional_sync_estado simulada. */
+    private final Map<String, RegionalSyncEstado> estados = new ConcurrentHashMap<>();
+
+    /** Tabela regional_sync_execucao simulada, na ordem de inserção. */
+    private final List<RegionalSyncExecucao> execucoes = new CopyOnWriteArrayList<>();
+
+    private Connection bancoLease;
+    private SyncLeaseLock outraInstancia;
+
+    private final AtomicInteger consultas = new AtomicInteger();
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger requisicoes = new AtomicInteger();
+
+    private HttpServer api;
+    private volatile int status = 200;
+    private volatile byte[] corpo = "[]".getBytes(StandardCharsets.UTF_8);
+    private volatile String etag;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        api = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        api.createContext("/v1/regionais", exchange -> {
+            requisicoes.incrementAndGet();
+            if (etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            // Resposta em chunks, sem Content-Length, como um feed grande
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(corpo);
+            }
+        });
+        api.start();
+
+        ReflectionTestUtils.setField(regionalSyncService, "webClient", WebClient.create());
+        ReflectionTestUtils.setField(regionalSyncService, "jsonMapper", JsonMapper.builder().build());
+        ReflectionTestUtils.setField(regionalSyncService, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(regionalSyncService, "apiUrl",
+                "http://localhost:" + api.getAddress().getPort() + "/v1/regionais");
+        ReflectionTestUtils.setField(regionalSyncService, "timeoutSeconds", 5);
+        ReflectionTestUtils.setField(regionalSyncService, "batchSize", 2);
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:regionalsync;MODE=PostgreSQL");
+        dataSource.setUser("sa");
+        bancoLease = dataSource.getConnection();
+        try (Statement statement = bancoLease.createStatement()) {
+            statement.execute("CREATE TABLE sync_lease (nome VARCHAR(100) PRIMARY KEY, dono VARCHAR(200), expira_em BIGINT NOT NULL)");
+        }
+        JdbcTemplate leaseJdbcTemplate = new JdbcTemplate(dataSource);
+        ReflectionTestUtils.setField(regionalSyncService, "leaseLock",
+                new SyncLeaseLock(leaseJdbcTemplate, Duration.ofMinutes(2), Duration.ofSeconds(30)));
+        outraInstancia = new SyncLeaseLock(leaseJdbcTemplate, Duration.ofMinutes(2), Duration.ofSeconds(30));
+
+        lenient().when(namedParameterJdbcTemplate.query(contains("FROM regional"), anyMap(), any(ResultSetExtractor.class)))
+                .thenAnswer(invocation -> {
+                    consultas.incrementAndGet();
+                    Map<String, ?> parametros = invocation.getArgument(1);
+                    SimpleResultSet rs = new SimpleResultSet();
+                    rs.addColumn("external_id", Types.BIGINT, 19, 0);
+                    rs.addColumn("nome", Types.VARCHAR, 200, 0);
+                    rs.addColumn("ativo", Types.BOOLEAN, 1, 0);
+                    for (Object id : (Collection<?>) parametros.get("ids")) {
+                        Linha linha = banco.get(id);
+                        if (linha != null) {
+                            rs.addRow(id, linha.nome(), linha.ativo());
+                        }
+                    }
+                    ResultSetExtractor<?> extractor = invocation.getArgument(2);
+                    return extractor.extractData(rs);
+                });
+
+        lenient().when(jdbcTemplate.batchUpdate(contains("ON CONFLICT (external_id) DO UPDATE"), any(List.class), any(int[].class)))
+                .thenAnswer(invocation -> {
+                    batches.incrementAndGet();
+                    List<Object[]> linhas = invocation.getArgument(1);
+                    for (Object[] linha : linhas) {
+                        banco.put((Long) linha[1], new Linha((String) linha[0], true));
+                    }
+                    return new int[linhas.size()];
+                });
+
+        lenient().when(jdbcTemplate.update(contains("SET ativo = FALSE"), any(Timestamp.class), any(Long[].class)))
+                .thenAnswer(invocation -> {
+                    Set<Object> recebidos = new HashSet<>(Arrays.asList((Object[]) invocation.getArgument(2)));
+                    int inativados = 0;
+                    for (Map.Entry<Long, Linha> linha : banco.entrySet()) {
+                        if (linha.getValue().ativo() && !recebidos.contains(linha.getKey())) {
+                            linha.setValue(new Linha(linha.getValue().nome(), false));
+                            inativados++;
+                        }
+                    }
+                    return inativados;
+                });
+
+        lenient().when(estadoRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(estados.get(invocation.<String>getArgument(0))));
+        lenient().when(estadoRepository.save(any(RegionalSyncEstado.class)))
+                .thenAnswer(invocation -> {
+                    RegionalSyncEstado estado = invocation.getArgument(0);
+                    estados.put(estado.getApiUrl(), estado);
+                    return estado;
+                });
+
+        lenient().when(execucaoRepository.save(any(RegionalSyncExecucao.class)))
+                .thenAnswer(invocation -> {
+                    execucoes.add(invocation.getArgument(0));
+                    return invocation.getArgument(0);
+                });
+        lenient().when(execucaoRepository.findTop20ByOrderByIniciadoEmDesc())
+                .thenAnswer(invocation -> execucoes.reversed());
+        lenient().when(execucaoRepository.findFirstBySucessoTrueOrderByIniciadoEmDesc())
+                .thenAnswer(invocation -> execucoes.reversed().stream().filter(RegionalSyncExecucao::isSucesso).findFirst());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        api.stop(0);
+        bancoLease.close();
+    }
+
+    private void responder(String json) {
+        corpo = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String regionais(int quantidade) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= quantidade; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i).append(",\"nome\":\"Regional ").append(i).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    @Nested
+    @DisplayName("Sincronização em lotes")
+    class SincronizacaoEmLotes {
+
+        @Test
+        @DisplayName("Deve gravar apenas novas, alteradas e inativas, uma consulta e um batch por lote")
+        void deveGravarApenasAlteracoes() {
+            // Arrange
+            banco.put(2L, new Linha("Nome antigo", true));
+            banco.put(3L, new Linha("Regional 3", true));
+            banco.put(4L, new Linha("Regional 4", false));
+            responder(regionais(5));
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert - lotes [1,2] [3,4] [5]
+            assertThat(result.success()).isTrue();
+            assertThat(result.novos()).isEqualTo(2);
+            assertThat(result.atualizados()).isEqualTo(2);
+            assertThat(result.total()).isEqualTo(4);
+            assertThat(consultas).hasValue(3);
+            assertThat(batches).hasValue(3);
+            assertThat(banco.get(2L)).isEqualTo(new Linha("Regional 2", true));
+            assertThat(banco.get(4L)).isEqualTo(new Linha("Regional 4", true));
+            verify(notificationService).notifySyncCompleted(4, 2, 2);
+            verify(catalogoCache).evictRegionais();
+        }
+
+        @Test
+        @DisplayName("Não deve gravar nada quando nada mudou")
+        void naoDeveGravarSemAlteracoes() {
+            // Arrange - sem o estado salvo, a resposta é comparada com o banco
+            responder(regionais(4));
+            regionalSyncService.sincronizar();
+            estados.clear();
+            consultas.set(0);
+            batches.set(0);
+            clearInvocations(catalogoCache);
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isTrue();
+            assertThat(result.total()).isZero();
+            assertThat(consultas).hasValue(2);
+            assertThat(batches).hasValue(0);
+            verify(catalogoCache, never()).evictRegionais();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar registros inválidos e manter a última ocorrência de um id repetido")
+        void deveIgnorarInvalidosERepetidos() {
+            // Arrange
+            ReflectionTestUtils.setField(regionalSyncService, "batchSize", 10);
+            responder("[{\"id\":1,\"nome\":\"Primeiro\"},{\"id\":null,\"nome\":\"Sem id\"},"
+                    + "{\"id\":2,\"nome\":\" \"},{\"id\":1,\"nome\":\"Último\"}]");
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isTrue();
+            assertThat(result.novos()).isEqualTo(1);
+            assertThat(banco).containsOnlyKeys(1L);
+            assertThat(banco.get(1L).nome()).isEqualTo("Último");
+        }
+
+        @Test
+        @DisplayName("Deve sincronizar 100 mil regionais em lotes de 1000")
+        void deveSincronizarFeedGrande() {
+            // Arrange
+            ReflectionTestUtils.setField(regionalSyncService, "batchSize", 1000);
+            responder(regionais(100_000));
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isTrue();
+            assertThat(result.novos()).isEqualTo(100_000);
+            assertThat(consultas).hasValue(100);
+            assertThat(batches).hasValue(100);
+            assertThat(banco).hasSize(100_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sincronização incremental")
+    class SincronizacaoIncremental {
+
+        @Test
+        @DisplayName("Deve enviar If-None-Match e encerrar sem ler o banco quando a API responde 304")
+        void deveEncerrarCom304() {
+            // Arrange
+            etag = "\"v1\"";
+            responder(regionais(4));
+            regionalSyncService.sincronizar();
+            consultas.set(0);
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(requisicoes).hasValue(2);
+            assertThat(result.success()).isTrue();
+            assertThat(result.total()).isZero();
+            assertThat(result.message()).contains("304");
+            assertThat(consultas).hasValue(0);
+            assertThat(regionalSyncService.getStatus().bytesFetched()).isZero();
+            verify(jdbcTemplate).update(contains("SET ativo = FALSE"), any(Timestamp.class), any(Long[].class));
+        }
+
+        @Test
+        @DisplayName("Deve encerrar sem ler o banco quando o conteúdo tem o mesmo hash")
+        void deveEncerrarComMesmoHash() {
+            // Arrange - sem ETag, a resposta é baixada novamente
+            responder(regionais(4));
+            regionalSyncService.sincronizar();
+            consultas.set(0);
+            batches.set(0);
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isTrue();
+            assertThat(result.message()).isEqualTo("Conteúdo da API externa inalterado");
+            assertThat(consultas).hasValue(0);
+            assertThat(batches).hasValue(0);
+            assertThat(regionalSyncService.getStatus().bytesFetched()).isEqualTo(corpo.length);
+            assertThat(regionalSyncService.getStatus().rowsTouched()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve inativar em um único comando as regionais ausentes da resposta")
+        void deveInativarAusentes() {
+            // Arrange
+            banco.put(99L, new Linha("Regional removida", true));
+            responder(regionais(3));
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isTrue();
+            assertThat(result.novos()).isEqualTo(3);
+            assertThat(result.inativados()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(4);
+            assertThat(banco.get(99L).ativo()).isFalse();
+            assertThat(banco.get(1L).ativo()).isTrue();
+            verify(jdbcTemplate).update(contains("SET ativo = FALSE"), any(Timestamp.class), eq(new Long[] { 1L, 2L, 3L }));
+        }
+
+        @Test
+        @DisplayName("Deve reativar a regional que volta a aparecer na resposta")
+        void deveReativarRegional() {
+            // Arrange
+            responder(regionais(3));
+            regionalSyncService.sincronizar();
+            responder(regionais(2));
+            regionalSyncService.sincronizar();
+            responder(regionais(3));
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.atualizados()).isEqualTo(1);
+            assertThat(banco.get(3L).ativo()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve informar bytes recebidos e registros alterados no status")
+        void deveInformarBytesERegistros() {
+            // Arrange
+            responder(regionais(5));
+
+            // Act
+            regionalSyncService.sincronizar();
+
+            // Assert
+            RegionalSyncService.SyncStatus syncStatus = regionalSyncService.getStatus();
+            assertThat(syncStatus.bytesFetched()).isEqualTo(corpo.length);
+            assertThat(syncStatus.rowsTouched()).isEqualTo(5);
+            assertThat(syncStatus.lastSync()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease e histórico")
+    class LeaseEHistorico {
+
+        @Test
+        @DisplayName("Não deve sincronizar enquanto outra instância detém o lease")
+        void naoDeveSincronizarSemLease() {
+            // Arrange
+            responder(regionais(3));
+
+            try (SyncLeaseLock.Lease lease = outraInstancia.tentarAdquirir("regionais").orElseThrow()) {
+                // Act
+                SyncResult result = regionalSyncService.sincronizar();
+
+                // Assert
+                assertThat(result.success()).isFalse();
+                assertThat(result.message()).isEqualTo("Sincronização já em andamento em outra instância");
+                assertThat(requisicoes).hasValue(0);
+                assertThat(execucoes).isEmpty();
+                assertThat(regionalSyncService.getStatus().inProgress()).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve liberar o lease ao final da sincronização")
+        void deveLiberarLease() {
+            // Arrange
+            responder(regionais(3));
+
+            // Act
+            regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(outraInstancia.donoAtual("regionais")).isEmpty();
+            assertThat(regionalSyncService.getStatus().inProgress()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve registrar cada execução com duração, registros e bytes")
+        void deveRegistrarExecucoes() {
+            // Arrange
+            responder(regionais(3));
+            regionalSyncService.sincronizar();
+            status = 500;
+
+            // Act
+            regionalSyncService.sincronizar();
+
+            // Assert
+            RegionalSyncService.SyncStatus syncStatus = regionalSyncService.getStatus();
+            assertThat(syncStatus.historico()).hasSize(2);
+
+            RegionalSyncService.SyncExecucao falha = syncStatus.historico().get(0);
+            assertThat(falha.success()).isFalse();
+            assertThat(falha.message()).contains("500");
+
+            RegionalSyncService.SyncExecucao sucesso = syncStatus.historico().get(1);
+            assertThat(sucesso.success()).isTrue();
+            assertThat(sucesso.origin()).isEqualTo("MANUAL");
+            assertThat(sucesso.novos()).isEqualTo(3);
+            assertThat(sucesso.rowsTouched()).isEqualTo(3);
+            assertThat(sucesso.bytesFetched()).isEqualTo(regionais(3).length());
+            assertThat(sucesso.durationMs()).isNotNegative();
+            assertThat(sucesso.instance()).isNotBlank();
+            assertThat(syncStatus.lastSync()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve executar a sincronização agendada somente quando habilitada")
+        void deveRespeitarAgendamentoHabilitado() {
+            // Arrange
+            responder(regionais(3));
+
+            // Act
+            regionalSyncService.sincronizarAgendada();
+            ReflectionTestUtils.setField(regionalSyncService, "scheduledEnabled", true);
+            regionalSyncService.sincronizarAgendada();
+
+            // Assert
+            assertThat(requisicoes).hasValue(1);
+            assertThat(execucoes).singleElement()
+                    .extracting(RegionalSyncExecucao::getOrigem)
+                    .isEqualTo(RegionalSyncExecucao.Origem.AGENDADA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas e concorrência")
+    class FalhasEConcorrencia {
+
+        @Test
+        @DisplayName("Não deve iniciar outra sincronização enquanto uma está em andamento")
+        void naoDeveExecutarEmParalelo() {
+            // Arrange
+            AtomicBoolean emAndamento = (AtomicBoolean) ReflectionTestUtils.getField(regionalSyncService, "syncInProgress");
+            emAndamento.set(true);
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isFalse();
+            assertThat(result.message()).isEqualTo("Sincronização já em andamento");
+            verifyNoInteractions(notificationService, jdbcTemplate, namedParameterJdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Deve informar erro da API externa e liberar nova execução")
+        void deveInformarErroDaApi() {
+            // Arrange
+            status = 500;
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isFalse();
+            assertThat(result.message()).contains("500");
+            assertThat(regionalSyncService.isSyncInProgress()).isFalse();
+            verify(notificationService).notifySyncError(anyString());
+            verify(notificationService, never()).notifySyncCompleted(anyInt(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Deve informar erro quando a API não retorna regionais")
+        void deveInformarRespostaVazia() {
+            // Arrange
+            responder("[]");
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isFalse();
+            assertThat(result.message()).isEqualTo("Nenhum dado retornado da API");
+            verify(notificationService).notifySyncError("Nenhum dado retornado da API");
+        }
+
+        @Test
+        @DisplayName("Não deve inativar regionais quando nenhum registro da resposta tem id")
+        void naoDeveInativarComRegistrosSemId() {
+            // Arrange
+            banco.put(1L, new Linha("Regional 1", true));
+            banco.put(2L, new Linha("Regional 2", true));
+            responder("[{\"nome\":\"Sem id\"},{\"id\":null,\"nome\":\"Outra sem id\"},null]");
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isFalse();
+            assertThat(result.inativados()).isZero();
+            assertThat(banco.values()).allMatch(Linha::ativo);
+            verify(jdbcTemplate, never()).update(contains("SET ativo = FALSE"), any(Timestamp.class), any(Long[].class));
+            verify(notificationService).notifySyncError(contains("Nenhuma regional válida"));
+            assertThat(estados).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve inativar regionais quando todos os registros da resposta são inválidos")
+        void naoDeveInativarComTodosInvalidos() {
+            // Arrange
+            banco.put(1L, new Linha("Regional 1", true));
+            banco.put(2L, new Linha("Regional 2", true));
+            responder("[{\"id\":1,\"nome\":\" \"},{\"id\":3}]");
+
+            // Act
+            SyncResult result = regionalSyncService.sincronizar();
+
+            // Assert
+            assertThat(result.success()).isFalse();
+            assertThat(banco.values()).allMatch(Linha::ativo);
+            verify(jdbcTemplate, never()).update(contains("SET ativo = FALSE"), any(Timestamp.class), any(Long[].class));
+        }
+    }
+}
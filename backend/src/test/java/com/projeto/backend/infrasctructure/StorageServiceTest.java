@@ -0,0 +1,194 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.projeto.backend.infrastructure.storage.StorageService;
+
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+
+/**
+ * Testes unitários para StorageService.
+ *
+ * Cobertura:
+ * - Envio de capa com uma leitura para o hash e uma para o envio
+ * - Upload multipart sem carregar o arquivo inteiro em memória
+ * - Chave endereçada pelo conteúdo (SHA-256)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageService")
+class StorageServiceTest {
+
+    private static final int TAMANHO_10MB = 10 * 1024 * 1024;
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    @Mock
+    private MinioClient minioClient;
+
+    @Mock
+    private MultipartFile file;
+
+    @InjectMocks
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storageService, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(storageService, "partSize", PART_SIZE);
+    }
+
+    /**
+     * Conteúdo gerado sob demanda, sem manter o arquivo em memória.
+     */
+    private static class ConteudoGerado extends InputStream {
+
+        private final long tamanho;
+        private long posicao;
+
+        ConteudoGerado(long tamanho) {
+            this.tamanho = tamanho;
+        }
+
+        private static byte byteEm(long posicao) {
+            return (byte) (posicao * 31 + (posicao >> 12));
+        }
+
+        @Override
+        public int read() {
+            return posicao < tamanho ? byteEm(posicao++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (posicao >= tamanho) {
+                return -1;
+            }
+            int lidos = (int) Math.min(len, tamanho - posicao);
+            for (int i = 0; i < lidos; i++) {
+                b[off + i] = byteEm(posicao++);
+            }
+            return lidos;
+        }
+    }
+
+    private static String md5Esperado(long tamanho) throws Exception {
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new ConteudoGerado(tamanho)) {
+            int lidos;
+            while ((lidos = in.read(buffer)) != -1) {
+                md5.update(buffer, 0, lidos);
+            }
+        }
+        return HexFormat.of().formatHex(md5.digest());
+    }
+
+    private static long bytesAlocadosPelaThread() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Nested
+    @DisplayName("Upload")
+    class Upload {
+
+        @Test
+        @DisplayName("Deve enviar 10MB em partes, sem carregar o arquivo em memória")
+        void deveEnviarEmStreaming() throws Exception {
+            // Arrange
+            when(file.isEmpty()).thenReturn(false);
+            when(file.getContentType()).thenReturn("image/jpeg");
+            when(file.getSize()).thenReturn((long) TAMANHO_10MB);
+            when(file.getOriginalFilename()).thenReturn("capa.jpg");
+            when(file.getInputStream()).thenAnswer(inv -> new ConteudoGerado(TAMANHO_10MB));
+
+            long[] bytesEnviados = new long[1];
+            long[] partSizeUsado = new long[1];
+            when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(inv -> {
+                PutObjectArgs args = inv.getArgument(0);
+                partSizeUsado[0] = args.partSize();
+                bytesEnviados[0] = consumir(args.stream());
+                return null;
+            });
+
+            // Aquecimento: carga de classes e inicialização de MessageDigest
+            storageService.uploadConteudo(file, storageService.prepararConteudo(file));
+            clearInvocations(file);
+
+            // Act: o mesmo caminho do envio de capas (hash, depois envio)
+            long alocadoAntes = bytesAlocadosPelaThread();
+            StorageService.StorageResult result = storageService.prepararConteudo(file);
+            storageService.uploadConteudo(file, result);
+            long alocado = bytesAlocadosPelaThread() - alocadoAntes;
+
+            // Assert: uma leitura para o hash e uma para o envio
+            verify(file, times(2)).getInputStream();
+            assertThat(bytesEnviados[0]).isEqualTo(TAMANHO_10MB);
+            assertThat(partSizeUsado[0]).isEqualTo(PART_SIZE);
+            assertThat(result.md5Hash()).isEqualTo(md5Esperado(TAMANHO_10MB));
+            assertThat(result.objectKey()).startsWith("conteudo/");
+            assertThat(alocado)
+                    .as("Bytes alocados durante o hash e o upload de 10MB")
+                    .isLessThan(1024 * 1024);
+        }
+
+        private long consumir(InputStream stream) throws IOException {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int lidos;
+            while ((lidos = stream.read(buffer)) != -1) {
+                total += lidos;
+            }
+            return total;
+        }
+    }
+
+    @Nested
+    @DisplayName("Conteúdo Endereçado")
+    class ConteudoEnderecado {
+
+        @Test
+        @DisplayName("Deve derivar a mesma chave para arquivos idênticos sem enviá-los")
+        void deveDerivarMesmaChaveParaArquivosIdenticos() throws Exception {
+            // Arrange
+            byte[] bytes = "mesma imagem".getBytes();
+            MultipartFile primeiro = new MockMultipartFile("file", "frente.jpg", "image/jpeg", bytes);
+            MultipartFile segundo = new MockMultipartFile("file", "copia.jpg", "image/jpeg", bytes);
+            String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+
+            // Act
+            StorageService.StorageResult resultPrimeiro = storageService.prepararConteudo(primeiro);
+            StorageService.StorageResult resultSegundo = storageService.prepararConteudo(segundo);
+
+            // Assert
+            assertThat(resultPrimeiro.objectKey())
+                    .isEqualTo(resultSegundo.objectKey())
+                    .isEqualTo("conteudo/" + sha256.substring(0, 2) + "/" + sha256);
+            assertThat(resultSegundo.originalFilename()).isEqualTo("copia.jpg");
+            verifyNoInteractions(minioClient);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.projeto.backend.infrastructure.sync.SyncLeaseLock;
+
+/**
+ * Testes unitários para SyncLeaseLock, com duas instâncias sobre o mesmo
+ * banco H2.
+ *
+ * Cobertura:
+ * - Exclusividade e liberação do lease
+ * - Lease expirado assumido por outra instância
+ * - Renovação periódica (heartbeat)
+ */
+@DisplayName("SyncLeaseLock")
+class SyncLeaseLockTest {
+
+    private static final String NOME = "regionais";
+
+    private JdbcTemplate jdbcTemplate;
+    private Connection manterBanco;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:synclease;MODE=PostgreSQL");
+        dataSource.setUser("sa");
+
+        // Mantém o banco em memória entre as conexões do teste
+        manterBanco = dataSource.getConnection();
+        try (Statement statement = manterBanco.createStatement()) {
+            statement.execute("CREATE TABLE sync_lease (nome VARCHAR(100) PRIMARY KEY, dono VARCHAR(200), expira_em BIGINT NOT NULL)");
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        manterBanco.close();
+    }
+
+    private SyncLeaseLock novaInstancia(Duration ttl, Duration heartbeat) {
+        return new SyncLeaseLock(jdbcTemplate, ttl, heartbeat);
+    }
+
+    @Nested
+    @DisplayName("Exclusividade")
+    class Exclusividade {
+
+        @Test
+        @DisplayName("Deve conceder o lease a uma única instância por vez")
+        void deveConcederAUmaInstancia() {
+            // Arrange
+            SyncLeaseLock instancia1 = novaInstancia(Duration.ofMinutes(2), Duration.ofSeconds(30));
+            SyncLeaseLock instancia2 = novaInstancia(Duration.ofMinutes(2), Duration.ofSeconds(30));
+
+            // Act
+            Optional<SyncLeaseLock.Lease> lease1 = instancia1.tentarAdquirir(NOME);
+            Optional<SyncLeaseLock.Lease> lease2 = instancia2.tentarAdquirir(NOME);
+
+            // Assert
+            assertThat(lease1).isPresent();
+            assertThat(lease1.get().isValido()).isTrue();
+            assertThat(lease2).isEmpty();
+            assertThat(instancia2.donoAtual(NOME)).isPresent();
+            lease1.get().close();
+        }
+
+        @Test
+        @DisplayName("Deve liberar o lease ao fechar")
+        void deveLiberarAoFechar() {
+            // Arrange
+            SyncLeaseLock instancia1 = novaInstancia(Duration.ofMinutes(2), Duration.ofSeconds(30));
+            SyncLeaseLock instancia2 = novaInstancia(Duration.ofMinutes(2), Duration.ofSeconds(30));
+            SyncLeaseLock.Lease lease = instancia1.tentarAdquirir(NOME).orElseThrow();
+
+            // Act
+            lease.close();
+
+            // Assert
+            assertThat(lease.isValido()).isFalse();
+            assertThat(instancia2.donoAtual(NOME)).isEmpty();
+            Optional<SyncLeaseLock.Lease> outro = instancia2.tentarAdquirir(NOME);
+            assertThat(outro).isPresent();
+            outro.get().close();
+        }
+
+        @Test
+        @DisplayName("Deve exigir heartbeat menor que o ttl")
+        void deveValidarHeartbeat() {
+            assertThatThrownBy(() -> novaInstancia(Duration.ofSeconds(30), Duration.ofSeconds(30)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiração e renovação")
+    class ExpiracaoERenovacao {
+
+        @Test
+        @DisplayName("Deve permitir que outra instância assuma um lease expirado")
+        void deveAssumirLeaseExpirado() throws InterruptedException {
+            // Arrange - heartbeat longo: a instância "cai" sem renovar
+            SyncLeaseLock instancia1 = novaInstancia(Duration.ofMillis(200), Duration.ofMillis(150));
+            SyncLeaseLock instancia2 = novaInstancia(Duration.ofMinutes(2), Duration.ofSeconds(30));
+            SyncLeaseLock.Lease abandonado = instancia1.tentarAdquirir(NOME).orElseThrow();
+            jdbcTemplate.update("UPDATE sync_lease SET expira_em = ? WHERE nome = ?", System.currentTimeMillis() - 1, NOME);
+
+            // Act
+            Optional<SyncLeaseLock.Lease> lease = instancia2.tentarAdquirir(NOME);
+            Thread.sleep(300);
+
+            // Assert - a primeira instância percebe a perda na renovação seguinte
+            assertThat(lease).isPresent();
+            assertThat(lease.get().isValido()).isTrue();
+            assertThat(abandonado.isValido()).isFalse();
+
+            abandonado.close();
+            assertThat(instancia1.donoAtual(NOME)).isPresent();
+            lease.get().close();
+        }
+
+        @Test
+        @DisplayName("Deve renovar o lease enquanto estiver aberto")
+        void deveRenovarLease() throws InterruptedException {
+            // Arrange
+            SyncLeaseLock instancia1 = novaInstancia(Duration.ofMillis(300), Duration.ofMillis(50));
+            SyncLeaseLock instancia2 = novaInstancia(Duration.ofMillis(300), Duration.ofMillis(50));
+
+            try (SyncLeaseLock.Lease lease = instancia1.tentarAdquirir(NOME).orElseThrow()) {
+                // Act - três vezes o ttl
+                Thread.sleep(900);
+
+                // Assert
+                assertThat(lease.isValido()).isTrue();
+                assertThat(instancia2.tentarAdquirir(NOME)).isEmpty();
+            }
+        }
+    }
+}
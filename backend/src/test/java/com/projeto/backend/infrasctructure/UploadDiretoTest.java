@@ -0,0 +1,460 @@
+package com.projeto.backend.infrasctructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.album.AlbumCapaRepository;
+import com.projeto.backend.domain.album.AlbumCapaService;
+import com.projeto.backend.domain.album.AlbumRepository;
+import com.projeto.backend.domain.album.CapaMiniaturaService;
+import com.projeto.backend.domain.album.TipoCapa;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.storage.StorageService;
+import com.projeto.backend.web.dto.album.AlbumCapaResponse;
+import com.projeto.backend.web.dto.album.CapaUploadConfirmacaoRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlRequest;
+import com.projeto.backend.web.dto.album.CapaUploadUrlResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.minio.MinioClient;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Testes do upload direto ao MinIO por formulário pré-assinado (POST policy).
+ *
+ * O MinIO é substituído por um servidor S3 em memória que atende o POST do
+ * formulário (conferindo as condições da política, sem a assinatura), a
+ * cópia, HEAD e DELETE; StorageService e MinioClient são os reais.
+ *
+ * Cobertura:
+ * - Envio pelo formulário e confirmação com os metadados do objeto
+ * - Envio com tipo ou tamanho fora da política recusado pelo armazenamento
+ * - Cópia para a pasta do álbum e remoção do envio confirmado
+ * - Confirmação de objeto não enviado, inválido ou de outro álbum
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Upload Direto")
+class UploadDiretoTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    @Mock
+    private AlbumCapaRepository albumCapaRepository;
+
+    @Mock
+    private AlbumRepository albumRepository;
+
+    @Mock
+    private CatalogoCache catalogoCache;
+
+    @Mock
+    private CapaMiniaturaService capaMiniaturaService;
+
+    @InjectMocks
+    private AlbumCapaService albumCapaService;
+
+    private S3EmMemoria s3;
+    private Album album;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new S3EmMemoria();
+        String endpoint = "http://localhost:" + s3.porta();
+
+        StorageService storageService = new StorageService();
+        ReflectionTestUtils.setField(storageService, "minioClient", MinioClient.builder()
+                .endpoint(endpoint)
+                .credentials("minioadmin", "minioadmin123")
+                .region("us-east-1")
+                .build());
+        ReflectionTestUtils.setField(storageService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(storageService, "presignedUrlExpiration", 30);
+        ReflectionTestUtils.setField(storageService, "publicUrl", endpoint);
+        ReflectionTestUtils.setField(storageService, "accessKey", "minioadmin");
+        ReflectionTestUtils.setField(storageService, "secretKey", "minioadmin123");
+        ReflectionTestUtils.setField(storageService, "region", "us-east-1");
+        ReflectionTestUtils.invokeMethod(storageService, "init");
+        ReflectionTestUtils.setField(albumCapaService, "storageService", storageService);
+
+        Artista artista = new Artista();
+        artista.setId(7L);
+
+        album = new Album();
+        album.setId(1L);
+        album.setArtista(artista);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.parar();
+    }
+
+    /**
+     * Servidor S3 mínimo: guarda os objetos em memória e confere as condições
+     * da política dos formulários, sem conferir assinaturas.
+     */
+    private static class S3EmMemoria {
+
+        private record Objeto(byte[] conteudo, String contentType) {}
+
+        private final JsonMapper mapper = JsonMapper.builder().build();
+        private final Map<String, Objeto> objetos = new ConcurrentHashMap<>();
+        private final HttpServer server;
+
+        S3EmMemoria() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", this::atender);
+            server.start();
+        }
+
+        int porta() {
+            return server.getAddress().getPort();
+        }
+
+        void parar() {
+            server.stop(0);
+        }
+
+        boolean contem(String objectKey) {
+            return objetos.containsKey("/" + BUCKET + "/" + objectKey);
+        }
+
+        void gravar(String objectKey, byte[] conteudo, String contentType) {
+            objetos.put("/" + BUCKET + "/" + objectKey, new Objeto(conteudo, contentType));
+        }
+
+        private void atender(HttpExchange exchange) throws IOException {
+            String caminho = exchange.getRequestURI().getPath();
+
+            switch (exchange.getRequestMethod()) {
+                case "POST" -> {
+                    Map<String, byte[]> campos = formulario(exchange);
+                    byte[] conteudo = campos.get("file");
+                    if (!atendePolitica(campos, conteudo)) {
+                        exchange.sendResponseHeaders(403, -1);
+                    } else {
+                        objetos.put(caminho + "/" + texto(campos.get("key")),
+                                new Objeto(conteudo, texto(campos.get("Content-Type"))));
+                        exchange.sendResponseHeaders(204, -1);
+                    }
+                }
+                case "PUT" -> {
+                    String origem = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+                    Objeto objeto = origem == null ? null
+                            : objetos.get("/" + URLDecoder.decode(origem, StandardCharsets.UTF_8).replaceFirst("^/", ""));
+                    if (objeto == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                    } else {
+                        objetos.put(caminho, objeto);
+                        byte[] resposta = ("<CopyObjectResult><LastModified>2026-01-01T00:00:00.000Z"
+                                + "</LastModified><ETag>\"" + md5(objeto.conteudo())
+                                + "\"</ETag></CopyObjectResult>").getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+                        exchange.sendResponseHeaders(200, resposta.length);
+                        exchange.getResponseBody().write(resposta);
+                    }
+                }
+                case "HEAD" -> {
+                    Objeto objeto = objetos.get(caminho);
+                    if (objeto == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                    } else {
+                        exchange.getResponseHeaders().add("ETag", "\"" + md5(objeto.conteudo()) + "\"");
+                        exchange.getResponseHeaders().add("Content-Type", objeto.contentType());
+                        exchange.getResponseHeaders().add("Last-Modified",
+                                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now()));
+                        exchange.getResponseHeaders().add("Content-Length", String.valueOf(objeto.conteudo().length));
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                }
+                case "DELETE" -> {
+                    objetos.remove(caminho);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+            exchange.close();
+        }
+
+        /**
+         * Condições eq e content-length-range da política, como o MinIO as confere.
+         */
+        private boolean atendePolitica(Map<String, byte[]> campos, byte[] conteudo) {
+            JsonNode politica = mapper.readTree(Base64.getDecoder().decode(campos.get("policy")));
+            for (JsonNode condicao : politica.get("conditions")) {
+                String tipo = condicao.get(0).asString();
+                if (tipo.equals("content-length-range")) {
+                    if (conteudo.length < condicao.get(1).asLong() || conteudo.length > condicao.get(2).asLong()) {
+                        return false;
+                    }
+                } else if (tipo.equals("eq")) {
+                    String campo = condicao.get(1).asString().substring(1);
+                    String valor = campo.equals("bucket") ? BUCKET : texto(campos.get(campo));
+                    if (!condicao.get(2).asString().equals(valor)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Campos de um corpo multipart/form-data, preservando os bytes do arquivo.
+         */
+        private static Map<String, byte[]> formulario(HttpExchange exchange) throws IOException {
+            String tipo = exchange.getRequestHeaders().getFirst("Content-Type");
+            String delimitador = "--" + tipo.substring(tipo.indexOf("boundary=") + "boundary=".length());
+            String corpo = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+
+            Map<String, byte[]> campos = new HashMap<>();
+            for (String parte : corpo.split(delimitador)) {
+                int fimCabecalho = parte.indexOf("\r\n\r\n");
+                int nome = parte.indexOf("name=\"");
+                if (fimCabecalho < 0 || nome < 0) {
+                    continue;
+                }
+                String campo = parte.substring(nome + 6, parte.indexOf('"', nome + 6));
+                String valor = parte.substring(fimCabecalho + 4, parte.length() - 2);
+                campos.put(campo, valor.getBytes(StandardCharsets.ISO_8859_1));
+            }
+            return campos;
+        }
+
+        private static String texto(byte[] valor) {
+            return valor == null ? null : new String(valor, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String md5(byte[] conteudo) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(conteudo));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Envia o conteúdo como o navegador faria: os campos do formulário
+     * pré-assinado, com o Content-Type informado, seguidos do arquivo.
+     */
+    private int enviar(CapaUploadUrlResponse uploadUrl, byte[] conteudo, String contentType) throws Exception {
+        Map<String, String> campos = new HashMap<>(uploadUrl.getCampos());
+        campos.put("Content-Type", contentType);
+
+        String delimitador = UUID.randomUUID().toString();
+        ByteArrayOutputStream corpo = new ByteArrayOutputStream();
+        campos.forEach((campo, valor) -> corpo.writeBytes(("--" + delimitador + "\r\nContent-Disposition: form-data; name=\""
+                + campo + "\"\r\n\r\n" + valor + "\r\n").getBytes(StandardCharsets.UTF_8)));
+        corpo.writeBytes(("--" + delimitador + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"capa\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        corpo.writeBytes(conteudo);
+        corpo.writeBytes(("\r\n--" + delimitador + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl.getUrl()))
+                .header("Content-Type", "multipart/form-data; boundary=" + delimitador)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(corpo.toByteArray()))
+                .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void simularAlbumSemCapas() {
+        when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+        when(albumCapaRepository.countByObjectKey(anyString())).thenReturn(0L);
+    }
+
+    @Nested
+    @DisplayName("Envio e Confirmação")
+    class EnvioEConfirmacao {
+
+        @Test
+        @DisplayName("Deve enviar pelo formulário pré-assinado e registrar a capa na pasta do álbum")
+        void deveEnviarERegistrarCapa() throws Exception {
+            // Arrange
+            byte[] conteudo = "imagem enviada direto".getBytes();
+            simularAlbumSemCapas();
+            when(albumCapaRepository.countByAlbumId(1L)).thenReturn(2L);
+            when(albumCapaRepository.save(any(AlbumCapa.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            // Act
+            CapaUploadUrlResponse uploadUrl = albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("frente.png", "image/png", (long) conteudo.length));
+            int status = enviar(uploadUrl, conteudo, "image/png");
+            AlbumCapaResponse response = albumCapaService.confirmarUpload(1L,
+                    new CapaUploadConfirmacaoRequest(uploadUrl.getObjectKey(), "frente.png", TipoCapa.VERSO));
+
+            // Assert
+            String destino = uploadUrl.getObjectKey().substring("uploads/".length());
+            assertThat(status).isEqualTo(204);
+            assertThat(uploadUrl.getMetodo()).isEqualTo("POST");
+            assertThat(uploadUrl.getUrl()).endsWith("/" + BUCKET);
+            assertThat(uploadUrl.getObjectKey()).startsWith("uploads/artista-7/album-1/").endsWith(".png");
+            assertThat(uploadUrl.getCampos()).containsEntry("key", uploadUrl.getObjectKey())
+                    .containsEntry("Content-Type", "image/png")
+                    .containsKeys("policy", "x-amz-signature");
+            assertThat(uploadUrl.getExpiraEm()).isBetween(Instant.now().plus(Duration.ofMinutes(29)),
+                    Instant.now().plus(Duration.ofMinutes(31)));
+            assertThat(s3.contem(destino)).isTrue();
+            assertThat(s3.contem(uploadUrl.getObjectKey())).isFalse();
+
+            ArgumentCaptor<AlbumCapa> capa = ArgumentCaptor.forClass(AlbumCapa.class);
+            verify(albumCapaRepository).save(capa.capture());
+            assertThat(capa.getValue().getObjectKey()).isEqualTo(destino);
+            assertThat(capa.getValue().getTamanhoBytes()).isEqualTo(conteudo.length);
+            assertThat(capa.getValue().getContentType()).isEqualTo("image/png");
+            assertThat(capa.getValue().getHashMd5()).isEqualTo(md5(conteudo));
+            assertThat(capa.getValue().getOrdem()).isEqualTo(2);
+            assertThat(response.getTipoCapa()).isEqualTo(TipoCapa.VERSO);
+            verify(albumCapaRepository).bloquearObjeto(destino);
+            verify(catalogoCache).evictAlbum(1L);
+        }
+
+        @Test
+        @DisplayName("Deve ter o envio recusado pelo armazenamento com tipo ou tamanho fora da política")
+        void deveRecusarEnvioForaDaPolitica() throws Exception {
+            // Arrange
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            CapaUploadUrlResponse uploadUrl = albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("frente.jpg", "image/jpeg", 10L));
+
+            // Act
+            int tipoDiferente = enviar(uploadUrl, "<html></html>".getBytes(), "text/html");
+            int maiorQueDeclarado = enviar(uploadUrl, new byte[11], "image/jpeg");
+
+            // Assert
+            assertThat(tipoDiferente).isEqualTo(403);
+            assertThat(maiorQueDeclarado).isEqualTo(403);
+            assertThat(s3.contem(uploadUrl.getObjectKey())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve recusar URL para arquivo que não é imagem ou excede 10MB")
+        void deveRecusarUrlParaArquivoInvalido() {
+            // Arrange
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("doc.pdf", "application/pdf", 100L)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("grande.jpg", "image/jpeg", 11L * 1024 * 1024)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Confirmação Inválida")
+    class ConfirmacaoInvalida {
+
+        @Test
+        @DisplayName("Deve recusar a confirmação de um objeto que não foi enviado")
+        void deveRecusarObjetoNaoEnviado() {
+            // Arrange
+            simularAlbumSemCapas();
+            CapaUploadUrlResponse uploadUrl = albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("frente.jpg", "image/jpeg", 10L));
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L,
+                    new CapaUploadConfirmacaoRequest(uploadUrl.getObjectKey(), "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("não encontrado");
+            verify(albumCapaRepository, never()).save(any(AlbumCapa.class));
+        }
+
+        @Test
+        @DisplayName("Deve remover o objeto enviado com tipo diferente de imagem")
+        void deveRemoverObjetoInvalido() throws Exception {
+            // Arrange
+            simularAlbumSemCapas();
+            CapaUploadUrlResponse uploadUrl = albumCapaService.gerarUrlUpload(1L,
+                    new CapaUploadUrlRequest("frente.jpg", "image/jpeg", 10L));
+            s3.gravar(uploadUrl.getObjectKey(), "<html></html>".getBytes(), "text/html");
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L,
+                    new CapaUploadConfirmacaoRequest(uploadUrl.getObjectKey(), "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(s3.contem(uploadUrl.getObjectKey())).isFalse();
+            verify(albumCapaRepository, never()).save(any(AlbumCapa.class));
+        }
+
+        @Test
+        @DisplayName("Deve recusar chaves fora da pasta do álbum")
+        void deveRecusarChaveDeOutroAlbum() {
+            // Arrange
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L, new CapaUploadConfirmacaoRequest(
+                    "uploads/artista-7/album-2/3f1c2a9e-5b7d-4c8e-9a1f-2d3e4f5a6b7c.jpg", "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L, new CapaUploadConfirmacaoRequest(
+                    "uploads/artista-7/album-1/../album-2/capa.jpg", "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L, new CapaUploadConfirmacaoRequest(
+                    "artista-7/album-1/3f1c2a9e-5b7d-4c8e-9a1f-2d3e4f5a6b7c.jpg", "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(albumCapaRepository, never()).bloquearObjeto(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve recusar a confirmação repetida do mesmo objeto")
+        void deveRecusarConfirmacaoRepetida() {
+            // Arrange
+            String destino = "artista-7/album-1/3f1c2a9e-5b7d-4c8e-9a1f-2d3e4f5a6b7c.jpg";
+            when(albumRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(album));
+            when(albumCapaRepository.countByObjectKey(destino)).thenReturn(1L);
+
+            // Act & Assert
+            assertThatThrownBy(() -> albumCapaService.confirmarUpload(1L,
+                    new CapaUploadConfirmacaoRequest("uploads/" + destino, "frente.jpg", TipoCapa.FRENTE)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("já confirmado");
+        }
+    }
+}
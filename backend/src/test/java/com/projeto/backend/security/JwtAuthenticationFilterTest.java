@@ -0,0 +1,176 @@
+package com.projeto.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.projeto.backend.domain.usuario.Usuario;
+import com.projeto.backend.security.jwt.JwtAuthenticationFilter;
+import com.projeto.backend.security.jwt.JwtService;
+import com.projeto.backend.security.jwt.PrincipalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Testes unitários para JwtAuthenticationFilter.
+ *
+ * Cobertura:
+ * - Autenticação com token válido
+ * - Reuso do principal em cache entre requisições
+ * - Invalidação do cache ao alterar o usuário
+ * - Rejeição de usuário inativo e token inválido
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtService jwtService;
+    private PrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "test-secret-key-for-unit-tests");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 300000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "activeKid", "k1");
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(principalCache, "meterRegistry",
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.invokeMethod(principalCache, "init");
+
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setUsername("testuser");
+        usuario.setEmail("test@teste.com");
+        usuario.setPasswordHash("$2a$10$encodedPassword");
+        usuario.setAtivo(true);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication executar(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Nested
+    @DisplayName("Cache de Principals")
+    class CachePrincipals {
+
+        @Test
+        @DisplayName("Deve carregar o usuário apenas na primeira requisição com o token")
+        void deveCarregarUsuarioApenasUmaVez() throws Exception {
+            // Arrange
+            String token = jwtService.generateToken(usuario);
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(usuario);
+
+            // Act
+            Authentication primeira = executar(token);
+            Authentication segunda = executar(token);
+
+            // Assert
+            assertThat(primeira).isNotNull();
+            assertThat(segunda).isNotNull();
+            assertThat(segunda.getPrincipal()).isSameAs(usuario);
+            verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+        }
+
+        @Test
+        @DisplayName("Deve recarregar o usuário após invalidação")
+        void deveRecarregarUsuarioAposInvalidacao() throws Exception {
+            // Arrange
+            String token = jwtService.generateToken(usuario);
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(usuario);
+            executar(token);
+
+            // Act
+            principalCache.evictUsuario(usuario.getId());
+            executar(token);
+
+            // Assert
+            verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+        }
+
+        @Test
+        @DisplayName("Não deve autenticar usuário desativado após invalidação")
+        void naoDeveAutenticarUsuarioDesativado() throws Exception {
+            // Arrange
+            String token = jwtService.generateToken(usuario);
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(usuario);
+            executar(token);
+
+            Usuario desativado = new Usuario();
+            desativado.setId(1L);
+            desativado.setUsername("testuser");
+            desativado.setAtivo(false);
+            when(userDetailsService.loadUserByUsername("testuser")).thenReturn(desativado);
+
+            // Act
+            principalCache.evictUsuario(usuario.getId());
+            Authentication authentication = executar(token);
+
+            // Assert
+            assertThat(authentication).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Token Inválido")
+    class TokenInvalido {
+
+        @Test
+        @DisplayName("Não deve consultar o usuário para token inválido")
+        void naoDeveConsultarUsuarioParaTokenInvalido() throws Exception {
+            // Act
+            Authentication authentication = executar("invalid.token.format");
+
+            // Assert
+            assertThat(authentication).isNull();
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+        }
+    }
+}
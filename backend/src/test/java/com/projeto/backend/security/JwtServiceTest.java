@@ -2,7 +2,9 @@ package com.projeto.backend.security;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Base64;
 import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.projeto.backend.domain.usuario.Usuario;
 import com.projeto.backend.security.jwt.JwtService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
 /**
  * Testes unitários para JwtService.
  * 
@@ -38,6 +43,8 @@ class JwtServiceTest {
         ReflectionTestUtils.setField(jwtService, "jwtSecret", "test-secret-key-for-unit-tests");
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", 300000L); // 5 min
         ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86400000L); // 24h
+        ReflectionTestUtils.setField(jwtService, "activeKid", "k1");
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
 
         usuario = new Usuario();
         usuario.setId(1L);
@@ -138,6 +145,106 @@ class JwtServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Leitura do Token")
+    class LeituraToken {
+
+        @Test
+        @DisplayName("Deve retornar subject e identificador do token em uma única leitura")
+        void deveRetornarSubjectEIdentificador() {
+            // Arrange
+            String token = jwtService.generateToken(usuario);
+
+            // Act
+            Claims claims = jwtService.parseToken(token);
+
+            // Assert
+            assertThat(claims.getSubject()).isEqualTo("testuser");
+            assertThat(claims.getId()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("Deve gerar identificadores distintos para cada token")
+        void deveGerarIdentificadoresDistintos() {
+            // Act
+            String id1 = jwtService.parseToken(jwtService.generateToken(usuario)).getId();
+            String id2 = jwtService.parseToken(jwtService.generateToken(usuario)).getId();
+
+            // Assert
+            assertThat(id1).isNotEqualTo(id2);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para token com formato inválido")
+        void deveLancarExcecaoParaTokenInvalido() {
+            // Act & Assert
+            assertThatThrownBy(() -> jwtService.parseToken("invalid.token.format"))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotação de Chaves")
+    class RotacaoChaves {
+
+        private JwtService criarServico(String secret, String kid, String previousKeys) {
+            JwtService service = new JwtService();
+            ReflectionTestUtils.setField(service, "jwtSecret", secret);
+            ReflectionTestUtils.setField(service, "activeKid", kid);
+            ReflectionTestUtils.setField(service, "previousKeys", previousKeys);
+            ReflectionTestUtils.setField(service, "jwtExpiration", 300000L);
+            ReflectionTestUtils.setField(service, "refreshExpiration", 86400000L);
+            ReflectionTestUtils.invokeMethod(service, "init");
+            return service;
+        }
+
+        @Test
+        @DisplayName("Deve identificar a chave de assinatura no header kid")
+        void deveIdentificarChaveNoHeader() {
+            // Arrange
+            String token = jwtService.generateToken(usuario);
+
+            // Act
+            String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]));
+
+            // Assert
+            assertThat(header).contains("\"kid\":\"k1\"");
+        }
+
+        @Test
+        @DisplayName("Deve aceitar token assinado com chave anterior após rotação")
+        void deveAceitarTokenDeChaveAnterior() {
+            // Arrange
+            String tokenAntigo = jwtService.generateToken(usuario);
+            JwtService rotacionado = criarServico("novo-secret-apos-rotacao-de-chave", "k2",
+                    "k1=test-secret-key-for-unit-tests");
+
+            // Act & Assert
+            assertThat(rotacionado.parseToken(tokenAntigo).getSubject()).isEqualTo("testuser");
+            assertThat(rotacionado.validateToken(rotacionado.generateToken(usuario), usuario)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar token com kid desconhecido")
+        void deveRejeitarKidDesconhecido() {
+            // Arrange
+            String tokenAntigo = jwtService.generateToken(usuario);
+            JwtService rotacionado = criarServico("novo-secret-apos-rotacao-de-chave", "k2", "");
+
+            // Act & Assert
+            assertThatThrownBy(() -> rotacionado.parseToken(tokenAntigo))
+                    .isInstanceOf(JwtException.class);
+        }
+
+        @Test
+        @DisplayName("Deve falhar na inicialização com chaves anteriores mal formatadas")
+        void deveFalharComConfiguracaoInvalida() {
+            // Act & Assert
+            assertThatThrownBy(() -> criarServico("novo-secret-apos-rotacao-de-chave", "k2", "k1"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Validação de Token")
     class ValidacaoToken {
@@ -0,0 +1,126 @@
+package com.projeto.backend.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para StringUtils.
+ *
+ * Cobertura:
+ * - Remoção de acentos e conversão para minúsculas
+ * - Equivalência com a implementação de referência (NFD + regex)
+ * - Idiomas com regra especial de minúsculas
+ */
+@DisplayName("StringUtils")
+class StringUtilsTest {
+
+    private static final Locale LOCALE_ORIGINAL = Locale.getDefault();
+
+    /**
+     * Implementação original, usada como referência de comportamento.
+     */
+    private static String referencia(String nome) {
+        if (nome == null) return "";
+        return Normalizer.normalize(nome, Normalizer.Form.NFD)
+                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "")
+                .toLowerCase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(LOCALE_ORIGINAL);
+    }
+
+    @Nested
+    @DisplayName("Normalização")
+    class Normalizacao {
+
+        @Test
+        @DisplayName("Deve remover acentos e converter para minúsculas")
+        void deveRemoverAcentosEConverterParaMinusculas() {
+            assertThat(StringUtils.normalizar("Legião Urbana")).isEqualTo("legiao urbana");
+            assertThat(StringUtils.normalizar("ÁÉÍÓÚ àèìòù ÂÊÔ ÃÕ Ç Ñ Ü")).isEqualTo("aeiou aeiou aeo ao c n u");
+        }
+
+        @Test
+        @DisplayName("Deve retornar string vazia para null")
+        void deveRetornarVazioParaNull() {
+            assertThat(StringUtils.normalizar(null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve retornar a própria instância quando já normalizada")
+        void deveRetornarPropriaInstanciaQuandoJaNormalizada() {
+            // Arrange
+            String nome = "legiao urbana";
+
+            // Act & Assert
+            assertThat(StringUtils.normalizar(nome)).isSameAs(nome);
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalência com a Implementação de Referência")
+    class Equivalencia {
+
+        @Test
+        @DisplayName("Deve ser equivalente para todo caractere BMP isolado")
+        void deveSerEquivalenteParaTodoCaractere() {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                String entrada = String.valueOf((char) c);
+                assertThat(StringUtils.normalizar(entrada))
+                        .as("U+%04X", c)
+                        .isEqualTo(referencia(entrada));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ser equivalente para strings aleatórias")
+        void deveSerEquivalenteParaStringsAleatorias() {
+            Random random = new Random(20240601L);
+            String latin1Comum = "aAbBcCçÇeEéÉêÊiIíÍoOóÓôÔõÕuUúÚüÜnNñÑ -'.,0123456789ßæøÿ";
+
+            for (int i = 0; i < 20_000; i++) {
+                StringBuilder entrada = new StringBuilder();
+                int tamanho = random.nextInt(40);
+                for (int j = 0; j < tamanho; j++) {
+                    int tipo = random.nextInt(10);
+                    if (tipo < 6) {
+                        entrada.append(latin1Comum.charAt(random.nextInt(latin1Comum.length())));
+                    } else if (tipo < 8) {
+                        entrada.append((char) random.nextInt(0x100));
+                    } else if (tipo < 9) {
+                        entrada.append((char) (0x0300 + random.nextInt(0x70))); // marcas combinantes
+                    } else {
+                        entrada.appendCodePoint(random.nextInt(0x1F600));
+                    }
+                }
+
+                String texto = entrada.toString();
+                assertThat(StringUtils.normalizar(texto))
+                        .as("entrada: %s", texto)
+                        .isEqualTo(referencia(texto));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve respeitar regras de minúsculas do idioma turco")
+        void deveRespeitarIdiomaTurco() {
+            // Arrange
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            // Act & Assert
+            for (String entrada : new String[] {"IZMIR", "Íris", "ÇIĞLI"}) {
+                assertThat(StringUtils.normalizar(entrada)).isEqualTo(referencia(entrada));
+            }
+        }
+    }
+}
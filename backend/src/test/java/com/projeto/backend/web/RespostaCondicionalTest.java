@@ -0,0 +1,320 @@
+package com.projeto.backend.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumService;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.domain.regional.Regional;
+import com.projeto.backend.domain.regional.RegionalService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.sync.RegionalSyncService;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.web.controller.AlbumController;
+import com.projeto.backend.web.controller.ArtistaController;
+import com.projeto.backend.web.controller.RegionalController;
+import com.projeto.backend.web.dto.album.AlbumResponse;
+import com.projeto.backend.web.dto.artista.ArtistaResponse;
+import com.projeto.backend.web.dto.regional.RegionalResponse;
+
+/**
+ * Testes de integração do GET condicional (ETag / Last-Modified) dos
+ * controllers do catálogo (H2).
+ *
+ * Cobertura:
+ * - ETag forte em recursos individuais e fraca em listagens
+ * - 304 sem carregar entidades (contagem via Hibernate Statistics)
+ * - Nova versão após alterações do recurso, do artista e do total de álbuns
+ * - ETags de listagem distintas mesmo com parâmetros de hashCode igual
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({
+        AlbumController.class, AlbumService.class,
+        ArtistaController.class, ArtistaService.class,
+        RegionalController.class, RegionalService.class,
+        GeneroService.class
+})
+@DisplayName("GET condicional do catálogo")
+class RespostaCondicionalTest {
+
+    private static final LocalDateTime ALTERACAO = LocalDateTime.of(2024, 5, 10, 14, 30, 15, 123_456_000);
+
+    @Autowired
+    private AlbumController albumController;
+
+    @Autowired
+    private ArtistaController artistaController;
+
+    @Autowired
+    private RegionalController regionalController;
+
+    @Autowired
+    private ArtistaService artistaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private CatalogoCache catalogoCache;
+
+    @MockitoBean
+    private RegionalSyncService regionalSyncService;
+
+    private Statistics statistics;
+
+    private Long artistaId;
+
+    private Long albumId;
+
+    @BeforeEach
+    void setUp() {
+        Artista artista = new Artista("Legião Urbana", TipoArtista.BANDA);
+        artista.setAtivo(true);
+        entityManager.persist(artista);
+        artistaId = artista.getId();
+
+        Album album = new Album("Dois", artista);
+        entityManager.persist(album);
+        albumId = album.getId();
+
+        entityManager.persist(new Album("Que País É Este", artista));
+        entityManager.persist(new Regional("Regional Norte", 1L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Datas fixas, para que os validadores sejam previsíveis
+        jdbcTemplate.update("UPDATE artista SET updated_at = ?", ALTERACAO);
+        jdbcTemplate.update("UPDATE album SET updated_at = ?", ALTERACAO.minusDays(1));
+        jdbcTemplate.update("UPDATE regional SET updated_at = ?", ALTERACAO);
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("Recursos Individuais")
+    class RecursosIndividuais {
+
+        @Test
+        @DisplayName("Deve emitir ETag forte, Last-Modified e Cache-Control no-cache")
+        void deveEmitirValidadores() {
+            // Act
+            ResponseEntity<AlbumResponse> resposta = albumController.buscarPorId(albumId, get(null));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(resposta.getBody().getNome()).isEqualTo("Dois");
+            assertThat(resposta.getHeaders().getETag()).isEqualTo("\"" + albumId + "-" + versao(ALTERACAO) + "\"");
+            assertThat(resposta.getHeaders().getLastModified()).isEqualTo(
+                    ALTERACAO.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            assertThat(resposta.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 sem carregar entidades quando a ETag coincidir")
+        void deveResponderNaoModificadoSemCarregarEntidades() {
+            // Arrange
+            String etag = albumController.buscarPorId(albumId, get(null)).getHeaders().getETag();
+            statistics.clear();
+
+            // Act
+            ResponseEntity<AlbumResponse> resposta = albumController.buscarPorId(albumId, get(etag));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(resposta.getBody()).isNull();
+            assertThat(resposta.getHeaders().getETag()).isEqualTo(etag);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 a If-Modified-Since sem carregar entidades")
+        void deveResponderNaoModificadoPorData() {
+            // Arrange
+            ServletWebRequest request = get(null);
+            ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.IF_MODIFIED_SINCE,
+                    ALTERACAO.plusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+            // Act
+            ResponseEntity<ArtistaResponse> resposta = artistaController.buscarPorId(artistaId, request);
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve mudar a ETag do álbum quando o artista for alterado")
+        void deveMudarEtagDoAlbumAoAlterarArtista() {
+            // Arrange
+            String etag = albumController.buscarPorId(albumId, get(null)).getHeaders().getETag();
+            jdbcTemplate.update("UPDATE artista SET nome = 'Legiao', updated_at = ?", ALTERACAO.plusMinutes(1));
+
+            // Act
+            ResponseEntity<AlbumResponse> resposta = albumController.buscarPorId(albumId, get(etag));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(resposta.getHeaders().getETag()).isNotEqualTo(etag);
+        }
+
+        @Test
+        @DisplayName("Deve mudar a ETag do artista quando o total de álbuns mudar")
+        void deveMudarEtagDoArtistaAoAjustarTotal() {
+            // Arrange
+            String etag = artistaController.buscarPorId(artistaId, get(null)).getHeaders().getETag();
+
+            // Act
+            artistaService.ajustarTotalAlbuns(artistaId, 1);
+            ResponseEntity<ArtistaResponse> resposta = artistaController.buscarPorId(artistaId, get(etag));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(resposta.getHeaders().getETag()).isNotEqualTo(etag);
+        }
+    }
+
+    @Nested
+    @DisplayName("Listagens")
+    class Listagens {
+
+        @Test
+        @DisplayName("Deve responder 304 à página de álbuns sem carregar entidades")
+        void deveResponderNaoModificadoNaListagem() {
+            // Arrange
+            ResponseEntity<Page<AlbumResponse>> primeira =
+                    albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(null));
+            String etag = primeira.getHeaders().getETag();
+            statistics.clear();
+
+            // Act
+            ResponseEntity<Page<AlbumResponse>> resposta =
+                    albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(etag));
+
+            // Assert
+            assertThat(primeira.getBody().getContent()).hasSize(2);
+            assertThat(etag).startsWith("W/\"" + versao(ALTERACAO) + "-");
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(resposta.getBody()).isNull();
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve gerar ETags distintas para filtros distintos")
+        void deveGerarEtagPorFiltro() {
+            // Act
+            String todos = albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(null))
+                    .getHeaders().getETag();
+            String filtrados = albumController.listar("dois", null, null, 0, 10, "nome", "asc", null, get(todos))
+                    .getHeaders().getETag();
+
+            // Assert
+            assertThat(filtrados).isNotEqualTo(todos);
+        }
+
+        @Test
+        @DisplayName("Deve gerar ETags distintas para filtros com o mesmo hashCode")
+        void deveGerarEtagsDistintasParaFiltrosColidentes() {
+            // Arrange: "Aa" e "BB" têm o mesmo String.hashCode
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+            // Act
+            String aa = albumController.listar("Aa", null, null, 0, 10, "nome", "asc", null, get(null))
+                    .getHeaders().getETag();
+            String bb = albumController.listar("BB", null, null, 0, 10, "nome", "asc", null, get(aa))
+                    .getHeaders().getETag();
+            String nulo = albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(null))
+                    .getHeaders().getETag();
+            String textoNull = albumController.listar("null", null, null, 0, 10, "nome", "asc", null, get(nulo))
+                    .getHeaders().getETag();
+
+            // Assert
+            assertThat(bb).isNotEqualTo(aa);
+            assertThat(textoNull).isNotEqualTo(nulo);
+        }
+
+        @Test
+        @DisplayName("Deve mudar a ETag da listagem quando um álbum for inativado")
+        void deveMudarEtagAoInativar() {
+            // Arrange
+            String etag = albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(null))
+                    .getHeaders().getETag();
+            jdbcTemplate.update("UPDATE album SET ativo = FALSE, updated_at = ? WHERE id = ?",
+                    ALTERACAO.plusMinutes(1), albumId);
+
+            // Act
+            ResponseEntity<Page<AlbumResponse>> resposta =
+                    albumController.listar(null, null, null, 0, 10, "nome", "asc", null, get(etag));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(resposta.getBody().getContent()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 à lista de regionais sem carregar entidades")
+        void deveResponderNaoModificadoNasRegionais() {
+            // Arrange
+            String etag = regionalController.listarTodas(get(null)).getHeaders().getETag();
+            statistics.clear();
+
+            // Act
+            ResponseEntity<List<RegionalResponse>> resposta = regionalController.listarTodas(get(etag));
+
+            // Assert
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    private static ServletWebRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static String versao(LocalDateTime alteracao) {
+        return Long.toHexString(ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), alteracao));
+    }
+}
@@ -0,0 +1,283 @@
+package com.projeto.backend.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.projeto.backend.config.JacksonConfig;
+import com.projeto.backend.domain.album.Album;
+import com.projeto.backend.domain.album.AlbumCapa;
+import com.projeto.backend.domain.album.AlbumService;
+import com.projeto.backend.domain.artista.Artista;
+import com.projeto.backend.domain.artista.ArtistaService;
+import com.projeto.backend.domain.artista.TipoArtista;
+import com.projeto.backend.domain.genero.GeneroService;
+import com.projeto.backend.infrastructure.cache.CatalogoCache;
+import com.projeto.backend.infrastructure.websocket.NotificationService;
+import com.projeto.backend.shared.CursorPage;
+import com.projeto.backend.web.controller.AlbumController;
+import com.projeto.backend.web.controller.ArtistaController;
+import com.projeto.backend.web.controller.SelecaoCamposAdvice;
+import com.projeto.backend.web.dto.album.AlbumResponse;
+import com.projeto.backend.web.dto.artista.ArtistaResponse;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.FilterProvider;
+
+/**
+ * Testes de integração da seleção de campos (parâmetro fields) nas
+ * listagens de álbuns e artistas (H2).
+ *
+ * Cobertura:
+ * - Colunas lidas limitadas aos campos pedidos (SQL capturado via StatementInspector)
+ * - Descrição, biografia e contagem de capas fora da consulta quando não pedidas
+ * - Cursor com campo de ordenação fora da seleção
+ * - JSON limitado aos campos pedidos e tamanho do payload
+ * - Rejeição de campos desconhecidos
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.projeto.backend.web.SelecaoCamposTest$SqlCapturado")
+@ActiveProfiles("test")
+@Import({
+        AlbumController.class, AlbumService.class,
+        ArtistaController.class, ArtistaService.class,
+        GeneroService.class
+})
+@DisplayName("Seleção de campos nas listagens")
+class SelecaoCamposTest {
+
+    private static final String DESCRICAO = "Segundo álbum de estúdio. ".repeat(80);
+
+    @Autowired
+    private AlbumController albumController;
+
+    @Autowired
+    private ArtistaController artistaController;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private CatalogoCache catalogoCache;
+
+    @BeforeEach
+    void setUp() {
+        Artista artista = new Artista("Legião Urbana", TipoArtista.BANDA);
+        artista.setAtivo(true);
+        artista.setBiografia("Banda de rock formada em Brasília. ".repeat(80));
+        entityManager.persist(artista);
+
+        for (int i = 0; i < 5; i++) {
+            Album album = new Album("Álbum " + i, artista);
+            album.setAnoLancamento(1985 + i);
+            album.setDescricao(DESCRICAO);
+            entityManager.persist(album);
+            entityManager.persist(new AlbumCapa(album, "capa-" + i + ".jpg", "capa.jpg", "image/jpeg", 1024L));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapturado.SQL.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Consultas")
+    class Consultas {
+
+        @Test
+        @DisplayName("Deve ler apenas as colunas dos campos pedidos na listagem de álbuns")
+        void deveLerApenasColunasPedidas() {
+            // Act
+            Page<AlbumResponse> pagina = albumController.listar(null, null, null, 0, 10, "nome", "asc",
+                    "nome,anoLancamento,artistaNome", get()).getBody();
+
+            // Assert
+            String sql = consultaDeDados("album");
+            assertThat(sql).contains("ano_lancamento").doesNotContain("descricao", "album_capa", "gravadora");
+            assertThat(pagina.getContent()).hasSize(5).allSatisfy(album -> {
+                assertThat(album.getId()).isNotNull();
+                assertThat(album.getArtistaNome()).isEqualTo("Legião Urbana");
+                assertThat(album.getDescricao()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Deve ler todas as colunas quando fields não for informado")
+        void deveLerTodasAsColunasSemFields() {
+            // Act
+            Page<AlbumResponse> pagina = albumController.listar(null, null, null, 0, 10, "nome", "asc",
+                    null, get()).getBody();
+
+            // Assert
+            assertThat(consultaDeDados("album")).contains("descricao", "album_capa");
+            assertThat(pagina.getContent().get(0).getDescricao()).isEqualTo(DESCRICAO);
+            assertThat(pagina.getContent().get(0).getTotalCapas()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve paginar por cursor com o campo de ordenação fora da seleção")
+        void devePaginarPorCursorForaDaSelecao() {
+            // Act
+            CursorPage<AlbumResponse> primeira = albumController.listarCursor(null, null, null, null, 3,
+                    "anoLancamento", "desc", "nome", get()).getBody();
+            CursorPage<AlbumResponse> segunda = albumController.listarCursor(null, null, null,
+                    primeira.nextCursor(), 3, "anoLancamento", "desc", "nome", get()).getBody();
+
+            // Assert
+            assertThat(consultaDeDados("album")).doesNotContain("descricao");
+            assertThat(primeira.content()).extracting(AlbumResponse::getNome)
+                    .containsExactly("Álbum 4", "Álbum 3", "Álbum 2");
+            assertThat(segunda.content()).extracting(AlbumResponse::getNome)
+                    .containsExactly("Álbum 1", "Álbum 0");
+            assertThat(segunda.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Não deve ler a biografia na listagem de artistas sem o campo")
+        void naoDeveLerBiografia() {
+            // Act
+            Page<ArtistaResponse> pagina = artistaController.listar("  LEGIÃO ", 0, 10, "nome", "asc",
+                    "nome,tipoDescricao", get()).getBody();
+
+            // Assert
+            assertThat(consultaDeDados("artista")).doesNotContain("biografia", "pais_origem");
+            assertThat(pagina.getContent()).singleElement().satisfies(artista -> {
+                assertThat(artista.getNome()).isEqualTo("Legião Urbana");
+                assertThat(artista.getTipoDescricao()).isEqualTo(TipoArtista.BANDA.getDescricao());
+                assertThat(artista.getBiografia()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar campo desconhecido")
+        void deveRejeitarCampoDesconhecido() {
+            assertThatThrownBy(() -> albumController.listar(null, null, null, 0, 10, "nome", "asc",
+                    "nome,capas", get()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("capas");
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON")
+    class Json {
+
+        private final JsonMapper mapper = mapper();
+
+        @Test
+        @DisplayName("Deve serializar apenas os campos pedidos e reduzir o payload")
+        void deveSerializarApenasCamposPedidos() throws Exception {
+            // Arrange
+            ServletWebRequest completa = get();
+            List<AlbumResponse> todos = albumController.listar(null, null, null, 0, 10, "nome", "asc",
+                    null, completa).getBody().getContent();
+            ServletWebRequest esparsa = get();
+            List<AlbumResponse> selecionados = albumController.listar(null, null, null, 0, 10, "nome", "asc",
+                    "nome,anoLancamento,artistaNome", esparsa).getBody().getContent();
+
+            // Act
+            byte[] jsonCompleto = writer(completa).writeValueAsBytes(todos);
+            byte[] jsonEsparso = writer(esparsa).writeValueAsBytes(selecionados);
+
+            // Assert
+            JsonNode album = mapper.readTree(jsonEsparso).get(0);
+            assertThat(album.propertyNames()).containsExactlyInAnyOrder("id", "nome", "anoLancamento", "artistaNome");
+            assertThat(mapper.readTree(jsonCompleto).get(0).has("capas")).isTrue();
+            assertThat(jsonEsparso.length).isLessThan(jsonCompleto.length / 10);
+        }
+
+        @Test
+        @DisplayName("Deve serializar todos os campos fora das listagens com fields")
+        void deveSerializarTodosOsCamposSemSelecao() {
+            // Arrange
+            ArtistaResponse artista = new ArtistaResponse();
+            artista.setId(1L);
+            artista.setNome("Legião Urbana");
+
+            // Act
+            JsonNode json = mapper.readTree(mapper.writeValueAsString(artista));
+
+            // Assert
+            assertThat(json.has("biografia")).isTrue();
+            assertThat(json.get("nome").asString()).isEqualTo("Legião Urbana");
+        }
+
+        /**
+         * Writer com os hints que o conversor Jackson recebe do advice na requisição.
+         */
+        private ObjectWriter writer(ServletWebRequest request) {
+            RequestContextHolder.setRequestAttributes(request);
+            Map<String, Object> hints = new SelecaoCamposAdvice().determineWriteHints(null, null, null,
+                    JacksonJsonHttpMessageConverter.class);
+            return hints == null ? mapper.writer()
+                    : mapper.writer((FilterProvider) hints.get(FilterProvider.class.getName()));
+        }
+    }
+
+    /**
+     * Captura o SQL executado pelo Hibernate.
+     */
+    public static class SqlCapturado implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+
+    /**
+     * Última consulta de dados da tabela (ignora contagem e última alteração).
+     */
+    private static String consultaDeDados(String tabela) {
+        return SqlCapturado.SQL.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from " + tabela + " ")
+                        && !sql.startsWith("select count(") && !sql.startsWith("select max("))
+                .reduce((primeira, segunda) -> segunda)
+                .orElseThrow();
+    }
+
+    private static JsonMapper mapper() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        new JacksonConfig().filtroCamposCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    private static ServletWebRequest get() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1"), new MockHttpServletResponse());
+    }
+}
@@ -9,6 +9,8 @@ export interface AlbumCapa {
   tipoCapa: TipoCapa;
   ordem: number;
   url: string | null;
+  /** Miniaturas JPEG por largura (160, 320, 640); ausente enquanto são geradas */
+  miniaturas?: Record<string, string> | null;
   createdAt: string;
 }
 
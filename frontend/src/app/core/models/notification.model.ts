@@ -8,6 +8,8 @@ export enum NotificationType {
   ALBUM_CREATED = 'ALBUM_CREATED',
   ALBUM_UPDATED = 'ALBUM_UPDATED',
   ALBUM_DELETED = 'ALBUM_DELETED',
+  ARTISTA_BATCH_IMPORTED = 'ARTISTA_BATCH_IMPORTED',
+  ALBUM_BATCH_IMPORTED = 'ALBUM_BATCH_IMPORTED',
   SYNC_STARTED = 'SYNC_STARTED',
   SYNC_COMPLETED = 'SYNC_COMPLETED',
   SYNC_ERROR = 'SYNC_ERROR',
@@ -31,10 +33,16 @@ export interface SyncPayload {
   atualizados: number;
 }
 
+export interface ImportacaoPayload {
+  lote: number;
+  importados: number;
+  rejeitados: number;
+}
+
 export interface NotificationMessage {
   type: NotificationType;
   message: string;
-  payload: ArtistaPayload | AlbumPayload | SyncPayload | null;
+  payload: ArtistaPayload | AlbumPayload | SyncPayload | ImportacaoPayload | null;
   timestamp: string;
 }
 
@@ -141,17 +141,21 @@ export class WebSocketService implements OnDestroy {
 
     this.stompClient.subscribe(topic, (message: any) => {
       try {
-        const notification: NotificationMessage = JSON.parse(message.body);
-        console.log(`[WebSocket] Mensagem recebida em ${topic}:`, notification);
-        
-        // Emite para o subject específico
-        subject.next(notification);
-        
-        // Emite para o subject geral
-        this.allNotificationsSubject.next(notification);
-        
-        // Mostra toast baseado no tipo
-        this.showNotificationToast(notification);
+        // O backend agrupa as notificações de cada tópico em um único frame
+        const body: NotificationMessage | NotificationMessage[] = JSON.parse(message.body);
+        const notifications = Array.isArray(body) ? body : [body];
+        console.log(`[WebSocket] ${notifications.length} mensagem(ns) recebida(s) em ${topic}:`, notifications);
+
+        for (const notification of notifications) {
+          // Emite para o subject específico
+          subject.next(notification);
+
+          // Emite para o subject geral
+          this.allNotificationsSubject.next(notification);
+
+          // Mostra toast baseado no tipo
+          this.showNotificationToast(notification);
+        }
       } catch (error) {
         console.error('[WebSocket] Erro ao processar mensagem:', error);
       }
@@ -167,6 +171,8 @@ export class WebSocketService implements OnDestroy {
     switch (notification.type) {
       case NotificationType.ARTISTA_CREATED:
       case NotificationType.ALBUM_CREATED:
+      case NotificationType.ARTISTA_BATCH_IMPORTED:
+      case NotificationType.ALBUM_BATCH_IMPORTED:
         this.toastService.success(notification.message);
         break;
         
@@ -258,24 +264,26 @@ export class WebSocketService implements OnDestroy {
   }
 
   /**
-   * Observable para mudanças em artistas (create, update, delete)
+   * Observable para mudanças em artistas (create, update, delete, importação)
    */
   onArtistaChange(): Observable<NotificationMessage> {
     return this.onNotificationType(
       NotificationType.ARTISTA_CREATED,
       NotificationType.ARTISTA_UPDATED,
-      NotificationType.ARTISTA_DELETED
+      NotificationType.ARTISTA_DELETED,
+      NotificationType.ARTISTA_BATCH_IMPORTED
     );
   }
 
   /**
-   * Observable para mudanças em álbuns (create, update, delete)
+   * Observable para mudanças em álbuns (create, update, delete, importação)
    */
   onAlbumChange(): Observable<NotificationMessage> {
     return this.onNotificationType(
       NotificationType.ALBUM_CREATED,
       NotificationType.ALBUM_UPDATED,
-      NotificationType.ALBUM_DELETED
+      NotificationType.ALBUM_DELETED,
+      NotificationType.ALBUM_BATCH_IMPORTED
     );
   }
 